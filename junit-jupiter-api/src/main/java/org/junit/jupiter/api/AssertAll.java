@@ -14,6 +14,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
@@ -64,18 +66,77 @@ class AssertAll {
 		List<Throwable> failures = executables //
 				.map(executable -> {
 					Preconditions.notNull(executable, "individual executables must not be null");
-					try {
-						executable.execute();
-						return null;
-					}
-					catch (Throwable t) {
-						UnrecoverableExceptions.rethrowIfUnrecoverable(t);
-						return t;
+					Throwable failure = execute(executable);
+					if (failure != null) {
+						UnrecoverableExceptions.rethrowIfUnrecoverable(failure);
 					}
+					return failure;
 				}) //
 				.filter(Objects::nonNull) //
 				.toList();
 
+		throwIfNotEmpty(heading, failures);
+	}
+
+	static void assertAllConcurrently(Executor executor, Executable... executables) {
+		assertAllConcurrently(null, executor, executables);
+	}
+
+	static void assertAllConcurrently(@Nullable String heading, Executor executor, Executable... executables) {
+		Preconditions.notEmpty(executables, "executables array must not be null or empty");
+		Preconditions.containsNoNullElements(executables, "individual executables must not be null");
+		assertAllConcurrently(heading, executor, Arrays.stream(executables));
+	}
+
+	static void assertAllConcurrently(Executor executor, Collection<Executable> executables) {
+		assertAllConcurrently(null, executor, executables);
+	}
+
+	static void assertAllConcurrently(@Nullable String heading, Executor executor,
+			Collection<Executable> executables) {
+		Preconditions.notNull(executables, "executables collection must not be null");
+		Preconditions.containsNoNullElements(executables, "individual executables must not be null");
+		assertAllConcurrently(heading, executor, executables.stream());
+	}
+
+	static void assertAllConcurrently(Executor executor, Stream<Executable> executables) {
+		assertAllConcurrently(null, executor, executables);
+	}
+
+	static void assertAllConcurrently(@Nullable String heading, Executor executor,
+			Stream<Executable> executables) {
+		Preconditions.notNull(executor, "executor must not be null");
+		Preconditions.notNull(executables, "executables stream must not be null");
+
+		// Submit all executables before waiting for any of them to complete.
+		List<CompletableFuture<@Nullable Throwable>> futures = executables //
+				.map(executable -> {
+					Preconditions.notNull(executable, "individual executables must not be null");
+					return CompletableFuture.supplyAsync(() -> execute(executable), executor);
+				}) //
+				.toList();
+
+		// Collect failures in declaration order on the calling thread.
+		List<Throwable> failures = futures.stream() //
+				.map(CompletableFuture::join) //
+				.filter(Objects::nonNull) //
+				.toList();
+
+		failures.forEach(UnrecoverableExceptions::rethrowIfUnrecoverable);
+		throwIfNotEmpty(heading, failures);
+	}
+
+	private static @Nullable Throwable execute(Executable executable) {
+		try {
+			executable.execute();
+			return null;
+		}
+		catch (Throwable t) {
+			return t;
+		}
+	}
+
+	private static void throwIfNotEmpty(@Nullable String heading, List<Throwable> failures) {
 		if (!failures.isEmpty()) {
 			MultipleFailuresError multipleFailuresError = new MultipleFailuresError(heading, failures);
 			failures.forEach(multipleFailuresError::addSuppressed);
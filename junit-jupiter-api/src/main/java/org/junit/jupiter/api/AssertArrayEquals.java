@@ -14,12 +14,13 @@ import static org.junit.jupiter.api.AssertionFailureBuilder.assertionFailure;
 import static org.junit.jupiter.api.AssertionUtils.formatIndexes;
 import static org.junit.platform.commons.util.ReflectionUtils.isArray;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AssertionUtils.IndexPath;
 import org.opentest4j.AssertionFailedError;
 
 /**
@@ -74,6 +75,20 @@ class AssertArrayEquals {
 		assertArrayEquals(expected, actual, null, messageSupplier);
 	}
 
+	static void assertArrayEquals(@Nullable ByteBuffer expected, @Nullable ByteBuffer actual) {
+		assertArrayEquals(expected, actual, (String) null);
+	}
+
+	static void assertArrayEquals(@Nullable ByteBuffer expected, @Nullable ByteBuffer actual,
+			@Nullable String message) {
+		assertArrayEquals(expected, actual, (Object) message);
+	}
+
+	static void assertArrayEquals(@Nullable ByteBuffer expected, @Nullable ByteBuffer actual,
+			Supplier<@Nullable String> messageSupplier) {
+		assertArrayEquals(expected, actual, (Object) messageSupplier);
+	}
+
 	static void assertArrayEquals(short @Nullable [] expected, short @Nullable [] actual) {
 		assertArrayEquals(expected, actual, (String) null);
 	}
@@ -173,16 +188,16 @@ class AssertArrayEquals {
 
 	static void assertArrayEquals(@Nullable Object @Nullable [] expected, @Nullable Object @Nullable [] actual,
 			@Nullable String message) {
-		assertArrayEquals(expected, actual, new ArrayDeque<>(), message);
+		assertArrayEquals(expected, actual, null, message);
 	}
 
 	static void assertArrayEquals(@Nullable Object @Nullable [] expected, @Nullable Object @Nullable [] actual,
 			Supplier<@Nullable String> messageSupplier) {
-		assertArrayEquals(expected, actual, new ArrayDeque<>(), messageSupplier);
+		assertArrayEquals(expected, actual, null, messageSupplier);
 	}
 
 	private static void assertArrayEquals(boolean @Nullable [] expected, boolean @Nullable [] actual,
-			@Nullable Deque<Integer> indexes, @Nullable Object messageOrSupplier) {
+			@Nullable IndexPath indexes, @Nullable Object messageOrSupplier) {
 
 		if (expected == actual) {
 			return;
@@ -195,15 +210,14 @@ class AssertArrayEquals {
 		}
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
 
-		for (int i = 0; i < expected.length; i++) {
-			if (expected[i] != actual[i]) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageOrSupplier);
-			}
+		int i = Arrays.mismatch(expected, actual);
+		if (i >= 0) {
+			failArraysNotEqual(expected[i], actual[i], new IndexPath(indexes, i), messageOrSupplier);
 		}
 	}
 
 	private static void assertArrayEquals(char @Nullable [] expected, char @Nullable [] actual,
-			@Nullable Deque<Integer> indexes, @Nullable Object messageOrSupplier) {
+			@Nullable IndexPath indexes, @Nullable Object messageOrSupplier) {
 
 		if (expected == actual) {
 			return;
@@ -217,15 +231,14 @@ class AssertArrayEquals {
 		}
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
 
-		for (int i = 0; i < expected.length; i++) {
-			if (expected[i] != actual[i]) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageOrSupplier);
-			}
+		int i = Arrays.mismatch(expected, actual);
+		if (i >= 0) {
+			failArraysNotEqual(expected[i], actual[i], new IndexPath(indexes, i), messageOrSupplier);
 		}
 	}
 
 	private static void assertArrayEquals(byte @Nullable [] expected, byte @Nullable [] actual,
-			@Nullable Deque<Integer> indexes, @Nullable Object messageOrSupplier) {
+			@Nullable IndexPath indexes, @Nullable Object messageOrSupplier) {
 
 		if (expected == actual) {
 			return;
@@ -239,15 +252,14 @@ class AssertArrayEquals {
 		}
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
 
-		for (int i = 0; i < expected.length; i++) {
-			if (expected[i] != actual[i]) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageOrSupplier);
-			}
+		int i = Arrays.mismatch(expected, actual);
+		if (i >= 0) {
+			failArraysNotEqual(expected[i], actual[i], new IndexPath(indexes, i), messageOrSupplier);
 		}
 	}
 
 	private static void assertArrayEquals(short @Nullable [] expected, short @Nullable [] actual,
-			@Nullable Deque<Integer> indexes, @Nullable Object messageOrSupplier) {
+			@Nullable IndexPath indexes, @Nullable Object messageOrSupplier) {
 
 		if (expected == actual) {
 			return;
@@ -261,15 +273,14 @@ class AssertArrayEquals {
 		}
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
 
-		for (int i = 0; i < expected.length; i++) {
-			if (expected[i] != actual[i]) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageOrSupplier);
-			}
+		int i = Arrays.mismatch(expected, actual);
+		if (i >= 0) {
+			failArraysNotEqual(expected[i], actual[i], new IndexPath(indexes, i), messageOrSupplier);
 		}
 	}
 
 	private static void assertArrayEquals(int @Nullable [] expected, int @Nullable [] actual,
-			@Nullable Deque<Integer> indexes, @Nullable Object messageOrSupplier) {
+			@Nullable IndexPath indexes, @Nullable Object messageOrSupplier) {
 
 		if (expected == actual) {
 			return;
@@ -283,15 +294,14 @@ class AssertArrayEquals {
 		}
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
 
-		for (int i = 0; i < expected.length; i++) {
-			if (expected[i] != actual[i]) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageOrSupplier);
-			}
+		int i = Arrays.mismatch(expected, actual);
+		if (i >= 0) {
+			failArraysNotEqual(expected[i], actual[i], new IndexPath(indexes, i), messageOrSupplier);
 		}
 	}
 
 	private static void assertArrayEquals(long @Nullable [] expected, long @Nullable [] actual,
-			@Nullable Deque<Integer> indexes, @Nullable Object messageOrSupplier) {
+			@Nullable IndexPath indexes, @Nullable Object messageOrSupplier) {
 
 		if (expected == actual) {
 			return;
@@ -305,15 +315,14 @@ class AssertArrayEquals {
 		}
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
 
-		for (int i = 0; i < expected.length; i++) {
-			if (expected[i] != actual[i]) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageOrSupplier);
-			}
+		int i = Arrays.mismatch(expected, actual);
+		if (i >= 0) {
+			failArraysNotEqual(expected[i], actual[i], new IndexPath(indexes, i), messageOrSupplier);
 		}
 	}
 
 	private static void assertArrayEquals(float @Nullable [] expected, float @Nullable [] actual,
-			@Nullable Deque<Integer> indexes, @Nullable Object messageOrSupplier) {
+			@Nullable IndexPath indexes, @Nullable Object messageOrSupplier) {
 
 		if (expected == actual) {
 			return;
@@ -327,15 +336,14 @@ class AssertArrayEquals {
 		}
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
 
-		for (int i = 0; i < expected.length; i++) {
-			if (!AssertionUtils.floatsAreEqual(expected[i], actual[i])) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageOrSupplier);
-			}
+		int i = Arrays.mismatch(expected, actual);
+		if (i >= 0) {
+			failArraysNotEqual(expected[i], actual[i], new IndexPath(indexes, i), messageOrSupplier);
 		}
 	}
 
 	private static void assertArrayEquals(float @Nullable [] expected, float @Nullable [] actual, float delta,
-			@Nullable Deque<Integer> indexes, @Nullable Object messageOrSupplier) {
+			@Nullable IndexPath indexes, @Nullable Object messageOrSupplier) {
 
 		AssertionUtils.assertValidDelta(delta);
 		if (expected == actual) {
@@ -350,15 +358,20 @@ class AssertArrayEquals {
 		}
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
 
-		for (int i = 0; i < expected.length; i++) {
+		// Elements before the first exact mismatch are equal regardless of the delta.
+		int start = Arrays.mismatch(expected, actual);
+		if (start < 0) {
+			return;
+		}
+		for (int i = start; i < expected.length; i++) {
 			if (!AssertionUtils.floatsAreEqual(expected[i], actual[i], delta)) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageOrSupplier);
+				failArraysNotEqual(expected[i], actual[i], new IndexPath(indexes, i), messageOrSupplier);
 			}
 		}
 	}
 
 	private static void assertArrayEquals(double @Nullable [] expected, double @Nullable [] actual,
-			@Nullable Deque<Integer> indexes, @Nullable Object messageOrSupplier) {
+			@Nullable IndexPath indexes, @Nullable Object messageOrSupplier) {
 
 		if (expected == actual) {
 			return;
@@ -372,15 +385,14 @@ class AssertArrayEquals {
 		}
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
 
-		for (int i = 0; i < expected.length; i++) {
-			if (!AssertionUtils.doublesAreEqual(expected[i], actual[i])) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageOrSupplier);
-			}
+		int i = Arrays.mismatch(expected, actual);
+		if (i >= 0) {
+			failArraysNotEqual(expected[i], actual[i], new IndexPath(indexes, i), messageOrSupplier);
 		}
 	}
 
 	private static void assertArrayEquals(double @Nullable [] expected, double @Nullable [] actual, double delta,
-			@Nullable Deque<Integer> indexes, @Nullable Object messageOrSupplier) {
+			@Nullable IndexPath indexes, @Nullable Object messageOrSupplier) {
 
 		AssertionUtils.assertValidDelta(delta);
 		if (expected == actual) {
@@ -395,15 +407,60 @@ class AssertArrayEquals {
 		}
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
 
-		for (int i = 0; i < expected.length; i++) {
+		// Elements before the first exact mismatch are equal regardless of the delta.
+		int start = Arrays.mismatch(expected, actual);
+		if (start < 0) {
+			return;
+		}
+		for (int i = start; i < expected.length; i++) {
 			if (!AssertionUtils.doublesAreEqual(expected[i], actual[i], delta)) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageOrSupplier);
+				failArraysNotEqual(expected[i], actual[i], new IndexPath(indexes, i), messageOrSupplier);
 			}
 		}
 	}
 
+	private static void assertArrayEquals(@Nullable ByteBuffer expected, @Nullable ByteBuffer actual,
+			@Nullable Object messageOrSupplier) {
+
+		if (expected == actual) {
+			return;
+		}
+
+		if (expected == null) {
+			throw bufferIsNullFailure("expected", messageOrSupplier);
+		}
+		if (actual == null) {
+			throw bufferIsNullFailure("actual", messageOrSupplier);
+		}
+		if (expected.remaining() != actual.remaining()) {
+			assertionFailure() //
+					.message(messageOrSupplier) //
+					.reason("buffer lengths differ") //
+					.expected(expected.remaining()) //
+					.actual(actual.remaining()) //
+					.buildAndThrow();
+		}
+
+		int i = expected.mismatch(actual);
+		if (i >= 0) {
+			assertionFailure() //
+					.message(messageOrSupplier) //
+					.reason("buffer contents differ" + formatIndexes(new IndexPath(null, i))) //
+					.expected(expected.get(expected.position() + i)) //
+					.actual(actual.get(actual.position() + i)) //
+					.buildAndThrow();
+		}
+	}
+
+	private static AssertionFailedError bufferIsNullFailure(String name, @Nullable Object messageOrSupplier) {
+		return assertionFailure() //
+				.message(messageOrSupplier) //
+				.reason(name + " buffer was <null>") //
+				.build();
+	}
+
 	private static void assertArrayEquals(@Nullable Object @Nullable [] expected, @Nullable Object @Nullable [] actual,
-			Deque<Integer> indexes, @Nullable Object messageOrSupplier) {
+			@Nullable IndexPath indexes, @Nullable Object messageOrSupplier) {
 
 		if (expected == actual) {
 			return;
@@ -421,18 +478,18 @@ class AssertArrayEquals {
 			Object expectedElement = expected[i];
 			Object actualElement = actual[i];
 
-			if (expectedElement == actualElement) {
+			// Equal non-array elements don't require tracking their index.
+			if (expectedElement == actualElement
+					|| (!isArray(expectedElement) && Objects.equals(expectedElement, actualElement))) {
 				continue;
 			}
 
-			indexes.addLast(i);
-			assertArrayElementsEqual(expectedElement, actualElement, indexes, messageOrSupplier);
-			indexes.removeLast();
+			assertArrayElementsEqual(expectedElement, actualElement, new IndexPath(indexes, i), messageOrSupplier);
 		}
 	}
 
 	private static void assertArrayElementsEqual(@Nullable Object expected, @Nullable Object actual,
-			Deque<Integer> indexes, @Nullable Object messageOrSupplier) {
+			IndexPath indexes, @Nullable Object messageOrSupplier) {
 
 		if (expected instanceof Object[] expectedArray && actual instanceof Object[] actualArray) {
 			assertArrayEquals(expectedArray, actualArray, indexes, messageOrSupplier);
@@ -474,11 +531,11 @@ class AssertArrayEquals {
 		}
 	}
 
-	private static void failExpectedArrayIsNull(@Nullable Deque<Integer> indexes, @Nullable Object messageOrSupplier) {
+	private static void failExpectedArrayIsNull(@Nullable IndexPath indexes, @Nullable Object messageOrSupplier) {
 		throw expectedArrayIsNullFailure(indexes, messageOrSupplier);
 	}
 
-	private static AssertionFailedError expectedArrayIsNullFailure(@Nullable Deque<Integer> indexes,
+	private static AssertionFailedError expectedArrayIsNullFailure(@Nullable IndexPath indexes,
 			@Nullable Object messageOrSupplier) {
 		return assertionFailure() //
 				.message(messageOrSupplier) //
@@ -486,11 +543,11 @@ class AssertArrayEquals {
 				.build();
 	}
 
-	private static void failActualArrayIsNull(@Nullable Deque<Integer> indexes, @Nullable Object messageOrSupplier) {
+	private static void failActualArrayIsNull(@Nullable IndexPath indexes, @Nullable Object messageOrSupplier) {
 		throw actualArrayIsNullFailure(indexes, messageOrSupplier);
 	}
 
-	private static AssertionFailedError actualArrayIsNullFailure(@Nullable Deque<Integer> indexes,
+	private static AssertionFailedError actualArrayIsNullFailure(@Nullable IndexPath indexes,
 			@Nullable Object messageOrSupplier) {
 		return assertionFailure() //
 				.message(messageOrSupplier) //
@@ -498,7 +555,7 @@ class AssertArrayEquals {
 				.build();
 	}
 
-	private static void assertArraysHaveSameLength(int expected, int actual, @Nullable Deque<Integer> indexes,
+	private static void assertArraysHaveSameLength(int expected, int actual, @Nullable IndexPath indexes,
 			@Nullable Object messageOrSupplier) {
 
 		if (expected != actual) {
@@ -512,7 +569,7 @@ class AssertArrayEquals {
 	}
 
 	private static void failArraysNotEqual(@Nullable Object expected, @Nullable Object actual,
-			@Nullable Deque<Integer> indexes, @Nullable Object messageOrSupplier) {
+			@Nullable IndexPath indexes, @Nullable Object messageOrSupplier) {
 
 		assertionFailure() //
 				.message(messageOrSupplier) //
@@ -522,10 +579,4 @@ class AssertArrayEquals {
 				.buildAndThrow();
 	}
 
-	private static Deque<Integer> nullSafeIndexes(@Nullable Deque<Integer> indexes, int newIndex) {
-		Deque<Integer> result = (indexes != null ? indexes : new ArrayDeque<>());
-		result.addLast(newIndex);
-		return result;
-	}
-
 }
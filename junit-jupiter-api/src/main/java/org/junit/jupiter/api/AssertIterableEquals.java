@@ -13,8 +13,6 @@ package org.junit.jupiter.api;
 import static org.junit.jupiter.api.AssertionFailureBuilder.assertionFailure;
 import static org.junit.jupiter.api.AssertionUtils.formatIndexes;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -23,6 +21,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AssertionUtils.IndexPath;
 import org.opentest4j.AssertionFailedError;
 
 /**
@@ -43,21 +42,17 @@ class AssertIterableEquals {
 
 	static void assertIterableEquals(@Nullable Iterable<?> expected, @Nullable Iterable<?> actual,
 			@Nullable String message) {
-		assertIterableEquals(expected, actual, new ArrayDeque<>(), message);
+		assertIterableEquals(expected, actual, null, message, null);
 	}
 
 	static void assertIterableEquals(@Nullable Iterable<?> expected, @Nullable Iterable<?> actual,
 			Supplier<@Nullable String> messageSupplier) {
-		assertIterableEquals(expected, actual, new ArrayDeque<>(), messageSupplier);
+		assertIterableEquals(expected, actual, null, messageSupplier, null);
 	}
 
 	private static void assertIterableEquals(@Nullable Iterable<?> expected, @Nullable Iterable<?> actual,
-			Deque<Integer> indexes, @Nullable Object messageOrSupplier) {
-		assertIterableEquals(expected, actual, indexes, messageOrSupplier, new LinkedHashMap<>());
-	}
-
-	private static void assertIterableEquals(@Nullable Iterable<?> expected, @Nullable Iterable<?> actual,
-			Deque<Integer> indexes, @Nullable Object messageOrSupplier, Map<Pair, Status> investigatedElements) {
+			@Nullable IndexPath indexes, @Nullable Object messageOrSupplier,
+			@Nullable Map<Pair, Status> investigatedElements) {
 
 		if (expected == actual) {
 			return;
@@ -77,25 +72,27 @@ class AssertIterableEquals {
 			Object expectedElement = expectedIterator.next();
 			Object actualElement = actualIterator.next();
 
-			indexes.addLast(processed);
-
-			assertIterableElementsEqual(expectedElement, actualElement, indexes, messageOrSupplier,
-				investigatedElements);
+			// If both are equal, we don't need to check recursively.
+			if (!Objects.equals(expectedElement, actualElement)) {
+				// The map of investigated elements is only needed for nested iterables.
+				if (investigatedElements == null) {
+					investigatedElements = new LinkedHashMap<>();
+				}
+				assertIterableElementsEqual(expectedElement, actualElement, indexes, processed, messageOrSupplier,
+					investigatedElements);
+			}
 
-			indexes.removeLast();
 			processed++;
 		}
 
 		assertIteratorsAreEmpty(expectedIterator, actualIterator, processed, indexes, messageOrSupplier);
 	}
 
-	private static void assertIterableElementsEqual(Object expected, Object actual, Deque<Integer> indexes,
-			@Nullable Object messageOrSupplier, Map<Pair, Status> investigatedElements) {
+	private static void assertIterableElementsEqual(Object expected, Object actual,
+			@Nullable IndexPath parentIndexes, int index, @Nullable Object messageOrSupplier,
+			Map<Pair, Status> investigatedElements) {
 
-		// If both are equal, we don't need to check recursively.
-		if (Objects.equals(expected, actual)) {
-			return;
-		}
+		IndexPath indexes = new IndexPath(parentIndexes, index);
 
 		// If both are iterables, we need to check whether they contain the same elements.
 		if (expected instanceof Iterable<?> expectedIterable && actual instanceof Iterable<?> actualIterable) {
@@ -112,8 +109,7 @@ class AssertIterableEquals {
 
 			// If the pair is already under investigation, we fail in order to avoid infinite recursion.
 			if (status == Status.UNDER_INVESTIGATION) {
-				indexes.removeLast();
-				failIterablesNotEqual(expected, actual, indexes, messageOrSupplier);
+				failIterablesNotEqual(expected, actual, parentIndexes, messageOrSupplier);
 			}
 
 			// Otherwise, we put the pair under investigation and recurse.
@@ -134,7 +130,7 @@ class AssertIterableEquals {
 	}
 
 	private static void assertIterablesNotNull(@Nullable Object expected, @Nullable Object actual,
-			Deque<Integer> indexes, @Nullable Object messageOrSupplier) {
+			@Nullable IndexPath indexes, @Nullable Object messageOrSupplier) {
 
 		if (expected == null) {
 			failExpectedIterableIsNull(indexes, messageOrSupplier);
@@ -144,11 +140,11 @@ class AssertIterableEquals {
 		}
 	}
 
-	private static void failExpectedIterableIsNull(Deque<Integer> indexes, @Nullable Object messageOrSupplier) {
+	private static void failExpectedIterableIsNull(@Nullable IndexPath indexes, @Nullable Object messageOrSupplier) {
 		throw expectedIterableIsNullFailure(indexes, messageOrSupplier);
 	}
 
-	private static AssertionFailedError expectedIterableIsNullFailure(Deque<Integer> indexes,
+	private static AssertionFailedError expectedIterableIsNullFailure(@Nullable IndexPath indexes,
 			@Nullable Object messageOrSupplier) {
 		return assertionFailure() //
 				.message(messageOrSupplier) //
@@ -156,11 +152,11 @@ class AssertIterableEquals {
 				.build();
 	}
 
-	private static void failActualIterableIsNull(Deque<Integer> indexes, @Nullable Object messageOrSupplier) {
+	private static void failActualIterableIsNull(@Nullable IndexPath indexes, @Nullable Object messageOrSupplier) {
 		throw actualIterableIsNullFailure(indexes, messageOrSupplier);
 	}
 
-	private static AssertionFailedError actualIterableIsNullFailure(Deque<Integer> indexes,
+	private static AssertionFailedError actualIterableIsNullFailure(@Nullable IndexPath indexes,
 			@Nullable Object messageOrSupplier) {
 		return assertionFailure() //
 				.message(messageOrSupplier) //
@@ -169,7 +165,7 @@ class AssertIterableEquals {
 	}
 
 	private static void assertIteratorsAreEmpty(Iterator<?> expected, Iterator<?> actual, int processed,
-			Deque<Integer> indexes, @Nullable Object messageOrSupplier) {
+			@Nullable IndexPath indexes, @Nullable Object messageOrSupplier) {
 
 		if (expected.hasNext() || actual.hasNext()) {
 			AtomicInteger expectedCount = new AtomicInteger(processed);
@@ -187,7 +183,7 @@ class AssertIterableEquals {
 		}
 	}
 
-	private static void failIterablesNotEqual(Object expected, Object actual, Deque<Integer> indexes,
+	private static void failIterablesNotEqual(Object expected, Object actual, @Nullable IndexPath indexes,
 			@Nullable Object messageOrSupplier) {
 
 		assertionFailure() //
@@ -15,11 +15,14 @@ import static org.junit.jupiter.api.AssertionFailureBuilder.assertionFailure;
 import static org.junit.platform.commons.util.Preconditions.condition;
 import static org.junit.platform.commons.util.Preconditions.notNull;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
@@ -38,6 +41,10 @@ class AssertLinesMatch {
 
 	private static final int MAX_SNIPPET_LENGTH = 21;
 
+	private static final int MAX_CACHED_PATTERNS = 1024;
+
+	private static final ConcurrentMap<String, Optional<Pattern>> PATTERN_CACHE = new ConcurrentHashMap<>();
+
 	static void assertLinesMatch(List<String> expectedLines, List<String> actualLines) {
 		assertLinesMatch(expectedLines, actualLines, (Object) null);
 	}
@@ -64,9 +71,7 @@ class AssertLinesMatch {
 			return;
 		}
 
-		List<String> expectedListOfStrings = expectedLines.toList();
-		List<String> actualListOfStrings = actualLines.toList();
-		assertLinesMatch(expectedListOfStrings, actualListOfStrings, messageOrSupplier);
+		new LinesMatcher(expectedLines.toList(), ActualLines.of(actualLines), messageOrSupplier).assertLinesMatch();
 	}
 
 	static void assertLinesMatch(List<String> expectedLines, List<String> actualLines,
@@ -79,61 +84,59 @@ class AssertLinesMatch {
 			return;
 		}
 
-		new LinesMatcher(expectedLines, actualLines, messageOrSupplier).assertLinesMatch();
+		new LinesMatcher(expectedLines, ActualLines.of(actualLines), messageOrSupplier).assertLinesMatch();
 	}
 
-	private record LinesMatcher(List<String> expectedLines, List<String> actualLines,
-			@Nullable Object messageOrSupplier) {
+	private static final class LinesMatcher {
+
+		private final List<String> expectedLines;
+		private final @Nullable ExpectedLine[] compiledExpectedLines;
+		private final ActualLines actualLines;
+		private final @Nullable Object messageOrSupplier;
+
+		LinesMatcher(List<String> expectedLines, ActualLines actualLines, @Nullable Object messageOrSupplier) {
+			this.expectedLines = expectedLines;
+			this.compiledExpectedLines = new ExpectedLine[expectedLines.size()];
+			this.actualLines = actualLines;
+			this.messageOrSupplier = messageOrSupplier;
+		}
 
 		void assertLinesMatch() {
 			int expectedSize = expectedLines.size();
-			int actualSize = actualLines.size();
 
 			// trivial case: when expecting more than actual lines available, something is wrong
-			if (expectedSize > actualSize) {
-				fail("expected %d lines, but only got %d", expectedSize, actualSize);
-			}
-
-			// simple case: both list are equally sized, compare them line-by-line
-			if (expectedSize == actualSize) {
-				if (IntStream.range(0, expectedSize).allMatch(i -> matches(expectedLines.get(i), actualLines.get(i)))) {
-					return;
-				}
-				// else fall-through to "with fast-forward" matching
+			if (!actualLines.hasAtLeast(expectedSize)) {
+				fail("expected %d lines, but only got %d", expectedSize, actualLines.remaining());
 			}
 
-			assertLinesMatchWithFastForward();
-		}
-
-		void assertLinesMatchWithFastForward() {
-			Deque<String> expectedDeque = new ArrayDeque<>(expectedLines);
-			Deque<String> actualDeque = new ArrayDeque<>(actualLines);
-
-			main: while (!expectedDeque.isEmpty()) {
-				String expectedLine = expectedDeque.pop();
-				int expectedLineNumber = expectedLines.size() - expectedDeque.size(); // 1-based line number
+			main: for (int expectedIndex = 0; expectedIndex < expectedSize; expectedIndex++) {
+				ExpectedLine expectedLine = expectedLine(expectedIndex);
+				int expectedLineNumber = expectedIndex + 1; // 1-based line number
 				// trivial case: no more actual lines available
-				if (actualDeque.isEmpty()) {
+				if (!actualLines.hasAtLeast(1)) {
 					fail("expected line #%d:`%s` not found - actual lines depleted", expectedLineNumber,
-						snippet(expectedLine));
+						snippet(expectedLine.line));
 				}
 
-				String actualLine = actualDeque.peek();
+				String actualLine = actualLines.peek();
 				// trivial case: take the fast path when they match
-				if (matches(expectedLine, actualLine)) {
-					actualDeque.pop();
+				if (expectedLine.matches(actualLine)) {
+					actualLines.skip(1);
 					continue; // main
 				}
 
 				// fast-forward marker found in expected line: fast-forward actual line...
-				if (isFastForwardLine(expectedLine)) {
-					int fastForwardLimit = parseFastForwardLimit(expectedLine);
-					int actualRemaining = actualDeque.size();
+				if (isFastForwardLine(expectedLine.line)) {
+					int fastForwardLimit = parseFastForwardLimit(expectedLine.line);
 
 					// trivial case: fast-forward marker was in last expected line
-					if (expectedDeque.isEmpty()) {
+					if (expectedIndex == expectedSize - 1) {
 						// no limit given or perfect match? we're done.
-						if (fastForwardLimit == Integer.MAX_VALUE || fastForwardLimit == actualRemaining) {
+						if (fastForwardLimit == Integer.MAX_VALUE) {
+							return;
+						}
+						int actualRemaining = actualLines.remaining();
+						if (fastForwardLimit == actualRemaining) {
 							return;
 						}
 						fail("terminal fast-forward(%d) error: fast-forward(%d) expected", fastForwardLimit,
@@ -142,40 +145,46 @@ class AssertLinesMatch {
 
 					// fast-forward limit was given: use it
 					if (fastForwardLimit != Integer.MAX_VALUE) {
-						if (actualRemaining < fastForwardLimit) {
+						if (!actualLines.hasAtLeast(fastForwardLimit)) {
 							fail("fast-forward(%d) error: not enough actual lines remaining (%s)", fastForwardLimit,
-								actualRemaining);
-						}
-						// fast-forward now: actualDeque.pop(fastForwardLimit)
-						for (int i = 0; i < fastForwardLimit; i++) {
-							actualDeque.pop();
+								actualLines.remaining());
 						}
+						actualLines.skip(fastForwardLimit);
 						continue; // main
 					}
 
 					// peek next expected line
-					expectedLine = expectedDeque.peek();
+					ExpectedLine nextExpectedLine = expectedLine(expectedIndex + 1);
 					// fast-forward "unlimited": until next match
 					while (true) {
-						if (actualDeque.isEmpty()) {
-							fail("fast-forward(∞) didn't find: `%s`", snippet(expectedLine));
+						if (!actualLines.hasAtLeast(1)) {
+							fail("fast-forward(∞) didn't find: `%s`", snippet(nextExpectedLine.line));
 						}
-						if (matches(expectedLine, actualDeque.peek())) {
+						if (nextExpectedLine.matches(actualLines.peek())) {
 							continue main;
 						}
-						actualDeque.pop();
+						actualLines.skip(1);
 					}
 				}
 
-				int actualLineNumber = actualLines.size() - actualDeque.size() + 1; // 1-based line number
+				int actualLineNumber = actualLines.position() + 1; // 1-based line number
 				fail("expected line #%d doesn't match actual line #%d%n" + "\texpected: `%s`%n" + "\t  actual: `%s`",
-					expectedLineNumber, actualLineNumber, expectedLine, actualLine);
+					expectedLineNumber, actualLineNumber, expectedLine.line, actualLine);
 			}
 
 			// after math
-			if (!actualDeque.isEmpty()) {
-				fail("more actual lines than expected: %d", actualDeque.size());
+			if (actualLines.hasAtLeast(1)) {
+				fail("more actual lines than expected: %d", actualLines.remaining());
+			}
+		}
+
+		private ExpectedLine expectedLine(int index) {
+			ExpectedLine expectedLine = compiledExpectedLines[index];
+			if (expectedLine == null) {
+				expectedLine = new ExpectedLine(expectedLines.get(index));
+				compiledExpectedLines[index] = expectedLine;
 			}
+			return expectedLine;
 		}
 
 		String snippet(String line) {
@@ -191,12 +200,100 @@ class AssertLinesMatch {
 					.message(messageOrSupplier) //
 					.reason(format.formatted(args)) //
 					.expected(join(newLine, expectedLines)) //
-					.actual(join(newLine, actualLines)) //
+					.actual(join(newLine, actualLines.all())) //
 					.includeValuesInMessage(false) //
 					.buildAndThrow();
 		}
 	}
 
+	/**
+	 * Expected line whose regular expression is compiled at most once, and
+	 * only if it is not equal to an actual line.
+	 */
+	private static final class ExpectedLine {
+
+		private final String line;
+
+		private @Nullable Pattern pattern;
+		private boolean compiled;
+
+		ExpectedLine(String line) {
+			this.line = notNull(line, "expected line must not be null");
+		}
+
+		boolean matches(String actualLine) {
+			notNull(actualLine, "actual line must not be null");
+			if (this.line.equals(actualLine)) {
+				return true;
+			}
+			if (!this.compiled) {
+				this.pattern = compile(this.line).orElse(null);
+				this.compiled = true;
+			}
+			return this.pattern != null && this.pattern.matcher(actualLine).matches();
+		}
+
+	}
+
+	/**
+	 * Actual lines that are consumed incrementally from a {@link List} or an
+	 * {@link Iterator}.
+	 *
+	 * <p>Lines consumed from an iterator are buffered so that they can be
+	 * included in the failure message.
+	 */
+	private static final class ActualLines {
+
+		private final List<String> lines;
+		private final @Nullable Iterator<String> source;
+		private int position;
+
+		private ActualLines(List<String> lines, @Nullable Iterator<String> source) {
+			this.lines = lines;
+			this.source = source;
+		}
+
+		static ActualLines of(List<String> lines) {
+			return new ActualLines(lines, null);
+		}
+
+		static ActualLines of(Stream<String> lines) {
+			return new ActualLines(new ArrayList<>(), lines.iterator());
+		}
+
+		boolean hasAtLeast(int count) {
+			Iterator<String> source = this.source;
+			if (source != null) {
+				while (this.lines.size() - this.position < count && source.hasNext()) {
+					this.lines.add(source.next());
+				}
+			}
+			return this.lines.size() - this.position >= count;
+		}
+
+		String peek() {
+			return this.lines.get(this.position);
+		}
+
+		void skip(int count) {
+			this.position += count;
+		}
+
+		int position() {
+			return this.position;
+		}
+
+		int remaining() {
+			return all().size() - this.position;
+		}
+
+		List<String> all() {
+			hasAtLeast(Integer.MAX_VALUE);
+			return this.lines;
+		}
+
+	}
+
 	static boolean isFastForwardLine(String line) {
 		line = line.strip();
 		return line.length() >= 4 && line.startsWith(">>") && line.endsWith(">>");
@@ -216,16 +313,32 @@ class AssertLinesMatch {
 	}
 
 	static boolean matches(String expectedLine, String actualLine) {
-		notNull(expectedLine, "expected line must not be null");
-		notNull(actualLine, "actual line must not be null");
-		if (expectedLine.equals(actualLine)) {
-			return true;
+		return new ExpectedLine(expectedLine).matches(actualLine);
+	}
+
+	/**
+	 * Compile the supplied regular expression or return a cached {@link Pattern}
+	 * if it has been compiled before.
+	 *
+	 * <p>The cache is cleared when it reaches its maximum size.
+	 */
+	static Optional<Pattern> compile(String regex) {
+		Optional<Pattern> pattern = PATTERN_CACHE.get(regex);
+		if (pattern == null) {
+			if (PATTERN_CACHE.size() >= MAX_CACHED_PATTERNS) {
+				PATTERN_CACHE.clear();
+			}
+			pattern = PATTERN_CACHE.computeIfAbsent(regex, AssertLinesMatch::tryToCompile);
 		}
+		return pattern;
+	}
+
+	private static Optional<Pattern> tryToCompile(String regex) {
 		try {
-			return actualLine.matches(expectedLine);
+			return Optional.of(Pattern.compile(regex));
 		}
 		catch (PatternSyntaxException ignore) {
-			return false;
+			return Optional.empty();
 		}
 	}
 
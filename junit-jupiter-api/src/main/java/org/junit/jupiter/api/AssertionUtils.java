@@ -10,9 +10,6 @@
 
 package org.junit.jupiter.api;
 
-import static java.util.stream.Collectors.joining;
-
-import java.util.Deque;
 import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
@@ -72,12 +69,8 @@ class AssertionUtils {
 		}
 	}
 
-	static String formatIndexes(@Nullable Deque<Integer> indexes) {
-		if (indexes == null || indexes.isEmpty()) {
-			return "";
-		}
-		String indexesString = indexes.stream().map(Object::toString).collect(joining("][", "[", "]"));
-		return " at index " + indexesString;
+	static String formatIndexes(@Nullable IndexPath indexes) {
+		return (indexes == null ? "" : " at index " + indexes);
 	}
 
 	static boolean floatsAreEqual(float value1, float value2, float delta) {
@@ -121,4 +114,22 @@ class AssertionUtils {
 		fail("positive delta expected but was: <" + delta + ">");
 	}
 
+	/**
+	 * Immutable path of indexes into nested arrays or iterables.
+	 *
+	 * <p>A new path is only created when descending into a nested element or
+	 * when reporting a failure so that successful assertions neither box
+	 * indexes nor allocate a collection to track them.
+	 *
+	 * @since 6.0
+	 */
+	record IndexPath(@Nullable IndexPath parent, int index) {
+
+		@Override
+		public String toString() {
+			return (this.parent == null ? "" : this.parent.toString()) + "[" + this.index + "]";
+		}
+
+	}
+
 }
@@ -10,13 +10,16 @@
 
 package org.junit.jupiter.api;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -1297,6 +1300,61 @@ public class Assertions {
 		AssertArrayEquals.assertArrayEquals(expected, actual, messageSupplier);
 	}
 
+	/**
+	 * <em>Assert</em> that the remaining bytes of the {@code expected} and
+	 * {@code actual} byte buffers are equal.
+	 * <p>Only the bytes between the position and the limit of each buffer are
+	 * compared, and the index reported for the first mismatch is relative to the
+	 * buffer's position. The position, limit, and mark of both buffers are not
+	 * modified, and the content of direct or memory-mapped buffers is compared
+	 * without copying it into a heap array.
+	 * <p>If both are {@code null}, they are considered equal.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static void assertArrayEquals(@Nullable ByteBuffer expected, @Nullable ByteBuffer actual) {
+		AssertArrayEquals.assertArrayEquals(expected, actual);
+	}
+
+	/**
+	 * <em>Assert</em> that the remaining bytes of the {@code expected} and
+	 * {@code actual} byte buffers are equal.
+	 * <p>Only the bytes between the position and the limit of each buffer are
+	 * compared, and the index reported for the first mismatch is relative to the
+	 * buffer's position. The position, limit, and mark of both buffers are not
+	 * modified, and the content of direct or memory-mapped buffers is compared
+	 * without copying it into a heap array.
+	 * <p>If both are {@code null}, they are considered equal.
+	 * <p>Fails with the supplied failure {@code message}.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static void assertArrayEquals(@Nullable ByteBuffer expected, @Nullable ByteBuffer actual,
+			@Nullable String message) {
+		AssertArrayEquals.assertArrayEquals(expected, actual, message);
+	}
+
+	/**
+	 * <em>Assert</em> that the remaining bytes of the {@code expected} and
+	 * {@code actual} byte buffers are equal.
+	 * <p>Only the bytes between the position and the limit of each buffer are
+	 * compared, and the index reported for the first mismatch is relative to the
+	 * buffer's position. The position, limit, and mark of both buffers are not
+	 * modified, and the content of direct or memory-mapped buffers is compared
+	 * without copying it into a heap array.
+	 * <p>If both are {@code null}, they are considered equal.
+	 * <p>If necessary, the failure message will be retrieved lazily from the supplied {@code messageSupplier}.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static void assertArrayEquals(@Nullable ByteBuffer expected, @Nullable ByteBuffer actual,
+			Supplier<@Nullable String> messageSupplier) {
+		AssertArrayEquals.assertArrayEquals(expected, actual, messageSupplier);
+	}
+
 	/**
 	 * <em>Assert</em> that {@code expected} and {@code actual} short arrays are equal.
 	 * <p>If both are {@code null}, they are considered equal.
@@ -1705,8 +1763,10 @@ public class Assertions {
 	 *
 	 * <p>Find a detailed description of the matching algorithm in {@link #assertLinesMatch(List, List)}.
 	 *
-	 * <p>Note: An implementation of this method may consume all lines of both streams eagerly and
-	 * delegate the evaluation to {@link #assertLinesMatch(List, List)}.
+	 * <p>Note: All lines of the {@code expected} stream are consumed eagerly whereas the lines
+	 * of the {@code actual} stream are consumed incrementally while they are being matched. The
+	 * remaining lines of the {@code actual} stream are only consumed if they are required to
+	 * determine the result or to generate the failure message.
 	 *
 	 * @since 5.7
 	 * @see #assertLinesMatch(List, List)
@@ -1723,8 +1783,10 @@ public class Assertions {
 	 *
 	 * <p>Fails with the supplied failure {@code message} and the generated message.
 	 *
-	 * <p>Note: An implementation of this method may consume all lines of both streams eagerly and
-	 * delegate the evaluation to {@link #assertLinesMatch(List, List)}.
+	 * <p>Note: All lines of the {@code expected} stream are consumed eagerly whereas the lines
+	 * of the {@code actual} stream are consumed incrementally while they are being matched. The
+	 * remaining lines of the {@code actual} stream are only consumed if they are required to
+	 * determine the result or to generate the failure message.
 	 *
 	 * @since 5.7
 	 * @see #assertLinesMatch(List, List)
@@ -1744,8 +1806,10 @@ public class Assertions {
 	 * {@code messageSupplier}. Fails with the custom failure message prepended to
 	 * a generated failure message describing the difference.
 	 *
-	 * <p>Note: An implementation of this method may consume all lines of both streams eagerly and
-	 * delegate the evaluation to {@link #assertLinesMatch(List, List)}.
+	 * <p>Note: All lines of the {@code expected} stream are consumed eagerly whereas the lines
+	 * of the {@code actual} stream are consumed incrementally while they are being matched. The
+	 * remaining lines of the {@code actual} stream are only consumed if they are required to
+	 * determine the result or to generate the failure message.
 	 *
 	 * @since 5.7
 	 * @see #assertLinesMatch(List, List)
@@ -3134,6 +3198,154 @@ public class Assertions {
 		AssertAll.assertAll(heading, executables);
 	}
 
+	/**
+	 * <em>Assert</em> that <em>all</em> supplied {@code executables} do not throw
+	 * exceptions, executing them using the supplied {@code executor}.
+	 *
+	 * <p>See Javadoc for {@link #assertAllConcurrently(String, Executor, Stream)}
+	 * for an explanation of this method's concurrency and exception handling
+	 * semantics.
+	 *
+	 * @since 6.0
+	 * @see #assertAllConcurrently(String, Executor, Executable...)
+	 * @see #assertAllConcurrently(Executor, Collection)
+	 * @see #assertAllConcurrently(String, Executor, Collection)
+	 * @see #assertAllConcurrently(Executor, Stream)
+	 * @see #assertAllConcurrently(String, Executor, Stream)
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static void assertAllConcurrently(Executor executor, Executable... executables)
+			throws MultipleFailuresError {
+		AssertAll.assertAllConcurrently(executor, executables);
+	}
+
+	/**
+	 * <em>Assert</em> that <em>all</em> supplied {@code executables} do not throw
+	 * exceptions, executing them using the supplied {@code executor}.
+	 *
+	 * <p>See Javadoc for {@link #assertAllConcurrently(String, Executor, Stream)}
+	 * for an explanation of this method's concurrency and exception handling
+	 * semantics.
+	 *
+	 * @since 6.0
+	 * @see #assertAllConcurrently(Executor, Executable...)
+	 * @see #assertAllConcurrently(Executor, Collection)
+	 * @see #assertAllConcurrently(String, Executor, Collection)
+	 * @see #assertAllConcurrently(Executor, Stream)
+	 * @see #assertAllConcurrently(String, Executor, Stream)
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static void assertAllConcurrently(@Nullable String heading, Executor executor, Executable... executables)
+			throws MultipleFailuresError {
+		AssertAll.assertAllConcurrently(heading, executor, executables);
+	}
+
+	/**
+	 * <em>Assert</em> that <em>all</em> supplied {@code executables} do not throw
+	 * exceptions, executing them using the supplied {@code executor}.
+	 *
+	 * <p>See Javadoc for {@link #assertAllConcurrently(String, Executor, Stream)}
+	 * for an explanation of this method's concurrency and exception handling
+	 * semantics.
+	 *
+	 * @since 6.0
+	 * @see #assertAllConcurrently(Executor, Executable...)
+	 * @see #assertAllConcurrently(String, Executor, Executable...)
+	 * @see #assertAllConcurrently(String, Executor, Collection)
+	 * @see #assertAllConcurrently(Executor, Stream)
+	 * @see #assertAllConcurrently(String, Executor, Stream)
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static void assertAllConcurrently(Executor executor, Collection<Executable> executables)
+			throws MultipleFailuresError {
+		AssertAll.assertAllConcurrently(executor, executables);
+	}
+
+	/**
+	 * <em>Assert</em> that <em>all</em> supplied {@code executables} do not throw
+	 * exceptions, executing them using the supplied {@code executor}.
+	 *
+	 * <p>See Javadoc for {@link #assertAllConcurrently(String, Executor, Stream)}
+	 * for an explanation of this method's concurrency and exception handling
+	 * semantics.
+	 *
+	 * @since 6.0
+	 * @see #assertAllConcurrently(Executor, Executable...)
+	 * @see #assertAllConcurrently(String, Executor, Executable...)
+	 * @see #assertAllConcurrently(Executor, Collection)
+	 * @see #assertAllConcurrently(Executor, Stream)
+	 * @see #assertAllConcurrently(String, Executor, Stream)
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static void assertAllConcurrently(@Nullable String heading, Executor executor,
+			Collection<Executable> executables) throws MultipleFailuresError {
+		AssertAll.assertAllConcurrently(heading, executor, executables);
+	}
+
+	/**
+	 * <em>Assert</em> that <em>all</em> supplied {@code executables} do not throw
+	 * exceptions, executing them using the supplied {@code executor}.
+	 *
+	 * <p>See Javadoc for {@link #assertAllConcurrently(String, Executor, Stream)}
+	 * for an explanation of this method's concurrency and exception handling
+	 * semantics.
+	 *
+	 * @since 6.0
+	 * @see #assertAllConcurrently(Executor, Executable...)
+	 * @see #assertAllConcurrently(String, Executor, Executable...)
+	 * @see #assertAllConcurrently(Executor, Collection)
+	 * @see #assertAllConcurrently(String, Executor, Collection)
+	 * @see #assertAllConcurrently(String, Executor, Stream)
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static void assertAllConcurrently(Executor executor, Stream<Executable> executables)
+			throws MultipleFailuresError {
+		AssertAll.assertAllConcurrently(executor, executables);
+	}
+
+	/**
+	 * <em>Assert</em> that <em>all</em> supplied {@code executables} do not throw
+	 * exceptions, executing them using the supplied {@code executor}.
+	 *
+	 * <p>In contrast to {@link #assertAll(String, Stream)}, the supplied
+	 * {@code executables} are submitted to the supplied {@link Executor} and may
+	 * therefore be executed concurrently, for example by a bounded thread pool or,
+	 * on Java 21 and later, by a virtual-thread-per-task executor. This method
+	 * blocks until all {@code executables} have completed. The executor is
+	 * neither created nor shut down by this method.
+	 *
+	 * <p>If any supplied {@link Executable} throws an exception (i.e., a {@link Throwable}
+	 * or any subclass thereof), all remaining {@code executables} will still be executed,
+	 * and all exceptions will be aggregated and reported in a {@link MultipleFailuresError}
+	 * in the order in which the {@code executables} were supplied, regardless of the
+	 * order in which they completed. In addition, all aggregated exceptions will be
+	 * added as {@linkplain Throwable#addSuppressed(Throwable) suppressed exceptions}
+	 * to the {@code MultipleFailuresError}. However, if one of the {@code executables}
+	 * throws an <em>unrecoverable</em> exception &mdash; for example, an
+	 * {@link OutOfMemoryError} &mdash; it will be rethrown <em>as is</em> but
+	 * <em>masked</em> as an unchecked exception once all {@code executables} have
+	 * completed.
+	 *
+	 * <p>Since the {@code executables} are not executed by the calling thread,
+	 * they must not depend on thread-local state such as thread-bound resources
+	 * of extensions.
+	 *
+	 * <p>The supplied {@code heading} will be included in the message string for the
+	 * {@code MultipleFailuresError}.
+	 *
+	 * @since 6.0
+	 * @see #assertAllConcurrently(Executor, Executable...)
+	 * @see #assertAllConcurrently(String, Executor, Executable...)
+	 * @see #assertAllConcurrently(Executor, Collection)
+	 * @see #assertAllConcurrently(String, Executor, Collection)
+	 * @see #assertAllConcurrently(Executor, Stream)
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static void assertAllConcurrently(@Nullable String heading, Executor executor,
+			Stream<Executable> executables) throws MultipleFailuresError {
+		AssertAll.assertAllConcurrently(heading, executor, executables);
+	}
+
 	// --- assert exceptions ---------------------------------------------------
 
 	// --- executable ---
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.junit.platform.commons.logging.Logger;
+
+/**
+ * Loads data recorded by previous test runs from the file configured via a
+ * configuration parameter and caches it until the file is modified.
+ *
+ * <p>Used by orderers that need to read the same file for every class or
+ * test class they order.
+ *
+ * @param <T> the type of the loaded data
+ * @since 6.0
+ * @see DurationOrdererUtils
+ * @see RunHistoryOrdererUtils
+ */
+final class CachingFileLoader<T> {
+
+	private final String propertyName;
+	private final String description;
+	private final FileReader<T> reader;
+	private final Map<Path, CachedValue<T>> cache = new ConcurrentHashMap<>();
+
+	/**
+	 * @param propertyName the name of the configuration parameter that
+	 * configures the path to the file
+	 * @param description the description of the data used in log messages
+	 * @param reader the function to read the data from the file
+	 */
+	CachingFileLoader(String propertyName, String description, FileReader<T> reader) {
+		this.propertyName = propertyName;
+		this.description = description;
+		this.reader = reader;
+	}
+
+	/**
+	 * Load the data from the configured file or return the cached data if the
+	 * file has not been modified since it was last read.
+	 *
+	 * @return the data; empty if the configuration parameter is not set or the
+	 * file cannot be read
+	 */
+	Optional<T> load(Function<String, Optional<String>> configurationParameterLookup, Logger logger) {
+		Optional<Path> configuredFile = configurationParameterLookup.apply(this.propertyName) //
+				.filter(path -> !path.isBlank()) //
+				.map(path -> Path.of(path.strip()).toAbsolutePath());
+		if (configuredFile.isEmpty()) {
+			logger.debug(() -> "Configuration parameter [%s] is not set; retaining original order.".formatted(
+				this.propertyName));
+			return Optional.empty();
+		}
+		Path file = configuredFile.get();
+		try {
+			FileTime lastModified = Files.exists(file) ? Files.getLastModifiedTime(file) : FileTime.fromMillis(0);
+			CachedValue<T> cachedValue = this.cache.get(file);
+			if (cachedValue == null || !cachedValue.lastModified.equals(lastModified)) {
+				cachedValue = new CachedValue<>(lastModified, this.reader.read(file));
+				this.cache.put(file, cachedValue);
+			}
+			return Optional.of(cachedValue.value);
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> "Failed to read %s from [%s]; retaining original order.".formatted(this.description,
+				file));
+			return Optional.empty();
+		}
+	}
+
+	@FunctionalInterface
+	interface FileReader<T> {
+
+		T read(Path file) throws IOException;
+
+	}
+
+	private record CachedValue<T>(FileTime lastModified, T value) {
+	}
+
+}
@@ -21,6 +21,7 @@ import org.apiguardian.api.API;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.DurationStore;
 
 /**
  * {@code ClassOrderer} defines the API for ordering top-level test classes and
@@ -50,6 +51,8 @@ import org.junit.platform.commons.logging.LoggerFactory;
  * <li>{@link ClassOrderer.ClassName}</li>
  * <li>{@link ClassOrderer.Default}</li>
  * <li>{@link ClassOrderer.DisplayName}</li>
+ * <li>{@link ClassOrderer.FailedFirst}</li>
+ * <li>{@link ClassOrderer.LongestDurationFirst}</li>
  * <li>{@link ClassOrderer.OrderAnnotation}</li>
  * <li>{@link ClassOrderer.Random}</li>
  * </ul>
@@ -270,4 +273,111 @@ public interface ClassOrderer {
 		}
 	}
 
+	/**
+	 * {@code ClassOrderer} that sorts classes by their execution durations
+	 * recorded by a previous test run in descending order, so that the
+	 * longest running classes are executed first.
+	 *
+	 * <p>Scheduling the longest running classes first reduces the overall
+	 * execution time of test runs with
+	 * {@linkplain org.junit.jupiter.api.parallel.Execution parallel execution}
+	 * enabled, since short classes can fill otherwise idle workers at the end
+	 * of the test run.
+	 *
+	 * <p>Durations are read from the duration store file configured via the
+	 * {@value #STORE_FILE_PROPERTY_NAME} <em>configuration parameter</em>. The
+	 * store is typically written by the {@code DurationTrackingListener} of
+	 * the JUnit Platform Launcher which is enabled via the same configuration
+	 * parameter. Classes without a recorded duration are executed before all
+	 * others; classes with equal durations retain their relative order. If
+	 * the configuration parameter is not set, the order of the classes remains
+	 * unchanged.
+	 *
+	 * @since 6.0
+	 * @see MethodOrderer.LongestDurationFirst
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	class LongestDurationFirst implements ClassOrderer {
+
+		private static final Logger logger = LoggerFactory.getLogger(LongestDurationFirst.class);
+
+		/**
+		 * Property name used to set the path to the duration store file read
+		 * by this {@code ClassOrderer}: {@value}
+		 *
+		 * <p>The same property is used by {@link MethodOrderer.LongestDurationFirst}.
+		 */
+		public static final String STORE_FILE_PROPERTY_NAME = DurationOrdererUtils.STORE_FILE_PROPERTY_NAME;
+
+		public LongestDurationFirst() {
+		}
+
+		/**
+		 * Sort the classes encapsulated in the supplied
+		 * {@link ClassOrdererContext} by their recorded execution durations in
+		 * descending order.
+		 */
+		@Override
+		public void orderClasses(ClassOrdererContext context) {
+			DurationOrdererUtils.sortLongestFirst(context.getClassDescriptors(),
+				descriptor -> DurationStore.key(descriptor.getTestClass()), context::getConfigurationParameter,
+				logger);
+		}
+	}
+
+	/**
+	 * {@code ClassOrderer} that sorts classes based on the run history recorded
+	 * by previous test runs, so that the classes that are most likely to fail
+	 * are executed first.
+	 *
+	 * <p>Classes are sorted into the following groups, retaining the relative
+	 * order of the classes within each group:
+	 *
+	 * <ol>
+	 * <li>classes containing tests that failed during their last recorded
+	 * execution</li>
+	 * <li>classes that are new or whose class file changed since their last
+	 * recorded execution</li>
+	 * <li>all other classes</li>
+	 * </ol>
+	 *
+	 * <p>The run history is read from the file configured via the
+	 * {@value #HISTORY_FILE_PROPERTY_NAME} <em>configuration parameter</em>. It
+	 * is typically written by the {@code RunHistoryListener} of the JUnit
+	 * Platform Launcher which is enabled via the same configuration parameter.
+	 * If the configuration parameter is not set, the order of the classes
+	 * remains unchanged.
+	 *
+	 * @since 6.0
+	 * @see MethodOrderer.FailedFirst
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	class FailedFirst implements ClassOrderer {
+
+		private static final Logger logger = LoggerFactory.getLogger(FailedFirst.class);
+
+		/**
+		 * Property name used to set the path to the run history file read by
+		 * this {@code ClassOrderer}: {@value}
+		 *
+		 * <p>The same property is used by {@link MethodOrderer.FailedFirst}.
+		 */
+		public static final String HISTORY_FILE_PROPERTY_NAME = RunHistoryOrdererUtils.HISTORY_FILE_PROPERTY_NAME;
+
+		public FailedFirst() {
+		}
+
+		/**
+		 * Sort the classes encapsulated in the supplied
+		 * {@link ClassOrdererContext} so that previously failed classes are
+		 * executed first, followed by new or changed classes.
+		 */
+		@Override
+		public void orderClasses(ClassOrdererContext context) {
+			RunHistoryOrdererUtils.sortFailedFirst(context.getClassDescriptors(),
+				history -> descriptor -> RunHistoryOrdererUtils.classPriority(history, descriptor.getTestClass()),
+				context::getConfigurationParameter, logger);
+		}
+	}
+
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api;
+
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.reverseOrder;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.util.DurationStore;
+
+/**
+ * Shared utility methods for ordering test classes and test methods based on
+ * execution durations recorded by a previous test run.
+ *
+ * @since 6.0
+ * @see ClassOrderer.LongestDurationFirst
+ * @see MethodOrderer.LongestDurationFirst
+ */
+class DurationOrdererUtils {
+
+	static final String STORE_FILE_PROPERTY_NAME = DurationStore.STORE_FILE_PROPERTY_NAME;
+
+	/**
+	 * Duration assumed for classes and methods without a recorded duration
+	 * so that they are scheduled before all others.
+	 */
+	private static final Duration UNKNOWN_DURATION = ChronoUnit.FOREVER.getDuration();
+
+	private static final CachingFileLoader<DurationStore> storeLoader = new CachingFileLoader<>(
+		STORE_FILE_PROPERTY_NAME, "execution durations", DurationStore::load);
+
+	static <T> void sortLongestFirst(List<T> descriptors, Function<T, String> keyExtractor,
+			Function<String, Optional<String>> configurationParameterLookup, Logger logger) {
+		storeLoader.load(configurationParameterLookup, logger).ifPresent(store -> descriptors.sort(comparing(
+			descriptor -> store.get(keyExtractor.apply(descriptor)).orElse(UNKNOWN_DURATION), reverseOrder())));
+	}
+
+	private DurationOrdererUtils() {
+	}
+}
@@ -25,6 +25,7 @@ import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.ClassUtils;
+import org.junit.platform.commons.util.DurationStore;
 
 /**
  * {@code MethodOrderer} defines the API for ordering the <em>test methods</em>
@@ -46,6 +47,8 @@ import org.junit.platform.commons.util.ClassUtils;
  *
  * <ul>
  * <li>{@link Default}</li>
+ * <li>{@link FailedFirst}</li>
+ * <li>{@link LongestDurationFirst}</li>
  * <li>{@link MethodName}</li>
  * <li>{@link OrderAnnotation}</li>
  * <li>{@link Random}</li>
@@ -314,4 +317,116 @@ public interface MethodOrderer {
 
 	}
 
+	/**
+	 * {@code MethodOrderer} that sorts methods by their execution durations
+	 * recorded by a previous test run in descending order, so that the
+	 * longest running methods are executed first.
+	 *
+	 * <p>Durations are read from the duration store file configured via the
+	 * {@value #STORE_FILE_PROPERTY_NAME} <em>configuration parameter</em>. The
+	 * store is typically written by the {@code DurationTrackingListener} of
+	 * the JUnit Platform Launcher which is enabled via the same configuration
+	 * parameter. Methods without a recorded duration are executed before all
+	 * others; methods with equal durations retain their relative order. If
+	 * the configuration parameter is not set, the order of the methods remains
+	 * unchanged.
+	 *
+	 * <p>Since this ordering does not conflict with concurrent execution,
+	 * {@link #getDefaultExecutionMode()} returns an empty {@link Optional}.
+	 *
+	 * @since 6.0
+	 * @see ClassOrderer.LongestDurationFirst
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	class LongestDurationFirst implements MethodOrderer {
+
+		private static final Logger logger = LoggerFactory.getLogger(LongestDurationFirst.class);
+
+		/**
+		 * Property name used to set the path to the duration store file read
+		 * by this {@code MethodOrderer}: {@value}
+		 *
+		 * <p>The same property is used by {@link ClassOrderer.LongestDurationFirst}.
+		 */
+		public static final String STORE_FILE_PROPERTY_NAME = DurationOrdererUtils.STORE_FILE_PROPERTY_NAME;
+
+		public LongestDurationFirst() {
+		}
+
+		/**
+		 * Sort the methods encapsulated in the supplied
+		 * {@link MethodOrdererContext} by their recorded execution durations in
+		 * descending order.
+		 */
+		@Override
+		public void orderMethods(MethodOrdererContext context) {
+			Class<?> testClass = context.getTestClass();
+			DurationOrdererUtils.sortLongestFirst(context.getMethodDescriptors(),
+				descriptor -> DurationStore.key(testClass, descriptor.getMethod()), context::getConfigurationParameter,
+				logger);
+		}
+
+		@Override
+		public Optional<ExecutionMode> getDefaultExecutionMode() {
+			return Optional.empty();
+		}
+
+	}
+
+	/**
+	 * {@code MethodOrderer} that sorts methods based on the run history
+	 * recorded by previous test runs, so that the methods that are most likely
+	 * to fail are executed first.
+	 *
+	 * <p>Methods are sorted into the following groups, retaining the relative
+	 * order of the methods within each group:
+	 *
+	 * <ol>
+	 * <li>methods that failed during their last recorded execution</li>
+	 * <li>methods that are new or whose test class changed since their last
+	 * recorded execution</li>
+	 * <li>all other methods</li>
+	 * </ol>
+	 *
+	 * <p>The run history is read from the file configured via the
+	 * {@value #HISTORY_FILE_PROPERTY_NAME} <em>configuration parameter</em>. It
+	 * is typically written by the {@code RunHistoryListener} of the JUnit
+	 * Platform Launcher which is enabled via the same configuration parameter.
+	 * If the configuration parameter is not set, the order of the methods
+	 * remains unchanged.
+	 *
+	 * @since 6.0
+	 * @see ClassOrderer.FailedFirst
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	class FailedFirst implements MethodOrderer {
+
+		private static final Logger logger = LoggerFactory.getLogger(FailedFirst.class);
+
+		/**
+		 * Property name used to set the path to the run history file read by
+		 * this {@code MethodOrderer}: {@value}
+		 *
+		 * <p>The same property is used by {@link ClassOrderer.FailedFirst}.
+		 */
+		public static final String HISTORY_FILE_PROPERTY_NAME = RunHistoryOrdererUtils.HISTORY_FILE_PROPERTY_NAME;
+
+		public FailedFirst() {
+		}
+
+		/**
+		 * Sort the methods encapsulated in the supplied
+		 * {@link MethodOrdererContext} so that previously failed methods are
+		 * executed first, followed by new methods and methods of changed
+		 * classes.
+		 */
+		@Override
+		public void orderMethods(MethodOrdererContext context) {
+			Class<?> testClass = context.getTestClass();
+			RunHistoryOrdererUtils.sortFailedFirst(context.getMethodDescriptors(),
+				history -> RunHistoryOrdererUtils.methodPriorities(history, testClass, MethodDescriptor::getMethod),
+				context::getConfigurationParameter, logger);
+		}
+	}
+
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api;
+
+import static java.util.Comparator.comparingInt;
+
+import java.lang.reflect.Method;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.util.RunHistory;
+
+/**
+ * Shared utility methods for ordering test classes and test methods based on
+ * the run history recorded by previous test runs.
+ *
+ * @since 6.0
+ * @see ClassOrderer.FailedFirst
+ * @see MethodOrderer.FailedFirst
+ */
+class RunHistoryOrdererUtils {
+
+	static final String HISTORY_FILE_PROPERTY_NAME = RunHistory.HISTORY_FILE_PROPERTY_NAME;
+
+	private static final int FAILED = 0;
+
+	private static final int NEW_OR_CHANGED = 1;
+
+	private static final int UNCHANGED = 2;
+
+	private static final CachingFileLoader<RunHistory> historyLoader = new CachingFileLoader<>(
+		HISTORY_FILE_PROPERTY_NAME, "run history", RunHistory::load);
+
+	/**
+	 * Sort the supplied descriptors by the priorities computed by the
+	 * function created by the supplied factory for the current run history.
+	 */
+	static <T> void sortFailedFirst(List<T> descriptors,
+			Function<RunHistory, ToIntFunction<? super T>> priorityFunctionFactory,
+			Function<String, Optional<String>> configurationParameterLookup, Logger logger) {
+		historyLoader.load(configurationParameterLookup, logger).ifPresent(history -> {
+			ToIntFunction<? super T> priorityFunction = priorityFunctionFactory.apply(history);
+			Map<T, Integer> priorities = new IdentityHashMap<>();
+			descriptors.forEach(descriptor -> priorities.put(descriptor, priorityFunction.applyAsInt(descriptor)));
+			descriptors.sort(comparingInt(priorities::get));
+		});
+	}
+
+	static int classPriority(RunHistory history, Class<?> testClass) {
+		if (history.hasFailuresForSource(RunHistory.key(testClass))) {
+			return FAILED;
+		}
+		return history.isChanged(testClass) ? NEW_OR_CHANGED : UNCHANGED;
+	}
+
+	/**
+	 * Create a function that computes the priorities of methods of the
+	 * supplied test class; whether the class has changed is only determined
+	 * once since that requires reading its class file.
+	 */
+	static <T> ToIntFunction<T> methodPriorities(RunHistory history, Class<?> testClass,
+			Function<T, Method> methodExtractor) {
+		boolean classChanged = history.isChanged(testClass);
+		return descriptor -> {
+			String key = RunHistory.key(testClass, methodExtractor.apply(descriptor));
+			if (history.hasFailuresForSource(key)) {
+				return FAILED;
+			}
+			return classChanged || !history.containsSource(key) ? NEW_OR_CHANGED : UNCHANGED;
+		};
+	}
+
+	private RunHistoryOrdererUtils() {
+	}
+}
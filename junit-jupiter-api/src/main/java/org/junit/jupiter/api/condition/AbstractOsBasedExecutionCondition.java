@@ -14,17 +14,17 @@ import static org.junit.jupiter.api.extension.ConditionEvaluationResult.enabled;
 import static org.junit.platform.commons.support.AnnotationSupport.findAnnotation;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
 
 import org.junit.jupiter.api.extension.ConditionEvaluationResult;
-import org.junit.jupiter.api.extension.ExecutionCondition;
-import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.StaticExecutionCondition;
 
 /**
  * Base class for OS-based {@link ExecutionCondition} implementations.
  *
  * @since 5.9
  */
-abstract class AbstractOsBasedExecutionCondition<A extends Annotation> implements ExecutionCondition {
+abstract class AbstractOsBasedExecutionCondition<A extends Annotation> implements StaticExecutionCondition {
 
 	static final String CURRENT_ARCHITECTURE = System.getProperty("os.arch");
 	static final String CURRENT_OS = System.getProperty("os.name");
@@ -36,8 +36,8 @@ abstract class AbstractOsBasedExecutionCondition<A extends Annotation> implement
 	}
 
 	@Override
-	public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
-		return findAnnotation(context.getElement(), this.annotationType) //
+	public ConditionEvaluationResult evaluateExecutionCondition(AnnotatedElement element) {
+		return findAnnotation(element, this.annotationType) //
 				.map(this::evaluateExecutionCondition) //
 				.orElseGet(this::enabledByDefault);
 	}
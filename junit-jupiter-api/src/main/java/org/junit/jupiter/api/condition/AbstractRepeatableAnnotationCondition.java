@@ -15,7 +15,6 @@ import static org.junit.platform.commons.support.AnnotationSupport.findRepeatabl
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Repeatable;
 import java.lang.reflect.AnnotatedElement;
-import java.util.Optional;
 
 import org.junit.jupiter.api.extension.ConditionEvaluationResult;
 import org.junit.jupiter.api.extension.ExecutionCondition;
@@ -42,22 +41,23 @@ abstract class AbstractRepeatableAnnotationCondition<A extends Annotation> imple
 
 	@Override
 	public final ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
-		Optional<AnnotatedElement> optionalElement = context.getElement();
-		if (optionalElement.isPresent()) {
-			AnnotatedElement annotatedElement = optionalElement.get();
-			// @formatter:off
-			return findRepeatableAnnotations(annotatedElement, this.annotationType).stream()
-					.map(annotation -> {
-						ConditionEvaluationResult result = evaluate(annotation);
-						logResult(annotation, annotatedElement, result);
-						return result;
-					})
-					.filter(ConditionEvaluationResult::isDisabled)
-					.findFirst()
-					.orElse(getNoDisabledConditionsEncounteredResult());
-			// @formatter:on
-		}
-		return getNoDisabledConditionsEncounteredResult();
+		return context.getElement() //
+				.map(this::evaluateAnnotatedElement) //
+				.orElseGet(this::getNoDisabledConditionsEncounteredResult);
+	}
+
+	final ConditionEvaluationResult evaluateAnnotatedElement(AnnotatedElement annotatedElement) {
+		// @formatter:off
+		return findRepeatableAnnotations(annotatedElement, this.annotationType).stream()
+				.map(annotation -> {
+					ConditionEvaluationResult result = evaluate(annotation);
+					logResult(annotation, annotatedElement, result);
+					return result;
+				})
+				.filter(ConditionEvaluationResult::isDisabled)
+				.findFirst()
+				.orElse(getNoDisabledConditionsEncounteredResult());
+		// @formatter:on
 	}
 
 	protected abstract ConditionEvaluationResult evaluate(A annotation);
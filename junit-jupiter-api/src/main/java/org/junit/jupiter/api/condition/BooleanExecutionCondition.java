@@ -15,13 +15,13 @@ import static org.junit.jupiter.api.extension.ConditionEvaluationResult.enabled;
 import static org.junit.platform.commons.support.AnnotationSupport.findAnnotation;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.extension.ConditionEvaluationResult;
-import org.junit.jupiter.api.extension.ExecutionCondition;
-import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.StaticExecutionCondition;
 
-abstract class BooleanExecutionCondition<A extends Annotation> implements ExecutionCondition {
+abstract class BooleanExecutionCondition<A extends Annotation> implements StaticExecutionCondition {
 
 	protected final Class<A> annotationType;
 	private final String enabledReason;
@@ -38,8 +38,8 @@ abstract class BooleanExecutionCondition<A extends Annotation> implements Execut
 	}
 
 	@Override
-	public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
-		return findAnnotation(context.getElement(), this.annotationType) //
+	public ConditionEvaluationResult evaluateExecutionCondition(AnnotatedElement element) {
+		return findAnnotation(element, this.annotationType) //
 				.map(annotation -> isEnabled(annotation) ? enabled(this.enabledReason)
 						: disabled(this.disabledReason, this.customDisabledReason.apply(annotation))) //
 				.orElseGet(this::enabledByDefault);
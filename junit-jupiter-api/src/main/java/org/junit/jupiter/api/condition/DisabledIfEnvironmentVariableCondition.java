@@ -13,9 +13,12 @@ package org.junit.jupiter.api.condition;
 import static org.junit.jupiter.api.extension.ConditionEvaluationResult.disabled;
 import static org.junit.jupiter.api.extension.ConditionEvaluationResult.enabled;
 
+import java.lang.reflect.AnnotatedElement;
+
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.extension.ConditionEvaluationResult;
 import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.StaticExecutionCondition;
 import org.junit.platform.commons.util.Preconditions;
 
 /**
@@ -25,7 +28,8 @@ import org.junit.platform.commons.util.Preconditions;
  * @see DisabledIfEnvironmentVariable
  */
 class DisabledIfEnvironmentVariableCondition
-		extends AbstractRepeatableAnnotationCondition<DisabledIfEnvironmentVariable> {
+		extends AbstractRepeatableAnnotationCondition<DisabledIfEnvironmentVariable>
+		implements StaticExecutionCondition {
 
 	private static final ConditionEvaluationResult ENABLED = ConditionEvaluationResult.enabled(
 		"No @DisabledIfEnvironmentVariable conditions resulting in 'disabled' execution encountered");
@@ -34,6 +38,11 @@ class DisabledIfEnvironmentVariableCondition
 		super(DisabledIfEnvironmentVariable.class);
 	}
 
+	@Override
+	public ConditionEvaluationResult evaluateExecutionCondition(AnnotatedElement element) {
+		return evaluateAnnotatedElement(element);
+	}
+
 	@Override
 	protected ConditionEvaluationResult getNoDisabledConditionsEncounteredResult() {
 		return ENABLED;
@@ -27,9 +27,10 @@ import org.apiguardian.api.API;
  * disables} a test method, that prevents execution of the test method and
  * method-level lifecycle callbacks such as {@code @BeforeEach} methods,
  * {@code @AfterEach} methods, and corresponding extension APIs. However, that
- * does not prevent the test class from being instantiated, and it does not prevent
- * the execution of class-level lifecycle callbacks such as {@code @BeforeAll}
- * methods, {@code @AfterAll} methods, and corresponding extension APIs.
+ * does not prevent the execution of class-level lifecycle callbacks such as
+ * {@code @BeforeAll} methods, {@code @AfterAll} methods, and corresponding
+ * extension APIs. It also does not prevent the test class from being
+ * instantiated, although a {@link StaticExecutionCondition} may do so.
  *
  * <h2>Constructor Requirements</h2>
  *
@@ -37,6 +38,7 @@ import org.apiguardian.api.API;
  * constructor requirements.
  *
  * @since 5.0
+ * @see StaticExecutionCondition
  * @see org.junit.jupiter.api.Disabled
  * @see org.junit.jupiter.api.condition.EnabledIf
  * @see org.junit.jupiter.api.condition.DisabledIf
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api.extension;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.lang.reflect.AnnotatedElement;
+
+import org.apiguardian.api.API;
+
+/**
+ * {@code StaticExecutionCondition} is an {@link ExecutionCondition} whose
+ * result depends only on the annotated element it is evaluated for and on
+ * properties of the environment that do not change while tests are executed,
+ * for example, the operating system, the JRE version, or environment
+ * variables.
+ *
+ * <p>Since its result cannot change, the result of a
+ * {@code StaticExecutionCondition} may be reused for the same condition
+ * instance and annotated element during an execution of the
+ * {@code JupiterTestEngine}. Implementations must therefore not rely on being
+ * invoked for each container or test. Moreover, static conditions may be
+ * evaluated before all extensions of a test class or test method have been
+ * registered. If such a condition disables a test method, the test class may
+ * not be instantiated for that method.
+ *
+ * <h2>Constructor Requirements</h2>
+ *
+ * <p>Consult the documentation in {@link Extension} for details on
+ * constructor requirements.
+ *
+ * @since 6.0
+ * @see ExecutionCondition
+ * @see org.junit.jupiter.api.Disabled
+ * @see org.junit.jupiter.api.condition.EnabledOnOs
+ * @see org.junit.jupiter.api.condition.DisabledOnOs
+ * @see org.junit.jupiter.api.condition.EnabledOnJre
+ * @see org.junit.jupiter.api.condition.DisabledOnJre
+ * @see org.junit.jupiter.api.condition.EnabledForJreRange
+ * @see org.junit.jupiter.api.condition.DisabledForJreRange
+ * @see org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable
+ * @see org.junit.jupiter.api.condition.DisabledIfEnvironmentVariable
+ */
+@FunctionalInterface
+@API(status = EXPERIMENTAL, since = "6.0")
+public interface StaticExecutionCondition extends ExecutionCondition {
+
+	/**
+	 * Evaluate this condition for the supplied {@link AnnotatedElement}.
+	 *
+	 * <p>An {@linkplain ConditionEvaluationResult#enabled enabled} result
+	 * indicates that the container or test should be executed; whereas, a
+	 * {@linkplain ConditionEvaluationResult#disabled disabled} result
+	 * indicates that the container or test should not be executed.
+	 *
+	 * @param element the test class or test method to evaluate this
+	 * condition for; never {@code null}
+	 * @return the result of evaluating this condition; never {@code null}
+	 */
+	ConditionEvaluationResult evaluateExecutionCondition(AnnotatedElement element);
+
+	/**
+	 * Evaluate this condition for the {@linkplain ExtensionContext#getElement()
+	 * element} of the supplied {@link ExtensionContext}.
+	 *
+	 * <p>The default implementation delegates to
+	 * {@link #evaluateExecutionCondition(AnnotatedElement)} if the context has
+	 * an element and returns an enabled result otherwise.
+	 *
+	 * @param context the current extension context; never {@code null}
+	 * @return the result of evaluating this condition; never {@code null}
+	 */
+	@Override
+	default ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+		return context.getElement() //
+				.map(this::evaluateExecutionCondition) //
+				.orElseGet(() -> ConditionEvaluationResult.enabled("No annotated element to evaluate"));
+	}
+
+}
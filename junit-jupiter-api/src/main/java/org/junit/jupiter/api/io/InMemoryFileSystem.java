@@ -0,0 +1,693 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api.io;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonReadableChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.ClosedFileSystemException;
+import java.nio.file.CopyOption;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileStore;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemException;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.UserPrincipalLookupService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link FileSystem} that keeps all directories and files on the heap.
+ *
+ * <p>Structural modifications, such as creating, moving, or deleting files,
+ * are synchronized on the file system; reads and writes of the contents of a
+ * file are synchronized on the file. Closing the file system discards all of
+ * its contents at once.
+ *
+ * <p>Symbolic links, hard links, file stores, and attribute views other than
+ * {@code "basic"} are not supported.
+ *
+ * @since 6.0
+ */
+final class InMemoryFileSystem extends FileSystem {
+
+	private static final AtomicLong COUNTER = new AtomicLong();
+
+	private final InMemoryFileSystemProvider provider;
+	private final String name;
+	private final InMemoryPath rootPath;
+
+	private volatile @Nullable Directory root = new Directory();
+
+	InMemoryFileSystem(InMemoryFileSystemProvider provider) {
+		this.provider = provider;
+		this.name = "junit-" + COUNTER.incrementAndGet();
+		this.rootPath = new InMemoryPath(this, true, List.of());
+	}
+
+	String getName() {
+		return this.name;
+	}
+
+	InMemoryPath getRootPath() {
+		return this.rootPath;
+	}
+
+	// --- FileSystem ----------------------------------------------------------
+
+	@Override
+	public InMemoryFileSystemProvider provider() {
+		return this.provider;
+	}
+
+	@Override
+	public void close() {
+		this.root = null;
+	}
+
+	@Override
+	public boolean isOpen() {
+		return this.root != null;
+	}
+
+	@Override
+	public boolean isReadOnly() {
+		return false;
+	}
+
+	@Override
+	public String getSeparator() {
+		return InMemoryPath.SEPARATOR;
+	}
+
+	@Override
+	public Iterable<Path> getRootDirectories() {
+		return List.of(this.rootPath);
+	}
+
+	@Override
+	public Iterable<FileStore> getFileStores() {
+		return List.of();
+	}
+
+	@Override
+	public Set<String> supportedFileAttributeViews() {
+		return Set.of("basic");
+	}
+
+	@Override
+	public InMemoryPath getPath(String first, String... more) {
+		return InMemoryPath.parse(this, first, more);
+	}
+
+	@Override
+	public PathMatcher getPathMatcher(String syntaxAndPattern) {
+		int colonIndex = syntaxAndPattern.indexOf(':');
+		if (colonIndex <= 0) {
+			throw new IllegalArgumentException("Invalid syntax and pattern: " + syntaxAndPattern);
+		}
+		String syntax = syntaxAndPattern.substring(0, colonIndex);
+		String pattern = syntaxAndPattern.substring(colonIndex + 1);
+		Pattern regex = switch (syntax.toLowerCase(Locale.ROOT)) {
+			case "glob" -> Pattern.compile(globToRegex(pattern));
+			case "regex" -> Pattern.compile(pattern);
+			default -> throw new UnsupportedOperationException("Syntax not supported: " + syntax);
+		};
+		return path -> regex.matcher(path.toString()).matches();
+	}
+
+	@Override
+	public UserPrincipalLookupService getUserPrincipalLookupService() {
+		throw new UnsupportedOperationException("User principals are not supported");
+	}
+
+	@Override
+	public WatchService newWatchService() {
+		throw new UnsupportedOperationException("Watching in-memory paths is not supported");
+	}
+
+	// --- Operations ----------------------------------------------------------
+
+	SeekableByteChannel newByteChannel(InMemoryPath path, Set<? extends OpenOption> options) throws IOException {
+		boolean append = options.contains(APPEND);
+		boolean write = append || options.contains(WRITE);
+		boolean read = options.contains(READ) || !write;
+		if (append && (read || options.contains(TRUNCATE_EXISTING))) {
+			throw new IllegalArgumentException("APPEND cannot be combined with READ or TRUNCATE_EXISTING");
+		}
+		if (options.contains(StandardOpenOption.DELETE_ON_CLOSE)) {
+			throw new UnsupportedOperationException("DELETE_ON_CLOSE is not supported");
+		}
+		RegularFile file;
+		synchronized (this) {
+			Directory parent = lookupParent(path);
+			String name = fileName(path);
+			Node node = parent.entries.get(name);
+			if (node == null) {
+				if (!write || !(options.contains(CREATE) || options.contains(CREATE_NEW))) {
+					throw new NoSuchFileException(path.toString());
+				}
+				file = new RegularFile();
+				parent.add(name, file);
+			}
+			else if (write && options.contains(CREATE_NEW)) {
+				throw new FileAlreadyExistsException(path.toString());
+			}
+			else if (node instanceof RegularFile regularFile) {
+				file = regularFile;
+			}
+			else {
+				throw new FileSystemException(path.toString(), null, "Is a directory");
+			}
+		}
+		if (write && options.contains(TRUNCATE_EXISTING)) {
+			file.truncate(0);
+		}
+		return new RegularFileChannel(file, read, write, append);
+	}
+
+	DirectoryStream<Path> newDirectoryStream(InMemoryPath dir, DirectoryStream.Filter<? super Path> filter)
+			throws IOException {
+		List<String> names;
+		synchronized (this) {
+			if (!(lookup(dir) instanceof Directory directory)) {
+				throw new NotDirectoryException(dir.toString());
+			}
+			names = new ArrayList<>(directory.entries.keySet());
+		}
+		return new InMemoryDirectoryStream(dir, names, filter);
+	}
+
+	synchronized void createDirectory(InMemoryPath dir) throws IOException {
+		Directory parent = lookupParent(dir);
+		String name = fileName(dir);
+		if (parent.entries.containsKey(name)) {
+			throw new FileAlreadyExistsException(dir.toString());
+		}
+		parent.add(name, new Directory());
+	}
+
+	synchronized void delete(InMemoryPath path) throws IOException {
+		Directory parent = lookupParent(path);
+		String name = fileName(path);
+		Node node = parent.entries.get(name);
+		if (node == null) {
+			throw new NoSuchFileException(path.toString());
+		}
+		if (node instanceof Directory directory && !directory.entries.isEmpty()) {
+			throw new DirectoryNotEmptyException(path.toString());
+		}
+		parent.remove(name);
+	}
+
+	synchronized void copy(InMemoryPath source, InMemoryPath target, CopyOption... options) throws IOException {
+		List<CopyOption> copyOptions = Arrays.asList(options);
+		if (copyOptions.contains(ATOMIC_MOVE)) {
+			throw new UnsupportedOperationException("ATOMIC_MOVE is not supported when copying files");
+		}
+		Node node = lookup(source);
+		if (isSameNode(source, target)) {
+			return;
+		}
+		Node copy = node instanceof RegularFile file ? file.copy() : new Directory();
+		if (copyOptions.contains(COPY_ATTRIBUTES)) {
+			copy.creationTime = node.creationTime;
+			copy.lastModifiedTime = node.lastModifiedTime;
+			copy.lastAccessTime = node.lastAccessTime;
+		}
+		replace(target, copy, copyOptions.contains(REPLACE_EXISTING));
+	}
+
+	synchronized void move(InMemoryPath source, InMemoryPath target, CopyOption... options) throws IOException {
+		Node node = lookup(source);
+		if (isSameNode(source, target)) {
+			return;
+		}
+		InMemoryPath normalizedSource = source.toAbsolutePath().normalize();
+		if (normalizedSource.getNameCount() == 0
+				|| target.toAbsolutePath().normalize().startsWith(normalizedSource)) {
+			throw new FileSystemException(source.toString(), target.toString(), "Invalid move target");
+		}
+		replace(target, node, Arrays.asList(options).contains(REPLACE_EXISTING));
+		lookupParent(source).remove(fileName(source));
+	}
+
+	synchronized boolean isSameFile(InMemoryPath path1, InMemoryPath path2) throws IOException {
+		return lookup(path1) == lookup(path2);
+	}
+
+	synchronized void checkAccess(InMemoryPath path) throws IOException {
+		lookup(path);
+	}
+
+	synchronized BasicFileAttributes readAttributes(InMemoryPath path) throws IOException {
+		return lookup(path).readAttributes();
+	}
+
+	synchronized void setTimes(InMemoryPath path, @Nullable FileTime lastModifiedTime,
+			@Nullable FileTime lastAccessTime, @Nullable FileTime creationTime) throws IOException {
+		Node node = lookup(path);
+		if (lastModifiedTime != null) {
+			node.lastModifiedTime = lastModifiedTime;
+		}
+		if (lastAccessTime != null) {
+			node.lastAccessTime = lastAccessTime;
+		}
+		if (creationTime != null) {
+			node.creationTime = creationTime;
+		}
+	}
+
+	// -------------------------------------------------------------------------
+
+	private boolean isSameNode(InMemoryPath source, InMemoryPath target) throws IOException {
+		Node existing = findNode(target);
+		return existing != null && existing == lookup(source);
+	}
+
+	private void replace(InMemoryPath target, Node node, boolean replaceExisting) throws IOException {
+		Directory parent = lookupParent(target);
+		String name = fileName(target);
+		Node existing = parent.entries.get(name);
+		if (existing != null) {
+			if (!replaceExisting) {
+				throw new FileAlreadyExistsException(target.toString());
+			}
+			if (existing instanceof Directory directory && !directory.entries.isEmpty()) {
+				throw new DirectoryNotEmptyException(target.toString());
+			}
+		}
+		parent.add(name, node);
+	}
+
+	private Node lookup(InMemoryPath path) throws IOException {
+		Node node = findNode(path);
+		if (node == null) {
+			throw new NoSuchFileException(path.toString());
+		}
+		return node;
+	}
+
+	private @Nullable Node findNode(InMemoryPath path) {
+		Node node = getRoot();
+		for (String name : path.toAbsolutePath().normalize().getNames()) {
+			if (!(node instanceof Directory directory)) {
+				return null;
+			}
+			node = directory.entries.get(name);
+		}
+		return node;
+	}
+
+	private Directory lookupParent(InMemoryPath path) throws IOException {
+		InMemoryPath parent = path.toAbsolutePath().normalize().getParent();
+		if (parent == null) {
+			throw new FileSystemException(path.toString(), null, "Operation not supported for root directory");
+		}
+		Node node = lookup(parent);
+		if (node instanceof Directory directory) {
+			return directory;
+		}
+		throw new NotDirectoryException(parent.toString());
+	}
+
+	private static String fileName(InMemoryPath path) {
+		List<String> names = path.toAbsolutePath().normalize().getNames();
+		return names.get(names.size() - 1);
+	}
+
+	private Directory getRoot() {
+		Directory root = this.root;
+		if (root == null) {
+			throw new ClosedFileSystemException();
+		}
+		return root;
+	}
+
+	private static String globToRegex(String glob) {
+		StringBuilder regex = new StringBuilder();
+		boolean inGroup = false;
+		for (int i = 0; i < glob.length(); i++) {
+			char c = glob.charAt(i);
+			switch (c) {
+				case '*' -> {
+					if (i + 1 < glob.length() && glob.charAt(i + 1) == '*') {
+						regex.append(".*");
+						i++;
+					}
+					else {
+						regex.append("[^/]*");
+					}
+				}
+				case '?' -> regex.append("[^/]");
+				case '{' -> {
+					regex.append("(?:");
+					inGroup = true;
+				}
+				case '}' -> {
+					regex.append(')');
+					inGroup = false;
+				}
+				case ',' -> regex.append(inGroup ? "|" : ",");
+				case '[' -> {
+					int end = glob.indexOf(']', i + 1);
+					if (end < 0) {
+						regex.append("\\[");
+					}
+					else {
+						String set = glob.substring(i + 1, end);
+						regex.append('[').append(set.startsWith("!") ? "^" + set.substring(1) : set).append(']');
+						i = end;
+					}
+				}
+				case '\\' -> {
+					if (i + 1 < glob.length()) {
+						regex.append(Pattern.quote(String.valueOf(glob.charAt(++i))));
+					}
+				}
+				default -> regex.append(Pattern.quote(String.valueOf(c)));
+			}
+		}
+		return regex.toString();
+	}
+
+	// --- Nodes ---------------------------------------------------------------
+
+	private abstract static class Node {
+
+		volatile FileTime creationTime = now();
+		volatile FileTime lastModifiedTime = this.creationTime;
+		volatile FileTime lastAccessTime = this.creationTime;
+
+		abstract BasicFileAttributes readAttributes();
+
+		void touch() {
+			this.lastModifiedTime = now();
+		}
+
+		static FileTime now() {
+			return FileTime.fromMillis(System.currentTimeMillis());
+		}
+
+	}
+
+	private static final class Directory extends Node {
+
+		private final Map<String, Node> entries = new TreeMap<>();
+
+		void add(String name, Node node) {
+			this.entries.put(name, node);
+			touch();
+		}
+
+		void remove(String name) {
+			this.entries.remove(name);
+			touch();
+		}
+
+		@Override
+		BasicFileAttributes readAttributes() {
+			return new Attributes(this.lastModifiedTime, this.lastAccessTime, this.creationTime, false, true, 0,
+				this);
+		}
+
+	}
+
+	private static final class RegularFile extends Node {
+
+		private byte[] bytes = new byte[0];
+		private int size;
+
+		synchronized int size() {
+			return this.size;
+		}
+
+		synchronized int read(long position, ByteBuffer target) {
+			if (position >= this.size) {
+				return -1;
+			}
+			int count = (int) Math.min(target.remaining(), this.size - position);
+			target.put(this.bytes, (int) position, count);
+			return count;
+		}
+
+		synchronized int write(long position, ByteBuffer source, boolean append) throws IOException {
+			int start = append ? this.size : (int) position;
+			int count = source.remaining();
+			long end = (long) start + count;
+			if (end > Integer.MAX_VALUE - 8) {
+				throw new IOException("In-memory files must not exceed 2 GB");
+			}
+			if (end > this.bytes.length) {
+				this.bytes = Arrays.copyOf(this.bytes, (int) Math.max(end, Math.min(2L * this.bytes.length,
+					Integer.MAX_VALUE - 8)));
+			}
+			if (start > this.size) {
+				Arrays.fill(this.bytes, this.size, start, (byte) 0);
+			}
+			source.get(this.bytes, start, count);
+			this.size = Math.max(this.size, (int) end);
+			touch();
+			return start;
+		}
+
+		synchronized void truncate(long newSize) {
+			if (newSize < this.size) {
+				this.size = (int) newSize;
+				touch();
+			}
+		}
+
+		synchronized RegularFile copy() {
+			RegularFile copy = new RegularFile();
+			copy.bytes = Arrays.copyOf(this.bytes, this.size);
+			copy.size = this.size;
+			return copy;
+		}
+
+		@Override
+		synchronized BasicFileAttributes readAttributes() {
+			return new Attributes(this.lastModifiedTime, this.lastAccessTime, this.creationTime, true, false,
+				this.size, this);
+		}
+
+	}
+
+	private record Attributes(FileTime lastModifiedTime, FileTime lastAccessTime, FileTime creationTime,
+			boolean isRegularFile, boolean isDirectory, long size, Object fileKey) implements BasicFileAttributes {
+
+		@Override
+		public boolean isSymbolicLink() {
+			return false;
+		}
+
+		@Override
+		public boolean isOther() {
+			return false;
+		}
+
+	}
+
+	// --- Channels and streams ------------------------------------------------
+
+	private static final class RegularFileChannel implements SeekableByteChannel {
+
+		private final RegularFile file;
+		private final boolean readable;
+		private final boolean writable;
+		private final boolean append;
+
+		private long position;
+		private volatile boolean open = true;
+
+		RegularFileChannel(RegularFile file, boolean readable, boolean writable, boolean append) {
+			this.file = file;
+			this.readable = readable;
+			this.writable = writable;
+			this.append = append;
+		}
+
+		@Override
+		public synchronized int read(ByteBuffer target) throws IOException {
+			checkOpen();
+			if (!this.readable) {
+				throw new NonReadableChannelException();
+			}
+			int count = this.file.read(this.position, target);
+			if (count > 0) {
+				this.position += count;
+			}
+			return count;
+		}
+
+		@Override
+		public synchronized int write(ByteBuffer source) throws IOException {
+			checkOpen();
+			if (!this.writable) {
+				throw new NonWritableChannelException();
+			}
+			int count = source.remaining();
+			this.position = this.file.write(this.position, source, this.append) + (long) count;
+			return count;
+		}
+
+		@Override
+		public synchronized long position() throws IOException {
+			checkOpen();
+			return this.position;
+		}
+
+		@Override
+		public synchronized SeekableByteChannel position(long newPosition) throws IOException {
+			checkOpen();
+			if (newPosition < 0) {
+				throw new IllegalArgumentException("Position must not be negative");
+			}
+			this.position = newPosition;
+			return this;
+		}
+
+		@Override
+		public long size() throws IOException {
+			checkOpen();
+			return this.file.size();
+		}
+
+		@Override
+		public synchronized SeekableByteChannel truncate(long size) throws IOException {
+			checkOpen();
+			if (!this.writable) {
+				throw new NonWritableChannelException();
+			}
+			if (size < 0) {
+				throw new IllegalArgumentException("Size must not be negative");
+			}
+			this.file.truncate(size);
+			this.position = Math.min(this.position, size);
+			return this;
+		}
+
+		@Override
+		public boolean isOpen() {
+			return this.open;
+		}
+
+		@Override
+		public void close() {
+			this.open = false;
+		}
+
+		private void checkOpen() throws ClosedChannelException {
+			if (!this.open) {
+				throw new ClosedChannelException();
+			}
+		}
+
+	}
+
+	private static final class InMemoryDirectoryStream implements DirectoryStream<Path> {
+
+		private final InMemoryPath dir;
+		private final List<String> names;
+		private final Filter<? super Path> filter;
+
+		private boolean iteratorReturned;
+		private volatile boolean open = true;
+
+		InMemoryDirectoryStream(InMemoryPath dir, List<String> names, Filter<? super Path> filter) {
+			this.dir = dir;
+			this.names = names;
+			this.filter = filter;
+		}
+
+		@Override
+		public synchronized Iterator<Path> iterator() {
+			if (!this.open || this.iteratorReturned) {
+				throw new IllegalStateException("Directory stream is closed or its iterator has already been returned");
+			}
+			this.iteratorReturned = true;
+			Iterator<String> delegate = this.names.iterator();
+			return new Iterator<>() {
+
+				private @Nullable Path next;
+
+				@Override
+				public boolean hasNext() {
+					while (this.next == null && open && delegate.hasNext()) {
+						Path candidate = dir.resolve(dir.getFileSystem().getPath(delegate.next()));
+						try {
+							if (filter.accept(candidate)) {
+								this.next = candidate;
+							}
+						}
+						catch (IOException ex) {
+							throw new DirectoryIteratorException(ex);
+						}
+					}
+					return this.next != null;
+				}
+
+				@Override
+				public Path next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					Path result = this.next;
+					this.next = null;
+					return result;
+				}
+			};
+		}
+
+		@Override
+		public void close() {
+			this.open = false;
+		}
+
+	}
+
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api.io;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.AccessMode;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.CopyOption;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileStore;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributeView;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.FileAttributeView;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.spi.FileSystemProvider;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link FileSystemProvider} for {@link InMemoryFileSystem} instances.
+ *
+ * <p>The provider is not installed; file systems are created via
+ * {@link #newFileSystem()} and can therefore not be looked up by
+ * {@link URI}.
+ *
+ * @since 6.0
+ */
+final class InMemoryFileSystemProvider extends FileSystemProvider {
+
+	static final String SCHEME = "junit-memory";
+
+	static final InMemoryFileSystemProvider INSTANCE = new InMemoryFileSystemProvider();
+
+	private static final String BASIC_VIEW = "basic";
+
+	private InMemoryFileSystemProvider() {
+	}
+
+	InMemoryFileSystem newFileSystem() {
+		return new InMemoryFileSystem(this);
+	}
+
+	@Override
+	public String getScheme() {
+		return SCHEME;
+	}
+
+	@Override
+	public InMemoryFileSystem newFileSystem(URI uri, Map<String, ?> env) {
+		throw new UnsupportedOperationException("In-memory file systems cannot be created by URI");
+	}
+
+	@Override
+	public InMemoryFileSystem getFileSystem(URI uri) {
+		throw new FileSystemNotFoundException(uri.toString());
+	}
+
+	@Override
+	public Path getPath(URI uri) {
+		throw new FileSystemNotFoundException(uri.toString());
+	}
+
+	@Override
+	public SeekableByteChannel newByteChannel(Path path, Set<? extends OpenOption> options,
+			FileAttribute<?>... attributes) throws IOException {
+		checkNoAttributes(attributes);
+		InMemoryPath inMemoryPath = InMemoryPath.cast(path);
+		return inMemoryPath.getFileSystem().newByteChannel(inMemoryPath, options);
+	}
+
+	@Override
+	public DirectoryStream<Path> newDirectoryStream(Path dir, DirectoryStream.Filter<? super Path> filter)
+			throws IOException {
+		InMemoryPath inMemoryDir = InMemoryPath.cast(dir);
+		return inMemoryDir.getFileSystem().newDirectoryStream(inMemoryDir, filter);
+	}
+
+	@Override
+	public void createDirectory(Path dir, FileAttribute<?>... attributes) throws IOException {
+		checkNoAttributes(attributes);
+		InMemoryPath inMemoryDir = InMemoryPath.cast(dir);
+		inMemoryDir.getFileSystem().createDirectory(inMemoryDir);
+	}
+
+	@Override
+	public void delete(Path path) throws IOException {
+		InMemoryPath inMemoryPath = InMemoryPath.cast(path);
+		inMemoryPath.getFileSystem().delete(inMemoryPath);
+	}
+
+	@Override
+	public void copy(Path source, Path target, CopyOption... options) throws IOException {
+		InMemoryPath inMemorySource = InMemoryPath.cast(source);
+		InMemoryPath inMemoryTarget = InMemoryPath.cast(target);
+		if (inMemorySource.getFileSystem() == inMemoryTarget.getFileSystem()) {
+			inMemorySource.getFileSystem().copy(inMemorySource, inMemoryTarget, options);
+		}
+		else {
+			copyBetweenFileSystems(inMemorySource, inMemoryTarget, options);
+		}
+	}
+
+	@Override
+	public void move(Path source, Path target, CopyOption... options) throws IOException {
+		InMemoryPath inMemorySource = InMemoryPath.cast(source);
+		InMemoryPath inMemoryTarget = InMemoryPath.cast(target);
+		if (inMemorySource.getFileSystem() == inMemoryTarget.getFileSystem()) {
+			inMemorySource.getFileSystem().move(inMemorySource, inMemoryTarget, options);
+		}
+		else if (Arrays.asList(options).contains(ATOMIC_MOVE)) {
+			throw new AtomicMoveNotSupportedException(source.toString(), target.toString(),
+				"Files cannot be moved atomically between file systems");
+		}
+		else {
+			copyBetweenFileSystems(inMemorySource, inMemoryTarget, COPY_ATTRIBUTES, REPLACE_EXISTING);
+			delete(inMemorySource);
+		}
+	}
+
+	@Override
+	public boolean isSameFile(Path path1, Path path2) throws IOException {
+		if (path1.equals(path2)) {
+			return true;
+		}
+		if (!(path1 instanceof InMemoryPath inMemoryPath1) || !(path2 instanceof InMemoryPath inMemoryPath2)
+				|| inMemoryPath1.getFileSystem() != inMemoryPath2.getFileSystem()) {
+			return false;
+		}
+		return inMemoryPath1.getFileSystem().isSameFile(inMemoryPath1, inMemoryPath2);
+	}
+
+	@Override
+	public boolean isHidden(Path path) {
+		return false;
+	}
+
+	@Override
+	public FileStore getFileStore(Path path) {
+		throw new UnsupportedOperationException("File stores are not supported by in-memory file systems");
+	}
+
+	@Override
+	public void checkAccess(Path path, AccessMode... modes) throws IOException {
+		InMemoryPath inMemoryPath = InMemoryPath.cast(path);
+		inMemoryPath.getFileSystem().checkAccess(inMemoryPath);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <V extends FileAttributeView> @Nullable V getFileAttributeView(Path path, Class<V> type,
+			LinkOption... options) {
+		InMemoryPath inMemoryPath = InMemoryPath.cast(path);
+		if (type != BasicFileAttributeView.class) {
+			return null;
+		}
+		return (V) new BasicFileAttributeView() {
+
+			@Override
+			public String name() {
+				return BASIC_VIEW;
+			}
+
+			@Override
+			public BasicFileAttributes readAttributes() throws IOException {
+				return inMemoryPath.getFileSystem().readAttributes(inMemoryPath);
+			}
+
+			@Override
+			public void setTimes(@Nullable FileTime lastModifiedTime, @Nullable FileTime lastAccessTime,
+					@Nullable FileTime createTime) throws IOException {
+				inMemoryPath.getFileSystem().setTimes(inMemoryPath, lastModifiedTime, lastAccessTime, createTime);
+			}
+		};
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <A extends BasicFileAttributes> A readAttributes(Path path, Class<A> type, LinkOption... options)
+			throws IOException {
+		if (type != BasicFileAttributes.class) {
+			throw new UnsupportedOperationException("Attributes of type %s are not supported".formatted(type));
+		}
+		InMemoryPath inMemoryPath = InMemoryPath.cast(path);
+		return (A) inMemoryPath.getFileSystem().readAttributes(inMemoryPath);
+	}
+
+	@Override
+	public Map<String, Object> readAttributes(Path path, String attributes, LinkOption... options)
+			throws IOException {
+		String names = basicAttributeNames(attributes);
+		BasicFileAttributes basicAttributes = readAttributes(path, BasicFileAttributes.class);
+		Map<String, Object> all = new LinkedHashMap<>();
+		all.put("lastModifiedTime", basicAttributes.lastModifiedTime());
+		all.put("lastAccessTime", basicAttributes.lastAccessTime());
+		all.put("creationTime", basicAttributes.creationTime());
+		all.put("size", basicAttributes.size());
+		all.put("isRegularFile", basicAttributes.isRegularFile());
+		all.put("isDirectory", basicAttributes.isDirectory());
+		all.put("isSymbolicLink", basicAttributes.isSymbolicLink());
+		all.put("isOther", basicAttributes.isOther());
+		all.put("fileKey", basicAttributes.fileKey());
+		if (names.equals("*")) {
+			return all;
+		}
+		Map<String, Object> result = new LinkedHashMap<>();
+		for (String name : names.split(",")) {
+			if (name.equals("*")) {
+				result.putAll(all);
+			}
+			else if (all.containsKey(name)) {
+				result.put(name, all.get(name));
+			}
+			else {
+				throw new IllegalArgumentException("Unknown attribute: " + name);
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public void setAttribute(Path path, String attribute, Object value, LinkOption... options) throws IOException {
+		InMemoryPath inMemoryPath = InMemoryPath.cast(path);
+		InMemoryFileSystem fileSystem = inMemoryPath.getFileSystem();
+		switch (basicAttributeNames(attribute)) {
+			case "lastModifiedTime" -> fileSystem.setTimes(inMemoryPath, (FileTime) value, null, null);
+			case "lastAccessTime" -> fileSystem.setTimes(inMemoryPath, null, (FileTime) value, null);
+			case "creationTime" -> fileSystem.setTimes(inMemoryPath, null, null, (FileTime) value);
+			default -> throw new IllegalArgumentException("Attribute cannot be set: " + attribute);
+		}
+	}
+
+	private static String basicAttributeNames(String attributes) {
+		int colonIndex = attributes.indexOf(':');
+		if (colonIndex < 0) {
+			return attributes;
+		}
+		String view = attributes.substring(0, colonIndex);
+		if (!view.equals(BASIC_VIEW)) {
+			throw new UnsupportedOperationException("Attribute view not supported: " + view);
+		}
+		return attributes.substring(colonIndex + 1);
+	}
+
+	private static void copyBetweenFileSystems(InMemoryPath source, InMemoryPath target, CopyOption... options)
+			throws IOException {
+		List<CopyOption> copyOptions = Arrays.asList(options);
+		BasicFileAttributes attributes = source.getFileSystem().readAttributes(source);
+		if (copyOptions.contains(REPLACE_EXISTING)) {
+			Files.deleteIfExists(target);
+		}
+		if (attributes.isDirectory()) {
+			target.getFileSystem().createDirectory(target);
+		}
+		else {
+			try (InputStream in = Files.newInputStream(source)) {
+				Files.copy(in, target);
+			}
+		}
+		if (copyOptions.contains(COPY_ATTRIBUTES)) {
+			target.getFileSystem().setTimes(target, attributes.lastModifiedTime(), attributes.lastAccessTime(),
+				attributes.creationTime());
+		}
+	}
+
+	private static void checkNoAttributes(FileAttribute<?>... attributes) {
+		if (attributes.length > 0) {
+			throw new UnsupportedOperationException(
+				"Initial attribute %s is not supported".formatted(attributes[0].name()));
+		}
+	}
+
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api.io;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.ProviderMismatchException;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link Path} of an {@link InMemoryFileSystem}.
+ *
+ * <p>Paths use {@code /} as separator and have a single root. Relative paths
+ * are resolved against the root.
+ *
+ * @since 6.0
+ */
+final class InMemoryPath implements Path {
+
+	static final String SEPARATOR = "/";
+
+	private final InMemoryFileSystem fileSystem;
+	private final boolean absolute;
+	private final List<String> names;
+
+	InMemoryPath(InMemoryFileSystem fileSystem, boolean absolute, List<String> names) {
+		this.fileSystem = fileSystem;
+		this.absolute = absolute;
+		this.names = List.copyOf(names);
+	}
+
+	static InMemoryPath parse(InMemoryFileSystem fileSystem, String first, String... more) {
+		StringBuilder builder = new StringBuilder(first);
+		for (String segment : more) {
+			if (!segment.isEmpty()) {
+				if (!builder.isEmpty()) {
+					builder.append(SEPARATOR);
+				}
+				builder.append(segment);
+			}
+		}
+		String path = builder.toString();
+		int nulIndex = path.indexOf('\0');
+		if (nulIndex >= 0) {
+			throw new InvalidPathException(path, "Nul character not allowed", nulIndex);
+		}
+		List<String> names = new ArrayList<>();
+		for (String name : path.split(SEPARATOR)) {
+			if (!name.isEmpty()) {
+				names.add(name);
+			}
+		}
+		return new InMemoryPath(fileSystem, path.startsWith(SEPARATOR), names);
+	}
+
+	static InMemoryPath cast(Path path) {
+		if (path instanceof InMemoryPath inMemoryPath) {
+			return inMemoryPath;
+		}
+		throw new ProviderMismatchException("Not an in-memory path: " + path);
+	}
+
+	List<String> getNames() {
+		return this.names;
+	}
+
+	@Override
+	public InMemoryFileSystem getFileSystem() {
+		return this.fileSystem;
+	}
+
+	@Override
+	public boolean isAbsolute() {
+		return this.absolute;
+	}
+
+	@Override
+	public @Nullable InMemoryPath getRoot() {
+		return this.absolute ? this.fileSystem.getRootPath() : null;
+	}
+
+	@Override
+	public @Nullable InMemoryPath getFileName() {
+		return this.names.isEmpty() ? null : relative(this.names.subList(this.names.size() - 1, this.names.size()));
+	}
+
+	@Override
+	public @Nullable InMemoryPath getParent() {
+		if (this.names.isEmpty() || (this.names.size() == 1 && !this.absolute)) {
+			return null;
+		}
+		return new InMemoryPath(this.fileSystem, this.absolute, this.names.subList(0, this.names.size() - 1));
+	}
+
+	@Override
+	public int getNameCount() {
+		return this.names.size();
+	}
+
+	@Override
+	public InMemoryPath getName(int index) {
+		return subpath(index, index + 1);
+	}
+
+	@Override
+	public InMemoryPath subpath(int beginIndex, int endIndex) {
+		if (beginIndex < 0 || endIndex > this.names.size() || beginIndex >= endIndex) {
+			throw new IllegalArgumentException(
+				"Invalid subpath indices %d and %d for path %s".formatted(beginIndex, endIndex, this));
+		}
+		return relative(this.names.subList(beginIndex, endIndex));
+	}
+
+	@Override
+	public boolean startsWith(Path other) {
+		if (!(other instanceof InMemoryPath that) || that.fileSystem != this.fileSystem
+				|| that.absolute != this.absolute || that.names.size() > this.names.size()) {
+			return false;
+		}
+		return this.names.subList(0, that.names.size()).equals(that.names);
+	}
+
+	@Override
+	public boolean endsWith(Path other) {
+		if (!(other instanceof InMemoryPath that) || that.fileSystem != this.fileSystem) {
+			return false;
+		}
+		if (that.absolute) {
+			return equals(that);
+		}
+		int offset = this.names.size() - that.names.size();
+		return offset >= 0 && this.names.subList(offset, this.names.size()).equals(that.names);
+	}
+
+	@Override
+	public InMemoryPath normalize() {
+		List<String> normalized = new ArrayList<>(this.names.size());
+		for (String name : this.names) {
+			if (name.equals(".")) {
+				continue;
+			}
+			if (name.equals("..")) {
+				if (!normalized.isEmpty() && !normalized.get(normalized.size() - 1).equals("..")) {
+					normalized.remove(normalized.size() - 1);
+					continue;
+				}
+				if (this.absolute) {
+					continue;
+				}
+			}
+			normalized.add(name);
+		}
+		return normalized.equals(this.names) ? this : new InMemoryPath(this.fileSystem, this.absolute, normalized);
+	}
+
+	@Override
+	public InMemoryPath resolve(Path other) {
+		InMemoryPath that = cast(other);
+		if (that.absolute) {
+			return that;
+		}
+		if (that.names.isEmpty()) {
+			return this;
+		}
+		List<String> resolved = new ArrayList<>(this.names);
+		resolved.addAll(that.names);
+		return new InMemoryPath(this.fileSystem, this.absolute, resolved);
+	}
+
+	@Override
+	public InMemoryPath relativize(Path other) {
+		InMemoryPath that = cast(other);
+		if (that.absolute != this.absolute) {
+			throw new IllegalArgumentException("'other' is different type of Path");
+		}
+		int common = 0;
+		int max = Math.min(this.names.size(), that.names.size());
+		while (common < max && this.names.get(common).equals(that.names.get(common))) {
+			common++;
+		}
+		List<String> relativized = new ArrayList<>();
+		for (int i = common; i < this.names.size(); i++) {
+			relativized.add("..");
+		}
+		relativized.addAll(that.names.subList(common, that.names.size()));
+		return relative(relativized);
+	}
+
+	@Override
+	public URI toUri() {
+		try {
+			return new URI(InMemoryFileSystemProvider.SCHEME, this.fileSystem.getName(),
+				toAbsolutePath().toString(), null, null);
+		}
+		catch (URISyntaxException ex) {
+			throw new IllegalStateException("Failed to create URI for " + this, ex);
+		}
+	}
+
+	@Override
+	public InMemoryPath toAbsolutePath() {
+		return this.absolute ? this : new InMemoryPath(this.fileSystem, true, this.names);
+	}
+
+	@Override
+	public InMemoryPath toRealPath(LinkOption... options) throws IOException {
+		InMemoryPath realPath = toAbsolutePath().normalize();
+		this.fileSystem.checkAccess(realPath);
+		return realPath;
+	}
+
+	@Override
+	public WatchKey register(WatchService watcher, WatchEvent.Kind<?>[] events, WatchEvent.Modifier... modifiers) {
+		throw new UnsupportedOperationException("Watching in-memory paths is not supported");
+	}
+
+	@Override
+	public int compareTo(Path other) {
+		return toString().compareTo(cast(other).toString());
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		return obj instanceof InMemoryPath that //
+				&& this.fileSystem == that.fileSystem //
+				&& this.absolute == that.absolute //
+				&& this.names.equals(that.names);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * this.names.hashCode() + Boolean.hashCode(this.absolute);
+	}
+
+	@Override
+	public String toString() {
+		String path = String.join(SEPARATOR, this.names);
+		return this.absolute ? SEPARATOR + path : path;
+	}
+
+	private InMemoryPath relative(List<String> names) {
+		return new InMemoryPath(this.fileSystem, false, names);
+	}
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api.io;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.extension.AnnotatedElementContext;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * {@link TempDirFactory} implementation which creates each temporary
+ * directory in a new file system that keeps all of its directories and files
+ * in memory.
+ *
+ * <p>Since reading and writing files does not involve any system calls, an
+ * in-memory temporary directory is well suited for tests that create or read
+ * many small files. When the temporary directory is cleaned up, its file
+ * system is closed which discards all of its contents at once.
+ *
+ * <p>The file system uses {@code /} as separator and supports regular files
+ * and directories with the {@code "basic"} file attribute view. Symbolic
+ * links, hard links, file stores, and watch services are not supported.
+ * Since the file system is not the {@linkplain java.nio.file.FileSystems#getDefault()
+ * default file system}, the temporary directory can only be injected into
+ * fields or parameters of type {@link Path}, not {@link java.io.File}.
+ *
+ * <p>This factory may be used locally via
+ * {@code @TempDir(factory = InMemoryTempDirFactory.class)} or globally via the
+ * {@value TempDir#DEFAULT_FACTORY_PROPERTY_NAME} configuration parameter.
+ *
+ * @since 6.0
+ * @see TempDir#factory()
+ * @see TempDirFactory.Standard
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public class InMemoryTempDirFactory implements TempDirFactory {
+
+	private static final String TEMP_DIR_PREFIX = "junit-";
+
+	private @Nullable InMemoryFileSystem fileSystem;
+
+	public InMemoryTempDirFactory() {
+	}
+
+	@Override
+	public Path createTempDirectory(AnnotatedElementContext elementContext, ExtensionContext extensionContext)
+			throws Exception {
+		InMemoryFileSystem fileSystem = InMemoryFileSystemProvider.INSTANCE.newFileSystem();
+		this.fileSystem = fileSystem;
+		return Files.createTempDirectory(fileSystem.getRootPath(), TEMP_DIR_PREFIX);
+	}
+
+	/**
+	 * Close the file system of the temporary directory and thereby discard
+	 * all of its contents.
+	 */
+	@Override
+	public void close() {
+		InMemoryFileSystem fileSystem = this.fileSystem;
+		if (fileSystem != null) {
+			fileSystem.close();
+		}
+	}
+
+	/**
+	 * {@return always {@code true}}
+	 */
+	@Override
+	public boolean deletesTempDirectoryOnClose() {
+		return true;
+	}
+
+}
@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.api.io;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
 
@@ -81,7 +82,9 @@ import org.junit.jupiter.api.extension.ParameterResolutionException;
  * only be cleaned up if the test completes successfully. By default, the
  * {@link CleanupMode#ALWAYS ALWAYS} clean up mode will be used, but this can be
  * configured globally by setting the {@value #DEFAULT_CLEANUP_MODE_PROPERTY_NAME}
- * configuration parameter.
+ * configuration parameter. Cleanup may be performed asynchronously by setting
+ * the {@value #ASYNC_CLEANUP_ENABLED_PROPERTY_NAME} configuration parameter to
+ * {@code true}.
  *
  * @since 5.4
  */
@@ -138,6 +141,24 @@ public @interface TempDir {
 	@API(status = MAINTAINED, since = "5.13.3")
 	String DEFAULT_CLEANUP_MODE_PROPERTY_NAME = "junit.jupiter.tempdir.cleanup.mode.default";
 
+	/**
+	 * The name of the configuration parameter that is used to enable
+	 * asynchronous cleanup of temporary directories: {@value}
+	 *
+	 * <p>If set to {@code true}, temporary directories are deleted by
+	 * background threads, and subdirectories are deleted in parallel, instead
+	 * of being deleted by the thread that executed the test. Pending deletions
+	 * are awaited and their failures are reported when the execution of all
+	 * tests has finished.
+	 *
+	 * <p>If this configuration parameter is not set, temporary directories are
+	 * deleted synchronously.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	String ASYNC_CLEANUP_ENABLED_PROPERTY_NAME = "junit.jupiter.tempdir.cleanup.async.enabled";
+
 	/**
 	 * How the temporary directory gets cleaned up after the test completes.
 	 *
@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.api.io;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 
 import java.io.Closeable;
@@ -71,6 +72,28 @@ public interface TempDirFactory extends Closeable {
 	default void close() throws IOException {
 	}
 
+	/**
+	 * Determine whether {@linkplain #close() closing} this factory deletes the
+	 * temporary directory it created along with all of its contents.
+	 *
+	 * <p>If this method returns {@code true}, JUnit does not delete the
+	 * contents of the temporary directory one by one when cleaning it up but
+	 * only closes this factory. Consequently, the configured {@link CleanupMode}
+	 * has no effect on such temporary directories.
+	 *
+	 * <p>The default implementation returns {@code false}.
+	 *
+	 * @return {@code true} if closing this factory deletes the temporary
+	 * directory
+	 * @since 6.0
+	 * @see TemplateTempDirFactory
+	 * @see InMemoryTempDirFactory
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	default boolean deletesTempDirectoryOnClose() {
+		return false;
+	}
+
 	/**
 	 * Standard {@link TempDirFactory} implementation which delegates to
 	 * {@link Files#createTempDirectory} using {@code "junit-"} as prefix.
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api.io;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apiguardian.api.API;
+
+/**
+ * {@code @TempDirTemplate} can be used to annotate a field in a test class or
+ * a parameter in a test class constructor, lifecycle method, or test method of
+ * type {@link java.nio.file.Path Path} or {@link java.io.File File} that should
+ * be resolved into a {@linkplain TempDir temporary directory} which is seeded
+ * with the contents of a template directory.
+ *
+ * <p>The template directory is copied once per launcher session. Afterwards,
+ * the files of each temporary directory are created as hard links to the
+ * files of the copy, if supported by the file system, or copied in parallel
+ * otherwise. Please refer to {@link TemplateTempDirFactory} for details.
+ *
+ * <p>If you need to configure the {@linkplain TempDir#cleanup() cleanup mode}
+ * of the temporary directory, you may additionally declare
+ * {@code @TempDir(factory = TemplateTempDirFactory.class, cleanup = ...)} on
+ * the same field or parameter.
+ *
+ * @since 6.0
+ * @see TempDir
+ * @see TemplateTempDirFactory
+ */
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.FIELD, ElementType.PARAMETER })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@TempDir(factory = TemplateTempDirFactory.class)
+@API(status = EXPERIMENTAL, since = "6.0")
+public @interface TempDirTemplate {
+
+	/**
+	 * The path of the template directory.
+	 *
+	 * <p>Relative paths are resolved against the current working directory.
+	 */
+	String value();
+
+	/**
+	 * Whether files of the temporary directory should be created as hard links
+	 * to the files of the copied template directory.
+	 *
+	 * <p>Since hard links share their contents, the linked files are made
+	 * read-only. Tests that need to modify such a file must replace it, e.g.
+	 * by deleting and recreating it. If set to {@code false}, if the file
+	 * system does not support hard links or POSIX file permissions, or if the
+	 * {@linkplain TempDir#cleanup() cleanup mode} is not
+	 * {@link CleanupMode#ALWAYS ALWAYS}, all files are copied instead.
+	 *
+	 * <p>Defaults to {@code true}.
+	 */
+	boolean link() default true;
+
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api.io;
+
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.junit.jupiter.api.extension.ExtensionContext.StoreScope.LAUNCHER_SESSION;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.CopyOption;
+import java.nio.file.FileSystemException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.extension.AnnotatedElementContext;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+
+/**
+ * {@link TempDirFactory} implementation which seeds each temporary directory
+ * with the contents of the template directory configured via
+ * {@link TempDirTemplate @TempDirTemplate}.
+ *
+ * <p>When a template directory is used for the first time, it is copied into
+ * a new directory next to the system's default temporary directory. The copy
+ * is stored in the {@linkplain ExtensionContext.StoreScope#LAUNCHER_SESSION
+ * launcher session} {@link ExtensionContext.Store Store} so that it is shared
+ * by all tests of the launcher session, and deleted when the launcher session
+ * is closed. Changes to the template directory made after it has been copied
+ * are therefore not reflected in subsequently created temporary directories.
+ *
+ * <p>Since the copy and the temporary directories reside on the same file
+ * system, the files of each temporary directory can usually be created as
+ * {@linkplain Files#createLink hard links} which is much faster than copying
+ * their contents. Files are only linked if the file system supports POSIX
+ * file permissions and the temporary directory is always deleted after use,
+ * i.e. its {@linkplain TempDir#cleanup() cleanup mode} is
+ * {@link CleanupMode#ALWAYS ALWAYS}. Otherwise, or if the file system does
+ * not support hard links or {@link TempDirTemplate#link()} is set to
+ * {@code false}, the files are copied in parallel instead. Directories and
+ * symbolic links are always recreated.
+ *
+ * <p>A temporary directory that contains hard links is deleted by this
+ * factory when it is {@linkplain #close() closed} rather than by JUnit. In
+ * contrast to the latter, this factory never changes the permissions of the
+ * deleted files since that would change the permissions of the shared files
+ * of the copied template directory as well.
+ *
+ * <p>The created temporary directory is always created in the default file
+ * system with the system's default temporary directory as its parent.
+ *
+ * @since 6.0
+ * @see TempDirTemplate
+ * @see TempDirFactory.Standard
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public class TemplateTempDirFactory implements TempDirFactory {
+
+	private static final Namespace NAMESPACE = Namespace.create(TemplateTempDirFactory.class);
+
+	private static final String TEMP_DIR_PREFIX = "junit-";
+
+	private static final String TEMPLATE_DIR_PREFIX = "junit-template-";
+
+	private volatile @Nullable Path linkedTempDir;
+
+	public TemplateTempDirFactory() {
+	}
+
+	@Override
+	public Path createTempDirectory(AnnotatedElementContext elementContext, ExtensionContext extensionContext)
+			throws IOException {
+
+		TempDirTemplate annotation = elementContext.findAnnotation(TempDirTemplate.class) //
+				.orElseThrow(() -> new ExtensionConfigurationException(
+					"@TempDirTemplate must be declared on " + elementContext.getAnnotatedElement()));
+		Path source = Path.of(annotation.value()).toAbsolutePath().normalize();
+		if (!Files.isDirectory(source)) {
+			throw new ExtensionConfigurationException("Template directory does not exist: " + source);
+		}
+		try {
+			Template template = extensionContext.getStore(LAUNCHER_SESSION, NAMESPACE) //
+					.computeIfAbsent(source, __ -> Template.create(source), Template.class);
+			Path tempDir = Files.createTempDirectory(TEMP_DIR_PREFIX);
+			boolean link = annotation.link() && isAlwaysDeleted(elementContext, extensionContext);
+			if (template.seed(tempDir, link)) {
+				this.linkedTempDir = tempDir;
+			}
+			return tempDir;
+		}
+		catch (UncheckedIOException ex) {
+			throw ex.getCause();
+		}
+	}
+
+	/**
+	 * Delete the temporary directory if its files have been created as hard
+	 * links.
+	 */
+	@Override
+	public void close() throws IOException {
+		Path tempDir = this.linkedTempDir;
+		if (tempDir != null) {
+			deleteRecursively(tempDir, false);
+		}
+	}
+
+	/**
+	 * {@return whether the temporary directory has been seeded with hard links
+	 * and is therefore deleted by {@link #close()}}
+	 */
+	@Override
+	public boolean deletesTempDirectoryOnClose() {
+		return this.linkedTempDir != null;
+	}
+
+	private static boolean isAlwaysDeleted(AnnotatedElementContext elementContext,
+			ExtensionContext extensionContext) {
+		CleanupMode cleanupMode = elementContext.findAnnotation(TempDir.class) //
+				.map(TempDir::cleanup) //
+				.orElse(CleanupMode.DEFAULT);
+		if (cleanupMode == CleanupMode.DEFAULT) {
+			return extensionContext.getConfigurationParameter(TempDir.DEFAULT_CLEANUP_MODE_PROPERTY_NAME) //
+					.map(value -> CleanupMode.ALWAYS.name().equalsIgnoreCase(value.strip())) //
+					.orElse(true);
+		}
+		return cleanupMode == CleanupMode.ALWAYS;
+	}
+
+	/**
+	 * Delete the supplied directory along with all of its contents; the
+	 * permissions of regular files are only changed if requested.
+	 */
+	private static void deleteRecursively(Path directory, boolean makeFilesWritable) throws IOException {
+		Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+				dir.toFile().setWritable(true);
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+				if (makeFilesWritable && attributes.isRegularFile()) {
+					file.toFile().setWritable(true);
+				}
+				Files.delete(file);
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult postVisitDirectory(Path dir, @Nullable IOException exc) throws IOException {
+				Files.delete(dir);
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+
+	/**
+	 * Copy of a template directory whose regular files are read-only so that
+	 * they can safely be shared via hard links.
+	 */
+	private static final class Template implements AutoCloseable {
+
+		private final Path directory;
+		private final Contents contents;
+
+		// Deleting a read-only file requires changing its permissions unless
+		// the file system supports POSIX file permissions.
+		private volatile boolean linksSupported = FileSystems.getDefault().supportedFileAttributeViews().contains(
+			"posix");
+
+		private Template(Path directory, Contents contents) {
+			this.directory = directory;
+			this.contents = contents;
+		}
+
+		static Template create(Path source) {
+			try {
+				Contents contents = Contents.scan(source);
+				Template template = new Template(Files.createTempDirectory(TEMPLATE_DIR_PREFIX), contents);
+				try {
+					contents.createDirectoriesAndOtherFiles(source, template.directory);
+					contents.copyRegularFiles(source, template.directory, false, COPY_ATTRIBUTES);
+				}
+				catch (IOException | RuntimeException ex) {
+					try {
+						template.close();
+					}
+					catch (IOException closeException) {
+						ex.addSuppressed(closeException);
+					}
+					throw ex;
+				}
+				return template;
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+
+		/**
+		 * Seed the supplied target directory with the contents of this
+		 * template.
+		 *
+		 * @return {@code true} if regular files have been created as hard
+		 * links
+		 */
+		boolean seed(Path target, boolean link) throws IOException {
+			this.contents.createDirectoriesAndOtherFiles(this.directory, target);
+			if (link && this.linksSupported) {
+				try {
+					for (Path file : this.contents.regularFiles) {
+						Files.createLink(target.resolve(file), this.directory.resolve(file));
+					}
+					return true;
+				}
+				catch (UnsupportedOperationException | FileSystemException ex) {
+					this.linksSupported = false;
+				}
+			}
+			this.contents.copyRegularFiles(this.directory, target, true, REPLACE_EXISTING);
+			return false;
+		}
+
+		@Override
+		public void close() throws IOException {
+			deleteRecursively(this.directory, true);
+		}
+
+	}
+
+	/**
+	 * Relative paths of all entries of a directory; directories are listed
+	 * before their children.
+	 */
+	private record Contents(List<Path> directories, List<Path> regularFiles, List<Path> otherFiles) {
+
+		static Contents scan(Path root) throws IOException {
+			Contents contents = new Contents(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+			Files.walkFileTree(root, new SimpleFileVisitor<>() {
+
+				@Override
+				public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+					if (!dir.equals(root)) {
+						contents.directories.add(root.relativize(dir));
+					}
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+					List<Path> files = attributes.isRegularFile() ? contents.regularFiles : contents.otherFiles;
+					files.add(root.relativize(file));
+					return FileVisitResult.CONTINUE;
+				}
+			});
+			return contents;
+		}
+
+		void createDirectoriesAndOtherFiles(Path source, Path target) throws IOException {
+			for (Path dir : this.directories) {
+				Files.createDirectory(target.resolve(dir));
+			}
+			for (Path file : this.otherFiles) {
+				Files.copy(source.resolve(file), target.resolve(file), NOFOLLOW_LINKS);
+			}
+		}
+
+		void copyRegularFiles(Path source, Path target, boolean writable, CopyOption... options) {
+			this.regularFiles.parallelStream().forEach(file -> {
+				Path targetFile = target.resolve(file);
+				try {
+					Files.copy(source.resolve(file), targetFile, options);
+				}
+				catch (IOException ex) {
+					throw new UncheckedIOException(ex);
+				}
+				targetFile.toFile().setWritable(writable);
+			});
+		}
+
+	}
+
+}
@@ -21,6 +21,7 @@ module org.junit.jupiter.engine {
 
 	requires static org.apiguardian.api;
 	requires static transitive org.jspecify;
+	requires static jdk.jfr;
 
 	requires org.junit.jupiter.api;
 	requires org.junit.platform.commons;
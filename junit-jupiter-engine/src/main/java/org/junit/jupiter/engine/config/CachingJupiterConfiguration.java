@@ -145,6 +145,12 @@ public class CachingJupiterConfiguration implements JupiterConfiguration {
 			__ -> delegate.getDefaultTempDirFactorySupplier());
 	}
 
+	@Override
+	public boolean isAsyncTempDirCleanupEnabled() {
+		return (boolean) cache.computeIfAbsent(TEMP_DIR_ASYNC_CLEANUP_ENABLED_PROPERTY_NAME,
+			__ -> delegate.isAsyncTempDirCleanupEnabled());
+	}
+
 	@Override
 	public ExtensionContextScope getDefaultTestInstantiationExtensionContextScope() {
 		return (ExtensionContextScope) cache.computeIfAbsent(
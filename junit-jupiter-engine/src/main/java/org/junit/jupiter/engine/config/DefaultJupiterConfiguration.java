@@ -203,6 +203,11 @@ public class DefaultJupiterConfiguration implements JupiterConfiguration {
 		return () -> supplier.get().orElse(TempDirFactory.Standard.INSTANCE);
 	}
 
+	@Override
+	public boolean isAsyncTempDirCleanupEnabled() {
+		return configurationParameters.getBoolean(TEMP_DIR_ASYNC_CLEANUP_ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
 	@SuppressWarnings("deprecation")
 	@Override
 	public ExtensionContextScope getDefaultTestInstantiationExtensionContextScope() {
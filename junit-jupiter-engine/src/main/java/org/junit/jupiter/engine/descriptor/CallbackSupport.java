@@ -12,10 +12,15 @@ package org.junit.jupiter.engine.descriptor;
 
 import static org.junit.platform.commons.util.CollectionUtils.forEachInReverseOrder;
 
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.extension.Extension;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.jfr.JfrUtils;
+import org.junit.platform.engine.support.hierarchical.ExecutionProfiler;
+import org.junit.platform.engine.support.hierarchical.ExecutionProfiler.Phase;
 import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
 
 /**
@@ -26,12 +31,20 @@ class CallbackSupport {
 	static <T extends Extension> void invokeBeforeCallbacks(Class<T> type, JupiterEngineExecutionContext context,
 			CallbackInvoker<T> callbackInvoker) {
 
+		invokeBeforeCallbacks(type, context, Phase.EXTENSION_CALLBACK, callbackInvoker);
+	}
+
+	static <T extends Extension> void invokeBeforeCallbacks(Class<T> type, JupiterEngineExecutionContext context,
+			Phase phase, CallbackInvoker<T> callbackInvoker) {
+
 		ExtensionRegistry registry = context.getExtensionRegistry();
 		ExtensionContext extensionContext = context.getExtensionContext();
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
+		ExecutionProfiler executionProfiler = context.getExecutionProfiler();
 
 		for (T callback : registry.getExtensions(type)) {
-			throwableCollector.execute(() -> callbackInvoker.invoke(callback, extensionContext));
+			throwableCollector.execute(
+				() -> invoke(type, callback, extensionContext, callbackInvoker, executionProfiler, phase));
 			if (throwableCollector.isNotEmpty()) {
 				break;
 			}
@@ -41,12 +54,41 @@ class CallbackSupport {
 	static <T extends Extension> void invokeAfterCallbacks(Class<T> type, JupiterEngineExecutionContext context,
 			CallbackInvoker<T> callbackInvoker) {
 
+		invokeAfterCallbacks(type, context, Phase.EXTENSION_CALLBACK, callbackInvoker);
+	}
+
+	static <T extends Extension> void invokeAfterCallbacks(Class<T> type, JupiterEngineExecutionContext context,
+			Phase phase, CallbackInvoker<T> callbackInvoker) {
+
 		ExtensionRegistry registry = context.getExtensionRegistry();
 		ExtensionContext extensionContext = context.getExtensionContext();
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
+		ExecutionProfiler executionProfiler = context.getExecutionProfiler();
 
 		forEachInReverseOrder(registry.getExtensions(type), //
-			callback -> throwableCollector.execute(() -> callbackInvoker.invoke(callback, extensionContext)));
+			callback -> throwableCollector.execute(
+				() -> invoke(type, callback, extensionContext, callbackInvoker, executionProfiler, phase)));
+	}
+
+	private static <T extends Extension> void invoke(Class<T> type, T callback, ExtensionContext extensionContext,
+			CallbackInvoker<T> callbackInvoker, @Nullable ExecutionProfiler executionProfiler, Phase phase)
+			throws Throwable {
+
+		long startTime = executionProfiler == null ? 0 : System.nanoTime();
+		try {
+			if (JfrUtils.isJfrAvailable()) {
+				ExtensionCallbackEvent.invoke(type, callback, extensionContext, callbackInvoker);
+			}
+			else {
+				callbackInvoker.invoke(callback, extensionContext);
+			}
+		}
+		finally {
+			if (executionProfiler != null) {
+				UniqueId uniqueId = ((AbstractExtensionContext<?>) extensionContext).getTestDescriptor().getUniqueId();
+				executionProfiler.record(uniqueId, phase, System.nanoTime() - startTime);
+			}
+		}
 	}
 
 	@FunctionalInterface
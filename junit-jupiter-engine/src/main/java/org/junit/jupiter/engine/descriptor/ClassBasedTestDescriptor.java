@@ -24,6 +24,7 @@ import static org.junit.jupiter.engine.descriptor.LifecycleMethodUtils.findAfter
 import static org.junit.jupiter.engine.descriptor.LifecycleMethodUtils.findAfterEachMethods;
 import static org.junit.jupiter.engine.descriptor.LifecycleMethodUtils.findBeforeAllMethods;
 import static org.junit.jupiter.engine.descriptor.LifecycleMethodUtils.findBeforeEachMethods;
+import static org.junit.jupiter.engine.descriptor.ProfilingSupport.profile;
 import static org.junit.jupiter.engine.descriptor.TestInstanceLifecycleUtils.getTestInstanceLifecycle;
 import static org.junit.jupiter.engine.support.JupiterThrowableCollectorFactory.createThrowableCollector;
 
@@ -78,6 +79,7 @@ import org.junit.platform.engine.TestTag;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.ClassSource;
 import org.junit.platform.engine.support.discovery.DiscoveryIssueReporter;
+import org.junit.platform.engine.support.hierarchical.ExecutionProfiler.Phase;
 import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
 
 /**
@@ -187,6 +189,12 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor
 		MutableExtensionRegistry registry = populateNewExtensionRegistryFromExtendWithAnnotation(
 			context.getExtensionRegistry(), getTestClass());
 
+		// Skip registering the remaining extensions if the class is disabled
+		// by a static condition since none of them would be invoked.
+		if (isDisabledStatically(context, registry)) {
+			return prepareDisabled(context, registry);
+		}
+
 		// Register extensions from static fields here, at the class level but
 		// after extensions registered via @ExtendWith.
 		registerExtensionsFromStaticFields(registry, getTestClass());
@@ -214,9 +222,7 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor
 		registerExtensionsFromInstanceFields(registry, getTestClass());
 
 		ThrowableCollector throwableCollector = createThrowableCollector();
-		ClassExtensionContext extensionContext = new ClassExtensionContext(context.getExtensionContext(),
-			context.getExecutionListener(), this, this.classInfo.lifecycle, context.getConfiguration(), registry,
-			context.getLauncherStoreFacade(), throwableCollector);
+		ClassExtensionContext extensionContext = createExtensionContext(context, registry, throwableCollector);
 
 		// @formatter:off
 		return context.extend()
@@ -228,6 +234,32 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor
 		// @formatter:on
 	}
 
+	private boolean isDisabledStatically(JupiterEngineExecutionContext context, ExtensionRegistry registry) {
+		return context.getConditionEvaluator() //
+				.evaluateStatically(registry, context.getConfiguration(), getTestClass()) //
+				.isDisabled();
+	}
+
+	private JupiterEngineExecutionContext prepareDisabled(JupiterEngineExecutionContext context,
+			MutableExtensionRegistry registry) {
+		ThrowableCollector throwableCollector = createThrowableCollector();
+		ClassExtensionContext extensionContext = createExtensionContext(context, registry, throwableCollector);
+		// @formatter:off
+		return context.extend()
+				.withExtensionRegistry(registry)
+				.withExtensionContext(extensionContext)
+				.withThrowableCollector(throwableCollector)
+				.build();
+		// @formatter:on
+	}
+
+	private ClassExtensionContext createExtensionContext(JupiterEngineExecutionContext context,
+			MutableExtensionRegistry registry, ThrowableCollector throwableCollector) {
+		return new ClassExtensionContext(context.getExtensionContext(), context.getExecutionListener(), this,
+			this.classInfo.lifecycle, context.getConfiguration(), registry, context.getLauncherStoreFacade(),
+			throwableCollector);
+	}
+
 	@Override
 	public final JupiterEngineExecutionContext before(JupiterEngineExecutionContext context) {
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
@@ -248,7 +280,7 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor
 
 			if (throwableCollector.isEmpty()) {
 				context.beforeAllMethodsExecuted(true);
-				invokeBeforeAllMethods(context);
+				profile(context, this, Phase.BEFORE_ALL, () -> invokeBeforeAllMethods(context));
 			}
 		}
 
@@ -264,7 +296,7 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor
 		Throwable previousThrowable = throwableCollector.getThrowable();
 
 		if (context.beforeAllMethodsExecuted()) {
-			invokeAfterAllMethods(context);
+			profile(context, this, Phase.AFTER_ALL, () -> invokeAfterAllMethods(context));
 		}
 
 		if (context.beforeAllCallbacksExecuted()) {
@@ -329,7 +361,8 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor
 
 		ExtensionContextSupplier extensionContext = ExtensionContextSupplier.create(context.getExtensionContext(),
 			ourExtensionContext, configuration);
-		TestInstances instances = instantiateTestClass(parentExecutionContext, extensionContext, registry, context);
+		TestInstances instances = profile(context, this, Phase.INSTANTIATION,
+			() -> instantiateTestClass(parentExecutionContext, extensionContext, registry, context));
 		context.getThrowableCollector().execute(() -> {
 			invokeTestInstancePostProcessors(instances.getInnermostInstance(), registry, extensionContext);
 			// In addition, we initialize extension registered programmatically from instance fields here
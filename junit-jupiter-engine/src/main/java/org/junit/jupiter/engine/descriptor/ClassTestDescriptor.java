@@ -73,6 +73,11 @@ public class ClassTestDescriptor extends ClassBasedTestDescriptor {
 		return new LinkedHashSet<>(this.classInfo.tags);
 	}
 
+	@Override
+	void collectTags(Set<TestTag> tags) {
+		tags.addAll(this.classInfo.tags);
+	}
+
 	// --- TestClassAware ------------------------------------------------------
 
 	@Override
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.engine.descriptor.CallbackSupport.CallbackInvoker;
+import org.junit.platform.engine.jfr.JfrUtils;
+import org.junit.platform.engine.jfr.UniqueIdField;
+
+/**
+ * JFR event for the invocation of a lifecycle callback of an extension.
+ *
+ * <p>Must only be loaded if {@link JfrUtils#isJfrAvailable()} returns
+ * {@code true}.
+ *
+ * @since 6.0
+ */
+@Category({ "JUnit", "Execution" })
+@Label("Extension Callback")
+@Name("org.junit.ExtensionCallback")
+@StackTrace(false)
+@Threshold("1 ms")
+class ExtensionCallbackEvent extends Event {
+
+	private static final EventType EVENT_TYPE = EventType.getEventType(ExtensionCallbackEvent.class);
+
+	static <T extends Extension> void invoke(Class<T> type, T callback, ExtensionContext extensionContext,
+			CallbackInvoker<T> callbackInvoker) throws Throwable {
+
+		if (!EVENT_TYPE.isEnabled()) {
+			callbackInvoker.invoke(callback, extensionContext);
+			return;
+		}
+		var event = new ExtensionCallbackEvent();
+		event.begin();
+		try {
+			callbackInvoker.invoke(callback, extensionContext);
+		}
+		finally {
+			event.end();
+			if (event.shouldCommit()) {
+				event.uniqueId = extensionContext.getUniqueId();
+				event.callbackType = type.getSimpleName();
+				event.extensionClass = callback.getClass().getName();
+				event.commit();
+			}
+		}
+	}
+
+	@UniqueIdField
+	@Label("Unique Id")
+	@Nullable
+	String uniqueId;
+
+	@Label("Callback Type")
+	@Nullable
+	String callbackType;
+
+	@Label("Extension Class")
+	@Nullable
+	String extensionClass;
+
+}
@@ -38,7 +38,6 @@ import org.junit.jupiter.api.extension.Extension;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
-import org.junit.jupiter.engine.execution.ConditionEvaluator;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.platform.commons.util.ExceptionUtils;
@@ -60,8 +59,6 @@ import org.junit.platform.engine.support.hierarchical.Node;
 public abstract class JupiterTestDescriptor extends AbstractTestDescriptor
 		implements Node<JupiterEngineExecutionContext> {
 
-	private static final ConditionEvaluator conditionEvaluator = new ConditionEvaluator();
-
 	final JupiterConfiguration configuration;
 
 	JupiterTestDescriptor(UniqueId uniqueId, AnnotatedElement element, Supplier<String> displayNameSupplier,
@@ -99,6 +96,37 @@ public abstract class JupiterTestDescriptor extends AbstractTestDescriptor
 				.collect(collectingAndThen(toCollection(LinkedHashSet::new), Collections::unmodifiableSet));
 	}
 
+	/**
+	 * Create a modifiable set of the supplied tags and the tags of the supplied
+	 * parent and its ancestors.
+	 *
+	 * <p>The tags of ancestors that are {@code JupiterTestDescriptors} are
+	 * {@linkplain #collectTags(Set) collected} into the same set instead of
+	 * creating a copy for each level of the hierarchy.
+	 */
+	static Set<TestTag> inheritTags(Set<TestTag> tags, Optional<TestDescriptor> parent) {
+		Set<TestTag> allTags = new LinkedHashSet<>(tags);
+		parent.ifPresent(parentDescriptor -> collectTags(parentDescriptor, allTags));
+		return allTags;
+	}
+
+	static void collectTags(TestDescriptor descriptor, Set<TestTag> tags) {
+		if (descriptor instanceof JupiterTestDescriptor jupiterTestDescriptor) {
+			jupiterTestDescriptor.collectTags(tags);
+		}
+		else {
+			tags.addAll(descriptor.getTags());
+		}
+	}
+
+	/**
+	 * Add the {@linkplain #getTags() tags} of this descriptor to the supplied
+	 * set.
+	 */
+	void collectTags(Set<TestTag> tags) {
+		tags.addAll(getTags());
+	}
+
 	/**
 	 * Invoke exception handlers for the supplied {@code Throwable} one-by-one
 	 * until none are left or the throwable to handle has been swallowed.
@@ -186,7 +214,7 @@ public abstract class JupiterTestDescriptor extends AbstractTestDescriptor
 	@Override
 	public SkipResult shouldBeSkipped(JupiterEngineExecutionContext context) {
 		context.getThrowableCollector().assertEmpty();
-		ConditionEvaluationResult evaluationResult = conditionEvaluator.evaluate(context.getExtensionRegistry(),
+		ConditionEvaluationResult evaluationResult = context.getConditionEvaluator().evaluate(context.getExtensionRegistry(),
 			context.getConfiguration(), context.getExtensionContext());
 		return toSkipResult(evaluationResult);
 	}
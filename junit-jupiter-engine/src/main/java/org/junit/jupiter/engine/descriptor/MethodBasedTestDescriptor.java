@@ -19,7 +19,6 @@ import static org.junit.platform.commons.util.CollectionUtils.forEachInReverseOr
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -81,9 +80,13 @@ public abstract class MethodBasedTestDescriptor extends JupiterTestDescriptor
 	@Override
 	public final Set<TestTag> getTags() {
 		// return modifiable copy
-		Set<TestTag> allTags = new LinkedHashSet<>(this.methodInfo.tags);
-		getParent().ifPresent(parentDescriptor -> allTags.addAll(parentDescriptor.getTags()));
-		return allTags;
+		return inheritTags(this.methodInfo.tags, getParent());
+	}
+
+	@Override
+	final void collectTags(Set<TestTag> tags) {
+		tags.addAll(this.methodInfo.tags);
+		getParent().ifPresent(parentDescriptor -> collectTags(parentDescriptor, tags));
 	}
 
 	@Override
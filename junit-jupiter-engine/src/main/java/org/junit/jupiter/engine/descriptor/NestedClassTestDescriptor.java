@@ -15,7 +15,6 @@ import static org.junit.jupiter.engine.descriptor.DisplayNameUtils.createDisplay
 import static org.junit.jupiter.engine.descriptor.ResourceLockAware.enclosingInstanceTypesDependentResourceLocksProviderEvaluator;
 
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -74,9 +73,13 @@ public class NestedClassTestDescriptor extends ClassBasedTestDescriptor {
 	@Override
 	public final Set<TestTag> getTags() {
 		// return modifiable copy
-		Set<TestTag> allTags = new LinkedHashSet<>(this.classInfo.tags);
-		getParent().ifPresent(parentDescriptor -> allTags.addAll(parentDescriptor.getTags()));
-		return allTags;
+		return inheritTags(this.classInfo.tags, getParent());
+	}
+
+	@Override
+	final void collectTags(Set<TestTag> tags) {
+		tags.addAll(this.classInfo.tags);
+		getParent().ifPresent(parentDescriptor -> collectTags(parentDescriptor, tags));
 	}
 
 	// --- TestClassAware ------------------------------------------------------
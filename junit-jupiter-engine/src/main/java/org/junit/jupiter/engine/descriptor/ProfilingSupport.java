@@ -0,0 +1,65 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import java.util.function.Supplier;
+
+import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.hierarchical.ExecutionProfiler;
+import org.junit.platform.engine.support.hierarchical.ExecutionProfiler.Phase;
+
+/**
+ * Records durations of execution {@linkplain Phase phases} with the
+ * {@link ExecutionProfiler} of a {@link JupiterEngineExecutionContext}, if
+ * execution profiling is enabled.
+ *
+ * @since 6.0
+ */
+class ProfilingSupport {
+
+	static void profile(JupiterEngineExecutionContext context, TestDescriptor testDescriptor, Phase phase,
+			Runnable action) {
+
+		ExecutionProfiler executionProfiler = context.getExecutionProfiler();
+		if (executionProfiler == null) {
+			action.run();
+			return;
+		}
+		long startTime = System.nanoTime();
+		try {
+			action.run();
+		}
+		finally {
+			executionProfiler.record(testDescriptor.getUniqueId(), phase, System.nanoTime() - startTime);
+		}
+	}
+
+	static <T> T profile(JupiterEngineExecutionContext context, TestDescriptor testDescriptor, Phase phase,
+			Supplier<T> action) {
+
+		ExecutionProfiler executionProfiler = context.getExecutionProfiler();
+		if (executionProfiler == null) {
+			return action.get();
+		}
+		long startTime = System.nanoTime();
+		try {
+			return action.get();
+		}
+		finally {
+			executionProfiler.record(testDescriptor.getUniqueId(), phase, System.nanoTime() - startTime);
+		}
+	}
+
+	private ProfilingSupport() {
+	}
+
+}
@@ -15,6 +15,7 @@ import static org.junit.jupiter.engine.descriptor.CallbackSupport.invokeAfterCal
 import static org.junit.jupiter.engine.descriptor.CallbackSupport.invokeBeforeCallbacks;
 import static org.junit.jupiter.engine.descriptor.ExtensionUtils.populateNewExtensionRegistryFromExtendWithAnnotation;
 import static org.junit.jupiter.engine.descriptor.ExtensionUtils.registerExtensionsFromExecutableParameters;
+import static org.junit.jupiter.engine.descriptor.ProfilingSupport.profile;
 import static org.junit.jupiter.engine.support.JupiterThrowableCollectorFactory.createThrowableCollector;
 
 import java.lang.reflect.Method;
@@ -47,6 +48,7 @@ import org.junit.platform.commons.util.UnrecoverableExceptions;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.hierarchical.ExecutionProfiler.Phase;
 import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
 
 /**
@@ -124,13 +126,32 @@ public class TestMethodTestDescriptor extends MethodBasedTestDescriptor {
 				.build();
 		// @formatter:on
 		throwableCollector.execute(() -> {
-			TestInstances testInstances = newContext.getTestInstancesProvider().getTestInstances(newContext);
-			extensionContext.setTestInstances(testInstances);
+			if (!isInstantiationSkippable(newContext, registry)) {
+				TestInstances testInstances = newContext.getTestInstancesProvider().getTestInstances(newContext);
+				extensionContext.setTestInstances(testInstances);
+			}
 			prepareExtensionContext(extensionContext);
 		});
 		return newContext;
 	}
 
+	/**
+	 * Determine whether creating the test instance may be skipped because the
+	 * test method is disabled by a static condition.
+	 *
+	 * <p>The test instance is still created if extensions need to be
+	 * registered from its fields so that they can be notified that the test
+	 * has been skipped.
+	 */
+	private boolean isInstantiationSkippable(JupiterEngineExecutionContext context,
+			MutableExtensionRegistry registry) {
+		return isPerMethodLifecycle(context) //
+				&& !registry.hasUninitializedExtensions() //
+				&& context.getConditionEvaluator() //
+						.evaluateStatically(registry, context.getConfiguration(), getTestMethod()) //
+						.isDisabled();
+	}
+
 	protected void prepareExtensionContext(ExtensionContext extensionContext) {
 		// nothing to do by default
 	}
@@ -154,7 +175,7 @@ public class TestMethodTestDescriptor extends MethodBasedTestDescriptor {
 				if (throwableCollector.isEmpty()) {
 					invokeBeforeTestExecutionCallbacks(context);
 					if (throwableCollector.isEmpty()) {
-						invokeTestMethod(context, dynamicTestExecutor);
+						profile(context, this, Phase.TEST, () -> invokeTestMethod(context, dynamicTestExecutor));
 					}
 					invokeAfterTestExecutionCallbacks(context);
 				}
@@ -186,14 +207,15 @@ public class TestMethodTestDescriptor extends MethodBasedTestDescriptor {
 
 	private void invokeBeforeEachMethods(JupiterEngineExecutionContext context) {
 		ExtensionRegistry registry = context.getExtensionRegistry();
-		invokeBeforeCallbacks(BeforeEachMethodAdapter.class, context, (adapter, extensionContext) -> {
-			try {
-				adapter.invokeBeforeEachMethod(extensionContext, registry);
-			}
-			catch (Throwable throwable) {
-				invokeBeforeEachExecutionExceptionHandlers(extensionContext, registry, throwable);
-			}
-		});
+		invokeBeforeCallbacks(BeforeEachMethodAdapter.class, context, Phase.BEFORE_EACH,
+			(adapter, extensionContext) -> {
+				try {
+					adapter.invokeBeforeEachMethod(extensionContext, registry);
+				}
+				catch (Throwable throwable) {
+					invokeBeforeEachExecutionExceptionHandlers(extensionContext, registry, throwable);
+				}
+			});
 	}
 
 	private void invokeBeforeEachExecutionExceptionHandlers(ExtensionContext context, ExtensionRegistry registry,
@@ -239,14 +261,15 @@ public class TestMethodTestDescriptor extends MethodBasedTestDescriptor {
 
 	private void invokeAfterEachMethods(JupiterEngineExecutionContext context) {
 		ExtensionRegistry registry = context.getExtensionRegistry();
-		invokeAfterCallbacks(AfterEachMethodAdapter.class, context, (adapter, extensionContext) -> {
-			try {
-				adapter.invokeAfterEachMethod(extensionContext, registry);
-			}
-			catch (Throwable throwable) {
-				invokeAfterEachExecutionExceptionHandlers(extensionContext, registry, throwable);
-			}
-		});
+		invokeAfterCallbacks(AfterEachMethodAdapter.class, context, Phase.AFTER_EACH,
+			(adapter, extensionContext) -> {
+				try {
+					adapter.invokeAfterEachMethod(extensionContext, registry);
+				}
+				catch (Throwable throwable) {
+					invokeAfterEachExecutionExceptionHandlers(extensionContext, registry, throwable);
+				}
+			});
 	}
 
 	private void invokeAfterEachExecutionExceptionHandlers(ExtensionContext context, ExtensionRegistry registry,
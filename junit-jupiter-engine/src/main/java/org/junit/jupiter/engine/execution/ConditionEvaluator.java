@@ -12,10 +12,18 @@ package org.junit.jupiter.engine.execution;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.lang.reflect.AnnotatedElement;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
 import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.extension.ConditionEvaluationResult;
 import org.junit.jupiter.api.extension.ExecutionCondition;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.StaticExecutionCondition;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.platform.commons.logging.Logger;
@@ -25,6 +33,10 @@ import org.junit.platform.commons.util.StringUtils;
 /**
  * {@code ConditionEvaluator} evaluates {@link ExecutionCondition} extensions.
  *
+ * <p>Results of {@link StaticExecutionCondition StaticExecutionConditions}
+ * are memoized per condition instance and annotated element for the lifetime
+ * of the {@code ConditionEvaluator}.
+ *
  * @since 5.0
  * @see ExecutionCondition
  */
@@ -36,6 +48,8 @@ public class ConditionEvaluator {
 	private static final ConditionEvaluationResult ENABLED = ConditionEvaluationResult.enabled(
 		"No 'disabled' conditions encountered");
 
+	private final ConcurrentMap<StaticResultKey, ConditionEvaluationResult> staticResults = new ConcurrentHashMap<>();
+
 	/**
 	 * Evaluate all {@link ExecutionCondition} extensions registered for the
 	 * supplied {@link ExtensionContext}.
@@ -48,10 +62,43 @@ public class ConditionEvaluator {
 	public ConditionEvaluationResult evaluate(ExtensionRegistry extensionRegistry, JupiterConfiguration configuration,
 			ExtensionContext context) {
 
+		Optional<AnnotatedElement> element = context.getElement();
 		// @formatter:off
 		return extensionRegistry.stream(ExecutionCondition.class)
 				.filter(configuration.getExecutionConditionFilter())
-				.map(condition -> evaluate(condition, context))
+				.map(condition -> condition instanceof StaticExecutionCondition staticCondition && element.isPresent()
+						? evaluate(staticCondition, element.get())
+						: evaluate(condition, context))
+				.filter(ConditionEvaluationResult::isDisabled)
+				.findFirst()
+				.orElse(ENABLED);
+		// @formatter:on
+	}
+
+	/**
+	 * Evaluate only the {@link StaticExecutionCondition} extensions registered
+	 * in the supplied {@link ExtensionRegistry} for the supplied
+	 * {@link AnnotatedElement}.
+	 *
+	 * <p>Since static conditions do not depend on the state of an
+	 * {@link ExtensionContext}, this method may be called before the
+	 * {@code ExtensionContext} for the element has been fully initialized in
+	 * order to avoid unnecessary work for disabled containers and tests.
+	 *
+	 * @param element the annotated element to evaluate the conditions for
+	 * @return the first <em>disabled</em> {@code ConditionEvaluationResult},
+	 * or a default <em>enabled</em> {@code ConditionEvaluationResult} if no
+	 * disabled conditions are encountered
+	 * @since 6.0
+	 */
+	public ConditionEvaluationResult evaluateStatically(ExtensionRegistry extensionRegistry,
+			JupiterConfiguration configuration, AnnotatedElement element) {
+
+		// @formatter:off
+		return extensionRegistry.stream(ExecutionCondition.class)
+				.filter(configuration.getExecutionConditionFilter())
+				.filter(StaticExecutionCondition.class::isInstance)
+				.map(condition -> evaluate((StaticExecutionCondition) condition, element))
 				.filter(ConditionEvaluationResult::isDisabled)
 				.findFirst()
 				.orElse(ENABLED);
@@ -59,19 +106,39 @@ public class ConditionEvaluator {
 	}
 
 	private ConditionEvaluationResult evaluate(ExecutionCondition condition, ExtensionContext context) {
+		return evaluate(condition.getClass(), context.getElement().orElse(null),
+			() -> condition.evaluateExecutionCondition(context));
+	}
+
+	private ConditionEvaluationResult evaluate(StaticExecutionCondition condition, AnnotatedElement element) {
+		StaticResultKey key = new StaticResultKey(condition, element);
+		ConditionEvaluationResult result = this.staticResults.get(key);
+		if (result == null) {
+			// Not using computeIfAbsent() since conditions must not be evaluated
+			// while holding a lock and exceptions must not be memoized.
+			result = evaluate(condition.getClass(), element, () -> condition.evaluateExecutionCondition(element));
+			ConditionEvaluationResult previous = this.staticResults.putIfAbsent(key, result);
+			return previous != null ? previous : result;
+		}
+		return result;
+	}
+
+	private ConditionEvaluationResult evaluate(Class<?> conditionType, @Nullable AnnotatedElement element,
+			Supplier<ConditionEvaluationResult> evaluation) {
 		try {
-			ConditionEvaluationResult result = condition.evaluateExecutionCondition(context);
-			logResult(condition.getClass(), result, context);
+			ConditionEvaluationResult result = evaluation.get();
+			logResult(conditionType, result, element);
 			return result;
 		}
 		catch (Exception ex) {
-			throw evaluationException(condition.getClass(), ex);
+			throw evaluationException(conditionType, ex);
 		}
 	}
 
-	private void logResult(Class<?> conditionType, ConditionEvaluationResult result, ExtensionContext context) {
+	private void logResult(Class<?> conditionType, ConditionEvaluationResult result,
+			@Nullable AnnotatedElement element) {
 		logger.trace(() -> "Evaluation of condition [%s] on [%s] resulted in: %s".formatted(conditionType.getName(),
-			context.getElement().orElse(null), result));
+			element, result));
 	}
 
 	private ConditionEvaluationException evaluationException(Class<?> conditionType, Exception ex) {
@@ -80,4 +147,23 @@ public class ConditionEvaluator {
 			"Failed to evaluate condition [%s]%s".formatted(conditionType.getName(), cause), ex);
 	}
 
+	/**
+	 * Key for memoized results of static conditions that compares conditions
+	 * by identity since different instances of the same condition type may be
+	 * configured differently.
+	 */
+	private record StaticResultKey(StaticExecutionCondition condition, AnnotatedElement element) {
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof StaticResultKey that && this.condition == that.condition
+					&& this.element.equals(that.element);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(this.condition) + this.element.hashCode();
+		}
+	}
+
 }
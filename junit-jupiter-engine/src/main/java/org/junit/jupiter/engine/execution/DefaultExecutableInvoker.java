@@ -23,7 +23,6 @@ import org.junit.jupiter.api.extension.ExecutableInvoker;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.jupiter.engine.support.MethodReflectionUtils;
-import org.junit.platform.commons.util.ReflectionUtils;
 
 /**
  * @since 5.9
@@ -44,7 +43,7 @@ public class DefaultExecutableInvoker implements ExecutableInvoker {
 		@Nullable
 		Object[] arguments = resolveParameters(constructor, Optional.empty(), Optional.ofNullable(outerInstance),
 			extensionContext, extensionRegistry);
-		return ReflectionUtils.newInstance(constructor, arguments);
+		return MethodReflectionUtils.newInstance(constructor, arguments);
 	}
 
 	@Override
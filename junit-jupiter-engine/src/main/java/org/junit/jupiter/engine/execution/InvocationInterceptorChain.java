@@ -14,8 +14,7 @@ import static java.util.stream.Collectors.joining;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 import java.util.List;
-import java.util.ListIterator;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
@@ -32,8 +31,9 @@ public class InvocationInterceptorChain {
 
 	public <T extends @Nullable Object> T invoke(Invocation<T> invocation, ExtensionRegistry extensionRegistry,
 			InterceptorCall<T> call) {
-		List<InvocationInterceptor> interceptors = extensionRegistry.getExtensions(InvocationInterceptor.class);
+		List<InvocationInterceptor> interceptors = extensionRegistry.getInvocationInterceptors();
 		if (interceptors.isEmpty()) {
+			// fast path: no wrapping and no validation required
 			return proceed(invocation);
 		}
 		return chainAndInvoke(invocation, call, interceptors);
@@ -53,10 +53,8 @@ public class InvocationInterceptorChain {
 			List<InvocationInterceptor> interceptors) {
 
 		Invocation<T> result = invocation;
-		ListIterator<InvocationInterceptor> iterator = interceptors.listIterator(interceptors.size());
-		while (iterator.hasPrevious()) {
-			InvocationInterceptor interceptor = iterator.previous();
-			result = new InterceptedInvocation<>(result, call, interceptor);
+		for (int i = interceptors.size() - 1; i >= 0; i--) {
+			result = new InterceptedInvocation<>(result, call, interceptors.get(i));
 		}
 		return result;
 	}
@@ -109,7 +107,11 @@ public class InvocationInterceptorChain {
 
 		private static final Logger logger = LoggerFactory.getLogger(ValidatingInvocation.class);
 
-		private final AtomicBoolean invokedOrSkipped = new AtomicBoolean();
+		@SuppressWarnings("rawtypes")
+		private static final AtomicIntegerFieldUpdater<ValidatingInvocation> INVOKED_OR_SKIPPED = AtomicIntegerFieldUpdater.newUpdater(
+			ValidatingInvocation.class, "invokedOrSkipped");
+
+		private volatile int invokedOrSkipped;
 		private final Invocation<T> delegate;
 		private final List<InvocationInterceptor> interceptors;
 
@@ -132,13 +134,13 @@ public class InvocationInterceptorChain {
 		}
 
 		private void markInvokedOrSkipped() {
-			if (!invokedOrSkipped.compareAndSet(false, true)) {
+			if (!INVOKED_OR_SKIPPED.compareAndSet(this, 0, 1)) {
 				fail("Chain of InvocationInterceptors called invocation multiple times instead of just once");
 			}
 		}
 
 		void verifyInvokedAtLeastOnce() {
-			if (!invokedOrSkipped.get()) {
+			if (invokedOrSkipped == 0) {
 				fail("Chain of InvocationInterceptors never called invocation");
 			}
 		}
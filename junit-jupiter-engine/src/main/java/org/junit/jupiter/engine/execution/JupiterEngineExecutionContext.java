@@ -21,6 +21,7 @@ import org.junit.jupiter.engine.extension.MutableExtensionRegistry;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.support.hierarchical.EngineExecutionContext;
+import org.junit.platform.engine.support.hierarchical.ExecutionProfiler;
 import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
 
 /**
@@ -37,7 +38,12 @@ public class JupiterEngineExecutionContext implements EngineExecutionContext {
 
 	public JupiterEngineExecutionContext(EngineExecutionListener executionListener, JupiterConfiguration configuration,
 			LauncherStoreFacade launcherStoreFacade) {
-		this(new State(executionListener, configuration, launcherStoreFacade));
+		this(executionListener, configuration, launcherStoreFacade, null);
+	}
+
+	public JupiterEngineExecutionContext(EngineExecutionListener executionListener, JupiterConfiguration configuration,
+			LauncherStoreFacade launcherStoreFacade, @Nullable ExecutionProfiler executionProfiler) {
+		this(new State(executionListener, configuration, launcherStoreFacade, executionProfiler));
 	}
 
 	private JupiterEngineExecutionContext(State state) {
@@ -68,6 +74,26 @@ public class JupiterEngineExecutionContext implements EngineExecutionContext {
 		return this.state.launcherStoreFacade;
 	}
 
+	/**
+	 * {@return the {@link ExecutionProfiler} to record durations with or
+	 * {@code null} if execution profiling is disabled}
+	 *
+	 * @since 6.0
+	 */
+	public @Nullable ExecutionProfiler getExecutionProfiler() {
+		return this.state.executionProfiler;
+	}
+
+	/**
+	 * {@return the {@link ConditionEvaluator} that is shared by all nodes of
+	 * the current execution}
+	 *
+	 * @since 6.0
+	 */
+	public ConditionEvaluator getConditionEvaluator() {
+		return this.state.conditionEvaluator;
+	}
+
 	public TestInstancesProvider getTestInstancesProvider() {
 		return requireNonNull(this.state.testInstancesProvider);
 	}
@@ -127,6 +153,11 @@ public class JupiterEngineExecutionContext implements EngineExecutionContext {
 		final JupiterConfiguration configuration;
 		final LauncherStoreFacade launcherStoreFacade;
 
+		@Nullable
+		final ExecutionProfiler executionProfiler;
+
+		final ConditionEvaluator conditionEvaluator = new ConditionEvaluator();
+
 		@Nullable
 		TestInstancesProvider testInstancesProvider;
 
@@ -140,10 +171,11 @@ public class JupiterEngineExecutionContext implements EngineExecutionContext {
 		ThrowableCollector throwableCollector;
 
 		State(EngineExecutionListener executionListener, JupiterConfiguration configuration,
-				LauncherStoreFacade launcherStoreFacade) {
+				LauncherStoreFacade launcherStoreFacade, @Nullable ExecutionProfiler executionProfiler) {
 			this.executionListener = executionListener;
 			this.configuration = configuration;
 			this.launcherStoreFacade = launcherStoreFacade;
+			this.executionProfiler = executionProfiler;
 		}
 
 		@Override
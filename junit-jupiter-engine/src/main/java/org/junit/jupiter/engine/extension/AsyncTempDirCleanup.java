@@ -0,0 +1,131 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * {@code AsyncTempDirCleanup} deletes temporary directories created by
+ * {@link TempDirectory} in the background so that the threads executing tests
+ * do not have to wait for the cleanup to complete.
+ *
+ * <p>A single instance is stored in the root {@link Store}. When it is closed
+ * at the end of the execution of the engine, it waits for all pending
+ * deletions to complete and reports their failures.
+ *
+ * @since 6.0
+ */
+@SuppressWarnings({ "deprecation", "try" })
+class AsyncTempDirCleanup implements Store.CloseableResource, AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(AsyncTempDirCleanup.class);
+
+	private static final Namespace NAMESPACE = Namespace.create(AsyncTempDirCleanup.class);
+
+	static AsyncTempDirCleanup get(ExtensionContext context) {
+		return context.getRoot().getStore(NAMESPACE).computeIfAbsent(AsyncTempDirCleanup.class);
+	}
+
+	private final AtomicInteger threadCount = new AtomicInteger();
+	private final Queue<Exception> failures = new ConcurrentLinkedQueue<>();
+	private final ForkJoinPool forkJoinPool;
+
+	@SuppressWarnings("unused")
+	AsyncTempDirCleanup() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	AsyncTempDirCleanup(int parallelism) {
+		this.forkJoinPool = new ForkJoinPool(parallelism, this::newThread, null, false);
+	}
+
+	private ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+		ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+		thread.setName("junit-jupiter-tempdir-cleanup-" + this.threadCount.incrementAndGet());
+		return thread;
+	}
+
+	/**
+	 * Submit the supplied cleanup action for asynchronous execution.
+	 *
+	 * <p>Actions are executed by a {@link ForkJoinPool} so that they may
+	 * {@linkplain #invokeAll(List) split their work} into subtasks.
+	 */
+	void submit(CleanupAction action) {
+		this.forkJoinPool.execute(() -> {
+			try {
+				action.execute();
+			}
+			catch (Exception ex) {
+				this.failures.add(ex);
+			}
+		});
+	}
+
+	/**
+	 * Execute the supplied actions in parallel if called from within an action
+	 * {@linkplain #submit submitted} to this {@code AsyncTempDirCleanup}, and
+	 * sequentially otherwise.
+	 */
+	void invokeAll(List<Runnable> actions) {
+		if (ForkJoinTask.getPool() == this.forkJoinPool && actions.size() > 1) {
+			ForkJoinTask.invokeAll(actions.stream().map(ForkJoinTask::adapt).toList());
+		}
+		else {
+			actions.forEach(Runnable::run);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.forkJoinPool.shutdown();
+		try {
+			while (!this.forkJoinPool.awaitTermination(10, TimeUnit.SECONDS)) {
+				logger.info(() -> "Waiting for asynchronous cleanup of temp dirs to complete");
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			this.forkJoinPool.shutdownNow();
+			throw new JUnitException("Interrupted while waiting for asynchronous cleanup of temp dirs", ex);
+		}
+		if (!this.failures.isEmpty()) {
+			IOException exception = new IOException(
+				"Failed to clean up %d temp dir(s) asynchronously (see suppressed exceptions for details)".formatted(
+					this.failures.size()));
+			this.failures.forEach(exception::addSuppressed);
+			throw exception;
+		}
+	}
+
+	@FunctionalInterface
+	interface CleanupAction {
+
+		void execute() throws Exception;
+
+	}
+
+}
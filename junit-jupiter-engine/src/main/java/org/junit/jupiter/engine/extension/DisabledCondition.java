@@ -14,21 +14,19 @@ import static org.junit.platform.commons.support.AnnotationSupport.findAnnotatio
 
 import java.lang.reflect.AnnotatedElement;
 
-import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.extension.ConditionEvaluationResult;
-import org.junit.jupiter.api.extension.ExecutionCondition;
-import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.StaticExecutionCondition;
 import org.junit.platform.commons.util.StringUtils;
 
 /**
- * {@link ExecutionCondition} that supports the {@code @Disabled} annotation.
+ * {@link StaticExecutionCondition} that supports the {@code @Disabled} annotation.
  *
  * @since 5.0
  * @see Disabled
- * @see #evaluateExecutionCondition(ExtensionContext)
+ * @see #evaluateExecutionCondition(AnnotatedElement)
  */
-class DisabledCondition implements ExecutionCondition {
+class DisabledCondition implements StaticExecutionCondition {
 
 	private static final ConditionEvaluationResult ENABLED = ConditionEvaluationResult.enabled(
 		"@Disabled is not present");
@@ -38,14 +36,13 @@ class DisabledCondition implements ExecutionCondition {
 	 * class or method.
 	 */
 	@Override
-	public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
-		AnnotatedElement element = context.getElement().orElse(null);
+	public ConditionEvaluationResult evaluateExecutionCondition(AnnotatedElement element) {
 		return findAnnotation(element, Disabled.class) //
 				.map(annotation -> toResult(element, annotation)) //
 				.orElse(ENABLED);
 	}
 
-	private ConditionEvaluationResult toResult(@Nullable AnnotatedElement element, Disabled annotation) {
+	private ConditionEvaluationResult toResult(AnnotatedElement element, Disabled annotation) {
 		String value = annotation.value();
 		String reason = StringUtils.isNotBlank(value) ? value : element + " is @Disabled";
 		return ConditionEvaluationResult.disabled(reason);
@@ -19,6 +19,7 @@ import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
 import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
 
 /**
  * An {@code ExtensionRegistry} holds all registered extensions (i.e.
@@ -50,4 +51,18 @@ public interface ExtensionRegistry {
 		return stream(extensionType).collect(toCollection(ArrayList::new));
 	}
 
+	/**
+	 * Get all {@link InvocationInterceptor InvocationInterceptors} that are
+	 * present in this registry or one of its ancestors as an unmodifiable list.
+	 *
+	 * <p>Implementations may cache the returned list until the registry is
+	 * modified since it is queried for every intercepted invocation.
+	 *
+	 * @since 6.0
+	 * @see #getExtensions(Class)
+	 */
+	default List<InvocationInterceptor> getInvocationInterceptors() {
+		return List.copyOf(getExtensions(InvocationInterceptor.class));
+	}
+
 }
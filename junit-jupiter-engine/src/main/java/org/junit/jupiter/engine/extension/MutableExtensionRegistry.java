@@ -32,6 +32,7 @@ import java.util.stream.Stream;
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
@@ -151,6 +152,8 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 	private final List<Entry> registeredExtensions;
 	private final Map<Class<?>, LateInitExtensions> lateInitExtensions;
 
+	private volatile @Nullable List<InvocationInterceptor> invocationInterceptors;
+
 	private MutableExtensionRegistry() {
 		this(emptySet(), emptyList());
 	}
@@ -183,6 +186,16 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 				.map(extensionType::cast);
 	}
 
+	@Override
+	public List<InvocationInterceptor> getInvocationInterceptors() {
+		List<InvocationInterceptor> interceptors = this.invocationInterceptors;
+		if (interceptors == null) {
+			interceptors = ExtensionRegistry.super.getInvocationInterceptors();
+			this.invocationInterceptors = interceptors;
+		}
+		return interceptors;
+	}
+
 	@Override
 	public void registerExtension(Class<? extends Extension> extensionType) {
 		if (!isAlreadyRegistered(extensionType)) {
@@ -222,6 +235,7 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 		LateInitEntry entry = getLateInitExtensions(testClass) //
 				.add(new LateInitEntry(testClass, initializer));
 		this.registeredExtensions.add(entry);
+		this.invocationInterceptors = null;
 	}
 
 	@Override
@@ -232,9 +246,21 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 		LateInitExtensions extensions = lateInitExtensions.remove(testClass);
 		if (extensions != null) {
 			extensions.initialize(testInstance);
+			this.invocationInterceptors = null;
 		}
 	}
 
+	/**
+	 * {@return whether this registry contains extensions that have been
+	 * registered from fields of a test class but not yet initialized}
+	 *
+	 * @since 6.0
+	 * @see #initializeExtensions(Class, Object)
+	 */
+	public boolean hasUninitializedExtensions() {
+		return !this.lateInitExtensions.isEmpty();
+	}
+
 	private LateInitExtensions getLateInitExtensions(Class<?> testClass) {
 		return this.lateInitExtensions.computeIfAbsent(testClass, __ -> new LateInitExtensions());
 	}
@@ -263,6 +289,7 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 
 		this.registeredExtensions.add(Entry.of(extension));
 		this.registeredExtensionTypes.add(extension.getClass());
+		this.invocationInterceptors = null;
 	}
 
 	private String buildSourceInfo(@Nullable Object source) {
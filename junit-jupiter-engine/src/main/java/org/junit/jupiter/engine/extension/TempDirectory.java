@@ -24,6 +24,7 @@ import static org.junit.platform.commons.util.ReflectionUtils.isRecordObject;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
@@ -41,10 +42,13 @@ import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.DosFileAttributeView;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.extension.AnnotatedElementContext;
@@ -238,23 +242,36 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 		}
 	}
 
-	private static Object getPathOrFile(Class<?> elementType, AnnotatedElementContext elementContext,
+	private Object getPathOrFile(Class<?> elementType, AnnotatedElementContext elementContext,
 			TempDirFactory factory, CleanupMode cleanupMode, ExtensionContext extensionContext) {
 
 		Path path = extensionContext.getStore(NAMESPACE.append(elementContext)) //
 				.computeIfAbsent(KEY,
-					__ -> createTempDir(factory, cleanupMode, elementType, elementContext, extensionContext),
+					__ -> createTempDir(factory, cleanupMode, elementType, elementContext, extensionContext,
+						determineAsyncCleanup(extensionContext)),
 					CloseablePath.class) //
 				.get();
 
 		return (elementType == Path.class) ? path : path.toFile();
 	}
 
+	private @Nullable AsyncTempDirCleanup determineAsyncCleanup(ExtensionContext extensionContext) {
+		return this.configuration.isAsyncTempDirCleanupEnabled() ? AsyncTempDirCleanup.get(extensionContext) : null;
+	}
+
 	static CloseablePath createTempDir(TempDirFactory factory, CleanupMode cleanupMode, Class<?> elementType,
 			AnnotatedElementContext elementContext, ExtensionContext extensionContext) {
 
+		return createTempDir(factory, cleanupMode, elementType, elementContext, extensionContext, null);
+	}
+
+	static CloseablePath createTempDir(TempDirFactory factory, CleanupMode cleanupMode, Class<?> elementType,
+			AnnotatedElementContext elementContext, ExtensionContext extensionContext,
+			@Nullable AsyncTempDirCleanup asyncCleanup) {
+
 		try {
-			return new CloseablePath(factory, cleanupMode, elementType, elementContext, extensionContext);
+			return new CloseablePath(factory, cleanupMode, elementType, elementContext, extensionContext,
+				asyncCleanup);
 		}
 		catch (Exception ex) {
 			throw new ExtensionConfigurationException("Failed to create default temp directory", ex);
@@ -281,13 +298,18 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 		private final AnnotatedElement annotatedElement;
 		private final ExtensionContext extensionContext;
 
+		@Nullable
+		private final AsyncTempDirCleanup asyncCleanup;
+
 		private CloseablePath(TempDirFactory factory, CleanupMode cleanupMode, Class<?> elementType,
-				AnnotatedElementContext elementContext, ExtensionContext extensionContext) throws Exception {
+				AnnotatedElementContext elementContext, ExtensionContext extensionContext,
+				@Nullable AsyncTempDirCleanup asyncCleanup) throws Exception {
 			this.dir = factory.createTempDirectory(elementContext, extensionContext);
 			this.factory = factory;
 			this.cleanupMode = cleanupMode;
 			this.annotatedElement = elementContext.getAnnotatedElement();
 			this.extensionContext = extensionContext;
+			this.asyncCleanup = asyncCleanup;
 
 			if (this.dir == null || !Files.isDirectory(this.dir)) {
 				close();
@@ -308,30 +330,52 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 
 		@Override
 		public void close() throws IOException {
-			try {
-				if (this.cleanupMode == NEVER
-						|| (this.cleanupMode == ON_SUCCESS && selfOrChildFailed(this.extensionContext))) {
+			if (this.factory.deletesTempDirectoryOnClose()) {
+				LOGGER.trace(() -> "Deleting temp dir %s by closing its factory".formatted(this.dir));
+				this.factory.close();
+				return;
+			}
+			if (this.cleanupMode == NEVER
+					|| (this.cleanupMode == ON_SUCCESS && selfOrChildFailed(this.extensionContext))) {
+				try {
 					LOGGER.info(() -> "Skipping cleanup of temp dir %s for %s due to CleanupMode.%s.".formatted(
 						this.dir, descriptionFor(this.annotatedElement), this.cleanupMode.name()));
-					return;
 				}
+				finally {
+					this.factory.close();
+				}
+				return;
+			}
 
-				FileOperations fileOperations = this.extensionContext.getStore(NAMESPACE) //
-						.getOrDefault(FILE_OPERATIONS_KEY, FileOperations.class, FileOperations.DEFAULT);
-				FileOperations loggingFileOperations = file -> {
-					LOGGER.trace(() -> "Attempting to delete " + file);
-					try {
-						fileOperations.delete(file);
-						LOGGER.trace(() -> "Successfully deleted " + file);
-					}
-					catch (IOException e) {
-						LOGGER.trace(e, () -> "Failed to delete " + file);
-						throw e;
-					}
-				};
+			FileOperations fileOperations = this.extensionContext.getStore(NAMESPACE) //
+					.getOrDefault(FILE_OPERATIONS_KEY, FileOperations.class, FileOperations.DEFAULT);
+			FileOperations loggingFileOperations = file -> {
+				LOGGER.trace(() -> "Attempting to delete " + file);
+				try {
+					fileOperations.delete(file);
+					LOGGER.trace(() -> "Successfully deleted " + file);
+				}
+				catch (IOException e) {
+					LOGGER.trace(e, () -> "Failed to delete " + file);
+					throw e;
+				}
+			};
+
+			AsyncTempDirCleanup asyncCleanup = this.asyncCleanup;
+			if (asyncCleanup != null) {
+				LOGGER.trace(() -> "Scheduling asynchronous cleanup of temp dir " + this.dir);
+				asyncCleanup.submit(() -> cleanUp(loggingFileOperations, asyncCleanup));
+			}
+			else {
+				cleanUp(loggingFileOperations, null);
+			}
+		}
 
+		private void cleanUp(FileOperations fileOperations, @Nullable AsyncTempDirCleanup asyncCleanup)
+				throws IOException {
+			try {
 				LOGGER.trace(() -> "Cleaning up temp dir " + this.dir);
-				SortedMap<Path, IOException> failures = deleteAllFilesAndDirectories(loggingFileOperations);
+				SortedMap<Path, IOException> failures = deleteAllFilesAndDirectories(fileOperations, asyncCleanup);
 				if (!failures.isEmpty()) {
 					throw createIOExceptionWithAttachedFailures(failures);
 				}
@@ -366,123 +410,199 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 				ClassUtils.nullSafeToString(Class::getSimpleName, executable.getParameterTypes()));
 		}
 
-		private SortedMap<Path, IOException> deleteAllFilesAndDirectories(FileOperations fileOperations)
-				throws IOException {
+		/**
+		 * Delete all files and directories in this temp dir.
+		 *
+		 * <p>If an {@link AsyncTempDirCleanup} is supplied, the subdirectories
+		 * of each directory are deleted in parallel before the directory
+		 * itself is traversed and deleted.
+		 */
+		private SortedMap<Path, IOException> deleteAllFilesAndDirectories(FileOperations fileOperations,
+				@Nullable AsyncTempDirCleanup asyncCleanup) throws IOException {
 
 			Path rootDir = this.dir;
 			if (rootDir == null || Files.notExists(rootDir)) {
 				return Collections.emptySortedMap();
 			}
 
-			SortedMap<Path, IOException> failures = new TreeMap<>();
-			Set<Path> retriedPaths = new HashSet<>();
+			SortedMap<Path, IOException> failures = asyncCleanup == null ? new TreeMap<>()
+					: new ConcurrentSkipListMap<>();
 			Path rootRealPath = rootDir.toRealPath();
 
 			tryToResetPermissions(rootDir);
-			Files.walkFileTree(rootDir, new SimpleFileVisitor<Path>() {
-
-				@Override
-				public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
-					LOGGER.trace(() -> "preVisitDirectory: " + dir);
-					if (isLinkWithTargetOutsideTempDir(dir)) {
-						warnAboutLinkWithTargetOutsideTempDir("link", dir);
-						delete(dir);
-						return SKIP_SUBTREE;
-					}
-					if (!dir.equals(rootDir)) {
-						tryToResetPermissions(dir);
-					}
-					return CONTINUE;
-				}
+			if (asyncCleanup != null) {
+				deleteSubdirectoriesInParallel(rootDir, rootRealPath, fileOperations, failures, asyncCleanup);
+			}
+			Files.walkFileTree(rootDir, new DeletingFileVisitor(rootDir, rootRealPath, fileOperations, failures));
+			return failures;
+		}
 
-				@Override
-				public FileVisitResult visitFileFailed(Path file, IOException exc) {
-					LOGGER.trace(exc, () -> "visitFileFailed: " + file);
-					if (exc instanceof NoSuchFileException && !Files.exists(file, LinkOption.NOFOLLOW_LINKS)) {
-						return CONTINUE;
-					}
-					// IOException includes `AccessDeniedException` thrown by non-readable or non-executable flags
-					resetPermissionsAndTryToDeleteAgain(file, exc);
-					return CONTINUE;
-				}
+		private static void deleteSubdirectoriesInParallel(Path dir, Path rootRealPath,
+				FileOperations fileOperations, SortedMap<Path, IOException> failures,
+				AsyncTempDirCleanup asyncCleanup) {
 
-				@Override
-				public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
-					LOGGER.trace(() -> "visitFile: " + file);
-					if (Files.isSymbolicLink(file) && isLinkWithTargetOutsideTempDir(file)) {
-						warnAboutLinkWithTargetOutsideTempDir("symbolic link", file);
-					}
-					delete(file);
-					return CONTINUE;
-				}
+			List<Runnable> actions = listSubdirectories(dir, rootRealPath).stream() //
+					.<Runnable> map(subdirectory -> () -> {
+						tryToResetPermissions(subdirectory);
+						deleteSubdirectoriesInParallel(subdirectory, rootRealPath, fileOperations, failures,
+							asyncCleanup);
+						try {
+							Files.walkFileTree(subdirectory,
+								new DeletingFileVisitor(subdirectory, rootRealPath, fileOperations, failures));
+						}
+						catch (IOException ex) {
+							failures.put(subdirectory, ex);
+						}
+					}) //
+					.toList();
+			asyncCleanup.invokeAll(actions);
+		}
 
-				@Override
-				public FileVisitResult postVisitDirectory(Path dir, IOException exc) {
-					LOGGER.trace(exc, () -> "postVisitDirectory: " + dir);
+		/**
+		 * List the subdirectories of the supplied directory that are neither
+		 * symbolic links nor other links to locations outside the temp dir.
+		 *
+		 * <p>Failures are ignored since the subsequent traversal of the
+		 * directory handles them.
+		 */
+		private static List<Path> listSubdirectories(Path dir, Path rootRealPath) {
+			try (Stream<Path> children = Files.list(dir)) {
+				return children //
+						.filter(child -> Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) //
+						.filter(child -> isInside(child, rootRealPath)) //
+						.toList();
+			}
+			catch (IOException | UncheckedIOException ex) {
+				LOGGER.trace(ex, () -> "Failed to list subdirectories of " + dir);
+				return List.of();
+			}
+		}
+
+		private static boolean isInside(Path path, Path rootRealPath) {
+			try {
+				return path.toRealPath().startsWith(rootRealPath);
+			}
+			catch (IOException ex) {
+				return false;
+			}
+		}
+
+		private static final class DeletingFileVisitor extends SimpleFileVisitor<Path> {
+
+			private final Path rootDir;
+			private final Path rootRealPath;
+			private final FileOperations fileOperations;
+			private final SortedMap<Path, IOException> failures;
+			private final Set<Path> retriedPaths = new HashSet<>();
+
+			DeletingFileVisitor(Path rootDir, Path rootRealPath, FileOperations fileOperations,
+					SortedMap<Path, IOException> failures) {
+				this.rootDir = rootDir;
+				this.rootRealPath = rootRealPath;
+				this.fileOperations = fileOperations;
+				this.failures = failures;
+			}
+
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+				LOGGER.trace(() -> "preVisitDirectory: " + dir);
+				if (isLinkWithTargetOutsideTempDir(dir)) {
+					warnAboutLinkWithTargetOutsideTempDir("link", dir);
 					delete(dir);
+					return SKIP_SUBTREE;
+				}
+				if (!dir.equals(rootDir)) {
+					tryToResetPermissions(dir);
+				}
+				return CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFileFailed(Path file, IOException exc) {
+				LOGGER.trace(exc, () -> "visitFileFailed: " + file);
+				if (exc instanceof NoSuchFileException && !Files.exists(file, LinkOption.NOFOLLOW_LINKS)) {
 					return CONTINUE;
 				}
+				// IOException includes `AccessDeniedException` thrown by non-readable or non-executable flags
+				resetPermissionsAndTryToDeleteAgain(file, exc);
+				return CONTINUE;
+			}
 
-				private boolean isLinkWithTargetOutsideTempDir(Path path) {
-					// While `Files.walkFileTree` does not follow symbolic links, it may follow other links
-					// such as "junctions" on Windows
-					try {
-						return !path.toRealPath().startsWith(rootRealPath);
-					}
-					catch (IOException e) {
-						LOGGER.trace(e,
-							() -> "Failed to determine real path for " + path + "; assuming it is not a link");
-						return false;
-					}
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+				LOGGER.trace(() -> "visitFile: " + file);
+				if (Files.isSymbolicLink(file) && isLinkWithTargetOutsideTempDir(file)) {
+					warnAboutLinkWithTargetOutsideTempDir("symbolic link", file);
 				}
+				delete(file);
+				return CONTINUE;
+			}
 
-				private void warnAboutLinkWithTargetOutsideTempDir(String linkType, Path file) throws IOException {
-					Path realPath = file.toRealPath();
-					LOGGER.warn(() -> """
-							Deleting %s from location inside of temp dir (%s) \
-							to location outside of temp dir (%s) but not the target file/directory""".formatted(
-						linkType, file, realPath));
+			@Override
+			public FileVisitResult postVisitDirectory(Path dir, IOException exc) {
+				LOGGER.trace(exc, () -> "postVisitDirectory: " + dir);
+				delete(dir);
+				return CONTINUE;
+			}
+
+			private boolean isLinkWithTargetOutsideTempDir(Path path) {
+				// While `Files.walkFileTree` does not follow symbolic links, it may follow other links
+				// such as "junctions" on Windows
+				try {
+					return !path.toRealPath().startsWith(rootRealPath);
 				}
+				catch (IOException e) {
+					LOGGER.trace(e,
+						() -> "Failed to determine real path for " + path + "; assuming it is not a link");
+					return false;
+				}
+			}
 
-				private void delete(Path path) {
-					try {
-						fileOperations.delete(path);
-					}
-					catch (NoSuchFileException ignore) {
-						// ignore
-					}
-					catch (DirectoryNotEmptyException exception) {
-						failures.put(path, exception);
-					}
-					catch (IOException exception) {
-						// IOException includes `AccessDeniedException` thrown by non-readable or non-executable flags
-						resetPermissionsAndTryToDeleteAgain(path, exception);
-					}
+			private void warnAboutLinkWithTargetOutsideTempDir(String linkType, Path file) throws IOException {
+				Path realPath = file.toRealPath();
+				LOGGER.warn(() -> """
+						Deleting %s from location inside of temp dir (%s) \
+						to location outside of temp dir (%s) but not the target file/directory""".formatted(
+					linkType, file, realPath));
+			}
+
+			private void delete(Path path) {
+				try {
+					fileOperations.delete(path);
+				}
+				catch (NoSuchFileException ignore) {
+					// ignore
+				}
+				catch (DirectoryNotEmptyException exception) {
+					failures.put(path, exception);
+				}
+				catch (IOException exception) {
+					// IOException includes `AccessDeniedException` thrown by non-readable or non-executable flags
+					resetPermissionsAndTryToDeleteAgain(path, exception);
 				}
+			}
 
-				private void resetPermissionsAndTryToDeleteAgain(Path path, IOException exception) {
-					boolean notYetRetried = retriedPaths.add(path);
-					if (notYetRetried) {
-						try {
-							tryToResetPermissions(path);
-							if (Files.isDirectory(path)) {
-								Files.walkFileTree(path, this);
-							}
-							else {
-								fileOperations.delete(path);
-							}
+			private void resetPermissionsAndTryToDeleteAgain(Path path, IOException exception) {
+				boolean notYetRetried = retriedPaths.add(path);
+				if (notYetRetried) {
+					try {
+						tryToResetPermissions(path);
+						if (Files.isDirectory(path)) {
+							Files.walkFileTree(path, this);
 						}
-						catch (Exception suppressed) {
-							exception.addSuppressed(suppressed);
-							failures.put(path, exception);
+						else {
+							fileOperations.delete(path);
 						}
 					}
-					else {
+					catch (Exception suppressed) {
+						exception.addSuppressed(suppressed);
 						failures.put(path, exception);
 					}
 				}
-			});
-			return failures;
+				else {
+					failures.put(path, exception);
+				}
+			}
 		}
 
 		@SuppressWarnings("ResultOfMethodCallIgnored")
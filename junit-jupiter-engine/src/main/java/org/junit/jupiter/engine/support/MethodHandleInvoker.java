@@ -0,0 +1,140 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.support;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+/**
+ * Invoker for a method or constructor backed by a {@link MethodHandle} that
+ * is created once per {@link Executable} and adapted to a uniform
+ * {@code (Object, Object[])Object} signature.
+ *
+ * <p>Invokers are cached per declaring class via a {@link ClassValue} so that
+ * they do not prevent classes from being unloaded.
+ *
+ * <p>If no method handle can be created, for example, because the executable
+ * is declared in a module that is not open to JUnit, no invoker is available
+ * and callers are expected to fall back to reflection. The same applies to
+ * arguments that are not {@linkplain #isApplicable applicable} to the
+ * executable so that the exceptions thrown for them remain unchanged.
+ *
+ * @since 6.0
+ * @see MethodReflectionUtils
+ */
+final class MethodHandleInvoker {
+
+	private static final Logger logger = LoggerFactory.getLogger(MethodHandleInvoker.class);
+
+	private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+	private static final ClassValue<Map<Executable, Optional<MethodHandleInvoker>>> cache = new ClassValue<>() {
+		@Override
+		protected Map<Executable, Optional<MethodHandleInvoker>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	static Optional<MethodHandleInvoker> get(Executable executable) {
+		return cache.get(executable.getDeclaringClass()).computeIfAbsent(executable, MethodHandleInvoker::create);
+	}
+
+	private static Optional<MethodHandleInvoker> create(Executable executable) {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			boolean hasReceiver = executable instanceof Method && !Modifier.isStatic(executable.getModifiers());
+			MethodHandle handle = executable instanceof Method method //
+					? lookup.unreflect(ReflectionUtils.makeAccessible(method)) //
+					: lookup.unreflectConstructor(ReflectionUtils.makeAccessible((Constructor<?>) executable));
+			handle = handle.asFixedArity();
+			handle = handle.asType(handle.type().generic());
+			handle = handle.asSpreader(Object[].class, executable.getParameterCount());
+			if (!hasReceiver) {
+				handle = MethodHandles.dropArguments(handle, 0, Object.class);
+			}
+			return Optional.of(new MethodHandleInvoker(handle.asType(INVOKER_TYPE), hasReceiver, executable));
+		}
+		catch (IllegalAccessException | RuntimeException ex) {
+			logger.debug(ex, () -> "Failed to create MethodHandle for [%s]; falling back to reflection.".formatted(
+				executable.toGenericString()));
+			return Optional.empty();
+		}
+	}
+
+	private final MethodHandle handle;
+	private final @Nullable Class<?> receiverType;
+	private final Class<?>[] parameterTypes;
+	private final boolean[] primitiveParameters;
+
+	private MethodHandleInvoker(MethodHandle handle, boolean hasReceiver, Executable executable) {
+		this.handle = handle;
+		this.receiverType = hasReceiver ? executable.getDeclaringClass() : null;
+		this.parameterTypes = executable.getParameterTypes();
+		this.primitiveParameters = new boolean[this.parameterTypes.length];
+		for (int i = 0; i < this.parameterTypes.length; i++) {
+			Class<?> parameterType = this.parameterTypes[i];
+			if (parameterType.isPrimitive()) {
+				// widening conversions are left to reflection
+				this.primitiveParameters[i] = true;
+				this.parameterTypes[i] = requireNonNull(ReflectionUtils.getWrapperType(parameterType));
+			}
+		}
+	}
+
+	/**
+	 * {@return whether the supplied target and arguments can be passed to the
+	 * executable without conversion errors}
+	 */
+	boolean isApplicable(@Nullable Object target, @Nullable Object[] arguments) {
+		if (this.receiverType != null && !this.receiverType.isInstance(target)) {
+			return false;
+		}
+		if (arguments.length != this.parameterTypes.length) {
+			return false;
+		}
+		for (int i = 0; i < arguments.length; i++) {
+			Object argument = arguments[i];
+			if (argument == null ? this.primitiveParameters[i] : !this.parameterTypes[i].isInstance(argument)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Invoke the executable with the supplied target and arguments, which must
+	 * be {@linkplain #isApplicable applicable}.
+	 *
+	 * <p>Exceptions thrown by the executable are propagated as is, i.e.,
+	 * without being wrapped in an
+	 * {@link java.lang.reflect.InvocationTargetException}.
+	 */
+	@Nullable
+	Object invoke(@Nullable Object target, @Nullable Object[] arguments) throws Throwable {
+		return (Object) this.handle.invokeExact(target, arguments);
+	}
+
+}
@@ -16,12 +16,16 @@ import static org.junit.platform.commons.util.KotlinReflectionUtils.getKotlinSus
 import static org.junit.platform.commons.util.KotlinReflectionUtils.invokeKotlinSuspendingFunction;
 import static org.junit.platform.commons.util.KotlinReflectionUtils.isKotlinSuspendingFunction;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.Optional;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.support.ReflectionSupport;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.ReflectionUtils;
 
 @API(status = INTERNAL, since = "6.0")
 public class MethodReflectionUtils {
@@ -38,13 +42,52 @@ public class MethodReflectionUtils {
 				: method.getGenericReturnType();
 	}
 
+	/**
+	 * Invoke the supplied method via a cached {@link java.lang.invoke.MethodHandle},
+	 * falling back to reflection for Kotlin suspending functions, members that
+	 * cannot be accessed via method handles, and arguments that would require
+	 * conversions.
+	 *
+	 * @since 6.0
+	 */
 	public static @Nullable Object invoke(Method method, @Nullable Object target, @Nullable Object[] arguments) {
 		if (isKotlinSuspendingFunction(method)) {
 			return invokeKotlinSuspendingFunction(method, target, arguments);
 		}
+		Optional<MethodHandleInvoker> invoker = MethodHandleInvoker.get(method);
+		if (invoker.isPresent() && invoker.get().isApplicable(target, arguments)) {
+			return invoke(invoker.get(), target, arguments);
+		}
 		return ReflectionSupport.invokeMethod(method, target, arguments);
 	}
 
+	/**
+	 * Create a new instance via the supplied constructor using a cached
+	 * {@link java.lang.invoke.MethodHandle}, falling back to reflection for
+	 * members that cannot be accessed via method handles and arguments that
+	 * would require conversions.
+	 *
+	 * @since 6.0
+	 */
+	@SuppressWarnings({ "unchecked", "NullAway" })
+	public static <T> T newInstance(Constructor<T> constructor, @Nullable Object[] arguments) {
+		Optional<MethodHandleInvoker> invoker = MethodHandleInvoker.get(constructor);
+		if (invoker.isPresent() && invoker.get().isApplicable(null, arguments)) {
+			return (T) invoke(invoker.get(), null, arguments);
+		}
+		return ReflectionUtils.newInstance(constructor, arguments);
+	}
+
+	private static @Nullable Object invoke(MethodHandleInvoker invoker, @Nullable Object target,
+			@Nullable Object[] arguments) {
+		try {
+			return invoker.invoke(target, arguments);
+		}
+		catch (Throwable t) {
+			throw ExceptionUtils.throwAsUncheckedException(t);
+		}
+	}
+
 	private MethodReflectionUtils() {
 	}
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.util.Collections.unmodifiableMap;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.apiguardian.api.API;
+
+/**
+ * Persistent store of execution durations of test classes and test methods
+ * recorded by a previous test run.
+ *
+ * <p>Durations are keyed by the fully qualified name of a test class or by
+ * the {@linkplain ReflectionUtils#getFullyQualifiedMethodName(Class, Method)
+ * fully qualified method name} of a test method, which allows them to be
+ * written by a launcher listener based on test sources and read by class and
+ * method orderers based on {@link Class} and {@link Method} references.
+ *
+ * <p>The file format is a simple UTF-8 encoded text file with one entry per
+ * line in the form {@code <milliseconds> TAB <key>}, sorted by key. Lines
+ * starting with {@code #} are ignored.
+ *
+ * <h2>DISCLAIMER</h2>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 6.0
+ */
+@API(status = INTERNAL, since = "6.0")
+public final class DurationStore {
+
+	/**
+	 * Property name used to set the path to the file in which execution
+	 * durations are stored: {@value}
+	 */
+	public static final String STORE_FILE_PROPERTY_NAME = "junit.platform.execution.durations.file";
+
+	private static final String COMMENT_PREFIX = "#";
+
+	private static final char SEPARATOR = '\t';
+
+	/**
+	 * Load the durations stored in the supplied file.
+	 *
+	 * <p>If the file does not exist, an empty store is returned.
+	 *
+	 * @param file the file to read; never {@code null}
+	 * @return a new {@code DurationStore}; never {@code null}
+	 * @throws IOException if the file exists but cannot be read
+	 */
+	public static DurationStore load(Path file) throws IOException {
+		Preconditions.notNull(file, "file must not be null");
+		Map<String, Duration> durations = new TreeMap<>();
+		if (Files.exists(file)) {
+			try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					parseLine(line, durations);
+				}
+			}
+		}
+		return new DurationStore(durations);
+	}
+
+	private static void parseLine(String line, Map<String, Duration> durations) {
+		if (line.isBlank() || line.startsWith(COMMENT_PREFIX)) {
+			return;
+		}
+		int separatorIndex = line.indexOf(SEPARATOR);
+		if (separatorIndex <= 0 || separatorIndex == line.length() - 1) {
+			return;
+		}
+		try {
+			long millis = Long.parseLong(line.substring(0, separatorIndex));
+			durations.put(line.substring(separatorIndex + 1), Duration.ofMillis(millis));
+		}
+		catch (NumberFormatException ignore) {
+			// ignore malformed line
+		}
+	}
+
+	/**
+	 * {@return the key for the supplied test class}
+	 */
+	public static String key(Class<?> testClass) {
+		return testClass.getName();
+	}
+
+	/**
+	 * {@return the key for the supplied test method declared in or inherited
+	 * by the supplied test class}
+	 */
+	public static String key(Class<?> testClass, Method testMethod) {
+		return ReflectionUtils.getFullyQualifiedMethodName(testClass, testMethod);
+	}
+
+	/**
+	 * {@return the key for the test method with the supplied class name,
+	 * method name, and parameter type names}
+	 *
+	 * @see ReflectionUtils#getFullyQualifiedMethodName(String, String, String)
+	 */
+	public static String key(String className, String methodName, String parameterTypeNames) {
+		return ReflectionUtils.getFullyQualifiedMethodName(className, methodName, parameterTypeNames);
+	}
+
+	private final Map<String, Duration> durations;
+
+	private DurationStore(Map<String, Duration> durations) {
+		this.durations = durations;
+	}
+
+	/**
+	 * {@return the recorded duration for the supplied key, potentially empty}
+	 */
+	public Optional<Duration> get(String key) {
+		return Optional.ofNullable(this.durations.get(key));
+	}
+
+	/**
+	 * {@return an unmodifiable view of all recorded durations, sorted by key}
+	 */
+	public Map<String, Duration> getAll() {
+		return unmodifiableMap(this.durations);
+	}
+
+	/**
+	 * Record the supplied duration for the supplied key, replacing any
+	 * previously recorded duration.
+	 */
+	public void put(String key, Duration duration) {
+		Preconditions.notBlank(key, "key must not be null or blank");
+		Preconditions.condition(key.indexOf(SEPARATOR) < 0 && key.indexOf('\n') < 0,
+			() -> "key must not contain tabs or line breaks: " + key);
+		Preconditions.notNull(duration, "duration must not be null");
+		this.durations.put(key, duration);
+	}
+
+	/**
+	 * Write all durations of this store to the supplied file, replacing its
+	 * previous content.
+	 *
+	 * @param file the file to write; never {@code null}
+	 * @throws IOException if the file cannot be written
+	 */
+	public void save(Path file) throws IOException {
+		Preconditions.notNull(file, "file must not be null");
+		Path parent = file.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			writer.write(COMMENT_PREFIX + " JUnit Platform execution durations (milliseconds)");
+			writer.newLine();
+			for (Map.Entry<String, Duration> entry : this.durations.entrySet()) {
+				writer.write(Long.toString(entry.getValue().toMillis()));
+				writer.write(SEPARATOR);
+				writer.write(entry.getKey());
+				writer.newLine();
+			}
+		}
+	}
+
+}
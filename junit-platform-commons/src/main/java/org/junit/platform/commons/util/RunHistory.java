@@ -0,0 +1,368 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Persistent history of the outcomes of the tests executed by previous test
+ * runs.
+ *
+ * <p>Outcomes are keyed by the unique ID of each test. In addition, the
+ * history records the <em>source key</em> of each test &mdash; the fully
+ * qualified name of its test class or the
+ * {@linkplain ReflectionUtils#getFullyQualifiedMethodName(Class, Method)
+ * fully qualified name} of its test method &mdash; as well as a fingerprint of
+ * the class file of each executed test class. This allows consumers that
+ * only have access to {@link Class} and {@link Method} references to query
+ * whether a test class or method failed or whether a test class changed since
+ * it was last executed.
+ *
+ * <p>The file format is a simple UTF-8 encoded text file with one
+ * tab-separated entry per line, sorted by kind and key. Lines starting with
+ * {@code #} are ignored.
+ *
+ * <h2>DISCLAIMER</h2>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 6.0
+ */
+@API(status = INTERNAL, since = "6.0")
+public final class RunHistory {
+
+	/**
+	 * Property name used to set the path to the file in which the run history
+	 * is stored: {@value}
+	 */
+	public static final String HISTORY_FILE_PROPERTY_NAME = "junit.platform.execution.history.file";
+
+	/**
+	 * Outcome of a test recorded in the run history.
+	 */
+	public enum Outcome {
+		SUCCESSFUL, ABORTED, FAILED
+	}
+
+	private static final String COMMENT_PREFIX = "#";
+
+	private static final char SEPARATOR = '\t';
+
+	private static final String CLASS_ENTRY = "class";
+
+	private static final String TEST_ENTRY = "test";
+
+	/**
+	 * {@return a new, empty {@code RunHistory}}
+	 */
+	public static RunHistory create() {
+		return new RunHistory();
+	}
+
+	/**
+	 * Load the run history stored in the supplied file.
+	 *
+	 * <p>If the file does not exist, an empty history is returned.
+	 *
+	 * @param file the file to read; never {@code null}
+	 * @return a new {@code RunHistory}; never {@code null}
+	 * @throws IOException if the file exists but cannot be read
+	 */
+	public static RunHistory load(Path file) throws IOException {
+		Preconditions.notNull(file, "file must not be null");
+		RunHistory history = new RunHistory();
+		if (Files.exists(file)) {
+			try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					history.parseLine(line);
+				}
+			}
+		}
+		return history;
+	}
+
+	/**
+	 * {@return the source key for the supplied test class}
+	 */
+	public static String key(Class<?> testClass) {
+		return testClass.getName();
+	}
+
+	/**
+	 * {@return the source key for the supplied test method declared in or
+	 * inherited by the supplied test class}
+	 */
+	public static String key(Class<?> testClass, Method testMethod) {
+		return ReflectionUtils.getFullyQualifiedMethodName(testClass, testMethod);
+	}
+
+	/**
+	 * {@return the source key for the test method with the supplied class
+	 * name, method name, and parameter type names}
+	 *
+	 * @see ReflectionUtils#getFullyQualifiedMethodName(String, String, String)
+	 */
+	public static String key(String className, String methodName, String parameterTypeNames) {
+		return ReflectionUtils.getFullyQualifiedMethodName(className, methodName, parameterTypeNames);
+	}
+
+	/**
+	 * Compute a fingerprint of the class file of the supplied class.
+	 *
+	 * @param clazz the class to compute the fingerprint for; never
+	 * {@code null}
+	 * @return the fingerprint; empty if the class file cannot be read
+	 */
+	public static Optional<String> fingerprint(Class<?> clazz) {
+		Preconditions.notNull(clazz, "class must not be null");
+		String resourceName = clazz.getName().replace('.', '/') + ".class";
+		ClassLoader classLoader = clazz.getClassLoader();
+		try (InputStream in = classLoader == null //
+				? ClassLoader.getSystemResourceAsStream(resourceName) //
+				: classLoader.getResourceAsStream(resourceName)) {
+			if (in == null) {
+				return Optional.empty();
+			}
+			CRC32 checksum = new CRC32();
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				checksum.update(buffer, 0, read);
+			}
+			return Optional.of(Long.toHexString(checksum.getValue()));
+		}
+		catch (IOException ex) {
+			return Optional.empty();
+		}
+	}
+
+	private final Map<String, String> fingerprints = new TreeMap<>();
+
+	private final Map<String, TestEntry> tests = new TreeMap<>();
+
+	private volatile @Nullable Index index;
+
+	private RunHistory() {
+	}
+
+	private void parseLine(String line) {
+		if (line.isBlank() || line.startsWith(COMMENT_PREFIX)) {
+			return;
+		}
+		String[] parts = line.split(String.valueOf(SEPARATOR), -1);
+		if (parts.length == 3 && CLASS_ENTRY.equals(parts[0]) && !parts[1].isEmpty() && !parts[2].isEmpty()) {
+			this.fingerprints.put(parts[2], parts[1]);
+		}
+		else if (parts.length == 4 && TEST_ENTRY.equals(parts[0]) && !parts[3].isEmpty()) {
+			try {
+				Outcome outcome = Outcome.valueOf(parts[1]);
+				this.tests.put(parts[3], new TestEntry(outcome, parts[2].isEmpty() ? null : parts[2]));
+			}
+			catch (IllegalArgumentException ignore) {
+				// ignore malformed line
+			}
+		}
+	}
+
+	/**
+	 * {@return the recorded outcome of the test with the supplied unique ID,
+	 * potentially empty}
+	 */
+	public Optional<Outcome> getOutcome(String uniqueId) {
+		return Optional.ofNullable(this.tests.get(uniqueId)).map(TestEntry::outcome);
+	}
+
+	/**
+	 * {@return whether the test with the supplied unique ID or any test
+	 * nested within it failed}
+	 */
+	public boolean hasFailures(String uniqueId) {
+		NavigableSet<String> failedUniqueIds = getIndex().failedUniqueIds();
+		return failedUniqueIds.contains(uniqueId) || containsPrefix(failedUniqueIds, uniqueId + "/");
+	}
+
+	/**
+	 * {@return whether any test with the supplied source key failed}
+	 *
+	 * <p>For source keys of test classes, failures of the test methods and
+	 * nested classes of the test class are taken into account as well.
+	 */
+	public boolean hasFailuresForSource(String sourceKey) {
+		return matchesSource(getIndex().failedSourceKeys(), sourceKey);
+	}
+
+	/**
+	 * {@return whether any outcome was recorded for a test with the supplied
+	 * source key}
+	 */
+	public boolean containsSource(String sourceKey) {
+		return matchesSource(getIndex().sourceKeys(), sourceKey);
+	}
+
+	private static boolean matchesSource(NavigableSet<String> sourceKeys, String sourceKey) {
+		return sourceKeys.contains(sourceKey) //
+				|| containsPrefix(sourceKeys, sourceKey + "#") //
+				|| containsPrefix(sourceKeys, sourceKey + "$");
+	}
+
+	private static boolean containsPrefix(NavigableSet<String> keys, String prefix) {
+		String candidate = keys.ceiling(prefix);
+		return candidate != null && candidate.startsWith(prefix);
+	}
+
+	private Index getIndex() {
+		Index index = this.index;
+		if (index == null) {
+			index = new Index(new TreeSet<>(), new TreeSet<>(), new TreeSet<>());
+			for (Map.Entry<String, TestEntry> entry : this.tests.entrySet()) {
+				String sourceKey = entry.getValue().sourceKey();
+				boolean failed = entry.getValue().outcome() == Outcome.FAILED;
+				if (failed) {
+					index.failedUniqueIds().add(entry.getKey());
+				}
+				if (sourceKey != null) {
+					index.sourceKeys().add(sourceKey);
+					if (failed) {
+						index.failedSourceKeys().add(sourceKey);
+					}
+				}
+			}
+			this.index = index;
+		}
+		return index;
+	}
+
+	/**
+	 * {@return whether the supplied class changed since its fingerprint was
+	 * last recorded}
+	 *
+	 * <p>Classes without a recorded fingerprint are considered changed.
+	 * Classes whose fingerprint cannot be computed are considered unchanged.
+	 */
+	public boolean isChanged(Class<?> clazz) {
+		return fingerprint(clazz) //
+				.map(fingerprint -> !fingerprint.equals(this.fingerprints.get(key(clazz)))) //
+				.orElse(false);
+	}
+
+	/**
+	 * Record the supplied outcome for the test with the supplied unique ID,
+	 * replacing any previously recorded outcome.
+	 *
+	 * @param uniqueId the unique ID of the test; never {@code null} or blank
+	 * @param sourceKey the source key of the test; may be {@code null}
+	 * @param outcome the outcome; never {@code null}
+	 */
+	public void putOutcome(String uniqueId, @Nullable String sourceKey, Outcome outcome) {
+		checkKey(uniqueId);
+		if (sourceKey != null) {
+			checkKey(sourceKey);
+		}
+		Preconditions.notNull(outcome, "outcome must not be null");
+		this.tests.put(uniqueId, new TestEntry(outcome, sourceKey));
+		this.index = null;
+	}
+
+	/**
+	 * Record the supplied fingerprint for the class with the supplied name,
+	 * replacing any previously recorded fingerprint.
+	 */
+	public void putFingerprint(String className, String fingerprint) {
+		checkKey(className);
+		checkKey(fingerprint);
+		this.fingerprints.put(className, fingerprint);
+	}
+
+	/**
+	 * Merge all entries of the supplied history into this history, replacing
+	 * existing entries with the same keys.
+	 */
+	public void putAll(RunHistory other) {
+		this.fingerprints.putAll(other.fingerprints);
+		this.tests.putAll(other.tests);
+		this.index = null;
+	}
+
+	/**
+	 * {@return whether this history does not contain any entries}
+	 */
+	public boolean isEmpty() {
+		return this.fingerprints.isEmpty() && this.tests.isEmpty();
+	}
+
+	private static void checkKey(String key) {
+		Preconditions.notBlank(key, "key must not be null or blank");
+		Preconditions.condition(key.indexOf(SEPARATOR) < 0 && key.indexOf('\n') < 0,
+			() -> "key must not contain tabs or line breaks: " + key);
+	}
+
+	/**
+	 * Write all entries of this history to the supplied file, replacing its
+	 * previous content.
+	 *
+	 * @param file the file to write; never {@code null}
+	 * @throws IOException if the file cannot be written
+	 */
+	public void save(Path file) throws IOException {
+		Preconditions.notNull(file, "file must not be null");
+		Path parent = file.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			writer.write(COMMENT_PREFIX + " JUnit Platform run history");
+			writer.newLine();
+			for (Map.Entry<String, String> entry : this.fingerprints.entrySet()) {
+				writeLine(writer, CLASS_ENTRY, entry.getValue(), entry.getKey());
+			}
+			for (Map.Entry<String, TestEntry> entry : this.tests.entrySet()) {
+				TestEntry test = entry.getValue();
+				String sourceKey = test.sourceKey();
+				writeLine(writer, TEST_ENTRY, test.outcome().name(), sourceKey == null ? "" : sourceKey,
+					entry.getKey());
+			}
+		}
+	}
+
+	private static void writeLine(BufferedWriter writer, String... parts) throws IOException {
+		writer.write(String.join(String.valueOf(SEPARATOR), parts));
+		writer.newLine();
+	}
+
+	private record TestEntry(Outcome outcome, @Nullable String sourceKey) {
+	}
+
+	private record Index(NavigableSet<String> failedUniqueIds, NavigableSet<String> sourceKeys,
+			NavigableSet<String> failedSourceKeys) {
+	}
+
+}
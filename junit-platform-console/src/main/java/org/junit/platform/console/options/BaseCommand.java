@@ -13,6 +13,7 @@ package org.junit.platform.console.options;
 import java.io.PrintWriter;
 import java.util.concurrent.Callable;
 
+import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.PreconditionViolationException;
 
 import picocli.CommandLine;
@@ -22,7 +23,7 @@ import picocli.CommandLine.Option;
 import picocli.CommandLine.ParameterException;
 import picocli.CommandLine.Spec;
 
-abstract class BaseCommand<T> implements Callable<T> {
+abstract class BaseCommand<T extends @Nullable Object> implements Callable<T> {
 
 	@Spec
 	CommandSpec commandSpec;
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.options;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.console.tasks.DaemonSession;
+
+/**
+ * Daemon that keeps a {@link DaemonSession} open and executes the
+ * {@code execute} requests sent by clients via a Unix domain socket.
+ *
+ * <p>Each request consists of the number of arguments followed by the
+ * arguments themselves, one per line. The daemon executes requests one at a
+ * time and streams the output of the {@code execute} command, including
+ * everything written to {@link System#out} and {@link System#err} in the
+ * meantime, back to the client followed by a line containing the exit code.
+ * Malformed requests and requests containing the {@code --daemon} or
+ * {@code --connect} options are rejected by closing the connection.
+ *
+ * @since 6.0
+ */
+class ConsoleLauncherDaemon implements AutoCloseable {
+
+	private static final String EXIT_CODE_PREFIX = "\0junit-daemon-exit-code:";
+
+	private static final int MAX_ARGUMENT_COUNT = 10_000;
+
+	private static final List<String> REJECTED_OPTIONS = List.of("--daemon", "--connect");
+
+	/**
+	 * Start a daemon listening on the supplied socket file.
+	 *
+	 * @throws JUnitException if another daemon is already listening on the
+	 * socket file
+	 */
+	static ConsoleLauncherDaemon start(Path socketFile) throws IOException {
+		if (Files.exists(socketFile)) {
+			if (isListening(socketFile)) {
+				throw new JUnitException("Another daemon is already listening on " + socketFile);
+			}
+			// stale socket file of a daemon that was terminated
+			Files.delete(socketFile);
+		}
+		ServerSocketChannel serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+		try {
+			serverChannel.bind(UnixDomainSocketAddress.of(socketFile));
+			socketFile.toFile().deleteOnExit();
+			return new ConsoleLauncherDaemon(socketFile, serverChannel, DaemonSession.open());
+		}
+		catch (IOException | RuntimeException ex) {
+			serverChannel.close();
+			throw ex;
+		}
+	}
+
+	private static boolean isListening(Path socketFile) {
+		try {
+			SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socketFile));
+			channel.close();
+			return true;
+		}
+		catch (IOException ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * Send the supplied {@code execute} arguments to the daemon listening on
+	 * the supplied socket file and print its output.
+	 *
+	 * @return the exit code of the {@code execute} command executed by the
+	 * daemon
+	 */
+	static int connect(Path socketFile, List<String> args, PrintWriter out) throws IOException {
+		args.forEach(arg -> Preconditions.condition(arg.indexOf('\n') < 0 && arg.indexOf('\r') < 0,
+			() -> "Arguments sent to the daemon must not contain line breaks: " + arg));
+		try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socketFile))) {
+			Writer writer = new OutputStreamWriter(Channels.newOutputStream(channel), UTF_8);
+			writer.write(args.size() + "\n");
+			for (String arg : args) {
+				writer.write(arg + "\n");
+			}
+			writer.flush();
+			BufferedReader reader = new BufferedReader(new InputStreamReader(Channels.newInputStream(channel), UTF_8));
+			String line;
+			while ((line = reader.readLine()) != null) {
+				int index = line.indexOf(EXIT_CODE_PREFIX);
+				if (index >= 0) {
+					if (index > 0) {
+						out.println(line.substring(0, index));
+						out.flush();
+					}
+					return Integer.parseInt(line.substring(index + EXIT_CODE_PREFIX.length()));
+				}
+				out.println(line);
+				out.flush();
+			}
+			throw new JUnitException("Daemon listening on " + socketFile + " closed the connection unexpectedly");
+		}
+	}
+
+	private final Path socketFile;
+	private final ServerSocketChannel serverChannel;
+	private final DaemonSession session;
+
+	private ConsoleLauncherDaemon(Path socketFile, ServerSocketChannel serverChannel, DaemonSession session) {
+		this.socketFile = socketFile;
+		this.serverChannel = serverChannel;
+		this.session = session;
+	}
+
+	/**
+	 * Accept and execute requests until this daemon is {@linkplain #close()
+	 * closed}.
+	 */
+	void serve() throws IOException {
+		while (true) {
+			SocketChannel channel;
+			try {
+				channel = this.serverChannel.accept();
+			}
+			catch (ClosedChannelException ex) {
+				return;
+			}
+			try (channel) {
+				handle(channel);
+			}
+			catch (IOException | RuntimeException ex) {
+				// the client went away or sent an invalid request; keep serving other clients
+			}
+		}
+	}
+
+	private void handle(SocketChannel channel) throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(Channels.newInputStream(channel), UTF_8));
+		Optional<List<String>> args = readArgs(reader);
+		if (args.isEmpty()) {
+			return;
+		}
+		PrintStream clientStream = new PrintStream(Channels.newOutputStream(channel), true, UTF_8);
+		PrintWriter clientWriter = new PrintWriter(new OutputStreamWriter(clientStream, UTF_8), true);
+		int exitCode = execute(args.get(), clientStream, clientWriter);
+		clientWriter.println(EXIT_CODE_PREFIX + exitCode);
+		clientWriter.flush();
+	}
+
+	private static Optional<List<String>> readArgs(BufferedReader reader) throws IOException {
+		String header = reader.readLine();
+		if (header == null) {
+			return Optional.empty();
+		}
+		int count;
+		try {
+			count = Integer.parseInt(header.strip());
+		}
+		catch (NumberFormatException ex) {
+			return Optional.empty();
+		}
+		if (count < 0 || count > MAX_ARGUMENT_COUNT) {
+			return Optional.empty();
+		}
+		List<String> args = new ArrayList<>();
+		args.add("execute");
+		for (int i = 0; i < count; i++) {
+			String arg = reader.readLine();
+			if (arg == null || isRejectedOption(arg)) {
+				return Optional.empty();
+			}
+			args.add(arg);
+		}
+		return Optional.of(args);
+	}
+
+	private static boolean isRejectedOption(String arg) {
+		return REJECTED_OPTIONS.stream().anyMatch(option -> arg.equals(option) || arg.startsWith(option + "="));
+	}
+
+	private int execute(List<String> args, PrintStream clientStream, PrintWriter clientWriter) {
+		PrintStream originalOut = System.out;
+		PrintStream originalErr = System.err;
+		try {
+			System.setOut(clientStream);
+			System.setErr(clientStream);
+			OutputStreamConfig outputStreamConfig = new OutputStreamConfig(clientWriter, clientWriter);
+			return new MainCommand(this.session.getConsoleTestExecutorFactory()) //
+					.run(args.toArray(new String[0]), Optional.of(outputStreamConfig)) //
+					.getExitCode();
+		}
+		finally {
+			System.setOut(originalOut);
+			System.setErr(originalErr);
+		}
+	}
+
+	Path getSocketFile() {
+		return this.socketFile;
+	}
+
+	/**
+	 * Stop accepting requests and close the underlying {@link DaemonSession}.
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			this.serverChannel.close();
+			Files.deleteIfExists(this.socketFile);
+		}
+		finally {
+			this.session.close();
+		}
+	}
+
+}
@@ -52,7 +52,16 @@ public enum Details {
 	 *
 	 * @since 1.10
 	 */
-	TESTFEED;
+	TESTFEED,
+
+	/**
+	 * A compact summary of the test execution progress is refreshed
+	 * periodically by a dedicated thread, and unsuccessful tests are printed
+	 * as they are detected.
+	 *
+	 * @since 6.0
+	 */
+	PROGRESS;
 
 	/**
 	 * Return lower case {@link #name()} for easier usage in help text for
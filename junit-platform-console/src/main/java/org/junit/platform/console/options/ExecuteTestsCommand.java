@@ -10,13 +10,18 @@
 
 package org.junit.platform.console.options;
 
+import static java.util.Objects.requireNonNull;
 import static org.junit.platform.console.options.CommandResult.SUCCESS;
 
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
 import org.junit.platform.console.tasks.ConsoleTestExecutor;
 import org.junit.platform.launcher.listeners.TestExecutionSummary;
 
@@ -30,7 +35,7 @@ import picocli.CommandLine.Option;
 		name = "execute", //
 		description = "Execute tests" //
 )
-class ExecuteTestsCommand extends BaseCommand<TestExecutionSummary> implements CommandLine.IExitCodeGenerator {
+class ExecuteTestsCommand extends BaseCommand<@Nullable TestExecutionSummary> implements CommandLine.IExitCodeGenerator {
 
 	/**
 	 * Exit code indicating test failure(s)
@@ -42,6 +47,8 @@ class ExecuteTestsCommand extends BaseCommand<TestExecutionSummary> implements C
 	 */
 	private static final int NO_TESTS_FOUND = 2;
 
+	private static final String CONNECT_OPTION = "--connect";
+
 	private final ConsoleTestExecutor.Factory consoleTestExecutorFactory;
 
 	@Mixin
@@ -53,14 +60,82 @@ class ExecuteTestsCommand extends BaseCommand<TestExecutionSummary> implements C
 	@ArgGroup(validate = false, order = 6, heading = "%n@|bold REPORTING|@%n%n")
 	ReportingOptions reportingOptions;
 
+	@ArgGroup(order = 7, heading = "%n@|bold DAEMON|@%n%n")
+	DaemonOptions daemonOptions;
+
+	private @Nullable Integer daemonExitCode;
+
 	ExecuteTestsCommand(ConsoleTestExecutor.Factory consoleTestExecutorFactory) {
 		this.consoleTestExecutorFactory = consoleTestExecutorFactory;
 	}
 
 	@Override
-	protected TestExecutionSummary execute(PrintWriter out) {
+	protected @Nullable TestExecutionSummary execute(PrintWriter out) {
+		Optional<Path> daemonSocket = getDaemonSocket();
+		if (daemonSocket.isPresent()) {
+			this.daemonExitCode = runDaemon(daemonSocket.get(), out);
+			return null;
+		}
+		Optional<Path> connectSocket = getConnectSocket();
+		if (connectSocket.isPresent()) {
+			this.daemonExitCode = connectToDaemon(connectSocket.get(), out);
+			return null;
+		}
 		return consoleTestExecutorFactory.create(toTestDiscoveryOptions(), toTestConsoleOutputOptions()) //
-				.execute(out, getReportsDir(), isFailFast());
+				.execute(out, getReportsDir(), isFailFast(), isFailFastOnRepeatedFailure());
+	}
+
+	private static int runDaemon(Path socketFile, PrintWriter out) {
+		try (ConsoleLauncherDaemon daemon = ConsoleLauncherDaemon.start(socketFile)) {
+			out.printf("Daemon listening on %s%n", socketFile);
+			out.flush();
+			daemon.serve();
+			return SUCCESS;
+		}
+		catch (IOException ex) {
+			throw new JUnitException("Failed to run daemon listening on " + socketFile, ex);
+		}
+	}
+
+	private int connectToDaemon(Path socketFile, PrintWriter out) {
+		try {
+			return ConsoleLauncherDaemon.connect(socketFile, getDaemonRequestArgs(), out);
+		}
+		catch (IOException ex) {
+			throw new JUnitException("Failed to connect to daemon listening on " + socketFile, ex);
+		}
+	}
+
+	/**
+	 * Get the arguments of this command without the {@code --connect} option
+	 * so that the daemon executes the tests as if the arguments were supplied
+	 * to its own {@code execute} command.
+	 */
+	List<String> getDaemonRequestArgs() {
+		List<String> args = new ArrayList<>();
+		List<String> originalArgs = commandSpec.commandLine().getParseResult().expandedArgs();
+		for (int i = 0; i < originalArgs.size(); i++) {
+			String arg = originalArgs.get(i);
+			if (CONNECT_OPTION.equals(arg)) {
+				i++; // skip option value
+			}
+			else if (!arg.startsWith(CONNECT_OPTION + "=")) {
+				args.add(arg);
+			}
+		}
+		return args;
+	}
+
+	Optional<Path> getDaemonSocket() {
+		return getDaemonOptions().map(options -> options.daemonSocket);
+	}
+
+	Optional<Path> getConnectSocket() {
+		return getDaemonOptions().map(options -> options.connectSocket);
+	}
+
+	private Optional<DaemonOptions> getDaemonOptions() {
+		return Optional.ofNullable(daemonOptions);
 	}
 
 	Optional<Path> getReportsDir() {
@@ -71,6 +146,10 @@ class ExecuteTestsCommand extends BaseCommand<TestExecutionSummary> implements C
 		return getReportingOptions().map(options -> options.failFast).orElse(false);
 	}
 
+	boolean isFailFastOnRepeatedFailure() {
+		return getReportingOptions().map(options -> options.failFastOnRepeatedFailure).orElse(false);
+	}
+
 	private Optional<ReportingOptions> getReportingOptions() {
 		return Optional.ofNullable(reportingOptions);
 	}
@@ -89,7 +168,10 @@ class ExecuteTestsCommand extends BaseCommand<TestExecutionSummary> implements C
 
 	@Override
 	public int getExitCode() {
-		TestExecutionSummary executionResult = commandSpec.commandLine().getExecutionResult();
+		if (this.daemonExitCode != null) {
+			return this.daemonExitCode;
+		}
+		TestExecutionSummary executionResult = requireNonNull(commandSpec.commandLine().getExecutionResult());
 		boolean failIfNoTests = getReportingOptions().map(it -> it.failIfNoTests).orElse(false);
 		if (failIfNoTests && executionResult.getTestsFoundCount() == 0) {
 			return NO_TESTS_FOUND;
@@ -108,6 +190,12 @@ class ExecuteTestsCommand extends BaseCommand<TestExecutionSummary> implements C
 		@Option(names = "--fail-fast", description = "Stops test execution after the first failed test.")
 		private boolean failFast;
 
+		/**
+		 * @since 6.0
+		 */
+		@Option(names = "--fail-fast-on-repeated-failure", description = "Stops test execution as soon as a test fails that also failed during its last execution recorded in the run history file configured via the 'junit.platform.execution.history.file' configuration parameter.")
+		private boolean failFastOnRepeatedFailure;
+
 		@Nullable
 		@Option(names = "--reports-dir", paramLabel = "DIR", description = "Enable report output into a specified local directory (will be created if it does not exist).")
 		private Path reportsDir;
@@ -117,4 +205,18 @@ class ExecuteTestsCommand extends BaseCommand<TestExecutionSummary> implements C
 		}
 	}
 
+	/**
+	 * @since 6.0
+	 */
+	static class DaemonOptions {
+
+		@Nullable
+		@Option(names = "--daemon", paramLabel = "SOCKET", description = "Start a daemon that keeps a launcher session open and executes the tests requested by clients connecting to the specified Unix domain socket file. Test engines are loaded from the daemon's classpath; additional classpath entries are reloaded whenever they change.")
+		private Path daemonSocket;
+
+		@Nullable
+		@Option(names = CONNECT_OPTION, paramLabel = "SOCKET", description = "Let the daemon listening on the specified Unix domain socket file execute the tests using all other supplied options instead of executing them in the current JVM. Relative paths are resolved against the working directory of the daemon.")
+		private Path connectSocket;
+	}
+
 }
@@ -73,6 +73,7 @@ public class TestDiscoveryOptions {
 	private List<String> excludedEngines = emptyList();
 	private List<String> includedTagExpressions = emptyList();
 	private List<String> excludedTagExpressions = emptyList();
+	private @Nullable String shard;
 
 	private List<String> configurationParametersResources = emptyList();
 	private Map<String, String> configurationParameters = emptyMap();
@@ -297,6 +298,14 @@ public class TestDiscoveryOptions {
 		this.excludedTagExpressions = excludedTags;
 	}
 
+	public @Nullable String getShard() {
+		return this.shard;
+	}
+
+	public void setShard(@Nullable String shard) {
+		this.shard = shard;
+	}
+
 	public Map<String, String> getConfigurationParameters() {
 		return this.configurationParameters;
 	}
@@ -189,6 +189,13 @@ class TestDiscoveryOptionsMixin {
 				"--exclude-engine" }, paramLabel = "ID", arity = "1", description = "Provide the ID of an engine to be excluded from the test run. This option can be repeated.")
 		private final List<String> excludedEngines = new ArrayList<>();
 
+		@Nullable
+		@Option(names = {
+				"--shard" }, paramLabel = "INDEX/TOTAL", arity = "1", description = "Partition the discovered test classes into TOTAL shards " //
+						+ "and only include those belonging to the shard with the one-based INDEX (e.g. 2/16). " //
+						+ "The partitioning is deterministic and based on the fully qualified names of top-level classes.")
+		private String shard;
+
 		private void applyTo(TestDiscoveryOptions result) {
 			result.setIncludedClassNamePatterns(this.includeClassNamePatterns);
 			result.setExcludedClassNamePatterns(this.excludeClassNamePatterns);
@@ -200,6 +207,7 @@ class TestDiscoveryOptionsMixin {
 			result.setExcludedTagExpressions(this.excludedTags);
 			result.setIncludedEngines(this.includedEngines);
 			result.setExcludedEngines(this.excludedEngines);
+			result.setShard(this.shard);
 		}
 	}
 
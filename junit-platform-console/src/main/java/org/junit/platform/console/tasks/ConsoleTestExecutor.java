@@ -20,9 +20,11 @@ import java.io.PrintWriter;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
@@ -49,9 +51,13 @@ import org.junit.platform.reporting.legacy.xml.LegacyXmlReportGeneratingListener
 @API(status = INTERNAL, since = "1.0")
 public class ConsoleTestExecutor {
 
+	private static final EnumSet<Details> DETAILS_WITHOUT_PRINTED_FAILURES = EnumSet.of(Details.NONE,
+		Details.SUMMARY, Details.TREE, Details.PROGRESS);
+
 	private final TestDiscoveryOptions discoveryOptions;
 	private final TestConsoleOutputOptions outputOptions;
 	private final Supplier<Launcher> launcherSupplier;
+	private final Function<List<Path>, Optional<ClassLoader>> classLoaderFactory;
 	private final CustomClassLoaderCloseStrategy classLoaderCloseStrategy;
 
 	public ConsoleTestExecutor(TestDiscoveryOptions discoveryOptions, TestConsoleOutputOptions outputOptions) {
@@ -70,11 +76,26 @@ public class ConsoleTestExecutor {
 			launcherSupplier);
 	}
 
+	// for DaemonSession: class loaders are reused across test runs and closed by the session
+	ConsoleTestExecutor(TestDiscoveryOptions discoveryOptions, TestConsoleOutputOptions outputOptions,
+			Supplier<Launcher> launcherSupplier, Function<List<Path>, Optional<ClassLoader>> classLoaderFactory) {
+		this(discoveryOptions, outputOptions, CustomClassLoaderCloseStrategy.KEEP_OPEN, launcherSupplier,
+			classLoaderFactory);
+	}
+
 	private ConsoleTestExecutor(TestDiscoveryOptions discoveryOptions, TestConsoleOutputOptions outputOptions,
 			CustomClassLoaderCloseStrategy classLoaderCloseStrategy, Supplier<Launcher> launcherSupplier) {
+		this(discoveryOptions, outputOptions, classLoaderCloseStrategy, launcherSupplier,
+			ConsoleTestExecutor::createCustomClassLoaderIfNecessary);
+	}
+
+	private ConsoleTestExecutor(TestDiscoveryOptions discoveryOptions, TestConsoleOutputOptions outputOptions,
+			CustomClassLoaderCloseStrategy classLoaderCloseStrategy, Supplier<Launcher> launcherSupplier,
+			Function<List<Path>, Optional<ClassLoader>> classLoaderFactory) {
 		this.discoveryOptions = discoveryOptions;
 		this.outputOptions = outputOptions;
 		this.launcherSupplier = launcherSupplier;
+		this.classLoaderFactory = classLoaderFactory;
 		this.classLoaderCloseStrategy = classLoaderCloseStrategy;
 	}
 
@@ -86,12 +107,22 @@ public class ConsoleTestExecutor {
 	}
 
 	public TestExecutionSummary execute(PrintWriter out, Optional<Path> reportsDir, boolean failFast) {
+		return execute(out, reportsDir, failFast, false);
+	}
+
+	/**
+	 * @since 6.0
+	 */
+	public TestExecutionSummary execute(PrintWriter out, Optional<Path> reportsDir, boolean failFast,
+			boolean failFastOnRepeatedFailure) {
 		return createCustomContextClassLoaderExecutor() //
-				.invoke(() -> executeTests(out, reportsDir, failFast));
+				.invoke(() -> executeTests(out, reportsDir, failFast, failFastOnRepeatedFailure));
 	}
 
 	private CustomContextClassLoaderExecutor createCustomContextClassLoaderExecutor() {
-		return new CustomContextClassLoaderExecutor(createCustomClassLoader(), classLoaderCloseStrategy);
+		List<Path> additionalClasspathEntries = discoveryOptions.getExistingAdditionalClasspathEntries();
+		return new CustomContextClassLoaderExecutor(classLoaderFactory.apply(additionalClasspathEntries),
+			classLoaderCloseStrategy);
 	}
 
 	private void discoverTests(PrintWriter out) {
@@ -117,17 +148,21 @@ public class ConsoleTestExecutor {
 		out.flush();
 	}
 
-	private TestExecutionSummary executeTests(PrintWriter out, Optional<Path> reportsDir, boolean failFast) {
+	private TestExecutionSummary executeTests(PrintWriter out, Optional<Path> reportsDir, boolean failFast,
+			boolean failFastOnRepeatedFailure) {
 		Launcher launcher = launcherSupplier.get();
-		CancellationToken cancellationToken = failFast ? CancellationToken.create() : null;
-		SummaryGeneratingListener summaryListener = registerListeners(out, reportsDir, launcher, cancellationToken);
+		CancellationToken cancellationToken = failFast || failFastOnRepeatedFailure ? CancellationToken.create()
+				: null;
+		List<TestExecutionListener> listeners = new ArrayList<>();
+		SummaryGeneratingListener summaryListener = createListeners(out, reportsDir, listeners, cancellationToken,
+			!failFast && failFastOnRepeatedFailure);
 
 		PrintStream originalOut = System.out;
 		PrintStream originalErr = System.err;
 		try (StandardStreamsHandler standardStreamsHandler = new StandardStreamsHandler()) {
 			standardStreamsHandler.redirectStandardStreams(outputOptions.getStdoutPath(),
 				outputOptions.getStderrPath());
-			launchTests(launcher, reportsDir, cancellationToken);
+			launchTests(launcher, reportsDir, listeners, cancellationToken);
 		}
 		finally {
 			System.setOut(originalOut);
@@ -140,37 +175,41 @@ public class ConsoleTestExecutor {
 		}
 
 		if (cancellationToken != null && cancellationToken.isCancellationRequested()) {
-			out.println("Test execution was cancelled due to --fail-fast mode.");
+			out.printf("Test execution was cancelled due to %s mode.%n",
+				failFast ? "--fail-fast" : "--fail-fast-on-repeated-failure");
 			out.println();
 		}
 
 		return summary;
 	}
 
-	private void launchTests(Launcher launcher, Optional<Path> reportsDir,
+	private void launchTests(Launcher launcher, Optional<Path> reportsDir, List<TestExecutionListener> listeners,
 			@Nullable CancellationToken cancellationToken) {
 
 		var discoveryRequestBuilder = toDiscoveryRequestBuilder(discoveryOptions);
 		reportsDir.ifPresent(dir -> discoveryRequestBuilder.configurationParameter(OUTPUT_DIR_PROPERTY_NAME,
 			dir.toAbsolutePath().toString()));
 		var executionRequest = discoveryRequestBuilder.forExecution() //
+				.listeners(listeners.toArray(new TestExecutionListener[0])) //
 				.cancellationToken(requireNonNullElseGet(cancellationToken, CancellationToken::disabled)) //
 				.build();
 		launcher.execute(executionRequest);
 	}
 
-	private Optional<ClassLoader> createCustomClassLoader() {
-		List<Path> additionalClasspathEntries = discoveryOptions.getExistingAdditionalClasspathEntries();
+	private static Optional<ClassLoader> createCustomClassLoaderIfNecessary(List<Path> additionalClasspathEntries) {
 		if (!additionalClasspathEntries.isEmpty()) {
-			URL[] urls = additionalClasspathEntries.stream().map(this::toURL).toArray(URL[]::new);
-			ClassLoader parentClassLoader = ClassLoaderUtils.getDefaultClassLoader();
-			ClassLoader customClassLoader = URLClassLoader.newInstance(urls, parentClassLoader);
-			return Optional.of(customClassLoader);
+			return Optional.of(createCustomClassLoader(additionalClasspathEntries));
 		}
 		return Optional.empty();
 	}
 
-	private URL toURL(Path path) {
+	static ClassLoader createCustomClassLoader(List<Path> additionalClasspathEntries) {
+		URL[] urls = additionalClasspathEntries.stream().map(ConsoleTestExecutor::toURL).toArray(URL[]::new);
+		ClassLoader parentClassLoader = ClassLoaderUtils.getDefaultClassLoader();
+		return URLClassLoader.newInstance(urls, parentClassLoader);
+	}
+
+	private static URL toURL(Path path) {
 		try {
 			return path.toUri().toURL();
 		}
@@ -179,17 +218,20 @@ public class ConsoleTestExecutor {
 		}
 	}
 
-	private SummaryGeneratingListener registerListeners(PrintWriter out, Optional<Path> reportsDir, Launcher launcher,
-			@Nullable CancellationToken cancellationToken) {
+	private SummaryGeneratingListener createListeners(PrintWriter out, Optional<Path> reportsDir,
+			List<TestExecutionListener> listeners, @Nullable CancellationToken cancellationToken,
+			boolean repeatedFailuresOnly) {
 
+		// Listeners are passed with the execution request instead of being registered
+		// with the launcher since the latter may be reused for subsequent executions.
 		// always register summary generating listener
 		SummaryGeneratingListener summaryListener = new SummaryGeneratingListener();
-		launcher.registerTestExecutionListeners(summaryListener);
+		listeners.add(summaryListener);
 		// optionally, register test plan execution details printing listener
-		createDetailsPrintingListener(out).ifPresent(launcher::registerTestExecutionListeners);
+		createDetailsPrintingListener(out).ifPresent(listeners::add);
 		// optionally, register XML reports writing listener
-		createXmlWritingListener(out, reportsDir).ifPresent(launcher::registerTestExecutionListeners);
-		createFailFastListener(cancellationToken).ifPresent(launcher::registerTestExecutionListeners);
+		createXmlWritingListener(out, reportsDir).ifPresent(listeners::add);
+		createFailFastListener(cancellationToken, repeatedFailuresOnly).ifPresent(listeners::add);
 		return summaryListener;
 	}
 
@@ -204,6 +246,7 @@ public class ConsoleTestExecutor {
 			case TREE -> Optional.of(new TreePrintingListener(out, colorPalette, theme));
 			case VERBOSE -> Optional.of(new VerboseTreePrintingListener(out, colorPalette, 16, theme));
 			case TESTFEED -> Optional.of(new TestFeedPrintingListener(out, colorPalette));
+			case PROGRESS -> Optional.of(new ProgressPrintingListener(out, colorPalette, theme));
 			case NONE -> Optional.empty();
 		};
 	}
@@ -225,13 +268,14 @@ public class ConsoleTestExecutor {
 		return reportsDir.map(it -> new LegacyXmlReportGeneratingListener(it, out));
 	}
 
-	private Optional<TestExecutionListener> createFailFastListener(@Nullable CancellationToken cancellationToken) {
-		return Optional.ofNullable(cancellationToken).map(FailFastListener::new);
+	private Optional<TestExecutionListener> createFailFastListener(@Nullable CancellationToken cancellationToken,
+			boolean repeatedFailuresOnly) {
+		return Optional.ofNullable(cancellationToken).map(token -> new FailFastListener(token, repeatedFailuresOnly));
 	}
 
 	private void printSummary(TestExecutionSummary summary, PrintWriter out) {
 		// Otherwise the failures have already been printed in detail
-		if (EnumSet.of(Details.NONE, Details.SUMMARY, Details.TREE).contains(outputOptions.getDetails())) {
+		if (DETAILS_WITHOUT_PRINTED_FAILURES.contains(outputOptions.getDetails())) {
 			summary.printFailuresTo(out);
 		}
 		summary.printTo(out);
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+/**
+ * Long-lived {@link LauncherSession} used by the daemon mode of the console
+ * launcher to execute multiple test runs with the same, already initialized
+ * {@link Launcher}.
+ *
+ * <p>Classes from additional classpath entries are loaded by a child class
+ * loader that is reused for subsequent test runs as long as the classpath
+ * entries and their contents remain unchanged. Otherwise, the previous class
+ * loader is closed and a fresh one is created so that recompiled classes are
+ * picked up.
+ *
+ * <p>Test runs must not be executed concurrently.
+ *
+ * @since 6.0
+ */
+@API(status = INTERNAL, since = "6.0")
+public class DaemonSession implements AutoCloseable {
+
+	/**
+	 * Open a new {@code DaemonSession} backed by a new {@link LauncherSession}.
+	 */
+	public static DaemonSession open() {
+		return new DaemonSession(LauncherFactory.openSession());
+	}
+
+	private final LauncherSession launcherSession;
+
+	private @Nullable CachedClassLoader cachedClassLoader;
+
+	DaemonSession(LauncherSession launcherSession) {
+		this.launcherSession = launcherSession;
+	}
+
+	/**
+	 * {@return a factory for {@link ConsoleTestExecutor} instances that use
+	 * the launcher and class loaders of this session}
+	 */
+	public ConsoleTestExecutor.Factory getConsoleTestExecutorFactory() {
+		return (discoveryOptions, outputOptions) -> new ConsoleTestExecutor(discoveryOptions, outputOptions,
+			this.launcherSession::getLauncher, this::getClassLoader);
+	}
+
+	synchronized Optional<ClassLoader> getClassLoader(List<Path> classpathEntries) {
+		if (classpathEntries.isEmpty()) {
+			return Optional.empty();
+		}
+		List<FileTime> lastModifiedTimes = getLastModifiedTimes(classpathEntries);
+		CachedClassLoader cachedClassLoader = this.cachedClassLoader;
+		if (cachedClassLoader == null || !cachedClassLoader.classpathEntries().equals(classpathEntries)
+				|| !cachedClassLoader.lastModifiedTimes().equals(lastModifiedTimes)) {
+			closeCachedClassLoader();
+			cachedClassLoader = new CachedClassLoader(classpathEntries, lastModifiedTimes,
+				ConsoleTestExecutor.createCustomClassLoader(classpathEntries));
+			this.cachedClassLoader = cachedClassLoader;
+		}
+		return Optional.of(cachedClassLoader.classLoader());
+	}
+
+	private static List<FileTime> getLastModifiedTimes(List<Path> classpathEntries) {
+		List<FileTime> lastModifiedTimes = new ArrayList<>(classpathEntries.size());
+		for (Path entry : classpathEntries) {
+			try (Stream<Path> files = Files.walk(entry)) {
+				// directories are included to detect deleted files
+				lastModifiedTimes.add(files.map(DaemonSession::getLastModifiedTime) //
+						.max(FileTime::compareTo) //
+						.orElse(FileTime.fromMillis(0)));
+			}
+			catch (IOException ex) {
+				throw new JUnitException("Failed to inspect classpath entry: " + entry, ex);
+			}
+		}
+		return lastModifiedTimes;
+	}
+
+	private static FileTime getLastModifiedTime(Path path) {
+		try {
+			return Files.getLastModifiedTime(path);
+		}
+		catch (IOException ex) {
+			throw new JUnitException("Failed to read last modified time of " + path, ex);
+		}
+	}
+
+	private void closeCachedClassLoader() {
+		CachedClassLoader cachedClassLoader = this.cachedClassLoader;
+		if (cachedClassLoader != null) {
+			this.cachedClassLoader = null;
+			CustomClassLoaderCloseStrategy.CLOSE_AFTER_CALLING_LAUNCHER.handle(cachedClassLoader.classLoader());
+		}
+	}
+
+	/**
+	 * Close the cached class loader, if any, and the underlying
+	 * {@link LauncherSession}.
+	 */
+	@Override
+	public synchronized void close() {
+		try {
+			closeCachedClassLoader();
+		}
+		finally {
+			this.launcherSession.close();
+		}
+	}
+
+	private record CachedClassLoader(List<Path> classpathEntries, List<FileTime> lastModifiedTimes,
+			ClassLoader classLoader) {
+	}
+
+}
@@ -46,6 +46,7 @@ import org.junit.platform.engine.discovery.ClassSelector;
 import org.junit.platform.engine.discovery.ClasspathRootSelector;
 import org.junit.platform.engine.discovery.IterationSelector;
 import org.junit.platform.engine.discovery.MethodSelector;
+import org.junit.platform.launcher.ShardFilter;
 import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
 
 /**
@@ -157,6 +158,12 @@ class DiscoveryRequestCreator {
 		if (!options.getExcludedEngines().isEmpty()) {
 			requestBuilder.filters(excludeEngines(options.getExcludedEngines()));
 		}
+
+		String shard = options.getShard();
+		if (shard != null) {
+			ShardFilter shardFilter = ShardFilter.shard(shard);
+			requestBuilder.filters(shardFilter.toClassNameFilter(), shardFilter);
+		}
 	}
 
 	private static ClassNameFilter includedClassNamePatterns(TestDiscoveryOptions options,
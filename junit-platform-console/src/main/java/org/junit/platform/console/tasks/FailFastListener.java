@@ -12,26 +12,82 @@ package org.junit.platform.console.tasks;
 
 import static org.junit.platform.engine.TestExecutionResult.Status.FAILED;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.RunHistory;
+import org.junit.platform.commons.util.RunHistory.Outcome;
 import org.junit.platform.engine.CancellationToken;
 import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
 
 /**
  * @since 6.0
  */
 class FailFastListener implements TestExecutionListener {
 
+	private static final Logger logger = LoggerFactory.getLogger(FailFastListener.class);
+
 	private final CancellationToken cancellationToken;
+	private final boolean repeatedFailuresOnly;
+
+	private @Nullable RunHistory history;
 
 	FailFastListener(CancellationToken cancellationToken) {
+		this(cancellationToken, false);
+	}
+
+	/**
+	 * @param repeatedFailuresOnly whether to only cancel execution when a test
+	 * fails that already failed during its last execution recorded in the run
+	 * history
+	 */
+	FailFastListener(CancellationToken cancellationToken, boolean repeatedFailuresOnly) {
 		this.cancellationToken = cancellationToken;
+		this.repeatedFailuresOnly = repeatedFailuresOnly;
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		this.history = this.repeatedFailuresOnly ? loadHistory(testPlan).orElse(null) : null;
+	}
+
+	private static Optional<RunHistory> loadHistory(TestPlan testPlan) {
+		Optional<Path> historyFile = testPlan.getConfigurationParameters() //
+				.get(RunHistory.HISTORY_FILE_PROPERTY_NAME) //
+				.filter(path -> !path.isBlank()) //
+				.map(path -> Path.of(path.strip()));
+		if (historyFile.isEmpty()) {
+			logger.warn(() -> "Configuration parameter [%s] is not set; cancelling on first failure.".formatted(
+				RunHistory.HISTORY_FILE_PROPERTY_NAME));
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(RunHistory.load(historyFile.get()));
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> "Failed to read run history from [%s]; cancelling on first failure.".formatted(
+				historyFile.get()));
+			return Optional.empty();
+		}
 	}
 
 	@Override
 	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
-		if (testExecutionResult.getStatus() == FAILED) {
+		if (testExecutionResult.getStatus() == FAILED && isCancellationTrigger(testIdentifier)) {
 			cancellationToken.cancel();
 		}
 	}
+
+	private boolean isCancellationTrigger(TestIdentifier testIdentifier) {
+		RunHistory history = this.history;
+		return history == null
+				|| history.getOutcome(testIdentifier.getUniqueId()).filter(Outcome.FAILED::equals).isPresent();
+	}
 }
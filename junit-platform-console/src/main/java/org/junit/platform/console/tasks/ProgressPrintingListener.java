@@ -0,0 +1,233 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.console.options.Theme;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Prints a compact, periodically refreshed progress summary of the test
+ * execution.
+ *
+ * <p>Threads executing tests only update atomic counters and enqueue
+ * unsuccessful tests; all output is written by a dedicated renderer thread so
+ * that test execution never blocks on console I/O. Unsuccessful tests are
+ * printed on separate lines as they are detected. If ANSI colors are enabled,
+ * the progress line is redrawn in place; otherwise, it is printed on a new
+ * line whenever it changed since the last refresh.
+ *
+ * @since 6.0
+ */
+class ProgressPrintingListener implements DetailsPrintingListener {
+
+	static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofMillis(200);
+
+	private static final String CLEAR_LINE = "\r\u001B[2K";
+
+	private final PrintWriter out;
+	private final ColorPalette colorPalette;
+	private final Theme theme;
+	private final Duration refreshInterval;
+
+	private final LongAdder total = new LongAdder();
+	private final LongAdder successful = new LongAdder();
+	private final LongAdder aborted = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private final LongAdder skipped = new LongAdder();
+	private final Queue<UnsuccessfulTest> unsuccessfulTests = new ConcurrentLinkedQueue<>();
+
+	private @Nullable TestPlan testPlan;
+	private @Nullable ScheduledExecutorService renderer;
+
+	// only accessed by the renderer thread while it is running
+	// and by the calling thread before it is started or after it is stopped
+	private @Nullable String lastProgressLine;
+
+	ProgressPrintingListener(PrintWriter out, ColorPalette colorPalette, Theme theme) {
+		this(out, colorPalette, theme, DEFAULT_REFRESH_INTERVAL);
+	}
+
+	ProgressPrintingListener(PrintWriter out, ColorPalette colorPalette, Theme theme, Duration refreshInterval) {
+		this.out = out;
+		this.colorPalette = colorPalette;
+		this.theme = theme;
+		this.refreshInterval = refreshInterval;
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		this.testPlan = testPlan;
+		this.total.add(testPlan.countTestIdentifiers(TestIdentifier::isTest));
+		render();
+		ScheduledExecutorService renderer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "junit-console-progress-renderer");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long interval = this.refreshInterval.toMillis();
+		renderer.scheduleAtFixedRate(this::render, interval, interval, TimeUnit.MILLISECONDS);
+		this.renderer = renderer;
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		ScheduledExecutorService renderer = this.renderer;
+		if (renderer != null) {
+			renderer.shutdownNow();
+			try {
+				renderer.awaitTermination(1, TimeUnit.MINUTES);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			this.renderer = null;
+		}
+		render();
+		if (isAnsiEnabled()) {
+			// terminate the progress line
+			this.out.println();
+		}
+		this.out.flush();
+	}
+
+	@Override
+	public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+		if (testIdentifier.isTest()) {
+			this.total.increment();
+		}
+	}
+
+	@Override
+	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+		if (testIdentifier.isTest()) {
+			this.skipped.increment();
+		}
+		else {
+			long skippedTests = requireNonNull(this.testPlan).getDescendants(testIdentifier).stream() //
+					.filter(TestIdentifier::isTest) //
+					.count();
+			this.skipped.add(skippedTests);
+		}
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		TestExecutionResult.Status status = testExecutionResult.getStatus();
+		if (status != TestExecutionResult.Status.SUCCESSFUL) {
+			// must be enqueued before updating the counters, see render(), and
+			// formatted eagerly since dynamic tests may be removed from the test plan
+			this.unsuccessfulTests.add(new UnsuccessfulTest(formatTestIdentifier(testIdentifier), testExecutionResult));
+		}
+		if (testIdentifier.isTest()) {
+			switch (status) {
+				case SUCCESSFUL -> this.successful.increment();
+				case ABORTED -> this.aborted.increment();
+				case FAILED -> this.failed.increment();
+			}
+		}
+	}
+
+	private void render() {
+		// Read the counters first so that all unsuccessful tests they include
+		// have already been enqueued when draining the queue.
+		String progressLine = formatProgressLine();
+		UnsuccessfulTest unsuccessfulTest;
+		boolean ansiEnabled = isAnsiEnabled();
+		while ((unsuccessfulTest = this.unsuccessfulTests.poll()) != null) {
+			if (ansiEnabled) {
+				this.out.print(CLEAR_LINE);
+			}
+			this.out.println(formatUnsuccessfulTest(unsuccessfulTest));
+			if (ansiEnabled) {
+				this.lastProgressLine = null;
+			}
+		}
+		if (!progressLine.equals(this.lastProgressLine)) {
+			if (ansiEnabled) {
+				this.out.print(CLEAR_LINE + progressLine);
+			}
+			else {
+				this.out.println(progressLine);
+			}
+			this.lastProgressLine = progressLine;
+		}
+		this.out.flush();
+	}
+
+	private String formatProgressLine() {
+		long successful = this.successful.sum();
+		long aborted = this.aborted.sum();
+		long failed = this.failed.sum();
+		long skipped = this.skipped.sum();
+		long completed = successful + aborted + failed + skipped;
+		return "Progress: %d/%d tests | %s | %s | %s | %s".formatted(completed, this.total.sum(),
+			this.colorPalette.paint(Style.SUCCESSFUL, this.theme.successful() + " " + successful),
+			this.colorPalette.paint(Style.FAILED, this.theme.failed() + " " + failed),
+			this.colorPalette.paint(Style.ABORTED, this.theme.aborted() + " " + aborted),
+			this.colorPalette.paint(Style.SKIPPED, this.theme.skipped() + " " + skipped));
+	}
+
+	private String formatUnsuccessfulTest(UnsuccessfulTest unsuccessfulTest) {
+		String marker = this.theme.status(unsuccessfulTest.result());
+		String message = unsuccessfulTest.result().getThrowable() //
+				.map(Throwable::getMessage) //
+				.map(text -> " " + firstLine(text)) //
+				.orElse("");
+		return this.colorPalette.paint(Style.valueOf(unsuccessfulTest.result()),
+			marker + " " + unsuccessfulTest.name() + message);
+	}
+
+	private String formatTestIdentifier(TestIdentifier testIdentifier) {
+		TestPlan testPlan = requireNonNull(this.testPlan);
+		Deque<String> displayNames = new ArrayDeque<>();
+		@Nullable
+		TestIdentifier current = testIdentifier;
+		while (current != null) {
+			displayNames.addFirst(current.getDisplayName());
+			current = testPlan.getParent(current).orElse(null);
+		}
+		return String.join(" > ", displayNames);
+	}
+
+	private static String firstLine(String message) {
+		int index = message.indexOf('\n');
+		return index < 0 ? message : message.substring(0, index) + " ...";
+	}
+
+	private boolean isAnsiEnabled() {
+		return this.colorPalette != ColorPalette.NONE;
+	}
+
+	@Override
+	public void listTests(TestPlan testPlan) {
+		// the number of tests found is printed by ConsoleTestExecutor
+	}
+
+	private record UnsuccessfulTest(String name, TestExecutionResult result) {
+	}
+
+}
@@ -20,12 +20,16 @@ module org.junit.platform.engine {
 
 	requires static transitive org.apiguardian.api;
 	requires static transitive org.jspecify;
+	requires static jdk.jfr;
 
+	requires static java.management; // optionally used to register executor service statistics via JMX
 	requires transitive org.junit.platform.commons;
 	requires transitive org.opentest4j;
 
 	exports org.junit.platform.engine;
 	exports org.junit.platform.engine.discovery;
+	exports org.junit.platform.engine.jfr to
+			org.junit.jupiter.engine;
 	exports org.junit.platform.engine.reporting;
 	// exports org.junit.platform.engine.support; empty package
 	exports org.junit.platform.engine.support.config;
@@ -180,6 +180,21 @@ public class ExecutionRequest {
 			"No NamespacedHierarchicalStore was configured for this request");
 	}
 
+	/**
+	 * {@return whether a {@link NamespacedHierarchicalStore} has been
+	 * configured for this request}
+	 *
+	 * <p>Requests that were created without a store throw an exception when
+	 * {@link #getStore()} is called.
+	 *
+	 * @since 6.0
+	 * @see #getStore()
+	 */
+	@API(status = INTERNAL, since = "6.0")
+	public boolean hasStore() {
+		return this.requestLevelStore != null;
+	}
+
 	/**
 	 * {@return the {@link CancellationToken} for this request for engines to
 	 * check whether they should cancel execution}
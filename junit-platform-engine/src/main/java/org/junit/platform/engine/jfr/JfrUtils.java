@@ -0,0 +1,43 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.jfr;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.support.ReflectionSupport;
+
+/**
+ * Internal utility for Java Flight Recorder (JFR) support in test engines.
+ *
+ * <p>Classes that extend {@link jdk.jfr.Event} must only be loaded if
+ * {@link #isJfrAvailable()} returns {@code true}.
+ *
+ * @since 6.0
+ * @see <a href="https://openjdk.java.net/jeps/328">JEP 328: Flight Recorder</a>
+ */
+@API(status = INTERNAL, since = "6.0")
+public final class JfrUtils {
+
+	private static final boolean JFR_AVAILABLE = System.getProperty("org.graalvm.nativeimage.imagecode") == null //
+			&& ReflectionSupport.tryToLoadClass("jdk.jfr.FlightRecorder").toOptional().isPresent();
+
+	/**
+	 * {@return whether JFR is available in the current runtime}
+	 */
+	public static boolean isJfrAvailable() {
+		return JFR_AVAILABLE;
+	}
+
+	private JfrUtils() {
+	}
+
+}
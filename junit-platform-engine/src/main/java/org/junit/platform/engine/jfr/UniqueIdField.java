@@ -0,0 +1,39 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.jfr;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jdk.jfr.MetadataDefinition;
+import jdk.jfr.Name;
+import jdk.jfr.Relational;
+
+import org.apiguardian.api.API;
+
+/**
+ * Marks fields of JFR events that contain the unique ID of a test
+ * descriptor.
+ *
+ * @since 6.0
+ */
+@API(status = INTERNAL, since = "6.0")
+@MetadataDefinition
+@Relational
+@Name("org.junit.UniqueId")
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface UniqueIdField {
+}
@@ -0,0 +1,8 @@
+/**
+ * Java Flight Recorder (JFR) support package.
+ */
+
+@NullMarked
+package org.junit.platform.engine.jfr;
+
+import org.jspecify.annotations.NullMarked;
@@ -26,6 +26,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -35,6 +36,7 @@ import org.junit.platform.commons.util.UnrecoverableExceptions;
 import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.EngineDiscoveryListener;
 import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.SelectorResolutionResult;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.discovery.ClassSelector;
@@ -50,6 +52,7 @@ import org.junit.platform.engine.discovery.NestedMethodSelector;
 import org.junit.platform.engine.discovery.PackageSelector;
 import org.junit.platform.engine.discovery.UniqueIdSelector;
 import org.junit.platform.engine.discovery.UriSelector;
+import org.junit.platform.engine.jfr.JfrUtils;
 import org.junit.platform.engine.support.discovery.SelectorResolver.Context;
 import org.junit.platform.engine.support.discovery.SelectorResolver.Match;
 import org.junit.platform.engine.support.discovery.SelectorResolver.Resolution;
@@ -59,6 +62,9 @@ import org.junit.platform.engine.support.discovery.SelectorResolver.Resolution;
  */
 class EngineDiscoveryRequestResolution {
 
+	private static final Consumer<SelectorResolutionResult> NO_OP_RECORDING = result -> {
+	};
+
 	private final EngineDiscoveryRequest request;
 	private final Context defaultContext;
 	private final List<SelectorResolver> resolvers;
@@ -90,19 +96,31 @@ class EngineDiscoveryRequestResolution {
 	private void resolveCompletely(DiscoverySelector selector) {
 		EngineDiscoveryListener discoveryListener = request.getDiscoveryListener();
 		UniqueId engineId = engineDescriptor.getUniqueId();
+		Consumer<SelectorResolutionResult> recording = JfrUtils.isJfrAvailable() //
+				? SelectorResolutionEvent.begin(engineId, selector) //
+				: NO_OP_RECORDING;
+		SelectorResolutionResult resolutionResult = null;
 		try {
 			Optional<Resolution> result = resolve(selector);
 			if (result.isPresent()) {
-				discoveryListener.selectorProcessed(engineId, selector, resolved());
+				resolutionResult = resolved();
+				discoveryListener.selectorProcessed(engineId, selector, resolutionResult);
 				enqueueAdditionalSelectors(result.get());
 			}
 			else {
-				discoveryListener.selectorProcessed(engineId, selector, unresolved());
+				resolutionResult = unresolved();
+				discoveryListener.selectorProcessed(engineId, selector, resolutionResult);
 			}
 		}
 		catch (Throwable t) {
 			UnrecoverableExceptions.rethrowIfUnrecoverable(t);
-			discoveryListener.selectorProcessed(engineId, selector, failed(t));
+			resolutionResult = failed(t);
+			discoveryListener.selectorProcessed(engineId, selector, resolutionResult);
+		}
+		finally {
+			if (resolutionResult != null) {
+				recording.accept(resolutionResult);
+			}
 		}
 	}
 
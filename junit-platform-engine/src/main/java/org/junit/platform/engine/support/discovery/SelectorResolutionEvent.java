@@ -0,0 +1,80 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.discovery;
+
+import java.util.function.Consumer;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.DiscoverySelectorIdentifier;
+import org.junit.platform.engine.SelectorResolutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.jfr.JfrUtils;
+import org.junit.platform.engine.jfr.UniqueIdField;
+
+/**
+ * JFR event for the resolution of a {@link DiscoverySelector} by an
+ * {@link EngineDiscoveryRequestResolver}.
+ *
+ * <p>Must only be loaded if {@link JfrUtils#isJfrAvailable()} returns
+ * {@code true}.
+ *
+ * @since 6.0
+ */
+@Category({ "JUnit", "Discovery" })
+@Label("Selector Resolution")
+@Name("org.junit.SelectorResolution")
+@StackTrace(false)
+class SelectorResolutionEvent extends Event {
+
+	private static final EventType EVENT_TYPE = EventType.getEventType(SelectorResolutionEvent.class);
+
+	static Consumer<SelectorResolutionResult> begin(UniqueId engineId, DiscoverySelector selector) {
+		if (!EVENT_TYPE.isEnabled()) {
+			return ignored -> {
+			};
+		}
+		var event = new SelectorResolutionEvent();
+		event.begin();
+		return result -> {
+			event.end();
+			if (event.shouldCommit()) {
+				event.engineId = engineId.toString();
+				event.selector = selector.toIdentifier() //
+						.map(DiscoverySelectorIdentifier::toString) //
+						.orElseGet(selector::toString);
+				event.result = result.getStatus().name();
+				event.commit();
+			}
+		};
+	}
+
+	@UniqueIdField
+	@Label("Engine Id")
+	@Nullable
+	String engineId;
+
+	@Label("Selector")
+	@Nullable
+	String selector;
+
+	@Label("Result")
+	@Nullable
+	String result;
+
+}
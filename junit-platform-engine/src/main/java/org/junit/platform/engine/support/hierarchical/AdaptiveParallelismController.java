@@ -0,0 +1,201 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+
+/**
+ * Periodically adjusts the parallelism of a {@link ForkJoinPool} between a
+ * minimum and a maximum based on the CPU load, the number of blocked workers,
+ * and the throughput of executed tasks.
+ *
+ * <p>The parallelism is increased if there are queued tasks and the CPU is
+ * underutilized or workers are blocked, e.g. because tests wait for I/O. It
+ * is decreased if the CPU is overloaded or if the last increase resulted in
+ * a lower throughput. Workers are considered blocked if the pool regards them
+ * as active even though they are waiting, i.e. they are not blocked by a join
+ * for which the pool already compensates.
+ *
+ * <p>Adjusting the parallelism of a running {@code ForkJoinPool} requires
+ * Java 19 or later.
+ *
+ * @since 6.0
+ * @see AdaptiveParallelExecutionConfiguration
+ */
+class AdaptiveParallelismController implements ExecutorServiceMetrics {
+
+	static final Duration DEFAULT_INTERVAL = Duration.ofMillis(500);
+
+	private static final double HIGH_CPU_LOAD = 0.9;
+	private static final double LOW_CPU_LOAD = 0.7;
+	private static final double MIN_THROUGHPUT_RATIO_AFTER_INCREASE = 0.9;
+	private static final int HOLD_INTERVALS_AFTER_REVERT = 10;
+
+	private static final Logger logger = LoggerFactory.getLogger(AdaptiveParallelismController.class);
+
+	private static final @Nullable MethodHandle SET_PARALLELISM = findSetParallelism();
+
+	private static @Nullable MethodHandle findSetParallelism() {
+		try {
+			return MethodHandles.publicLookup().findVirtual(ForkJoinPool.class, "setParallelism",
+				MethodType.methodType(int.class, int.class));
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	static boolean isSupported() {
+		return SET_PARALLELISM != null;
+	}
+
+	private final int minParallelism;
+	private final int maxParallelism;
+	private final DoubleSupplier cpuLoad;
+	private final LongAdder executedTaskCount = new LongAdder();
+
+	// only accessed by the sampling thread
+	private long previousSampleTime;
+	private long previousExecutedTaskCount;
+	private double previousThroughput;
+	private boolean previouslyIncreased;
+	private int holdIntervals;
+
+	private @Nullable ScheduledExecutorService sampler;
+
+	AdaptiveParallelismController(int minParallelism, int maxParallelism) {
+		this(minParallelism, maxParallelism, JmxUtils.isJmxAvailable() ? JmxCpuLoad::get : () -> Double.NaN);
+	}
+
+	AdaptiveParallelismController(int minParallelism, int maxParallelism, DoubleSupplier cpuLoad) {
+		this.minParallelism = minParallelism;
+		this.maxParallelism = maxParallelism;
+		this.cpuLoad = cpuLoad;
+	}
+
+	@Override
+	public void taskExecuted(TestTask testTask, long waitTimeNanos, long runTimeNanos) {
+		this.executedTaskCount.increment();
+	}
+
+	void start(ForkJoinPool forkJoinPool, Duration interval) {
+		this.previousSampleTime = System.nanoTime();
+		ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "junit-adaptive-parallelism");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long millis = interval.toMillis();
+		sampler.scheduleAtFixedRate(() -> adjust(forkJoinPool), millis, millis, TimeUnit.MILLISECONDS);
+		this.sampler = sampler;
+	}
+
+	void stop() {
+		ScheduledExecutorService sampler = this.sampler;
+		if (sampler != null) {
+			sampler.shutdownNow();
+			this.sampler = null;
+		}
+	}
+
+	private void adjust(ForkJoinPool forkJoinPool) {
+		try {
+			Sample sample = takeSample(forkJoinPool);
+			int parallelism = nextParallelism(sample);
+			if (parallelism != sample.parallelism()) {
+				logger.config(() -> "Adjusting parallelism from %d to %d based on %s".formatted(sample.parallelism(),
+					parallelism, sample));
+				setParallelism(forkJoinPool, parallelism);
+			}
+		}
+		catch (Throwable t) {
+			logger.warn(t, () -> "Failed to adjust parallelism; keeping the current one");
+			stop();
+		}
+	}
+
+	private Sample takeSample(ForkJoinPool forkJoinPool) {
+		long sampleTime = System.nanoTime();
+		long executedTaskCount = this.executedTaskCount.sum();
+		double throughput = (executedTaskCount - this.previousExecutedTaskCount) * 1e9
+				/ Math.max(1, sampleTime - this.previousSampleTime);
+		this.previousSampleTime = sampleTime;
+		this.previousExecutedTaskCount = executedTaskCount;
+		int blockedWorkerCount = Math.max(0,
+			forkJoinPool.getActiveThreadCount() - forkJoinPool.getRunningThreadCount());
+		long queuedTaskCount = forkJoinPool.getQueuedTaskCount() + forkJoinPool.getQueuedSubmissionCount();
+		return new Sample(forkJoinPool.getParallelism(), this.cpuLoad.getAsDouble(), queuedTaskCount,
+			blockedWorkerCount, throughput);
+	}
+
+	/**
+	 * Compute the parallelism for the next interval based on the supplied
+	 * sample and the previous ones.
+	 */
+	int nextParallelism(Sample sample) {
+		int current = sample.parallelism();
+		int step = Math.max(1, current / 4);
+		int next = current;
+		if (this.holdIntervals > 0) {
+			this.holdIntervals--;
+		}
+		else if (this.previouslyIncreased
+				&& sample.throughput() < this.previousThroughput * MIN_THROUGHPUT_RATIO_AFTER_INCREASE) {
+			next = current - step;
+			this.holdIntervals = HOLD_INTERVALS_AFTER_REVERT;
+		}
+		else if (sample.cpuLoad() >= HIGH_CPU_LOAD) {
+			next = current - step;
+		}
+		else if (sample.queuedTaskCount() > 0
+				&& (sample.cpuLoad() < LOW_CPU_LOAD || sample.blockedWorkerCount() > 0)) {
+			next = current + step;
+		}
+		next = Math.max(this.minParallelism, Math.min(this.maxParallelism, next));
+		this.previouslyIncreased = next > current;
+		this.previousThroughput = sample.throughput();
+		return next;
+	}
+
+	private static void setParallelism(ForkJoinPool forkJoinPool, int parallelism) throws Throwable {
+		if (SET_PARALLELISM != null) {
+			@SuppressWarnings("unused")
+			int previous = (int) SET_PARALLELISM.invokeExact(forkJoinPool, parallelism);
+		}
+	}
+
+	/**
+	 * Measurements of a single interval.
+	 *
+	 * @param parallelism the current parallelism of the pool
+	 * @param cpuLoad the CPU load of the system or {@link Double#NaN}
+	 * @param queuedTaskCount the number of tasks waiting to be executed
+	 * @param blockedWorkerCount the number of active but blocked workers
+	 * @param throughput the number of executed tasks per second
+	 */
+	record Sample(int parallelism, double cpuLoad, long queuedTaskCount, int blockedWorkerCount, double throughput) {
+	}
+
+}
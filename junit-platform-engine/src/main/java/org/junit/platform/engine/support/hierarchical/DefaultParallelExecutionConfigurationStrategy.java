@@ -11,6 +11,7 @@
 package org.junit.platform.engine.support.hierarchical;
 
 import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
 
@@ -89,6 +90,49 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 		}
 	},
 
+	/**
+	 * Adjusts the parallelism at runtime between the
+	 * {@value #CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME} and
+	 * {@value #CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME} configuration
+	 * parameters based on the CPU load, the number of blocked worker threads,
+	 * and the throughput of executed tests.
+	 *
+	 * <p>The parallelism is increased while tests are waiting to be executed
+	 * and the CPU is underutilized or worker threads are blocked, e.g. by
+	 * I/O. It is decreased if the CPU is overloaded or an increase did not
+	 * improve the throughput.
+	 *
+	 * <p>Adjusting the parallelism at runtime requires Java 19 or later. On
+	 * older versions, the initial parallelism is used for the entire
+	 * execution.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	ADAPTIVE {
+		@Override
+		public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
+			int availableProcessors = Runtime.getRuntime().availableProcessors();
+
+			int minParallelism = configurationParameters.get(CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME,
+				Integer::valueOf).orElse(availableProcessors);
+			Preconditions.condition(minParallelism > 0,
+				() -> "Parallelism '%d' specified via configuration parameter '%s' must be greater than 0".formatted(
+					minParallelism, CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME));
+
+			int maxParallelism = configurationParameters.get(CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME,
+				Integer::valueOf).orElse(Math.max(minParallelism, 4 * availableProcessors));
+			Preconditions.condition(maxParallelism >= minParallelism,
+				() -> "Parallelism '%d' specified via configuration parameter '%s' must be greater than or equal to %d".formatted(
+					maxParallelism, CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME, minParallelism));
+
+			int parallelism = Math.max(minParallelism, Math.min(maxParallelism, availableProcessors));
+
+			return new AdaptiveParallelExecutionConfiguration(parallelism, minParallelism, maxParallelism,
+				maxParallelism + 256, KEEP_ALIVE_SECONDS, __ -> true);
+		}
+	},
+
 	/**
 	 * Allows the specification of a custom {@link ParallelExecutionConfigurationStrategy}
 	 * implementation via the mandatory {@value #CONFIG_CUSTOM_CLASS_PROPERTY_NAME}
@@ -118,8 +162,8 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	/**
 	 * Property name used to determine the desired configuration strategy.
 	 *
-	 * <p>Value must be one of {@code dynamic}, {@code fixed}, or
-	 * {@code custom}.
+	 * <p>Value must be one of {@code dynamic}, {@code fixed},
+	 * {@code adaptive}, or {@code custom}.
 	 */
 	public static final String CONFIG_STRATEGY_PROPERTY_NAME = "strategy";
 
@@ -207,6 +251,33 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	@API(status = MAINTAINED, since = "1.13.3")
 	public static final String CONFIG_DYNAMIC_SATURATE_PROPERTY_NAME = "dynamic.saturate";
 
+	/**
+	 * Property name used to determine the minimum parallelism for the
+	 * {@link #ADAPTIVE} configuration strategy.
+	 *
+	 * <p>Value must be an integer greater than 0; defaults to the number of
+	 * available processors/cores.
+	 *
+	 * @since 6.0
+	 * @see #ADAPTIVE
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME = "adaptive.min-parallelism";
+
+	/**
+	 * Property name used to determine the maximum parallelism for the
+	 * {@link #ADAPTIVE} configuration strategy.
+	 *
+	 * <p>Value must be an integer greater than or equal to
+	 * {@value #CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME}; defaults to
+	 * four times the number of available processors/cores.
+	 *
+	 * @since 6.0
+	 * @see #ADAPTIVE
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME = "adaptive.max-parallelism";
+
 	/**
 	 * Property name used to specify the fully qualified class name of the
 	 * {@link ParallelExecutionConfigurationStrategy} to be used by the
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.Optional;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.store.Namespace;
+import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
+
+/**
+ * {@code ExecutionProfiler} records how much time was spent in the individual
+ * {@linkplain Phase phases} of the execution of a
+ * {@link org.junit.platform.engine.TestDescriptor TestDescriptor}.
+ *
+ * <p>A profiler is only available if it has been
+ * {@linkplain #register registered} in the request-level store of an
+ * {@link ExecutionRequest}, e.g. by the {@code Launcher} if execution
+ * profiling is enabled. Engines should look it up once per execution request
+ * via {@link #get(NamespacedHierarchicalStore)} and skip measuring durations
+ * if none is available.
+ *
+ * <p>Implementations must be thread-safe since durations may be recorded
+ * concurrently.
+ *
+ * @since 6.0
+ * @see ExecutionRequest#getStore()
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public interface ExecutionProfiler {
+
+	/**
+	 * Get the {@code ExecutionProfiler} registered in the supplied
+	 * request-level store, if any.
+	 *
+	 * @param requestLevelStore the request-level store; never {@code null}
+	 * @return an {@code Optional} containing the registered profiler; never
+	 * {@code null} but potentially empty
+	 */
+	static Optional<ExecutionProfiler> get(NamespacedHierarchicalStore<Namespace> requestLevelStore) {
+		Preconditions.notNull(requestLevelStore, "requestLevelStore must not be null");
+		return Optional.ofNullable(requestLevelStore.get(namespace(), ExecutionProfiler.class, ExecutionProfiler.class));
+	}
+
+	/**
+	 * Register the supplied {@code ExecutionProfiler} in the supplied
+	 * request-level store.
+	 *
+	 * @param requestLevelStore the request-level store; never {@code null}
+	 * @param profiler the profiler to register; never {@code null}
+	 */
+	static void register(NamespacedHierarchicalStore<Namespace> requestLevelStore, ExecutionProfiler profiler) {
+		Preconditions.notNull(requestLevelStore, "requestLevelStore must not be null");
+		Preconditions.notNull(profiler, "profiler must not be null");
+		requestLevelStore.put(namespace(), ExecutionProfiler.class, profiler);
+	}
+
+	private static Namespace namespace() {
+		return Namespace.create(ExecutionProfiler.class.getName());
+	}
+
+	/**
+	 * Record the supplied duration for a phase of the execution of the test
+	 * or container with the supplied {@link UniqueId}.
+	 *
+	 * <p>Durations for the same test or container and phase are summed up.
+	 *
+	 * @param uniqueId the unique ID of the test or container; never
+	 * {@code null}
+	 * @param phase the phase; never {@code null}
+	 * @param durationNanos the duration in nanoseconds
+	 */
+	void record(UniqueId uniqueId, Phase phase, long durationNanos);
+
+	/**
+	 * Phases of the execution of a test or container.
+	 *
+	 * <p>The phases are named after the lifecycle of the JUnit Jupiter test
+	 * engine but may be used by other engines for analogous phases. The
+	 * durations of different phases do not overlap.
+	 */
+	enum Phase {
+
+		/**
+		 * Instantiation of a test class.
+		 */
+		INSTANTIATION,
+
+		/**
+		 * Execution of methods that are run once before all tests of a
+		 * container.
+		 */
+		BEFORE_ALL,
+
+		/**
+		 * Execution of methods that are run before each test.
+		 */
+		BEFORE_EACH,
+
+		/**
+		 * Execution of a test method.
+		 */
+		TEST,
+
+		/**
+		 * Execution of methods that are run after each test.
+		 */
+		AFTER_EACH,
+
+		/**
+		 * Execution of methods that are run once after all tests of a
+		 * container.
+		 */
+		AFTER_ALL,
+
+		/**
+		 * Invocation of lifecycle callbacks of extensions.
+		 */
+		EXTENSION_CALLBACK,
+
+		/**
+		 * Waiting to acquire the
+		 * {@linkplain Node#getExclusiveResources() exclusive resources} of a
+		 * test or container.
+		 */
+		LOCK_WAIT
+
+	}
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+
+/**
+ * {@code ExecutorServiceMetrics} receives measurements from a
+ * {@linkplain HierarchicalTestExecutorService executor service} that executes
+ * {@linkplain TestTask test tasks} in parallel.
+ *
+ * <p>All methods have empty default implementations so that implementations
+ * only need to override the ones they are interested in. Since they are
+ * called by the threads that execute tests, implementations must be
+ * thread-safe and should not perform any blocking operations.
+ *
+ * <p>{@link ExecutorServiceStatistics} is an implementation that aggregates
+ * all measurements into counters and histograms.
+ *
+ * @since 6.0
+ * @see ForkJoinPoolHierarchicalTestExecutorService#ForkJoinPoolHierarchicalTestExecutorService(ParallelExecutionConfiguration, ExecutorServiceMetrics)
+ * @see ForkJoinPoolHierarchicalTestExecutorService#CONFIG_METRICS_PROPERTY_NAME
+ * @see ExecutorServiceStatistics
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public interface ExecutorServiceMetrics {
+
+	/**
+	 * Called when the executor service has been started.
+	 *
+	 * @param poolState the current state of the executor service's thread
+	 * pool that may be queried at any time until the executor service
+	 * {@linkplain #executorServiceClosed() has been closed}; never
+	 * {@code null}
+	 */
+	default void executorServiceStarted(PoolState poolState) {
+	}
+
+	/**
+	 * Called when the executor service has been closed.
+	 */
+	default void executorServiceClosed() {
+	}
+
+	/**
+	 * Called when a new worker thread has been started, e.g. to reach the
+	 * desired parallelism or to compensate for blocked workers.
+	 */
+	default void workerStarted() {
+	}
+
+	/**
+	 * Called when the thread pool is saturated, i.e. when a blocked worker
+	 * cannot be compensated because the maximum pool size has been reached.
+	 *
+	 * @see ParallelExecutionConfiguration#getMaxPoolSize()
+	 * @see ParallelExecutionConfiguration#getSaturatePredicate()
+	 */
+	default void poolSaturated() {
+	}
+
+	/**
+	 * Called when the execution of the supplied task has been deferred because
+	 * its {@linkplain TestTask#getResourceLock() resource lock} is not
+	 * compatible with the locks held by the current worker thread.
+	 *
+	 * @param testTask the deferred task; never {@code null}
+	 */
+	default void taskDeferred(TestTask testTask) {
+	}
+
+	/**
+	 * Called when the supplied task has been executed.
+	 *
+	 * <p>The wait time includes the time the task spent in a queue, was
+	 * deferred, and waited for its resource lock. For containers, the run time
+	 * includes the time spent waiting for their children to be executed.
+	 *
+	 * @param testTask the executed task; never {@code null}
+	 * @param waitTimeNanos the time in nanoseconds between the submission of
+	 * the task and the start of its execution
+	 * @param runTimeNanos the time in nanoseconds it took to execute the task
+	 */
+	default void taskExecuted(TestTask testTask, long waitTimeNanos, long runTimeNanos) {
+	}
+
+	/**
+	 * Current state of the thread pool of an executor service.
+	 *
+	 * <p>All values are estimates that are computed when the respective method
+	 * is called and may change concurrently.
+	 */
+	interface PoolState {
+
+		/**
+		 * {@return the desired parallelism}
+		 *
+		 * @see ParallelExecutionConfiguration#getParallelism()
+		 */
+		int getParallelism();
+
+		/**
+		 * {@return the number of worker threads that have been started but
+		 * not yet terminated}
+		 */
+		int getPoolSize();
+
+		/**
+		 * {@return the number of worker threads that are currently executing
+		 * tasks}
+		 */
+		int getActiveWorkerCount();
+
+		/**
+		 * {@return the number of tasks that have been submitted or forked but
+		 * not yet started}
+		 */
+		long getQueuedTaskCount();
+
+		/**
+		 * {@return the number of tasks that have been executed by a worker
+		 * thread other than the one that forked them}
+		 */
+		long getStealCount();
+
+	}
+
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.ToStringBuilder;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+
+/**
+ * {@code ExecutorServiceStatistics} is an implementation of
+ * {@link ExecutorServiceMetrics} that aggregates all measurements into
+ * counters and {@linkplain Histogram histograms} and provides access to the
+ * current {@linkplain ExecutorServiceMetrics.PoolState state} of the thread
+ * pool.
+ *
+ * <p>Recording a measurement only increments a few striped counters so that
+ * statistics can be collected with low overhead even if many tasks are
+ * executed concurrently.
+ *
+ * @since 6.0
+ * @see ExecutorServiceMetrics
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public final class ExecutorServiceStatistics implements ExecutorServiceMetrics {
+
+	private final LongAdder deferredTaskCount = new LongAdder();
+	private final LongAdder startedWorkerCount = new LongAdder();
+	private final LongAdder saturationCount = new LongAdder();
+	private final Histogram waitTimes = new Histogram();
+	private final Histogram runTimes = new Histogram();
+
+	private volatile @Nullable PoolState poolState;
+
+	public ExecutorServiceStatistics() {
+	}
+
+	@Override
+	public void executorServiceStarted(PoolState poolState) {
+		this.poolState = poolState;
+	}
+
+	@Override
+	public void workerStarted() {
+		this.startedWorkerCount.increment();
+	}
+
+	@Override
+	public void poolSaturated() {
+		this.saturationCount.increment();
+	}
+
+	@Override
+	public void taskDeferred(TestTask testTask) {
+		this.deferredTaskCount.increment();
+	}
+
+	@Override
+	public void taskExecuted(TestTask testTask, long waitTimeNanos, long runTimeNanos) {
+		this.waitTimes.record(waitTimeNanos);
+		this.runTimes.record(runTimeNanos);
+	}
+
+	/**
+	 * {@return the desired parallelism of the thread pool or {@code 0} if the
+	 * executor service has not been started yet}
+	 */
+	public int getParallelism() {
+		return (int) getPoolStateValue(PoolState::getParallelism);
+	}
+
+	/**
+	 * {@return the current number of worker threads or {@code 0} if the
+	 * executor service has not been started yet}
+	 */
+	public int getPoolSize() {
+		return (int) getPoolStateValue(PoolState::getPoolSize);
+	}
+
+	/**
+	 * {@return the current number of worker threads that are executing tasks
+	 * or {@code 0} if the executor service has not been started yet}
+	 */
+	public int getActiveWorkerCount() {
+		return (int) getPoolStateValue(PoolState::getActiveWorkerCount);
+	}
+
+	/**
+	 * {@return the ratio of the {@linkplain #getActiveWorkerCount() active
+	 * workers} to the {@linkplain #getParallelism() desired parallelism}}
+	 *
+	 * <p>The value may exceed {@code 1} if additional workers have been
+	 * started to compensate for blocked ones.
+	 */
+	public double getWorkerUtilization() {
+		int parallelism = getParallelism();
+		return parallelism == 0 ? 0 : (double) getActiveWorkerCount() / parallelism;
+	}
+
+	/**
+	 * {@return the current number of tasks that have been submitted or forked
+	 * but not yet started}
+	 */
+	public long getQueuedTaskCount() {
+		return getPoolStateValue(PoolState::getQueuedTaskCount);
+	}
+
+	/**
+	 * {@return the number of tasks that have been stolen by other workers}
+	 */
+	public long getStealCount() {
+		return getPoolStateValue(PoolState::getStealCount);
+	}
+
+	private long getPoolStateValue(ToLongFunction<PoolState> getter) {
+		PoolState poolState = this.poolState;
+		return poolState == null ? 0 : getter.applyAsLong(poolState);
+	}
+
+	/**
+	 * {@return the number of tasks that have been executed}
+	 */
+	public long getExecutedTaskCount() {
+		return this.runTimes.getCount();
+	}
+
+	/**
+	 * {@return the number of times the execution of a task has been deferred}
+	 */
+	public long getDeferredTaskCount() {
+		return this.deferredTaskCount.sum();
+	}
+
+	/**
+	 * {@return the number of worker threads that have been started}
+	 */
+	public long getStartedWorkerCount() {
+		return this.startedWorkerCount.sum();
+	}
+
+	/**
+	 * {@return the number of times the thread pool was saturated}
+	 */
+	public long getSaturationCount() {
+		return this.saturationCount.sum();
+	}
+
+	/**
+	 * {@return the histogram of the times tasks waited to be executed}
+	 *
+	 * @see ExecutorServiceMetrics#taskExecuted(TestTask, long, long)
+	 */
+	public Histogram getWaitTimes() {
+		return this.waitTimes;
+	}
+
+	/**
+	 * {@return the histogram of the times it took to execute tasks}
+	 *
+	 * @see ExecutorServiceMetrics#taskExecuted(TestTask, long, long)
+	 */
+	public Histogram getRunTimes() {
+		return this.runTimes;
+	}
+
+	@Override
+	public String toString() {
+		return new ToStringBuilder(this) //
+				.append("parallelism", getParallelism()) //
+				.append("poolSize", getPoolSize()) //
+				.append("activeWorkerCount", getActiveWorkerCount()) //
+				.append("queuedTaskCount", getQueuedTaskCount()) //
+				.append("stealCount", getStealCount()) //
+				.append("executedTaskCount", getExecutedTaskCount()) //
+				.append("deferredTaskCount", getDeferredTaskCount()) //
+				.append("startedWorkerCount", getStartedWorkerCount()) //
+				.append("saturationCount", getSaturationCount()) //
+				.append("waitTimes", this.waitTimes) //
+				.append("runTimes", this.runTimes) //
+				.toString();
+	}
+
+	/**
+	 * Histogram of durations with buckets whose upper bounds are powers of two
+	 * nanoseconds.
+	 *
+	 * <p>Percentiles are therefore approximated by the upper bound of the
+	 * bucket they fall into, i.e. they are overestimated by a factor of at
+	 * most two.
+	 */
+	public static final class Histogram {
+
+		private static final int BUCKET_COUNT = Long.SIZE;
+
+		private final LongAdder[] buckets = Stream.generate(LongAdder::new).limit(BUCKET_COUNT).toArray(
+			LongAdder[]::new);
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+		private Histogram() {
+		}
+
+		void record(long nanos) {
+			long value = Math.max(0, nanos);
+			this.buckets[bucketIndex(value)].increment();
+			this.totalNanos.add(value);
+			this.maxNanos.accumulate(value);
+		}
+
+		private static int bucketIndex(long nanos) {
+			return Math.min(BUCKET_COUNT - Long.numberOfLeadingZeros(nanos), BUCKET_COUNT - 1);
+		}
+
+		/**
+		 * {@return the number of recorded durations}
+		 */
+		public long getCount() {
+			return Stream.of(this.buckets).mapToLong(LongAdder::sum).sum();
+		}
+
+		/**
+		 * {@return the sum of all recorded durations}
+		 */
+		public Duration getTotal() {
+			return Duration.ofNanos(this.totalNanos.sum());
+		}
+
+		/**
+		 * {@return the mean of all recorded durations or {@link Duration#ZERO}
+		 * if none were recorded}
+		 */
+		public Duration getMean() {
+			long count = getCount();
+			return count == 0 ? Duration.ZERO : Duration.ofNanos(this.totalNanos.sum() / count);
+		}
+
+		/**
+		 * {@return the longest recorded duration or {@link Duration#ZERO} if
+		 * none were recorded}
+		 */
+		public Duration getMax() {
+			return Duration.ofNanos(this.maxNanos.get());
+		}
+
+		/**
+		 * {@return an approximation of the supplied percentile of the recorded
+		 * durations or {@link Duration#ZERO} if none were recorded}
+		 *
+		 * @param percentile the percentile; must be between {@code 0}
+		 * (exclusive) and {@code 100} (inclusive)
+		 */
+		public Duration getPercentile(double percentile) {
+			Preconditions.condition(percentile > 0 && percentile <= 100,
+				"percentile must be greater than 0 and less than or equal to 100");
+			long[] counts = Stream.of(this.buckets).mapToLong(LongAdder::sum).toArray();
+			long total = 0;
+			for (long count : counts) {
+				total += count;
+			}
+			long rank = (long) Math.ceil(total * percentile / 100);
+			long cumulativeCount = 0;
+			for (int i = 0; i < counts.length && rank > 0; i++) {
+				cumulativeCount += counts[i];
+				if (cumulativeCount >= rank) {
+					long upperBound = i == 0 ? 0 : (1L << i) - 1;
+					return Duration.ofNanos(Math.min(upperBound, this.maxNanos.get()));
+				}
+			}
+			return Duration.ZERO;
+		}
+
+		@Override
+		public String toString() {
+			return new ToStringBuilder(this) //
+					.append("count", getCount()) //
+					.append("mean", getMean()) //
+					.append("p95", getPercentile(95)) //
+					.append("max", getMax()) //
+					.toString();
+		}
+
+	}
+
+}
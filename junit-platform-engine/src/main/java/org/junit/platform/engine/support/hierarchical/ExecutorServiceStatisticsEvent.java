@@ -0,0 +1,114 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import org.junit.platform.engine.jfr.JfrUtils;
+import org.junit.platform.engine.support.hierarchical.ExecutorServiceStatistics.Histogram;
+
+/**
+ * Periodic JFR event for the {@link ExecutorServiceStatistics} of a running
+ * executor service.
+ *
+ * <p>Must only be loaded if {@link JfrUtils#isJfrAvailable()} returns
+ * {@code true}.
+ *
+ * @since 6.0
+ */
+@Category({ "JUnit", "Execution" })
+@Label("Executor Service Statistics")
+@Name("org.junit.ExecutorServiceStatistics")
+@Period("1 s")
+@StackTrace(false)
+class ExecutorServiceStatisticsEvent extends Event {
+
+	/**
+	 * Emit an event for the supplied statistics periodically until the
+	 * returned {@link Runnable} is run.
+	 */
+	static Runnable register(ExecutorServiceStatistics statistics) {
+		Runnable hook = () -> {
+			var event = new ExecutorServiceStatisticsEvent();
+			if (event.shouldCommit()) {
+				event.parallelism = statistics.getParallelism();
+				event.poolSize = statistics.getPoolSize();
+				event.activeWorkerCount = statistics.getActiveWorkerCount();
+				event.queuedTaskCount = statistics.getQueuedTaskCount();
+				event.stealCount = statistics.getStealCount();
+				event.executedTaskCount = statistics.getExecutedTaskCount();
+				event.deferredTaskCount = statistics.getDeferredTaskCount();
+				event.startedWorkerCount = statistics.getStartedWorkerCount();
+				event.saturationCount = statistics.getSaturationCount();
+				Histogram waitTimes = statistics.getWaitTimes();
+				event.meanWaitTime = waitTimes.getMean().toNanos();
+				event.maxWaitTime = waitTimes.getMax().toNanos();
+				Histogram runTimes = statistics.getRunTimes();
+				event.meanRunTime = runTimes.getMean().toNanos();
+				event.maxRunTime = runTimes.getMax().toNanos();
+				event.commit();
+			}
+		};
+		FlightRecorder.addPeriodicEvent(ExecutorServiceStatisticsEvent.class, hook);
+		return () -> FlightRecorder.removePeriodicEvent(hook);
+	}
+
+	@Label("Parallelism")
+	int parallelism;
+
+	@Label("Pool Size")
+	int poolSize;
+
+	@Label("Active Workers")
+	int activeWorkerCount;
+
+	@Label("Queued Tasks")
+	long queuedTaskCount;
+
+	@Label("Steals")
+	long stealCount;
+
+	@Label("Executed Tasks")
+	long executedTaskCount;
+
+	@Label("Deferred Tasks")
+	long deferredTaskCount;
+
+	@Label("Started Workers")
+	long startedWorkerCount;
+
+	@Label("Saturations")
+	long saturationCount;
+
+	@Label("Mean Wait Time")
+	@Timespan
+	long meanWaitTime;
+
+	@Label("Max Wait Time")
+	@Timespan
+	long maxWaitTime;
+
+	@Label("Mean Run Time")
+	@Timespan
+	long meanRunTime;
+
+	@Label("Max Run Time")
+	@Timespan
+	long maxRunTime;
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import org.apiguardian.api.API;
+
+/**
+ * Management interface for {@link ExecutorServiceStatistics} that is
+ * registered with the platform MBean server if JMX has been configured as a
+ * sink for {@linkplain ExecutorServiceMetrics executor service metrics}.
+ *
+ * <p>Durations are reported in milliseconds.
+ *
+ * @since 6.0
+ * @see ForkJoinPoolHierarchicalTestExecutorService#CONFIG_METRICS_PROPERTY_NAME
+ */
+@API(status = INTERNAL, since = "6.0")
+public interface ExecutorServiceStatisticsMXBean {
+
+	int getParallelism();
+
+	int getPoolSize();
+
+	int getActiveWorkerCount();
+
+	double getWorkerUtilization();
+
+	long getQueuedTaskCount();
+
+	long getStealCount();
+
+	long getExecutedTaskCount();
+
+	long getDeferredTaskCount();
+
+	long getStartedWorkerCount();
+
+	long getSaturationCount();
+
+	double getMeanWaitTime();
+
+	double getP95WaitTime();
+
+	double getMaxWaitTime();
+
+	double getMeanRunTime();
+
+	double getP95RunTime();
+
+	double getMaxRunTime();
+
+}
@@ -11,6 +11,8 @@
 package org.junit.platform.engine.support.hierarchical;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toCollection;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ_WRITE;
 import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
@@ -19,38 +21,73 @@ import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.
 import java.io.Serial;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.support.ReflectionSupport;
 import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.jfr.JfrUtils;
 
 /**
  * A {@link ForkJoinPool}-based
  * {@linkplain HierarchicalTestExecutorService executor service} that executes
  * {@linkplain TestTask test tasks} with the configured parallelism.
  *
+ * <p>Measurements such as the wait and run times of tasks may be collected
+ * by supplying {@link ExecutorServiceMetrics} or configuring sinks for them
+ * via the {@value #CONFIG_METRICS_PROPERTY_NAME} configuration parameter.
+ *
  * @since 1.3
  * @see ForkJoinPool
  * @see DefaultParallelExecutionConfigurationStrategy
+ * @see ExecutorServiceMetrics
  */
 @API(status = STABLE, since = "1.10")
 public class ForkJoinPoolHierarchicalTestExecutorService implements HierarchicalTestExecutorService {
 
+	/**
+	 * Property name used to configure sinks for the
+	 * {@linkplain ExecutorServiceMetrics metrics} of the executor service.
+	 *
+	 * <p>Value must be a comma-separated list of {@code jmx}, {@code jfr},
+	 * or fully qualified class names of {@link ExecutorServiceMetrics}
+	 * implementations with a default constructor; defaults to no sinks.
+	 *
+	 * <p>{@code jmx} registers an {@link ExecutorServiceStatisticsMXBean}
+	 * with the platform MBean server while the executor service is running,
+	 * {@code jfr} periodically emits an {@code org.junit.ExecutorServiceStatistics}
+	 * Flight Recorder event.
+	 *
+	 * @since 6.0
+	 * @see ExecutorServiceStatistics
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String CONFIG_METRICS_PROPERTY_NAME = "metrics";
+
+	private static final Logger logger = LoggerFactory.getLogger(ForkJoinPoolHierarchicalTestExecutorService.class);
+
 	// package-private for testing
 	final ForkJoinPool forkJoinPool;
 
 	private final TaskEventListener taskEventListener;
-	private final int parallelism;
+	private final @Nullable ExecutorServiceMetrics metrics;
+	private final @Nullable AdaptiveParallelismController adaptiveParallelismController;
 	private final ThreadLocal<ThreadLock> threadLocks = ThreadLocal.withInitial(ThreadLock::new);
 
 	/**
@@ -58,9 +95,11 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 	 * the supplied {@link ConfigurationParameters}.
 	 *
 	 * @see DefaultParallelExecutionConfigurationStrategy
+	 * @see #CONFIG_METRICS_PROPERTY_NAME
 	 */
 	public ForkJoinPoolHierarchicalTestExecutorService(ConfigurationParameters configurationParameters) {
-		this(createConfiguration(configurationParameters));
+		this(createConfiguration(configurationParameters), TaskEventListener.NOOP,
+			createMetrics(configurationParameters));
 	}
 
 	/**
@@ -74,12 +113,63 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		this(configuration, TaskEventListener.NOOP);
 	}
 
+	/**
+	 * Create a new {@code ForkJoinPoolHierarchicalTestExecutorService} based on
+	 * the supplied {@link ParallelExecutionConfiguration} that reports its
+	 * measurements to the supplied {@link ExecutorServiceMetrics}.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public ForkJoinPoolHierarchicalTestExecutorService(ParallelExecutionConfiguration configuration,
+			ExecutorServiceMetrics metrics) {
+		this(configuration, TaskEventListener.NOOP, Preconditions.notNull(metrics, "metrics must not be null"));
+	}
+
 	ForkJoinPoolHierarchicalTestExecutorService(ParallelExecutionConfiguration configuration,
 			TaskEventListener taskEventListener) {
-		forkJoinPool = createForkJoinPool(configuration);
+		this(configuration, taskEventListener, null);
+	}
+
+	private ForkJoinPoolHierarchicalTestExecutorService(ParallelExecutionConfiguration configuration,
+			TaskEventListener taskEventListener, @Nullable ExecutorServiceMetrics metrics) {
+		this.adaptiveParallelismController = createAdaptiveParallelismController(configuration);
+		this.metrics = combine(metrics, adaptiveParallelismController);
+		forkJoinPool = createForkJoinPool(configuration, this.metrics);
 		this.taskEventListener = taskEventListener;
-		parallelism = forkJoinPool.getParallelism();
-		LoggerFactory.getLogger(getClass()).config(() -> "Using ForkJoinPool with parallelism of " + parallelism);
+		LoggerFactory.getLogger(getClass()).config(
+			() -> "Using ForkJoinPool with parallelism of " + forkJoinPool.getParallelism());
+		if (this.metrics != null) {
+			this.metrics.executorServiceStarted(new ForkJoinPoolState(forkJoinPool));
+		}
+		if (adaptiveParallelismController != null) {
+			adaptiveParallelismController.start(forkJoinPool, AdaptiveParallelismController.DEFAULT_INTERVAL);
+		}
+	}
+
+	private static @Nullable AdaptiveParallelismController createAdaptiveParallelismController(
+			ParallelExecutionConfiguration configuration) {
+		if (configuration instanceof AdaptiveParallelExecutionConfiguration adaptiveConfiguration) {
+			if (AdaptiveParallelismController.isSupported()) {
+				return new AdaptiveParallelismController(adaptiveConfiguration.getMinParallelism(),
+					adaptiveConfiguration.getMaxParallelism());
+			}
+			LoggerFactory.getLogger(ForkJoinPoolHierarchicalTestExecutorService.class).warn(
+				() -> "Adjusting the parallelism at runtime requires Java 19 or later; using a fixed parallelism of "
+						+ configuration.getParallelism());
+		}
+		return null;
+	}
+
+	private static @Nullable ExecutorServiceMetrics combine(@Nullable ExecutorServiceMetrics first,
+			@Nullable ExecutorServiceMetrics second) {
+		if (first == null) {
+			return second;
+		}
+		if (second == null) {
+			return first;
+		}
+		return new CompositeExecutorServiceMetrics(List.of(first, second));
 	}
 
 	private static ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
@@ -88,11 +178,75 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		return strategy.createConfiguration(configurationParameters);
 	}
 
-	private ForkJoinPool createForkJoinPool(ParallelExecutionConfiguration configuration) {
+	private static @Nullable ExecutorServiceMetrics createMetrics(ConfigurationParameters configurationParameters) {
+		List<String> sinks = configurationParameters.get(CONFIG_METRICS_PROPERTY_NAME) //
+				.map(value -> Arrays.stream(value.split(",")) //
+						.map(String::trim) //
+						.filter(sink -> !sink.isEmpty()) //
+						.toList()) //
+				.orElse(List.of());
+		if (sinks.isEmpty()) {
+			return null;
+		}
+		ExecutorServiceStatistics statistics = new ExecutorServiceStatistics();
+		List<ExecutorServiceMetrics> metrics = sinks.stream() //
+				.map(sink -> createMetrics(sink, statistics)) //
+				.filter(Objects::nonNull) //
+				.collect(toCollection(ArrayList::new));
+		if (metrics.stream().anyMatch(it -> it instanceof JmxExecutorServiceMetrics
+				|| it instanceof JfrExecutorServiceMetrics)) {
+			metrics.add(0, statistics);
+		}
+		return metrics.size() == 1 ? metrics.get(0) : new CompositeExecutorServiceMetrics(metrics);
+	}
+
+	private static @Nullable ExecutorServiceMetrics createMetrics(String sink,
+			ExecutorServiceStatistics statistics) {
+		return switch (sink.toLowerCase(Locale.ROOT)) {
+			case "jmx" -> {
+				if (JmxUtils.isJmxAvailable()) {
+					yield new JmxExecutorServiceMetrics(statistics);
+				}
+				logger.warn(() -> "Ignoring executor service metrics sink 'jmx' since JMX is not available");
+				yield null;
+			}
+			case "jfr" -> {
+				if (JfrUtils.isJfrAvailable()) {
+					yield new JfrExecutorServiceMetrics(statistics);
+				}
+				logger.warn(() -> "Ignoring executor service metrics sink 'jfr' since JFR is not available");
+				yield null;
+			}
+			default -> instantiateMetrics(sink);
+		};
+	}
+
+	private static ExecutorServiceMetrics instantiateMetrics(String className) {
+		return ReflectionSupport.tryToLoadClass(className) //
+				.andThenTry(metricsClass -> {
+					Preconditions.condition(ExecutorServiceMetrics.class.isAssignableFrom(metricsClass),
+						() -> "Class [%s] configured via '%s' does not implement %s".formatted(className,
+							CONFIG_METRICS_PROPERTY_NAME, ExecutorServiceMetrics.class.getName()));
+					return (ExecutorServiceMetrics) ReflectionSupport.newInstance(metricsClass);
+				}) //
+				.getNonNullOrThrow(
+					cause -> new JUnitException("Could not create executor service metrics: " + className, cause));
+	}
+
+	private static ForkJoinPool createForkJoinPool(ParallelExecutionConfiguration configuration,
+			@Nullable ExecutorServiceMetrics metrics) {
+		@Nullable Predicate<? super ForkJoinPool> saturatePredicate = configuration.getSaturatePredicate();
+		if (metrics != null) {
+			@Nullable Predicate<? super ForkJoinPool> delegate = saturatePredicate;
+			saturatePredicate = pool -> {
+				metrics.poolSaturated();
+				return delegate != null && delegate.test(pool);
+			};
+		}
 		try {
-			return new ForkJoinPool(configuration.getParallelism(), new WorkerThreadFactory(), null, false,
+			return new ForkJoinPool(configuration.getParallelism(), new WorkerThreadFactory(metrics), null, false,
 				configuration.getCorePoolSize(), configuration.getMaxPoolSize(), configuration.getMinimumRunnable(),
-				configuration.getSaturatePredicate(), configuration.getKeepAliveSeconds(), TimeUnit.SECONDS);
+				saturatePredicate, configuration.getKeepAliveSeconds(), TimeUnit.SECONDS);
 		}
 		catch (Exception cause) {
 			throw new JUnitException("Failed to create ForkJoinPool", cause);
@@ -117,7 +271,8 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		// can be stolen by otherwise idle workers and the new task takes significantly
 		// longer, parallelism will drop. However, that only happens if the enclosing test
 		// task is the only one remaining which should rarely be the case.
-		if (testTask.getExecutionMode() == CONCURRENT && ForkJoinTask.getSurplusQueuedTaskCount() < parallelism) {
+		if (testTask.getExecutionMode() == CONCURRENT
+				&& ForkJoinTask.getSurplusQueuedTaskCount() < forkJoinPool.getParallelism()) {
 			return exclusiveTask.fork();
 		}
 		exclusiveTask.execSync();
@@ -190,7 +345,13 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 
 	@Override
 	public void close() {
+		if (adaptiveParallelismController != null) {
+			adaptiveParallelismController.stop();
+		}
 		forkJoinPool.shutdownNow();
+		if (metrics != null) {
+			metrics.executorServiceClosed();
+		}
 	}
 
 	// this class cannot not be serialized because TestTask is not Serializable
@@ -200,10 +361,15 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		@Serial
 		private static final long serialVersionUID = 1;
 
+		private static final Runnable NOOP = () -> {
+		};
+
 		private final TestTask testTask;
+		private final long submissionTime;
 
 		ExclusiveTask(TestTask testTask) {
 			this.testTask = testTask;
+			this.submissionTime = metrics == null ? 0 : System.nanoTime();
 		}
 
 		/**
@@ -242,16 +408,24 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 			if (!threadLock.areAllHeldLocksCompatibleWith(resourceLock)) {
 				threadLock.addDeferredTask(this);
 				taskEventListener.deferred(testTask);
+				if (metrics != null) {
+					metrics.taskDeferred(testTask);
+				}
 				// Return false to indicate that this task is not done yet
 				// this means that .join() will wait.
 				return false;
 			}
 			try ( //
-					ResourceLock lock = resourceLock.acquire(); //
+					ResourceLock lock = acquire(resourceLock); //
 					@SuppressWarnings("unused")
 					ThreadLock.NestedResourceLock nested = threadLock.withNesting(lock) //
 			) {
-				testTask.execute();
+				if (metrics == null) {
+					testTask.execute();
+				}
+				else {
+					executeAndRecordMetrics(metrics);
+				}
 				return true;
 			}
 			catch (InterruptedException e) {
@@ -259,6 +433,32 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 			}
 		}
 
+		private void executeAndRecordMetrics(ExecutorServiceMetrics metrics) {
+			long startTime = System.nanoTime();
+			try {
+				testTask.execute();
+			}
+			finally {
+				metrics.taskExecuted(testTask, startTime - submissionTime, System.nanoTime() - startTime);
+			}
+		}
+
+		private ResourceLock acquire(ResourceLock resourceLock) throws InterruptedException {
+			if (resourceLock.getResources().isEmpty()) {
+				return resourceLock.acquire();
+			}
+			Runnable recording = JfrUtils.isJfrAvailable() //
+					? ResourceLockAcquisitionEvent.begin(testTask, resourceLock) //
+					: NOOP;
+			long startTime = System.nanoTime();
+			ResourceLock lock = resourceLock.acquire();
+			recording.run();
+			if (testTask instanceof NodeTestTask<?> nodeTestTask) {
+				nodeTestTask.resourceLockAcquired(System.nanoTime() - startTime);
+			}
+			return lock;
+		}
+
 		@Override
 		public String toString() {
 			return "ExclusiveTask [" + testTask + "]";
@@ -268,10 +468,19 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 	static class WorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
 
 		private final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		private final @Nullable ExecutorServiceMetrics metrics;
+
+		WorkerThreadFactory(@Nullable ExecutorServiceMetrics metrics) {
+			this.metrics = metrics;
+		}
 
 		@Override
 		public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
-			return new WorkerThread(pool, contextClassLoader);
+			WorkerThread workerThread = new WorkerThread(pool, contextClassLoader);
+			if (metrics != null) {
+				metrics.workerStarted();
+			}
+			return workerThread;
 		}
 
 	}
@@ -308,6 +517,70 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		}
 	}
 
+	private record ForkJoinPoolState(ForkJoinPool forkJoinPool) implements ExecutorServiceMetrics.PoolState {
+
+		@Override
+		public int getParallelism() {
+			return forkJoinPool.getParallelism();
+		}
+
+		@Override
+		public int getPoolSize() {
+			return forkJoinPool.getPoolSize();
+		}
+
+		@Override
+		public int getActiveWorkerCount() {
+			return forkJoinPool.getActiveThreadCount();
+		}
+
+		@Override
+		public long getQueuedTaskCount() {
+			return forkJoinPool.getQueuedTaskCount() + forkJoinPool.getQueuedSubmissionCount();
+		}
+
+		@Override
+		public long getStealCount() {
+			return forkJoinPool.getStealCount();
+		}
+
+	}
+
+	private record CompositeExecutorServiceMetrics(List<ExecutorServiceMetrics> delegates)
+			implements ExecutorServiceMetrics {
+
+		@Override
+		public void executorServiceStarted(PoolState poolState) {
+			delegates.forEach(delegate -> delegate.executorServiceStarted(poolState));
+		}
+
+		@Override
+		public void executorServiceClosed() {
+			delegates.forEach(ExecutorServiceMetrics::executorServiceClosed);
+		}
+
+		@Override
+		public void workerStarted() {
+			delegates.forEach(ExecutorServiceMetrics::workerStarted);
+		}
+
+		@Override
+		public void poolSaturated() {
+			delegates.forEach(ExecutorServiceMetrics::poolSaturated);
+		}
+
+		@Override
+		public void taskDeferred(TestTask testTask) {
+			delegates.forEach(delegate -> delegate.taskDeferred(testTask));
+		}
+
+		@Override
+		public void taskExecuted(TestTask testTask, long waitTimeNanos, long runTimeNanos) {
+			delegates.forEach(delegate -> delegate.taskExecuted(testTask, waitTimeNanos, runTimeNanos));
+		}
+
+	}
+
 	interface TaskEventListener {
 
 		TaskEventListener NOOP = __ -> {
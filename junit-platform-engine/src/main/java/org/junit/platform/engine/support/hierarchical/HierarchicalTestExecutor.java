@@ -65,7 +65,14 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 		NodeExecutionAdvisor executionAdvisor = new NodeTreeWalker().walk(this.request.getRootTestDescriptor());
 		CancellationToken cancellationToken = this.request.getCancellationToken();
 		return new NodeTestTaskContext(executionListener, this.executorService, this.throwableCollectorFactory,
-			executionAdvisor, cancellationToken);
+			executionAdvisor, cancellationToken, findExecutionProfiler());
+	}
+
+	private @Nullable ExecutionProfiler findExecutionProfiler() {
+		if (!this.request.hasStore()) {
+			return null;
+		}
+		return ExecutionProfiler.get(this.request.getStore()).orElse(null);
 	}
 
 }
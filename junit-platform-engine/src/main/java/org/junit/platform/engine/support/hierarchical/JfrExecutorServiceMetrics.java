@@ -0,0 +1,51 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.engine.jfr.JfrUtils;
+
+/**
+ * {@link ExecutorServiceMetrics} sink that periodically emits a JFR event for
+ * the supplied {@link ExecutorServiceStatistics} while the executor service
+ * is running.
+ *
+ * <p>Must only be used if {@link JfrUtils#isJfrAvailable()} returns
+ * {@code true}.
+ *
+ * @since 6.0
+ * @see ExecutorServiceStatisticsEvent
+ */
+class JfrExecutorServiceMetrics implements ExecutorServiceMetrics {
+
+	private final ExecutorServiceStatistics statistics;
+
+	private volatile @Nullable Runnable unregisterAction;
+
+	JfrExecutorServiceMetrics(ExecutorServiceStatistics statistics) {
+		this.statistics = statistics;
+	}
+
+	@Override
+	public void executorServiceStarted(PoolState poolState) {
+		this.unregisterAction = ExecutorServiceStatisticsEvent.register(this.statistics);
+	}
+
+	@Override
+	public void executorServiceClosed() {
+		Runnable unregisterAction = this.unregisterAction;
+		if (unregisterAction != null) {
+			this.unregisterAction = null;
+			unregisterAction.run();
+		}
+	}
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Determines the CPU load of the system via JMX.
+ *
+ * <p>Must only be used if {@link JmxUtils#isJmxAvailable()} returns
+ * {@code true}.
+ *
+ * @since 6.0
+ * @see AdaptiveParallelismController
+ */
+final class JmxCpuLoad {
+
+	/**
+	 * {@return the recent CPU load of the whole system between {@code 0} and
+	 * {@code 1} or {@link Double#NaN} if it cannot be determined}
+	 */
+	static double get() {
+		try {
+			Object cpuLoad = ManagementFactory.getPlatformMBeanServer().getAttribute(
+				new ObjectName(ManagementFactory.OPERATING_SYSTEM_MXBEAN_NAME), "CpuLoad");
+			if (cpuLoad instanceof Double value && value >= 0) {
+				return value;
+			}
+		}
+		catch (JMException | RuntimeException ignored) {
+			// fall back to the load average
+		}
+		double loadAverage = ManagementFactory.getOperatingSystemMXBean().getSystemLoadAverage();
+		return loadAverage < 0 ? Double.NaN : loadAverage / Runtime.getRuntime().availableProcessors();
+	}
+
+	private JmxCpuLoad() {
+	}
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.support.hierarchical.ExecutorServiceStatistics.Histogram;
+
+/**
+ * {@link ExecutorServiceMetrics} sink that registers an
+ * {@link ExecutorServiceStatisticsMXBean} for the supplied
+ * {@link ExecutorServiceStatistics} with the platform MBean server while the
+ * executor service is running.
+ *
+ * @since 6.0
+ */
+class JmxExecutorServiceMetrics implements ExecutorServiceMetrics, ExecutorServiceStatisticsMXBean {
+
+	private static final Logger logger = LoggerFactory.getLogger(JmxExecutorServiceMetrics.class);
+
+	private static final AtomicInteger idGenerator = new AtomicInteger();
+
+	private final ExecutorServiceStatistics statistics;
+	private final ObjectName objectName;
+
+	private volatile @Nullable MBeanServer mBeanServer;
+
+	JmxExecutorServiceMetrics(ExecutorServiceStatistics statistics) {
+		this.statistics = statistics;
+		try {
+			this.objectName = new ObjectName(
+				"org.junit.platform:type=ExecutorService,id=" + idGenerator.incrementAndGet());
+		}
+		catch (JMException e) {
+			throw new JUnitException("Failed to create JMX object name", e);
+		}
+	}
+
+	@Override
+	public void executorServiceStarted(PoolState poolState) {
+		MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+		try {
+			mBeanServer.registerMBean(new StandardMBean(this, ExecutorServiceStatisticsMXBean.class, true),
+				this.objectName);
+			this.mBeanServer = mBeanServer;
+		}
+		catch (JMException e) {
+			throw new JUnitException("Failed to register MXBean " + this.objectName, e);
+		}
+	}
+
+	@Override
+	public void executorServiceClosed() {
+		MBeanServer mBeanServer = this.mBeanServer;
+		if (mBeanServer != null) {
+			this.mBeanServer = null;
+			try {
+				mBeanServer.unregisterMBean(this.objectName);
+			}
+			catch (JMException e) {
+				logger.warn(e, () -> "Failed to unregister MXBean " + this.objectName);
+			}
+		}
+	}
+
+	@Override
+	public int getParallelism() {
+		return this.statistics.getParallelism();
+	}
+
+	@Override
+	public int getPoolSize() {
+		return this.statistics.getPoolSize();
+	}
+
+	@Override
+	public int getActiveWorkerCount() {
+		return this.statistics.getActiveWorkerCount();
+	}
+
+	@Override
+	public double getWorkerUtilization() {
+		return this.statistics.getWorkerUtilization();
+	}
+
+	@Override
+	public long getQueuedTaskCount() {
+		return this.statistics.getQueuedTaskCount();
+	}
+
+	@Override
+	public long getStealCount() {
+		return this.statistics.getStealCount();
+	}
+
+	@Override
+	public long getExecutedTaskCount() {
+		return this.statistics.getExecutedTaskCount();
+	}
+
+	@Override
+	public long getDeferredTaskCount() {
+		return this.statistics.getDeferredTaskCount();
+	}
+
+	@Override
+	public long getStartedWorkerCount() {
+		return this.statistics.getStartedWorkerCount();
+	}
+
+	@Override
+	public long getSaturationCount() {
+		return this.statistics.getSaturationCount();
+	}
+
+	@Override
+	public double getMeanWaitTime() {
+		return toMillis(waitTimes().getMean());
+	}
+
+	@Override
+	public double getP95WaitTime() {
+		return toMillis(waitTimes().getPercentile(95));
+	}
+
+	@Override
+	public double getMaxWaitTime() {
+		return toMillis(waitTimes().getMax());
+	}
+
+	@Override
+	public double getMeanRunTime() {
+		return toMillis(runTimes().getMean());
+	}
+
+	@Override
+	public double getP95RunTime() {
+		return toMillis(runTimes().getPercentile(95));
+	}
+
+	@Override
+	public double getMaxRunTime() {
+		return toMillis(runTimes().getMax());
+	}
+
+	private Histogram waitTimes() {
+		return this.statistics.getWaitTimes();
+	}
+
+	private Histogram runTimes() {
+		return this.statistics.getRunTimes();
+	}
+
+	private static double toMillis(Duration duration) {
+		return duration.toNanos() / 1_000_000.0;
+	}
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import org.junit.platform.commons.support.ReflectionSupport;
+
+/**
+ * Internal utility for optional Java Management Extensions (JMX) support.
+ *
+ * <p>Since the {@code java.management} module is an optional dependency,
+ * classes that use its API must only be used if {@link #isJmxAvailable()}
+ * returns {@code true}.
+ *
+ * @since 6.0
+ */
+final class JmxUtils {
+
+	private static final boolean JMX_AVAILABLE = ReflectionSupport.tryToLoadClass(
+		"java.lang.management.ManagementFactory").toOptional().isPresent();
+
+	/**
+	 * {@return whether JMX is available in the current runtime}
+	 */
+	static boolean isJmxAvailable() {
+		return JMX_AVAILABLE;
+	}
+
+	private JmxUtils() {
+	}
+
+}
@@ -35,6 +35,7 @@ import org.junit.platform.commons.util.UnrecoverableExceptions;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.hierarchical.ExecutionProfiler.Phase;
 import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
 import org.junit.platform.engine.support.hierarchical.Node.DynamicTestExecutor;
 import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
@@ -102,6 +103,13 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 		this.parentContext = parentContext;
 	}
 
+	void resourceLockAcquired(long waitDurationNanos) {
+		ExecutionProfiler executionProfiler = taskContext.executionProfiler();
+		if (executionProfiler != null) {
+			executionProfiler.record(testDescriptor.getUniqueId(), Phase.LOCK_WAIT, waitDurationNanos);
+		}
+	}
+
 	@Override
 	public void execute() {
 		try {
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.stream.Collectors.joining;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.engine.jfr.JfrUtils;
+import org.junit.platform.engine.jfr.UniqueIdField;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+
+/**
+ * JFR event for waiting to acquire the {@link ResourceLock} of a
+ * {@link TestTask}.
+ *
+ * <p>Must only be loaded if {@link JfrUtils#isJfrAvailable()} returns
+ * {@code true}.
+ *
+ * @since 6.0
+ */
+@Category({ "JUnit", "Execution" })
+@Label("Resource Lock Acquisition")
+@Name("org.junit.ResourceLockAcquisition")
+@StackTrace(false)
+@Threshold("1 ms")
+class ResourceLockAcquisitionEvent extends Event {
+
+	private static final EventType EVENT_TYPE = EventType.getEventType(ResourceLockAcquisitionEvent.class);
+
+	static Runnable begin(TestTask testTask, ResourceLock resourceLock) {
+		if (!EVENT_TYPE.isEnabled()) {
+			return () -> {
+			};
+		}
+		var event = new ResourceLockAcquisitionEvent();
+		event.begin();
+		return () -> {
+			event.end();
+			if (event.shouldCommit()) {
+				event.uniqueId = uniqueId(testTask);
+				event.resources = resourceLock.getResources().stream() //
+						.map(resource -> resource.getKey() + " (" + resource.getLockMode() + ")") //
+						.collect(joining(", "));
+				event.exclusive = resourceLock.isExclusive();
+				event.commit();
+			}
+		};
+	}
+
+	private static @Nullable String uniqueId(TestTask testTask) {
+		try {
+			return testTask.getTestDescriptor().getUniqueId().toString();
+		}
+		catch (UnsupportedOperationException ex) {
+			return null;
+		}
+	}
+
+	@UniqueIdField
+	@Label("Unique Id")
+	@Nullable
+	String uniqueId;
+
+	@Label("Resources")
+	@Nullable
+	String resources;
+
+	@Label("Exclusive")
+	boolean exclusive;
+
+}
@@ -44,5 +44,7 @@ module org.junit.platform.launcher {
 	uses org.junit.platform.launcher.TestExecutionListener;
 
 	provides org.junit.platform.launcher.TestExecutionListener
-			with org.junit.platform.launcher.listeners.UniqueIdTrackingListener;
+			with org.junit.platform.launcher.listeners.DurationTrackingListener,
+				org.junit.platform.launcher.listeners.RunHistoryListener,
+				org.junit.platform.launcher.listeners.UniqueIdTrackingListener;
 }
@@ -266,6 +266,52 @@ public class LauncherConstants {
 	@API(status = EXPERIMENTAL, since = "6.0")
 	public static final String DISCOVERY_ISSUE_FAILURE_PHASE_PROPERTY_NAME = "junit.platform.discovery.issue.failure.phase";
 
+	/**
+	 * Property name used to enable the execution profile report.
+	 *
+	 * <p>When enabled, a concise profile of each test plan execution is
+	 * written to {@code junit-platform-execution-profile.txt} in the
+	 * {@linkplain #OUTPUT_DIR_PROPERTY_NAME output directory}. It shows how
+	 * much time was spent discovering tests, instantiating test classes,
+	 * executing lifecycle methods, tests, and extension callbacks, and waiting
+	 * for resource locks, per test class and in total, as well as the critical
+	 * path through the execution, i.e., the chain of containers and tests that
+	 * determined the total execution time.
+	 *
+	 * <p>Value must be either {@code true} or {@code false}; defaults to {@code false}.
+	 *
+	 * @since 6.0
+	 * @see org.junit.platform.engine.support.hierarchical.ExecutionProfiler
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String EXECUTION_PROFILE_ENABLED_PROPERTY_NAME = "junit.platform.execution.profile.enabled";
+
+	/**
+	 * Property name used to enable ephemeral dynamic tests.
+	 *
+	 * <p>By default, every dynamically registered test or container is added
+	 * to the {@link TestPlan} and kept there until the end of the test plan
+	 * execution. When ephemeral dynamic tests are enabled, a dynamically
+	 * registered test or container is removed from the {@code TestPlan} as soon
+	 * as all registered {@link TestExecutionListener TestExecutionListeners}
+	 * have been notified that its execution has been skipped or finished. The
+	 * memory required by the launcher therefore no longer grows with the number
+	 * of dynamic tests, e.g., for a {@code @TestFactory} method that returns
+	 * an unbounded {@code Stream}.
+	 *
+	 * <p>Consequently, listeners must not look up dynamic tests or containers
+	 * in the {@code TestPlan} after their execution has finished, e.g., in
+	 * {@link TestExecutionListener#testPlanExecutionFinished(TestPlan)}, and
+	 * should only retain what they need from them, such as counts kept by
+	 * {@link org.junit.platform.launcher.listeners.SummaryGeneratingListener}.
+	 *
+	 * <p>Value must be either {@code true} or {@code false}; defaults to {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String EPHEMERAL_DYNAMIC_TESTS_ENABLED_PROPERTY_NAME = "junit.platform.execution.dynamicTests.ephemeral.enabled";
+
 	private LauncherConstants() {
 		/* no-op */
 	}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.RunHistory;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+
+/**
+ * {@link PostDiscoveryFilter} that only includes tests that failed during
+ * their last recorded execution or whose test class changed since then,
+ * based on the <em>run history</em> recorded by the
+ * {@link org.junit.platform.launcher.listeners.RunHistoryListener
+ * RunHistoryListener}.
+ *
+ * <p>A test is considered to have failed if the run history contains a
+ * failed outcome for its unique ID or, for tests whose children are only
+ * registered during execution (such as parameterized tests or test factories),
+ * for the unique ID of any of its children. A test class is considered to have
+ * changed if the fingerprint of its class file differs from the recorded one
+ * or if no fingerprint has been recorded for it, i.e. if it is new.
+ *
+ * <p>Tests without a class-based {@link TestSource} that did not fail are
+ * excluded.
+ *
+ * @since 6.0
+ * @see #failedOrChanged(Path)
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public final class RunHistoryFilter implements PostDiscoveryFilter {
+
+	/**
+	 * Create a new {@code RunHistoryFilter} based on the run history stored in
+	 * the supplied file.
+	 *
+	 * <p>If the file does not exist, all tests are considered new and are
+	 * therefore included.
+	 *
+	 * @param historyFile the run history file; never {@code null}
+	 * @throws JUnitException if the run history file cannot be read
+	 */
+	public static RunHistoryFilter failedOrChanged(Path historyFile) {
+		Preconditions.notNull(historyFile, "historyFile must not be null");
+		try {
+			return new RunHistoryFilter(RunHistory.load(historyFile));
+		}
+		catch (IOException ex) {
+			throw new JUnitException("Failed to read run history from " + historyFile, ex);
+		}
+	}
+
+	private final RunHistory history;
+
+	private RunHistoryFilter(RunHistory history) {
+		this.history = history;
+	}
+
+	@Override
+	public FilterResult apply(TestDescriptor descriptor) {
+		if (descriptor.isRoot()) {
+			return FilterResult.included("Engine descriptors are always included");
+		}
+		if (this.history.hasFailures(descriptor.getUniqueId().toString())) {
+			return FilterResult.included("Failed during last execution");
+		}
+		if (findTestClass(descriptor).map(this.history::isChanged).orElse(false)) {
+			return FilterResult.included("Test class is new or changed since last execution");
+		}
+		return FilterResult.excluded("Neither failed during last execution nor changed since then");
+	}
+
+	private static Optional<Class<?>> findTestClass(TestDescriptor descriptor) {
+		@Nullable
+		TestDescriptor current = descriptor;
+		while (current != null) {
+			TestSource source = current.getSource().orElse(null);
+			if (source instanceof ClassSource classSource) {
+				return Optional.of(classSource.getJavaClass());
+			}
+			if (source instanceof MethodSource methodSource) {
+				return Optional.of(methodSource.getJavaClass());
+			}
+			current = current.getParent().orElse(null);
+		}
+		return Optional.empty();
+	}
+
+	@Override
+	public String toString() {
+		return "RunHistoryFilter that includes failed or changed tests";
+	}
+
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.junit.platform.engine.FilterResult.includedIf;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.discovery.ClassNameFilter;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+
+/**
+ * {@link PostDiscoveryFilter} that partitions the discovered containers and
+ * tests into a fixed number of <em>shards</em> and only includes those that
+ * belong to a single shard.
+ *
+ * <p>The unit of partitioning is the top-level container of each test, i.e.
+ * the descriptor that is a direct child of its engine descriptor. For
+ * class-based engines, that is the outermost test class, so that nested
+ * classes are always executed in the same shard as their enclosing class.
+ * The assignment of a top-level container to a shard is derived solely from
+ * its fully qualified class name or, if it does not have a {@link ClassSource},
+ * from its unique ID. It is therefore deterministic across JVMs and machines
+ * as long as all shards discover the same set of containers.
+ *
+ * <p>To avoid loading classes that belong to other shards during discovery,
+ * the {@link ClassNameFilter} returned by {@link #toClassNameFilter()} may be
+ * registered in addition to this filter.
+ *
+ * @since 6.0
+ * @see #shard(int, int)
+ * @see #shard(String)
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public final class ShardFilter implements PostDiscoveryFilter {
+
+	private static final String SEPARATOR = "/";
+
+	/**
+	 * Create a new {@code ShardFilter} that includes the containers and tests
+	 * of the shard with the supplied index.
+	 *
+	 * @param index the one-based index of the shard to include; must be
+	 * between {@code 1} and {@code total} (inclusive)
+	 * @param total the total number of shards; must be greater than zero
+	 * @throws PreconditionViolationException if the supplied index or total
+	 * is out of range
+	 */
+	public static ShardFilter shard(int index, int total) throws PreconditionViolationException {
+		return new ShardFilter(index, total);
+	}
+
+	/**
+	 * Create a new {@code ShardFilter} from the supplied shard specification
+	 * in the form {@code INDEX/TOTAL} &mdash; for example, {@code "2/16"}.
+	 *
+	 * @param shard the shard specification; never {@code null} or blank
+	 * @throws PreconditionViolationException if the supplied specification is
+	 * not syntactically valid or if its index or total is out of range
+	 * @see #shard(int, int)
+	 */
+	public static ShardFilter shard(String shard) throws PreconditionViolationException {
+		Preconditions.notBlank(shard, "shard must not be null or blank");
+		String[] parts = shard.strip().split(SEPARATOR, -1);
+		Preconditions.condition(parts.length == 2,
+			() -> "Shard [%s] must be specified in the form INDEX/TOTAL".formatted(shard));
+		return shard(parseInt(shard, parts[0]), parseInt(shard, parts[1]));
+	}
+
+	private static int parseInt(String shard, String value) {
+		try {
+			return Integer.parseInt(value.strip());
+		}
+		catch (NumberFormatException ex) {
+			throw new PreconditionViolationException(
+				"Shard [%s] must be specified in the form INDEX/TOTAL".formatted(shard), ex);
+		}
+	}
+
+	private final int index;
+	private final int total;
+
+	private ShardFilter(int index, int total) {
+		Preconditions.condition(total > 0, () -> "total number of shards must be greater than 0: " + total);
+		Preconditions.condition(index > 0 && index <= total,
+			() -> "shard index must be between 1 and %d: %d".formatted(total, index));
+		this.index = index;
+		this.total = total;
+	}
+
+	/**
+	 * {@return the one-based index of the shard included by this filter}
+	 */
+	public int getIndex() {
+		return this.index;
+	}
+
+	/**
+	 * {@return the total number of shards}
+	 */
+	public int getTotal() {
+		return this.total;
+	}
+
+	@Override
+	public FilterResult apply(TestDescriptor descriptor) {
+		TestDescriptor topLevelContainer = findTopLevelContainer(descriptor);
+		if (topLevelContainer == null) {
+			return FilterResult.included("Engine descriptors are included in all shards");
+		}
+		String key = shardKey(topLevelContainer);
+		return includedIf(belongsToThisShard(key), //
+			() -> "[%s] belongs to shard %s".formatted(key, shardSpec()), //
+			() -> "[%s] does not belong to shard %s".formatted(key, shardSpec()));
+	}
+
+	/**
+	 * Create a {@link ClassNameFilter} that only includes classes whose
+	 * outermost enclosing class belongs to the shard included by this filter.
+	 *
+	 * <p>Registering the returned filter in addition to this filter allows
+	 * class-based engines to skip loading classes of other shards during
+	 * test discovery.
+	 *
+	 * @return a new {@code ClassNameFilter}; never {@code null}
+	 */
+	public ClassNameFilter toClassNameFilter() {
+		return new ShardClassNameFilter();
+	}
+
+	private boolean belongsToThisShard(String key) {
+		return Math.floorMod(key.hashCode(), this.total) + 1 == this.index;
+	}
+
+	private static @Nullable TestDescriptor findTopLevelContainer(TestDescriptor descriptor) {
+		TestDescriptor current = descriptor;
+		while (true) {
+			TestDescriptor parent = current.getParent().orElse(null);
+			if (parent == null) {
+				return null;
+			}
+			if (parent.isRoot()) {
+				return current;
+			}
+			current = parent;
+		}
+	}
+
+	private static String shardKey(TestDescriptor topLevelContainer) {
+		TestSource source = topLevelContainer.getSource().orElse(null);
+		if (source instanceof ClassSource classSource) {
+			return topLevelClassName(classSource.getClassName());
+		}
+		return topLevelContainer.getUniqueId().toString();
+	}
+
+	private static String topLevelClassName(String className) {
+		int nestedClassSeparator = className.indexOf('$');
+		return nestedClassSeparator < 0 ? className : className.substring(0, nestedClassSeparator);
+	}
+
+	private String shardSpec() {
+		return this.index + SEPARATOR + this.total;
+	}
+
+	@Override
+	public String toString() {
+		return "%s that includes shard %s".formatted(getClass().getSimpleName(), shardSpec());
+	}
+
+	private final class ShardClassNameFilter implements ClassNameFilter {
+
+		@Override
+		public FilterResult apply(String className) {
+			String key = topLevelClassName(className);
+			return includedIf(belongsToThisShard(key), //
+				() -> "Class [%s] belongs to shard %s".formatted(key, shardSpec()), //
+				() -> "Class [%s] does not belong to shard %s".formatted(key, shardSpec()));
+		}
+
+		@Override
+		public String toString() {
+			return "%s that includes classes belonging to shard %s".formatted(getClass().getSimpleName(),
+				shardSpec());
+		}
+
+	}
+
+}
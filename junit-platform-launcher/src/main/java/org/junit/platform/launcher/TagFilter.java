@@ -14,7 +14,6 @@ import static java.util.Arrays.asList;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.util.List;
-import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -24,6 +23,7 @@ import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.FilterResult;
 import org.junit.platform.engine.TestTag;
+import org.junit.platform.launcher.tagexpression.CompiledTagExpressions;
 import org.junit.platform.launcher.tagexpression.TagExpression;
 
 /**
@@ -130,10 +130,9 @@ public final class TagFilter {
 	private static PostDiscoveryFilter includeMatching(List<String> tagExpressions) {
 		Supplier<@Nullable String> inclusionReason = () -> inclusionReasonExpressionSatisfy(tagExpressions);
 		Supplier<@Nullable String> exclusionReason = () -> exclusionReasonExpressionNotSatisfy(tagExpressions);
-		List<TagExpression> parsedTagExpressions = parseAll(tagExpressions);
+		CompiledTagExpressions compiledTagExpressions = CompiledTagExpressions.compile(parseAll(tagExpressions));
 		return descriptor -> {
-			Set<TestTag> tags = descriptor.getTags();
-			boolean included = parsedTagExpressions.stream().anyMatch(expression -> expression.evaluate(tags));
+			boolean included = compiledTagExpressions.anyMatch(descriptor.getTags());
 
 			return FilterResult.includedIf(included, inclusionReason, exclusionReason);
 		};
@@ -150,10 +149,9 @@ public final class TagFilter {
 	private static PostDiscoveryFilter excludeMatching(List<String> tagExpressions) {
 		Supplier<@Nullable String> inclusionReason = () -> inclusionReasonExpressionNotSatisfy(tagExpressions);
 		Supplier<@Nullable String> exclusionReason = () -> exclusionReasonExpressionSatisfy(tagExpressions);
-		List<TagExpression> parsedTagExpressions = parseAll(tagExpressions);
+		CompiledTagExpressions compiledTagExpressions = CompiledTagExpressions.compile(parseAll(tagExpressions));
 		return descriptor -> {
-			Set<TestTag> tags = descriptor.getTags();
-			boolean included = parsedTagExpressions.stream().noneMatch(expression -> expression.evaluate(tags));
+			boolean included = !compiledTagExpressions.anyMatch(descriptor.getTags());
 
 			return FilterResult.includedIf(included, inclusionReason, exclusionReason);
 		};
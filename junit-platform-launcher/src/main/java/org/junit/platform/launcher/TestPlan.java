@@ -20,6 +20,7 @@ import static org.apiguardian.api.API.Status.STABLE;
 
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -49,7 +50,10 @@ import org.junit.platform.engine.reporting.OutputDirectoryProvider;
  * <p>While the contained instances of {@link TestIdentifier} are immutable,
  * instances of this class contain mutable state. For example, when a dynamic
  * test is registered at runtime, it is added to the original test plan and
- * reported to {@link TestExecutionListener} implementations.
+ * reported to {@link TestExecutionListener} implementations. If
+ * {@linkplain LauncherConstants#EPHEMERAL_DYNAMIC_TESTS_ENABLED_PROPERTY_NAME
+ * ephemeral dynamic tests} are enabled, it is removed again once all listeners
+ * have been notified that its execution has finished.
  *
  * <p>This class is not intended to be extended by clients.
  *
@@ -127,6 +131,37 @@ public class TestPlan {
 		directChildren.add(testIdentifier);
 	}
 
+	/**
+	 * Remove the supplied {@link TestIdentifier} and its children from this
+	 * test plan.
+	 *
+	 * <p>Used to evict dynamically registered tests and containers once their
+	 * execution has finished.
+	 *
+	 * @since 6.0
+	 * @see LauncherConstants#EPHEMERAL_DYNAMIC_TESTS_ENABLED_PROPERTY_NAME
+	 */
+	@API(status = INTERNAL, since = "6.0")
+	public void removeInternal(TestIdentifier testIdentifier) {
+		Preconditions.notNull(testIdentifier, "testIdentifier must not be null");
+		UniqueId uniqueId = testIdentifier.getUniqueIdObject();
+		Set<TestIdentifier> directChildren = children.remove(uniqueId);
+		if (directChildren != null) {
+			List<TestIdentifier> copy;
+			synchronized (directChildren) {
+				copy = List.copyOf(directChildren);
+			}
+			copy.forEach(this::removeInternal);
+		}
+		if (allIdentifiers.remove(uniqueId) == null) {
+			return;
+		}
+		roots.remove(testIdentifier);
+		testIdentifier.getParentIdObject() //
+				.map(children::get) //
+				.ifPresent(siblings -> siblings.remove(testIdentifier));
+	}
+
 	/**
 	 * Get the root {@link TestIdentifier TestIdentifiers} for this test plan.
 	 *
@@ -15,6 +15,7 @@ import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.junit.platform.engine.Filter.composeFilters;
 import static org.junit.platform.launcher.core.LauncherPhase.getDiscoveryIssueFailurePhase;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
@@ -171,8 +172,10 @@ public class EngineDiscoveryOrchestrator {
 			logger.debug(() -> "Discovering tests%s in engine '%s'.".formatted(
 				phase.map(" during Launcher %s phase"::formatted).orElse(""), testEngine.getId()));
 
+			long startTime = System.nanoTime();
 			EngineResultInfo engineResult = discoverEngineRoot(testEngine, request, issueCollector, uniqueIdCreator);
-			testEngineDescriptors.put(testEngine, engineResult);
+			Duration discoveryDuration = Duration.ofNanos(System.nanoTime() - startTime);
+			testEngineDescriptors.put(testEngine, engineResult.withDiscoveryDuration(discoveryDuration));
 		}
 
 		engineFilterer.performSanityChecks();
@@ -12,6 +12,8 @@ package org.junit.platform.launcher.core;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.junit.platform.launcher.LauncherConstants.DRY_RUN_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.EPHEMERAL_DYNAMIC_TESTS_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.EXECUTION_PROFILE_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.STACKTRACE_PRUNING_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherPhase.getDiscoveryIssueFailurePhase;
 import static org.junit.platform.launcher.core.ListenerRegistry.forEngineExecutionListeners;
@@ -32,6 +34,7 @@ import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
 import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.reporting.OutputDirectoryProvider;
+import org.junit.platform.engine.support.hierarchical.ExecutionProfiler;
 import org.junit.platform.engine.support.store.Namespace;
 import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
 import org.junit.platform.launcher.TestExecutionListener;
@@ -62,6 +65,13 @@ public class EngineExecutionOrchestrator {
 		ConfigurationParameters configurationParameters = internalTestPlan.getConfigurationParameters();
 		ListenerRegistry<TestExecutionListener> testExecutionListenerListeners = buildListenerRegistryForExecution(
 			listeners);
+		if (isExecutionProfileEnabled(configurationParameters)) {
+			var profileGeneratingListener = new ExecutionProfileGeneratingListener(
+				internalTestPlan.getDiscoveryResult());
+			ExecutionProfiler.register(requestLevelStore, profileGeneratingListener);
+			testExecutionListenerListeners = ListenerRegistry.copyOf(testExecutionListenerListeners) //
+					.add(profileGeneratingListener);
+		}
 		withInterceptedStreams(configurationParameters, testExecutionListenerListeners,
 			testExecutionListener -> execute(internalTestPlan, EngineExecutionListener.NOOP, testExecutionListener,
 				requestLevelStore, cancellationToken));
@@ -112,6 +122,14 @@ public class EngineExecutionOrchestrator {
 		testExecutionListener.testPlanExecutionFinished(testPlan);
 	}
 
+	private static boolean isExecutionProfileEnabled(ConfigurationParameters configurationParameters) {
+		return configurationParameters.getBoolean(EXECUTION_PROFILE_ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
+	private static boolean isEphemeralDynamicTestsEnabled(ConfigurationParameters configurationParameters) {
+		return configurationParameters.getBoolean(EPHEMERAL_DYNAMIC_TESTS_ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
 	private Boolean isDryRun(InternalTestPlan internalTestPlan) {
 		return internalTestPlan.getConfigurationParameters().getBoolean(DRY_RUN_PROPERTY_NAME).orElse(false);
 	}
@@ -141,7 +159,8 @@ public class EngineExecutionOrchestrator {
 			EngineExecutionListener parentEngineExecutionListener, TestExecutionListener testExecutionListener,
 			TestPlan testPlan) {
 		ListenerRegistry<EngineExecutionListener> engineExecutionListenerRegistry = forEngineExecutionListeners();
-		engineExecutionListenerRegistry.add(new ExecutionListenerAdapter(testPlan, testExecutionListener));
+		engineExecutionListenerRegistry.add(new ExecutionListenerAdapter(testPlan, testExecutionListener,
+			isEphemeralDynamicTestsEnabled(testPlan.getConfigurationParameters())));
 		engineExecutionListenerRegistry.add(parentEngineExecutionListener);
 		return engineExecutionListenerRegistry.getCompositeListener();
 	}
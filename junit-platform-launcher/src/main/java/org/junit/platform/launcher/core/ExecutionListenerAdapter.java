@@ -10,9 +10,14 @@
 
 package org.junit.platform.launcher.core;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.reporting.FileEntry;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.launcher.TestExecutionListener;
@@ -29,16 +34,32 @@ class ExecutionListenerAdapter implements EngineExecutionListener {
 
 	private final TestPlan testPlan;
 	private final TestExecutionListener testExecutionListener;
+	private final @Nullable Set<UniqueId> ephemeralDynamicTests;
 
 	ExecutionListenerAdapter(TestPlan testPlan, TestExecutionListener testExecutionListener) {
+		this(testPlan, testExecutionListener, false);
+	}
+
+	/**
+	 * @param ephemeralDynamicTests whether dynamically registered tests and
+	 * containers should be removed from the test plan once their execution
+	 * has been skipped or finished
+	 * @since 6.0
+	 */
+	ExecutionListenerAdapter(TestPlan testPlan, TestExecutionListener testExecutionListener,
+			boolean ephemeralDynamicTests) {
 		this.testPlan = testPlan;
 		this.testExecutionListener = testExecutionListener;
+		this.ephemeralDynamicTests = ephemeralDynamicTests ? ConcurrentHashMap.newKeySet() : null;
 	}
 
 	@Override
 	public void dynamicTestRegistered(TestDescriptor testDescriptor) {
 		TestIdentifier testIdentifier = TestIdentifier.from(testDescriptor);
 		this.testPlan.addInternal(testIdentifier);
+		if (this.ephemeralDynamicTests != null) {
+			this.ephemeralDynamicTests.add(testIdentifier.getUniqueIdObject());
+		}
 		this.testExecutionListener.dynamicTestRegistered(testIdentifier);
 	}
 
@@ -49,12 +70,16 @@ class ExecutionListenerAdapter implements EngineExecutionListener {
 
 	@Override
 	public void executionSkipped(TestDescriptor testDescriptor, String reason) {
-		this.testExecutionListener.executionSkipped(getTestIdentifier(testDescriptor), reason);
+		TestIdentifier testIdentifier = getTestIdentifier(testDescriptor);
+		this.testExecutionListener.executionSkipped(testIdentifier, reason);
+		evictIfEphemeral(testIdentifier);
 	}
 
 	@Override
 	public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
-		this.testExecutionListener.executionFinished(getTestIdentifier(testDescriptor), testExecutionResult);
+		TestIdentifier testIdentifier = getTestIdentifier(testDescriptor);
+		this.testExecutionListener.executionFinished(testIdentifier, testExecutionResult);
+		evictIfEphemeral(testIdentifier);
 	}
 
 	@Override
@@ -67,6 +92,13 @@ class ExecutionListenerAdapter implements EngineExecutionListener {
 		this.testExecutionListener.fileEntryPublished(getTestIdentifier(testDescriptor), file);
 	}
 
+	private void evictIfEphemeral(TestIdentifier testIdentifier) {
+		if (this.ephemeralDynamicTests != null
+				&& this.ephemeralDynamicTests.remove(testIdentifier.getUniqueIdObject())) {
+			this.testPlan.removeInternal(testIdentifier);
+		}
+	}
+
 	private TestIdentifier getTestIdentifier(TestDescriptor testDescriptor) {
 		return this.testPlan.getTestIdentifier(testDescriptor.getUniqueId());
 	}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Comparator.comparingLong;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.engine.TestEngine;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.hierarchical.ExecutionProfiler;
+import org.junit.platform.launcher.LauncherConstants;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@code ExecutionProfileGeneratingListener} collects the durations recorded
+ * by engines via the {@link ExecutionProfiler} API as well as the start and
+ * end times of all tests and containers, and writes a concise profile to the
+ * root of the {@linkplain TestPlan#getOutputDirectoryProvider() output
+ * directory} once the execution of the test plan has finished.
+ *
+ * <p>The profile consists of the durations of discovery and execution per
+ * engine, the durations of all {@linkplain ExecutionProfiler.Phase phases}
+ * per test class and in total, and the critical path through the execution.
+ * The critical path is determined by descending from each engine to the child
+ * that finished last, i.e., the one that the parent had to wait for.
+ *
+ * <p>The owning test class of a test or container is resolved when its
+ * execution starts, and only aggregates per test class and the critical path
+ * candidates of containers that are still running are retained. Memory usage
+ * therefore does not grow with the number of dynamic tests, and the profile
+ * remains complete when {@linkplain
+ * LauncherConstants#EPHEMERAL_DYNAMIC_TESTS_ENABLED_PROPERTY_NAME ephemeral
+ * dynamic tests} are enabled.
+ *
+ * @since 6.0
+ * @see LauncherConstants#EXECUTION_PROFILE_ENABLED_PROPERTY_NAME
+ */
+class ExecutionProfileGeneratingListener implements TestExecutionListener, ExecutionProfiler {
+
+	static final String FILE_NAME = "junit-platform-execution-profile.txt";
+
+	private static final Phase[] PHASES = Phase.values();
+
+	private static final Comparator<Map.Entry<String, AtomicLongArray>> BY_WALL_DURATION_DESCENDING = comparingLong(
+		(Map.Entry<String, AtomicLongArray> entry) -> entry.getValue().get(0)).reversed();
+
+	private final LauncherDiscoveryResult discoveryResult;
+
+	private final AtomicLongArray totalDurations = new AtomicLongArray(PHASES.length + 1);
+	private final Map<String, AtomicLongArray> durationsByClass = new ConcurrentHashMap<>();
+	private final Map<UniqueId, AtomicLongArray> pendingDurations = new ConcurrentHashMap<>();
+	private final Map<UniqueId, RunningNode> runningNodes = new ConcurrentHashMap<>();
+	private final Map<UniqueId, PathNode> lastFinishedChildren = new ConcurrentHashMap<>();
+	private final Map<UniqueId, PathNode> criticalPaths = new ConcurrentHashMap<>();
+
+	private long executionStartTime;
+
+	ExecutionProfileGeneratingListener(LauncherDiscoveryResult discoveryResult) {
+		this.discoveryResult = discoveryResult;
+	}
+
+	@Override
+	public void record(UniqueId uniqueId, Phase phase, long durationNanos) {
+		int index = phase.ordinal() + 1;
+		this.totalDurations.addAndGet(index, durationNanos);
+		RunningNode runningNode = this.runningNodes.get(uniqueId);
+		if (runningNode == null) {
+			// e.g., waiting for resource locks happens before execution starts
+			this.pendingDurations.computeIfAbsent(uniqueId, __ -> new AtomicLongArray(PHASES.length + 1)) //
+					.addAndGet(index, durationNanos);
+			return;
+		}
+		String className = runningNode.className();
+		if (className != null) {
+			durationsOf(className).addAndGet(index, durationNanos);
+		}
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		this.executionStartTime = System.nanoTime();
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		long startTime = System.nanoTime();
+		RunningNode runningNode;
+		if (testIdentifier.getSource().orElse(null) instanceof ClassSource classSource) {
+			runningNode = new RunningNode(startTime, classSource.getClassName(), true);
+		}
+		else {
+			String parentClassName = testIdentifier.getParentIdObject() //
+					.map(this.runningNodes::get) //
+					.map(RunningNode::className) //
+					.orElse(null);
+			runningNode = new RunningNode(startTime, parentClassName, false);
+		}
+		UniqueId uniqueId = testIdentifier.getUniqueIdObject();
+		this.runningNodes.put(uniqueId, runningNode);
+		AtomicLongArray pending = this.pendingDurations.remove(uniqueId);
+		String className = runningNode.className();
+		if (pending != null && className != null) {
+			AtomicLongArray classDurations = durationsOf(className);
+			for (int i = 1; i < pending.length(); i++) {
+				classDurations.addAndGet(i, pending.get(i));
+			}
+		}
+	}
+
+	@Override
+	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+		this.pendingDurations.remove(testIdentifier.getUniqueIdObject());
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		long endTime = System.nanoTime();
+		UniqueId uniqueId = testIdentifier.getUniqueIdObject();
+		RunningNode runningNode = this.runningNodes.remove(uniqueId);
+		if (runningNode == null) {
+			return;
+		}
+		String className = runningNode.className();
+		if (runningNode.testClass() && className != null) {
+			durationsOf(className).addAndGet(0, endTime - runningNode.startTime());
+		}
+		PathNode pathNode = new PathNode(testIdentifier.getDisplayName(), runningNode.startTime(), endTime,
+			this.lastFinishedChildren.remove(uniqueId));
+		testIdentifier.getParentIdObject().ifPresentOrElse(
+			parentId -> this.lastFinishedChildren.merge(parentId, pathNode, PathNode::finishedLast),
+			() -> this.criticalPaths.put(uniqueId, pathNode));
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		long executionDuration = System.nanoTime() - this.executionStartTime;
+		Path file = null;
+		try {
+			file = testPlan.getOutputDirectoryProvider().getRootDirectory().resolve(FILE_NAME);
+			try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file, UTF_8))) {
+				writeProfile(writer, testPlan, executionDuration);
+			}
+		}
+		catch (IOException e) {
+			throw new JUnitException("Failed to write execution profile: " + file, e);
+		}
+	}
+
+	private AtomicLongArray durationsOf(String className) {
+		return this.durationsByClass.computeIfAbsent(className, __ -> new AtomicLongArray(PHASES.length + 1));
+	}
+
+	private void writeProfile(PrintWriter writer, TestPlan testPlan, long executionDuration) {
+		writer.println("JUnit Platform execution profile (durations in ms)");
+		writer.println();
+		writeOverview(writer, executionDuration);
+		writer.println();
+		writePhases(writer, executionDuration);
+		writer.println();
+		writeCriticalPath(writer, testPlan);
+	}
+
+	private void writeOverview(PrintWriter writer, long executionDuration) {
+		long discoveryDuration = 0;
+		List<String> engineLines = new ArrayList<>();
+		for (TestEngine testEngine : this.discoveryResult.getTestEngines()) {
+			Duration duration = this.discoveryResult.getEngineResult(testEngine).getDiscoveryDuration();
+			discoveryDuration += duration.toNanos();
+			engineLines.add("  %-20s %12s".formatted(testEngine.getId(), formatMillis(duration.toNanos())));
+		}
+		writer.println("%-22s %12s".formatted("Discovery", formatMillis(discoveryDuration)));
+		engineLines.forEach(writer::println);
+		writer.println("%-22s %12s".formatted("Execution", formatMillis(executionDuration)));
+	}
+
+	private void writePhases(PrintWriter writer, long executionDuration) {
+		StringBuilder header = new StringBuilder("%12s".formatted("Wall"));
+		for (Phase phase : PHASES) {
+			header.append(" %12s".formatted(label(phase)));
+		}
+		writer.println(header.append("  Class"));
+
+		this.durationsByClass.entrySet().stream() //
+				.sorted(BY_WALL_DURATION_DESCENDING.thenComparing(Map.Entry::getKey)) //
+				.forEach(entry -> writer.println(formatRow(entry.getValue(), entry.getKey())));
+		this.totalDurations.set(0, executionDuration);
+		writer.println(formatRow(this.totalDurations, "Total"));
+	}
+
+	private void writeCriticalPath(PrintWriter writer, TestPlan testPlan) {
+		writer.println("Critical path");
+		writer.println("%12s %12s  %s".formatted("Start", "Wall", "Test or container"));
+		for (TestIdentifier root : testPlan.getRoots()) {
+			int depth = 0;
+			PathNode current = this.criticalPaths.get(root.getUniqueIdObject());
+			while (current != null) {
+				writer.println("%12s %12s  %s%s".formatted(formatMillis(current.startTime() - this.executionStartTime),
+					formatMillis(current.endTime() - current.startTime()), "  ".repeat(depth), current.displayName()));
+				current = current.lastFinishedChild();
+				depth++;
+			}
+		}
+	}
+
+	private static String formatRow(AtomicLongArray durations, String name) {
+		StringBuilder row = new StringBuilder("%12s".formatted(formatMillis(durations.get(0))));
+		for (int i = 1; i < durations.length(); i++) {
+			row.append(" %12s".formatted(formatMillis(durations.get(i))));
+		}
+		return row.append("  ").append(name).toString();
+	}
+
+	private static String formatMillis(long nanos) {
+		return String.format(Locale.ROOT, "%,.1f", nanos / 1_000_000.0);
+	}
+
+	private static String label(Phase phase) {
+		return switch (phase) {
+			case INSTANTIATION -> "Instantiation";
+			case BEFORE_ALL -> "BeforeAll";
+			case BEFORE_EACH -> "BeforeEach";
+			case TEST -> "Test";
+			case AFTER_EACH -> "AfterEach";
+			case AFTER_ALL -> "AfterAll";
+			case EXTENSION_CALLBACK -> "Callbacks";
+			case LOCK_WAIT -> "Lock wait";
+		};
+	}
+
+	/**
+	 * A test or container that is currently being executed.
+	 *
+	 * @param className the name of the owning test class, if any
+	 * @param testClass whether the node itself represents a test class
+	 */
+	private record RunningNode(long startTime, @Nullable String className, boolean testClass) {
+	}
+
+	/**
+	 * A finished test or container along with the child that finished last.
+	 */
+	private record PathNode(String displayName, long startTime, long endTime, @Nullable PathNode lastFinishedChild) {
+
+		static PathNode finishedLast(PathNode first, PathNode second) {
+			return second.endTime() > first.endTime() ? second : first;
+		}
+
+	}
+
+}
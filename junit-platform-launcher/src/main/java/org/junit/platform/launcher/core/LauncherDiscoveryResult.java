@@ -14,6 +14,7 @@ import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -119,11 +120,24 @@ public class LauncherDiscoveryResult {
 
 		private final DiscoveryIssueNotifier discoveryIssueNotifier;
 
+		private final Duration discoveryDuration;
+
 		EngineResultInfo(TestDescriptor rootDescriptor, DiscoveryIssueNotifier discoveryIssueNotifier,
 				@Nullable Throwable cause) {
+			this(rootDescriptor, discoveryIssueNotifier, cause, Duration.ZERO);
+		}
+
+		private EngineResultInfo(TestDescriptor rootDescriptor, DiscoveryIssueNotifier discoveryIssueNotifier,
+				@Nullable Throwable cause, Duration discoveryDuration) {
 			this.rootDescriptor = rootDescriptor;
 			this.discoveryIssueNotifier = discoveryIssueNotifier;
 			this.cause = cause;
+			this.discoveryDuration = discoveryDuration;
+		}
+
+		EngineResultInfo withDiscoveryDuration(Duration discoveryDuration) {
+			return new EngineResultInfo(this.rootDescriptor, this.discoveryIssueNotifier, this.cause,
+				discoveryDuration);
 		}
 
 		TestDescriptor getRootDescriptor() {
@@ -138,6 +152,10 @@ public class LauncherDiscoveryResult {
 			return Optional.ofNullable(this.cause);
 		}
 
+		Duration getDiscoveryDuration() {
+			return this.discoveryDuration;
+		}
+
 		boolean containsCriticalIssuesOrContainsTests() {
 			return cause != null //
 					|| discoveryIssueNotifier.hasCriticalIssues() //
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.DurationStore;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@code DurationTrackingListener} is a {@link TestExecutionListener} that
+ * measures the execution durations of all test classes and test methods and
+ * persists them in a <em>duration store</em> file once execution of the
+ * {@link TestPlan} has {@linkplain #testPlanExecutionFinished(TestPlan)
+ * finished}.
+ *
+ * <p>Durations are tracked for all containers and tests that have a
+ * {@link ClassSource} or a {@link MethodSource}. For test methods that are
+ * invoked multiple times &mdash; for example, parameterized tests &mdash; the
+ * duration of the enclosing container, i.e. the sum of all invocations, is
+ * stored. Entries of the existing store file that were not executed during the
+ * current test run are retained.
+ *
+ * <p>The duration store can be consumed by the {@code LongestDurationFirst}
+ * class and method orderers in JUnit Jupiter in order to schedule the longest
+ * running test classes and methods first, thereby reducing the overall
+ * execution time of parallel test runs.
+ *
+ * <h2>Configuration</h2>
+ *
+ * <p>The {@code DurationTrackingListener} is registered automatically via
+ * Java's {@link java.util.ServiceLoader} mechanism but disabled by default. It
+ * is enabled by setting the {@link #STORE_FILE_PROPERTY_NAME} configuration
+ * property to the path of the duration store file. Relative paths are resolved
+ * against the current working directory.
+ *
+ * <p>Configuration properties can be set via JVM system properties, via a
+ * {@code junit-platform.properties} file in the root of the classpath, or as
+ * JUnit Platform {@linkplain ConfigurationParameters configuration parameters}.
+ *
+ * @since 6.0
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public class DurationTrackingListener implements TestExecutionListener {
+
+	/**
+	 * Property name used to set the path to the duration store file read and
+	 * updated by the {@code DurationTrackingListener}: {@value}
+	 *
+	 * <p>If not set, this listener is disabled.
+	 */
+	public static final String STORE_FILE_PROPERTY_NAME = DurationStore.STORE_FILE_PROPERTY_NAME;
+
+	private final Logger logger = LoggerFactory.getLogger(DurationTrackingListener.class);
+
+	private final Map<String, Long> startTimes = new ConcurrentHashMap<>();
+
+	private final Map<String, Duration> durations = new ConcurrentHashMap<>();
+
+	private @Nullable Path storeFile;
+
+	public DurationTrackingListener() {
+		// to avoid missing-explicit-ctor warning
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		this.storeFile = testPlan.getConfigurationParameters().get(STORE_FILE_PROPERTY_NAME) //
+				.filter(path -> !path.isBlank()) //
+				.map(path -> Path.of(path.strip())) //
+				.orElse(null);
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		if (this.storeFile != null && toKey(testIdentifier) != null) {
+			this.startTimes.put(testIdentifier.getUniqueId(), System.nanoTime());
+		}
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		Long startTime = this.startTimes.remove(testIdentifier.getUniqueId());
+		String key = toKey(testIdentifier);
+		if (startTime != null && key != null) {
+			Duration duration = Duration.ofNanos(System.nanoTime() - startTime);
+			this.durations.merge(key, duration, (first, second) -> first.compareTo(second) >= 0 ? first : second);
+		}
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		Path storeFile = this.storeFile;
+		if (storeFile != null && !this.durations.isEmpty()) {
+			logger.debug(() -> "Writing execution durations to " + storeFile.toAbsolutePath());
+			try {
+				DurationStore store = DurationStore.load(storeFile);
+				this.durations.forEach(store::put);
+				store.save(storeFile);
+			}
+			catch (IOException ex) {
+				logger.error(ex, () -> "Failed to write execution durations to " + storeFile.toAbsolutePath());
+			}
+		}
+		this.startTimes.clear();
+		this.durations.clear();
+		this.storeFile = null;
+	}
+
+	private static @Nullable String toKey(TestIdentifier testIdentifier) {
+		TestSource source = testIdentifier.getSource().orElse(null);
+		if (source instanceof ClassSource classSource) {
+			return classSource.getClassName();
+		}
+		if (source instanceof MethodSource methodSource) {
+			return DurationStore.key(methodSource.getClassName(), methodSource.getMethodName(),
+				methodSource.getMethodParameterTypes());
+		}
+		return null;
+	}
+
+}
@@ -57,7 +57,7 @@ class MutableTestExecutionSummary implements TestExecutionSummary {
 	final AtomicLong testsFailed = new AtomicLong();
 
 	private final TestPlan testPlan;
-	private final List<Failure> failures = synchronizedList(new ArrayList<>());
+	private final List<DefaultFailure> failures = synchronizedList(new ArrayList<>());
 	private final long timeStarted;
 	private final long timeStartedNanos;
 	long timeFinished;
@@ -72,7 +72,8 @@ class MutableTestExecutionSummary implements TestExecutionSummary {
 	}
 
 	void addFailure(TestIdentifier testIdentifier, Throwable throwable) {
-		this.failures.add(new DefaultFailure(testIdentifier, throwable));
+		// described eagerly since dynamic tests may be removed from the test plan
+		this.failures.add(new DefaultFailure(testIdentifier, describeTest(testIdentifier), throwable));
 	}
 
 	@Override
@@ -204,7 +205,7 @@ class MutableTestExecutionSummary implements TestExecutionSummary {
 		if (getTotalFailureCount() > 0) {
 			writer.printf("%nFailures (%d):%n", getTotalFailureCount());
 			this.failures.forEach(failure -> {
-				writer.printf("%s%s%n", TAB, describeTest(failure.getTestIdentifier()));
+				writer.printf("%s%s%n", TAB, failure.description());
 				printSource(writer, failure.getTestIdentifier());
 				writer.printf("%s=> %s%n", DOUBLE_TAB, failure.getException());
 				printStackTrace(writer, failure.getException(), maxStackTraceLines);
@@ -283,7 +284,8 @@ class MutableTestExecutionSummary implements TestExecutionSummary {
 		return currentTrace.length - 1 - currentIndex;
 	}
 
-	private record DefaultFailure(TestIdentifier testIdentifier, Throwable exception) implements Failure {
+	private record DefaultFailure(TestIdentifier testIdentifier, String description, Throwable exception)
+			implements Failure {
 
 		@Serial
 		private static final long serialVersionUID = 1L;
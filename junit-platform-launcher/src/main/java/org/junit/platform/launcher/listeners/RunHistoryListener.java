@@ -0,0 +1,167 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.RunHistory;
+import org.junit.platform.commons.util.RunHistory.Outcome;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@code RunHistoryListener} is a {@link TestExecutionListener} that records
+ * the outcomes of all {@linkplain TestIdentifier#isTest() tests} executed
+ * during the execution of the {@link TestPlan} in a <em>run history</em> file
+ * once execution of the {@code TestPlan} has
+ * {@linkplain #testPlanExecutionFinished(TestPlan) finished}.
+ *
+ * <p>Outcomes are recorded per {@linkplain TestIdentifier#getUniqueId() unique
+ * ID}. In addition, a fingerprint of the class file of each executed test class
+ * is recorded so that classes that changed since their last execution can be
+ * detected. Entries of the existing history file for tests that were not
+ * executed during the current test run &mdash; for example, because they were
+ * skipped or filtered out &mdash; are retained.
+ *
+ * <p>The run history can be consumed by the
+ * {@link org.junit.platform.launcher.RunHistoryFilter RunHistoryFilter} in
+ * order to only execute tests that failed or changed, by the
+ * {@code FailedFirst} class and method orderers in JUnit Jupiter in order to
+ * execute them first, and by the {@code --fail-fast-on-repeated-failure} option
+ * of the {@code ConsoleLauncher}.
+ *
+ * <h2>Configuration</h2>
+ *
+ * <p>The {@code RunHistoryListener} is registered automatically via Java's
+ * {@link java.util.ServiceLoader} mechanism but disabled by default. It is
+ * enabled by setting the {@link #HISTORY_FILE_PROPERTY_NAME} configuration
+ * property to the path of the run history file. Relative paths are resolved
+ * against the current working directory.
+ *
+ * <p>Configuration properties can be set via JVM system properties, via a
+ * {@code junit-platform.properties} file in the root of the classpath, or as
+ * JUnit Platform {@linkplain ConfigurationParameters configuration parameters}.
+ *
+ * @since 6.0
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public class RunHistoryListener implements TestExecutionListener {
+
+	/**
+	 * Property name used to set the path to the run history file read and
+	 * updated by the {@code RunHistoryListener}: {@value}
+	 *
+	 * <p>If not set, this listener is disabled.
+	 */
+	public static final String HISTORY_FILE_PROPERTY_NAME = RunHistory.HISTORY_FILE_PROPERTY_NAME;
+
+	private final Logger logger = LoggerFactory.getLogger(RunHistoryListener.class);
+
+	private @Nullable Path historyFile;
+
+	private @Nullable RunHistory history;
+
+	public RunHistoryListener() {
+		// to avoid missing-explicit-ctor warning
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		this.historyFile = testPlan.getConfigurationParameters().get(HISTORY_FILE_PROPERTY_NAME) //
+				.filter(path -> !path.isBlank()) //
+				.map(path -> Path.of(path.strip())) //
+				.orElse(null);
+		this.history = this.historyFile == null ? null : RunHistory.create();
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		RunHistory history = this.history;
+		if (history == null) {
+			return;
+		}
+		TestSource source = testIdentifier.getSource().orElse(null);
+		if (source instanceof ClassSource classSource) {
+			recordFingerprint(history, classSource);
+		}
+		if (testIdentifier.isTest()) {
+			synchronized (history) {
+				history.putOutcome(testIdentifier.getUniqueId(), toSourceKey(source),
+					toOutcome(testExecutionResult));
+			}
+		}
+	}
+
+	private void recordFingerprint(RunHistory history, ClassSource classSource) {
+		try {
+			RunHistory.fingerprint(classSource.getJavaClass()).ifPresent(fingerprint -> {
+				synchronized (history) {
+					history.putFingerprint(classSource.getClassName(), fingerprint);
+				}
+			});
+		}
+		catch (Exception ex) {
+			logger.debug(ex, () -> "Failed to compute fingerprint of class " + classSource.getClassName());
+		}
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		Path historyFile = this.historyFile;
+		RunHistory history = this.history;
+		if (historyFile != null && history != null && !history.isEmpty()) {
+			logger.debug(() -> "Writing run history to " + historyFile.toAbsolutePath());
+			try {
+				RunHistory mergedHistory = RunHistory.load(historyFile);
+				mergedHistory.putAll(history);
+				mergedHistory.save(historyFile);
+			}
+			catch (IOException ex) {
+				logger.error(ex, () -> "Failed to write run history to " + historyFile.toAbsolutePath());
+			}
+		}
+		this.historyFile = null;
+		this.history = null;
+	}
+
+	private static @Nullable String toSourceKey(@Nullable TestSource source) {
+		if (source instanceof ClassSource classSource) {
+			return classSource.getClassName();
+		}
+		if (source instanceof MethodSource methodSource) {
+			return RunHistory.key(methodSource.getClassName(), methodSource.getMethodName(),
+				methodSource.getMethodParameterTypes());
+		}
+		return null;
+	}
+
+	private static Outcome toOutcome(TestExecutionResult result) {
+		return switch (result.getStatus()) {
+			case SUCCESSFUL -> Outcome.SUCCESSFUL;
+			case ABORTED -> Outcome.ABORTED;
+			case FAILED -> Outcome.FAILED;
+		};
+	}
+
+}
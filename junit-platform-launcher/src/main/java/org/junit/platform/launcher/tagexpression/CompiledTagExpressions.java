@@ -0,0 +1,236 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.tagexpression;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.launcher.tagexpression.TagExpressions.And;
+import org.junit.platform.launcher.tagexpression.TagExpressions.Any;
+import org.junit.platform.launcher.tagexpression.TagExpressions.None;
+import org.junit.platform.launcher.tagexpression.TagExpressions.Not;
+import org.junit.platform.launcher.tagexpression.TagExpressions.Or;
+import org.junit.platform.launcher.tagexpression.TagExpressions.Tag;
+
+/**
+ * A list of {@linkplain TagExpression tag expressions} that have been
+ * compiled into flat programs which are evaluated against bit sets of
+ * interned tags.
+ *
+ * <p>All tags referenced by the expressions are interned to small integer
+ * IDs. When evaluating the expressions against a collection of tags, the
+ * collection is converted into a bit set of these IDs once, and each
+ * expression is then evaluated by executing its postfix instructions on a
+ * stack of bits instead of walking its object tree. Tags that are not
+ * referenced by any expression only affect the result of {@code any()} and
+ * {@code none()}.
+ *
+ * <p>Expressions that cannot be compiled, e.g. because they are nested too
+ * deeply, are evaluated by calling {@link TagExpression#evaluate(Collection)}.
+ *
+ * @since 6.0
+ */
+@API(status = INTERNAL, since = "6.0")
+public final class CompiledTagExpressions {
+
+	private static final int PUSH = 0;
+	private static final int NOT = 1;
+	private static final int AND = 2;
+	private static final int OR = 3;
+
+	private static final int OPCODE_BITS = 2;
+	private static final int OPCODE_MASK = (1 << OPCODE_BITS) - 1;
+	private static final int MAX_STACK_DEPTH = Long.SIZE;
+
+	/**
+	 * ID of the bit that is set if the collection of tags is not empty.
+	 */
+	private static final int ANY_TAG_ID = 0;
+
+	/**
+	 * Compile the supplied tag expressions.
+	 *
+	 * @param tagExpressions the tag expressions to compile; never {@code null}
+	 * @return the compiled tag expressions; never {@code null}
+	 */
+	public static CompiledTagExpressions compile(List<TagExpression> tagExpressions) {
+		Preconditions.notNull(tagExpressions, "tagExpressions must not be null");
+		Compiler compiler = new Compiler();
+		int[] @Nullable [] programs = tagExpressions.stream().map(compiler::compile).toArray(int[][]::new);
+		return new CompiledTagExpressions(tagExpressions.toArray(new TagExpression[0]), programs, compiler.tagIds);
+	}
+
+	private final TagExpression[] tagExpressions;
+	private final int[] @Nullable [] programs;
+	private final Map<TestTag, Integer> tagIds;
+	private final int wordCount;
+
+	private CompiledTagExpressions(TagExpression[] tagExpressions, int[] @Nullable [] programs,
+			Map<TestTag, Integer> tagIds) {
+		this.tagExpressions = tagExpressions;
+		this.programs = programs;
+		this.tagIds = tagIds;
+		this.wordCount = (tagIds.size() + 1 + Long.SIZE - 1) / Long.SIZE;
+	}
+
+	/**
+	 * Determine whether any of the compiled tag expressions matches the
+	 * supplied collection of {@linkplain TestTag tags}.
+	 *
+	 * @param tags the tags to evaluate the expressions against; never
+	 * {@code null}
+	 * @return {@code true}, if at least one expression matches the tags;
+	 * {@code false}, otherwise
+	 */
+	public boolean anyMatch(Collection<TestTag> tags) {
+		long @Nullable [] bits = null;
+		for (int i = 0; i < this.programs.length; i++) {
+			int[] program = this.programs[i];
+			boolean matches;
+			if (program == null) {
+				matches = this.tagExpressions[i].evaluate(tags);
+			}
+			else {
+				if (bits == null) {
+					bits = toBitSet(tags);
+				}
+				matches = execute(program, bits);
+			}
+			if (matches) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private long[] toBitSet(Collection<TestTag> tags) {
+		long[] bits = new long[this.wordCount];
+		if (!tags.isEmpty()) {
+			bits[0] = 1L << ANY_TAG_ID;
+			for (TestTag tag : tags) {
+				Integer id = this.tagIds.get(tag);
+				if (id != null) {
+					bits[id / Long.SIZE] |= 1L << id;
+				}
+			}
+		}
+		return bits;
+	}
+
+	private static boolean execute(int[] program, long[] bits) {
+		long stack = 0;
+		for (int instruction : program) {
+			switch (instruction & OPCODE_MASK) {
+				case PUSH -> {
+					int id = instruction >>> OPCODE_BITS;
+					stack = (stack << 1) | ((bits[id / Long.SIZE] >>> id) & 1L);
+				}
+				case NOT -> stack ^= 1L;
+				case AND -> {
+					long rhs = stack & 1L;
+					stack = (stack >>> 1) & (~1L | rhs);
+				}
+				default -> {
+					long rhs = stack & 1L;
+					stack = (stack >>> 1) | rhs;
+				}
+			}
+		}
+		return (stack & 1L) != 0;
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(this.tagExpressions);
+	}
+
+	private static class Compiler {
+
+		private final Map<TestTag, Integer> tagIds = new HashMap<>();
+
+		private int[] instructions = new int[16];
+		private int size;
+		private int depth;
+		private int maxDepth;
+
+		int @Nullable [] compile(TagExpression tagExpression) {
+			this.size = 0;
+			this.depth = 0;
+			this.maxDepth = 0;
+			if (!emit(tagExpression) || this.maxDepth > MAX_STACK_DEPTH) {
+				return null;
+			}
+			return Arrays.copyOf(this.instructions, this.size);
+		}
+
+		private boolean emit(TagExpression tagExpression) {
+			if (tagExpression instanceof Tag tag) {
+				push(this.tagIds.computeIfAbsent(tag.testTag(), __ -> this.tagIds.size() + 1));
+			}
+			else if (tagExpression instanceof Any) {
+				push(ANY_TAG_ID);
+			}
+			else if (tagExpression instanceof None) {
+				push(ANY_TAG_ID);
+				add(NOT);
+			}
+			else if (tagExpression instanceof Not not) {
+				if (!emit(not.toNegate())) {
+					return false;
+				}
+				add(NOT);
+			}
+			else if (tagExpression instanceof And and) {
+				return emitBinary(and.lhs(), and.rhs(), AND);
+			}
+			else if (tagExpression instanceof Or or) {
+				return emitBinary(or.lhs(), or.rhs(), OR);
+			}
+			else {
+				return false;
+			}
+			return true;
+		}
+
+		private boolean emitBinary(TagExpression lhs, TagExpression rhs, int opcode) {
+			if (!emit(lhs) || !emit(rhs)) {
+				return false;
+			}
+			add(opcode);
+			this.depth--;
+			return true;
+		}
+
+		private void push(int id) {
+			add(PUSH | (id << OPCODE_BITS));
+			this.depth++;
+			this.maxDepth = Math.max(this.maxDepth, this.depth);
+		}
+
+		private void add(int instruction) {
+			if (this.size == this.instructions.length) {
+				this.instructions = Arrays.copyOf(this.instructions, 2 * this.size);
+			}
+			this.instructions[this.size++] = instruction;
+		}
+
+	}
+
+}
@@ -12,6 +12,7 @@ package org.junit.platform.reporting.legacy.xml;
 
 import static java.util.Objects.requireNonNull;
 import static org.apiguardian.api.API.Status.STABLE;
+import static org.junit.platform.launcher.LauncherConstants.EPHEMERAL_DYNAMIC_TESTS_ENABLED_PROPERTY_NAME;
 
 import java.io.IOException;
 import java.io.PrintWriter;
@@ -20,12 +21,15 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Clock;
 import java.time.ZoneId;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.stream.XMLStreamException;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
 import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
@@ -40,6 +44,13 @@ import org.junit.platform.launcher.TestPlan;
  * de facto standard for JUnit 4 based test reports that was made popular by the
  * Ant build system.
  *
+ * <p>Since the report for a root is written once its execution has finished,
+ * it does not contain dynamic tests and containers, which have already been
+ * removed from the {@link TestPlan} at that point, when {@linkplain
+ * org.junit.platform.launcher.LauncherConstants#EPHEMERAL_DYNAMIC_TESTS_ENABLED_PROPERTY_NAME
+ * ephemeral dynamic tests} are enabled. In that case, this listener does not retain any
+ * data about them either.
+ *
  * @since 1.4
  * @see org.junit.platform.launcher.listeners.LoggingListener
  * @see org.junit.platform.launcher.listeners.SummaryGeneratingListener
@@ -52,6 +63,7 @@ public class LegacyXmlReportGeneratingListener implements TestExecutionListener
 	private final Clock clock;
 
 	private @Nullable XmlReportData reportData;
+	private @Nullable Set<UniqueId> ephemeralDynamicTests;
 
 	public LegacyXmlReportGeneratingListener(Path reportsDir, PrintWriter out) {
 		this(reportsDir, out, Clock.system(ZoneId.systemDefault()));
@@ -71,6 +83,10 @@ public class LegacyXmlReportGeneratingListener implements TestExecutionListener
 	@Override
 	public void testPlanExecutionStarted(TestPlan testPlan) {
 		this.reportData = new XmlReportData(testPlan, clock);
+		boolean ephemeralDynamicTests = testPlan.getConfigurationParameters() //
+				.getBoolean(EPHEMERAL_DYNAMIC_TESTS_ENABLED_PROPERTY_NAME) //
+				.orElse(false);
+		this.ephemeralDynamicTests = ephemeralDynamicTests ? ConcurrentHashMap.newKeySet() : null;
 		try {
 			Files.createDirectories(this.reportsDir);
 		}
@@ -82,30 +98,58 @@ public class LegacyXmlReportGeneratingListener implements TestExecutionListener
 	@Override
 	public void testPlanExecutionFinished(TestPlan testPlan) {
 		this.reportData = null;
+		this.ephemeralDynamicTests = null;
+	}
+
+	@Override
+	public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+		if (this.ephemeralDynamicTests != null) {
+			this.ephemeralDynamicTests.add(testIdentifier.getUniqueIdObject());
+		}
 	}
 
 	@Override
 	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+		if (isEphemeral(testIdentifier, true)) {
+			return;
+		}
 		requiredReportData().markSkipped(testIdentifier, reason);
 		writeXmlReportInCaseOfRoot(testIdentifier);
 	}
 
 	@Override
 	public void executionStarted(TestIdentifier testIdentifier) {
+		if (isEphemeral(testIdentifier, false)) {
+			return;
+		}
 		requiredReportData().markStarted(testIdentifier);
 	}
 
 	@Override
 	public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+		if (isEphemeral(testIdentifier, false)) {
+			return;
+		}
 		requiredReportData().addReportEntry(testIdentifier, entry);
 	}
 
 	@Override
 	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult result) {
+		if (isEphemeral(testIdentifier, true)) {
+			return;
+		}
 		requiredReportData().markFinished(testIdentifier, result);
 		writeXmlReportInCaseOfRoot(testIdentifier);
 	}
 
+	private boolean isEphemeral(TestIdentifier testIdentifier, boolean completed) {
+		if (this.ephemeralDynamicTests == null) {
+			return false;
+		}
+		UniqueId uniqueId = testIdentifier.getUniqueIdObject();
+		return completed ? this.ephemeralDynamicTests.remove(uniqueId) : this.ephemeralDynamicTests.contains(uniqueId);
+	}
+
 	private void writeXmlReportInCaseOfRoot(TestIdentifier testIdentifier) {
 		if (isRoot(testIdentifier)) {
 			String rootName = testIdentifier.getUniqueIdObject().getSegments().get(0).getValue();
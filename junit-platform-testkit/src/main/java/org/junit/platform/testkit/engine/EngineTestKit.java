@@ -513,6 +513,32 @@ public final class EngineTestKit {
 			return executionRecorder.getExecutionResults();
 		}
 
+		/**
+		 * Execute tests for the configured {@link TestEngine},
+		 * {@linkplain DiscoverySelector discovery selectors},
+		 * {@linkplain DiscoveryFilter discovery filters}, and
+		 * <em>configuration parameters</em> and report all events to the
+		 * supplied {@link StreamingExecutionRecorder}.
+		 *
+		 * <p>In contrast to {@link #execute()}, events are not retained.
+		 * Hence, the memory required for recording them does not depend on
+		 * the number of tests executed by the engine.
+		 *
+		 * @param recorder the {@code StreamingExecutionRecorder} to report
+		 * events to; never {@code null}
+		 * @return the supplied {@code StreamingExecutionRecorder}
+		 * @since 6.0
+		 * @see #execute()
+		 */
+		@API(status = EXPERIMENTAL, since = "6.0")
+		public StreamingExecutionRecorder executeStreaming(StreamingExecutionRecorder recorder) {
+			Preconditions.notNull(recorder, "StreamingExecutionRecorder must not be null");
+			LauncherDiscoveryRequest request = this.requestBuilder.build();
+			EngineTestKit.executeUsingLauncherOrchestration(this.testEngine, request, recorder,
+				requireNonNullElseGet(this.cancellationToken, CancellationToken::disabled));
+			return recorder;
+		}
+
 		private static class DisabledOutputDirectoryProvider implements OutputDirectoryProvider {
 
 			private static final OutputDirectoryProvider INSTANCE = new DisabledOutputDirectoryProvider();
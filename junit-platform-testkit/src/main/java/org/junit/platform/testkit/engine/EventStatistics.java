@@ -15,8 +15,10 @@ import static org.junit.platform.testkit.engine.Assertions.assertEquals;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.ToLongFunction;
 
 import org.apiguardian.api.API;
+import org.junit.platform.engine.TestExecutionResult.Status;
 import org.junit.platform.testkit.engine.Assertions.Executable;
 
 /**
@@ -29,6 +31,10 @@ import org.junit.platform.testkit.engine.Assertions.Executable;
  *
  * <p>{@code events.assertStatistics(stats -> stats.started(1).succeeded(1).failed(0));}
  *
+ * <p>It may also be used in conjunction with
+ * {@link StreamingEvents#assertStatistics(java.util.function.Consumer)} for
+ * events that were counted without being retained.
+ *
  * @since 1.4
  * @see Event
  * @see Events
@@ -37,14 +43,32 @@ import org.junit.platform.testkit.engine.Assertions.Executable;
 public class EventStatistics {
 
 	private final List<Executable> executables = new ArrayList<>();
-	private final Events events;
+	private final String category;
+	private final ToLongFunction<EventType> countByType;
+	private final ToLongFunction<Status> countFinishedByStatus;
 
 	EventStatistics(Events events, String category) {
-		this.events = events;
+		this(category, type -> events.eventsByType(type).size(),
+			status -> events.finishedEventsByStatus(status).count());
+	}
+
+	EventStatistics(String category, ToLongFunction<EventType> countByType,
+			ToLongFunction<Status> countFinishedByStatus) {
+		this.category = category;
+		this.countByType = countByType;
+		this.countFinishedByStatus = countFinishedByStatus;
 	}
 
 	void assertAll() {
-		Assertions.assertAll(this.events.getCategory() + " Event Statistics", this.executables.stream());
+		Assertions.assertAll(this.category + " Event Statistics", this.executables.stream());
+	}
+
+	private long count(EventType type) {
+		return this.countByType.applyAsLong(type);
+	}
+
+	private long countFinished(Status status) {
+		return this.countFinishedByStatus.applyAsLong(status);
 	}
 
 	// -------------------------------------------------------------------------
@@ -56,7 +80,7 @@ public class EventStatistics {
 	 * @return this {@code EventStatistics} for method chaining
 	 */
 	public EventStatistics skipped(long expected) {
-		this.executables.add(() -> assertEquals(expected, this.events.skipped().count(), "skipped"));
+		this.executables.add(() -> assertEquals(expected, count(EventType.SKIPPED), "skipped"));
 		return this;
 	}
 
@@ -67,7 +91,7 @@ public class EventStatistics {
 	 * @return this {@code EventStatistics} for method chaining
 	 */
 	public EventStatistics started(long expected) {
-		this.executables.add(() -> assertEquals(expected, this.events.started().count(), "started"));
+		this.executables.add(() -> assertEquals(expected, count(EventType.STARTED), "started"));
 		return this;
 	}
 
@@ -78,7 +102,7 @@ public class EventStatistics {
 	 * @return this {@code EventStatistics} for method chaining
 	 */
 	public EventStatistics finished(long expected) {
-		this.executables.add(() -> assertEquals(expected, this.events.finished().count(), "finished"));
+		this.executables.add(() -> assertEquals(expected, count(EventType.FINISHED), "finished"));
 		return this;
 	}
 
@@ -89,7 +113,7 @@ public class EventStatistics {
 	 * @return this {@code EventStatistics} for method chaining
 	 */
 	public EventStatistics aborted(long expected) {
-		this.executables.add(() -> assertEquals(expected, this.events.aborted().count(), "aborted"));
+		this.executables.add(() -> assertEquals(expected, countFinished(Status.ABORTED), "aborted"));
 		return this;
 	}
 
@@ -100,7 +124,7 @@ public class EventStatistics {
 	 * @return this {@code EventStatistics} for method chaining
 	 */
 	public EventStatistics succeeded(long expected) {
-		this.executables.add(() -> assertEquals(expected, this.events.succeeded().count(), "succeeded"));
+		this.executables.add(() -> assertEquals(expected, countFinished(Status.SUCCESSFUL), "succeeded"));
 		return this;
 	}
 
@@ -111,7 +135,7 @@ public class EventStatistics {
 	 * @return this {@code EventStatistics} for method chaining
 	 */
 	public EventStatistics failed(long expected) {
-		this.executables.add(() -> assertEquals(expected, this.events.failed().count(), "failed"));
+		this.executables.add(() -> assertEquals(expected, countFinished(Status.FAILED), "failed"));
 		return this;
 	}
 
@@ -123,7 +147,7 @@ public class EventStatistics {
 	 */
 	public EventStatistics reportingEntryPublished(long expected) {
 		this.executables.add(
-			() -> assertEquals(expected, this.events.reportingEntryPublished().count(), "reporting entry published"));
+			() -> assertEquals(expected, count(EventType.REPORTING_ENTRY_PUBLISHED), "reporting entry published"));
 		return this;
 	}
 
@@ -137,7 +161,7 @@ public class EventStatistics {
 	@API(status = MAINTAINED, since = "1.13.3")
 	public EventStatistics fileEntryPublished(long expected) {
 		this.executables.add(
-			() -> assertEquals(expected, this.events.fileEntryPublished().count(), "file entry published"));
+			() -> assertEquals(expected, count(EventType.FILE_ENTRY_PUBLISHED), "file entry published"));
 		return this;
 	}
 
@@ -149,7 +173,7 @@ public class EventStatistics {
 	 */
 	public EventStatistics dynamicallyRegistered(long expected) {
 		this.executables.add(
-			() -> assertEquals(expected, this.events.dynamicallyRegistered().count(), "dynamically registered"));
+			() -> assertEquals(expected, count(EventType.DYNAMIC_TEST_REGISTERED), "dynamically registered"));
 		return this;
 	}
 
@@ -12,17 +12,22 @@ package org.junit.platform.testkit.engine;
 
 import static java.util.Collections.sort;
 import static java.util.function.Predicate.isEqual;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toUnmodifiableList;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.junit.platform.commons.util.FunctionUtils.where;
 import static org.junit.platform.testkit.engine.Event.byPayload;
-import static org.junit.platform.testkit.engine.Event.byType;
 
 import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -40,6 +45,7 @@ import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.TestExecutionResult.Status;
+import org.junit.platform.engine.UniqueId;
 import org.opentest4j.AssertionFailedError;
 
 /**
@@ -54,6 +60,11 @@ public final class Events {
 	private final List<Event> events;
 	private final String category;
 
+	// Lazily created indexes; racy initialization is benign since they are
+	// immutable and always computed from the same list of events.
+	private volatile @Nullable Map<EventType, List<Event>> eventsByType;
+	private volatile @Nullable Map<UniqueId, List<Event>> eventsByUniqueId;
+
 	Events(Stream<Event> events, String category) {
 		this(Preconditions.notNull(events, "Event stream must not be null").toList(), category);
 	}
@@ -228,6 +239,31 @@ public final class Events {
 		return new Events(eventsByType(EventType.DYNAMIC_TEST_REGISTERED), this.category + " Dynamically Registered");
 	}
 
+	/**
+	 * Get the {@link Events} contained in this {@code Events} object for the
+	 * test descriptor with the supplied {@link UniqueId}.
+	 *
+	 * <p>Events are looked up in an index that is created once per
+	 * {@code Events} object, i.e., repeated calls do not need to scan all
+	 * events.
+	 *
+	 * @param uniqueId the unique ID of the test descriptor; never {@code null}
+	 * @return the filtered {@code Events}; never {@code null}
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public Events forUniqueId(UniqueId uniqueId) {
+		Preconditions.notNull(uniqueId, "UniqueId must not be null");
+		Map<UniqueId, List<Event>> index = this.eventsByUniqueId;
+		if (index == null) {
+			index = this.events.stream() //
+					.collect(groupingBy(event -> event.getTestDescriptor().getUniqueId(), HashMap::new,
+						toUnmodifiableList()));
+			this.eventsByUniqueId = index;
+		}
+		return new Events(index.getOrDefault(uniqueId, List.of()), this.category + " " + uniqueId);
+	}
+
 	// --- Assertions ----------------------------------------------------------
 
 	/**
@@ -403,14 +439,20 @@ public final class Events {
 
 	// --- Internals -----------------------------------------------------------
 
-	private Stream<Event> eventsByType(EventType type) {
+	List<Event> eventsByType(EventType type) {
 		Preconditions.notNull(type, "EventType must not be null");
-		return stream().filter(byType(type));
+		Map<EventType, List<Event>> index = this.eventsByType;
+		if (index == null) {
+			index = this.events.stream() //
+					.collect(groupingBy(Event::getType, () -> new EnumMap<>(EventType.class), toUnmodifiableList()));
+			this.eventsByType = index;
+		}
+		return index.getOrDefault(type, List.of());
 	}
 
-	private Stream<Event> finishedEventsByStatus(Status status) {
+	Stream<Event> finishedEventsByStatus(Status status) {
 		Preconditions.notNull(status, "Status must not be null");
-		return eventsByType(EventType.FINISHED)//
+		return eventsByType(EventType.FINISHED).stream() //
 				.filter(byPayload(TestExecutionResult.class, where(TestExecutionResult::getStatus, isEqual(status))));
 	}
 
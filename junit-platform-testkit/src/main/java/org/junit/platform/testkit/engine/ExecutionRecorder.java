@@ -13,7 +13,8 @@ package org.junit.platform.testkit.engine;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.apiguardian.api.API;
 import org.junit.platform.engine.EngineExecutionListener;
@@ -28,6 +29,10 @@ import org.junit.platform.engine.reporting.ReportEntry;
  * provides functionality for retrieving execution state via
  * {@link EngineExecutionResults}.
  *
+ * <p>Events are appended to a lock-free queue so that recording takes
+ * constant time per event regardless of how many events have already been
+ * recorded.
+ *
  * @since 1.4
  * @see EngineExecutionResults
  * @see Event
@@ -36,7 +41,7 @@ import org.junit.platform.engine.reporting.ReportEntry;
 @API(status = MAINTAINED, since = "1.7")
 public class ExecutionRecorder implements EngineExecutionListener {
 
-	private final List<Event> events = new CopyOnWriteArrayList<>();
+	private final Queue<Event> events = new ConcurrentLinkedQueue<>();
 
 	public ExecutionRecorder() {
 	}
@@ -97,10 +102,13 @@ public class ExecutionRecorder implements EngineExecutionListener {
 	/**
 	 * Get the state of the engine's execution in the form of {@link EngineExecutionResults}.
 	 *
+	 * <p>The returned results are based on a snapshot of the events that have
+	 * been recorded so far.
+	 *
 	 * @return the {@code EngineExecutionResults} containing all current state information
 	 */
 	public EngineExecutionResults getExecutionResults() {
-		return new EngineExecutionResults(this.events);
+		return new EngineExecutionResults(List.copyOf(this.events));
 	}
 
 }
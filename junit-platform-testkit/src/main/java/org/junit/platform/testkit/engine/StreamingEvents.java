@@ -0,0 +1,111 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.testkit.engine;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestExecutionResult.Status;
+
+/**
+ * {@code StreamingEvents} provides statistics for {@linkplain Event events}
+ * that were counted by a {@link StreamingExecutionRecorder} without being
+ * retained.
+ *
+ * <p>In contrast to {@link Events}, the memory required by
+ * {@code StreamingEvents} is constant, regardless of the number of events.
+ *
+ * @since 6.0
+ * @see StreamingExecutionRecorder
+ * @see EventStatistics
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public final class StreamingEvents {
+
+	private final String category;
+	private final LongAdder[] countsByType = newCounters(EventType.values().length);
+	private final LongAdder[] finishedCountsByStatus = newCounters(Status.values().length);
+
+	StreamingEvents(String category) {
+		this.category = category;
+	}
+
+	private static LongAdder[] newCounters(int length) {
+		return Stream.generate(LongAdder::new).limit(length).toArray(LongAdder[]::new);
+	}
+
+	void count(Event event) {
+		this.countsByType[event.getType().ordinal()].increment();
+		if (event.getType() == EventType.FINISHED) {
+			Status status = event.getRequiredPayload(TestExecutionResult.class).getStatus();
+			this.finishedCountsByStatus[status.ordinal()].increment();
+		}
+	}
+
+	/**
+	 * Get the number of {@linkplain Event events} counted so far.
+	 */
+	public long count() {
+		return Stream.of(this.countsByType).mapToLong(LongAdder::sum).sum();
+	}
+
+	/**
+	 * Get the number of {@linkplain Event events} of the supplied
+	 * {@link EventType} counted so far.
+	 *
+	 * @param type the type of events to count; never {@code null}
+	 */
+	public long count(EventType type) {
+		Preconditions.notNull(type, "EventType must not be null");
+		return this.countsByType[type.ordinal()].sum();
+	}
+
+	/**
+	 * Get the number of {@linkplain EventType#FINISHED finished}
+	 * {@linkplain Event events} with the supplied {@link Status} counted so
+	 * far.
+	 *
+	 * @param status the status of finished events to count; never
+	 * {@code null}
+	 */
+	public long countFinished(Status status) {
+		Preconditions.notNull(status, "Status must not be null");
+		return this.finishedCountsByStatus[status.ordinal()].sum();
+	}
+
+	/**
+	 * Assert statistics for the {@linkplain Event events} counted so far.
+	 *
+	 * <h4>Example</h4>
+	 *
+	 * <p>{@code events.assertStatistics(stats -> stats.started(1).succeeded(1).failed(0));}
+	 *
+	 * @param statisticsConsumer a {@link Consumer} of {@link EventStatistics};
+	 * never {@code null}
+	 * @return this {@code StreamingEvents} object for method chaining; never
+	 * {@code null}
+	 * @see Events#assertStatistics(Consumer)
+	 */
+	public StreamingEvents assertStatistics(Consumer<EventStatistics> statisticsConsumer) {
+		Preconditions.notNull(statisticsConsumer, "Consumer must not be null");
+		EventStatistics eventStatistics = new EventStatistics(this.category, this::count, this::countFinished);
+		statisticsConsumer.accept(eventStatistics);
+		eventStatistics.assertAll();
+		return this;
+	}
+
+}
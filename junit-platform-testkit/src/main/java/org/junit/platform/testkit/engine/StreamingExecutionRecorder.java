@@ -0,0 +1,305 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.testkit.engine;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apiguardian.api.API;
+import org.assertj.core.api.Condition;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.FileEntry;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * {@code StreamingExecutionRecorder} is an {@link EngineExecutionListener}
+ * that evaluates {@linkplain Condition conditions} and counts
+ * {@linkplain Event events} as they occur during the engine execution
+ * lifecycle without retaining them.
+ *
+ * <p>In contrast to {@link ExecutionRecorder}, the memory required by a
+ * {@code StreamingExecutionRecorder} does not depend on the number of events
+ * which makes it suitable for engines that execute a very large number of
+ * tests. Since events are not retained, all conditions must be registered
+ * before the execution starts.
+ *
+ * <p>Conditions may be evaluated concurrently if the engine reports events
+ * from multiple threads.
+ *
+ * <h2>Example</h2>
+ *
+ * <pre class="code">
+ * StreamingExecutionRecorder recorder = EngineTestKit.engine("my-engine")
+ *     .selectors(selectClass(MyTests.class))
+ *     .executeStreaming(new StreamingExecutionRecorder()
+ *         .noEventMatches(event(test(), finishedWithFailure())));
+ *
+ * recorder.assertConditions()
+ *     .testEvents()
+ *     .assertStatistics(stats -> stats.started(1_000_000).succeeded(1_000_000));
+ * </pre>
+ *
+ * @since 6.0
+ * @see EngineTestKit.Builder#executeStreaming(StreamingExecutionRecorder)
+ * @see StreamingEvents
+ * @see EventConditions
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public final class StreamingExecutionRecorder implements EngineExecutionListener {
+
+	private final List<Expectation> expectations = new CopyOnWriteArrayList<>();
+	private final StreamingEvents allEvents = new StreamingEvents("All");
+	private final StreamingEvents testEvents = new StreamingEvents("Test");
+	private final StreamingEvents containerEvents = new StreamingEvents("Container");
+
+	public StreamingExecutionRecorder() {
+	}
+
+	// --- Conditions ----------------------------------------------------------
+
+	/**
+	 * Expect all subsequent {@linkplain Event events} to match the supplied
+	 * condition.
+	 *
+	 * @param condition the condition to evaluate; never {@code null}
+	 * @return this {@code StreamingExecutionRecorder} for method chaining
+	 * @see #assertConditions()
+	 */
+	public StreamingExecutionRecorder allEventsMatch(Condition<? super Event> condition) {
+		return expect(new MatchCountExpectation(condition, false,
+			"Expected all events to match %s but %d did not, e.g. %s"));
+	}
+
+	/**
+	 * Expect at least one of the subsequent {@linkplain Event events} to match
+	 * the supplied condition.
+	 *
+	 * @param condition the condition to evaluate; never {@code null}
+	 * @return this {@code StreamingExecutionRecorder} for method chaining
+	 * @see #assertConditions()
+	 */
+	public StreamingExecutionRecorder anyEventMatches(Condition<? super Event> condition) {
+		return expect(new AnyMatchExpectation(condition));
+	}
+
+	/**
+	 * Expect none of the subsequent {@linkplain Event events} to match the
+	 * supplied condition.
+	 *
+	 * @param condition the condition to evaluate; never {@code null}
+	 * @return this {@code StreamingExecutionRecorder} for method chaining
+	 * @see #assertConditions()
+	 */
+	public StreamingExecutionRecorder noEventMatches(Condition<? super Event> condition) {
+		return expect(new MatchCountExpectation(condition, true,
+			"Expected no events to match %s but %d did, e.g. %s"));
+	}
+
+	private StreamingExecutionRecorder expect(Expectation expectation) {
+		this.expectations.add(expectation);
+		return this;
+	}
+
+	/**
+	 * Assert that all registered conditions were satisfied by the
+	 * {@linkplain Event events} that have occurred so far.
+	 *
+	 * @return this {@code StreamingExecutionRecorder} for method chaining
+	 * @see #allEventsMatch(Condition)
+	 * @see #anyEventMatches(Condition)
+	 * @see #noEventMatches(Condition)
+	 */
+	public StreamingExecutionRecorder assertConditions() {
+		Assertions.assertAll("Event Conditions", this.expectations.stream().map(expectation -> expectation::verify));
+		return this;
+	}
+
+	// --- Statistics ----------------------------------------------------------
+
+	/**
+	 * Get statistics for all {@linkplain Event events}.
+	 */
+	public StreamingEvents allEvents() {
+		return this.allEvents;
+	}
+
+	/**
+	 * Get statistics for {@linkplain Event events} of tests.
+	 *
+	 * @see TestDescriptor#isTest()
+	 */
+	public StreamingEvents testEvents() {
+		return this.testEvents;
+	}
+
+	/**
+	 * Get statistics for {@linkplain Event events} of containers.
+	 *
+	 * @see TestDescriptor#isContainer()
+	 */
+	public StreamingEvents containerEvents() {
+		return this.containerEvents;
+	}
+
+	// --- EngineExecutionListener ---------------------------------------------
+
+	/**
+	 * Process an {@link Event} for a dynamically registered container
+	 * or test.
+	 */
+	@Override
+	public void dynamicTestRegistered(TestDescriptor testDescriptor) {
+		process(Event.dynamicTestRegistered(testDescriptor));
+	}
+
+	/**
+	 * Process an {@link Event} for a container or test that was skipped.
+	 */
+	@Override
+	public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+		process(Event.executionSkipped(testDescriptor, reason));
+	}
+
+	/**
+	 * Process an {@link Event} for a container or test that started.
+	 */
+	@Override
+	public void executionStarted(TestDescriptor testDescriptor) {
+		process(Event.executionStarted(testDescriptor));
+	}
+
+	/**
+	 * Process an {@link Event} for a container or test that completed
+	 * with the provided {@link TestExecutionResult}.
+	 */
+	@Override
+	public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+		process(Event.executionFinished(testDescriptor, testExecutionResult));
+	}
+
+	/**
+	 * Process an {@link Event} for a published {@link ReportEntry}.
+	 */
+	@Override
+	public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+		process(Event.reportingEntryPublished(testDescriptor, entry));
+	}
+
+	/**
+	 * Process an {@link Event} for a published {@link FileEntry}.
+	 */
+	@Override
+	public void fileEntryPublished(TestDescriptor testDescriptor, FileEntry file) {
+		process(Event.fileEntryPublished(testDescriptor, file));
+	}
+
+	private void process(Event event) {
+		this.allEvents.count(event);
+		TestDescriptor testDescriptor = event.getTestDescriptor();
+		if (testDescriptor.isTest()) {
+			this.testEvents.count(event);
+		}
+		if (testDescriptor.isContainer()) {
+			this.containerEvents.count(event);
+		}
+		for (Expectation expectation : this.expectations) {
+			expectation.accept(event);
+		}
+	}
+
+	// -------------------------------------------------------------------------
+
+	private abstract static class Expectation {
+
+		final Condition<? super Event> condition;
+
+		Expectation(Condition<? super Event> condition) {
+			this.condition = Preconditions.notNull(condition, "Condition must not be null");
+		}
+
+		abstract void accept(Event event);
+
+		abstract void verify();
+
+	}
+
+	/**
+	 * Counts events that match or do not match the condition and keeps the
+	 * string representation of the first one.
+	 */
+	private static class MatchCountExpectation extends Expectation {
+
+		private final boolean countMatches;
+		private final String messageFormat;
+		private final LongAdder count = new LongAdder();
+		private final AtomicReference<@Nullable String> example = new AtomicReference<>();
+
+		MatchCountExpectation(Condition<? super Event> condition, boolean countMatches, String messageFormat) {
+			super(condition);
+			this.countMatches = countMatches;
+			this.messageFormat = messageFormat;
+		}
+
+		@Override
+		void accept(Event event) {
+			if (this.condition.matches(event) == this.countMatches) {
+				this.count.increment();
+				if (this.example.get() == null) {
+					this.example.compareAndSet(null, event.toString());
+				}
+			}
+		}
+
+		@Override
+		void verify() {
+			long count = this.count.sum();
+			if (count > 0) {
+				throw new AssertionFailedError(
+					this.messageFormat.formatted(this.condition, count, this.example.get()));
+			}
+		}
+
+	}
+
+	private static class AnyMatchExpectation extends Expectation {
+
+		private volatile boolean matched;
+
+		AnyMatchExpectation(Condition<? super Event> condition) {
+			super(condition);
+		}
+
+		@Override
+		void accept(Event event) {
+			if (!this.matched && this.condition.matches(event)) {
+				this.matched = true;
+			}
+		}
+
+		@Override
+		void verify() {
+			if (!this.matched) {
+				throw new AssertionFailedError("Expected at least one event to match %s".formatted(this.condition));
+			}
+		}
+
+	}
+
+}
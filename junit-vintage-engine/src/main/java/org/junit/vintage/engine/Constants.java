@@ -11,6 +11,7 @@
 package org.junit.vintage.engine;
 
 import static org.apiguardian.api.API.Status.DEPRECATED;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 
 import org.apiguardian.api.API;
@@ -72,6 +73,24 @@ public final class Constants {
 	@API(status = MAINTAINED, since = "5.13.3")
 	public static final String PARALLEL_METHOD_EXECUTION = "junit.vintage.execution.parallel.methods";
 
+	/**
+	 * Specifies the JUnit 4 categories whose tests must not be executed
+	 * concurrently with other tests of the same category during parallel
+	 * execution.
+	 *
+	 * <p>Set this property to a comma-separated list of fully qualified class
+	 * names of categories. Tests annotated with
+	 * {@link org.junit.experimental.categories.Category @Category} declaring
+	 * one of these categories or a subtype thereof, or test classes containing
+	 * such tests, acquire an exclusive lock for the category before being
+	 * executed. Test methods in a test class that itself belongs to such a
+	 * category are executed sequentially. Defaults to no categories.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String PARALLEL_EXCLUSIVE_CATEGORIES = "junit.vintage.execution.parallel.exclusive-categories";
+
 	private Constants() {
 		/* no-op */
 	}
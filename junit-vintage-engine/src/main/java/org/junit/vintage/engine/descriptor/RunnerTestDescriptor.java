@@ -18,12 +18,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
@@ -32,8 +28,6 @@ import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.ClassSource;
-import org.junit.platform.engine.support.hierarchical.OpenTest4JAwareThrowableCollector;
-import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
 import org.junit.runner.Description;
 import org.junit.runner.Request;
 import org.junit.runner.Runner;
@@ -153,19 +147,27 @@ public class RunnerTestDescriptor extends VintageTestDescriptor {
 		this.filters = null;
 	}
 
+	/**
+	 * Apply the collected filters to the underlying runner, if possible, and
+	 * (re)create the children of this descriptor using the supplied creator.
+	 *
+	 * <p>Any children that were created before calling this method are
+	 * replaced. Hence, callers only need to create children beforehand if
+	 * the filters require them.
+	 */
 	public void applyFilters(Consumer<RunnerTestDescriptor> childrenCreator) {
 		if (filters != null && !filters.isEmpty()) {
 			if (runner instanceof Filterable) {
 				this.runner = toRequest().filterWith(new OrFilter(filters)).getRunner();
 				this.description = runner.getDescription();
-				this.children.clear();
-				childrenCreator.accept(this);
 			}
 			else {
 				warnAboutUnfilterableRunner();
 			}
 		}
 		clearFilters();
+		this.children.clear();
+		childrenCreator.accept(this);
 	}
 
 	private Runner getRunnerToReport() {
@@ -176,45 +178,19 @@ public class RunnerTestDescriptor extends VintageTestDescriptor {
 		return ignored;
 	}
 
-	public void setExecutorService(ExecutorService executorService) {
-		Runner runner = getRunnerToReport();
-		if (runner instanceof ParentRunner<?> parentRunner) {
-			parentRunner.setScheduler(new RunnerScheduler() {
-
-				private final List<Future<?>> futures = new CopyOnWriteArrayList<>();
-
-				@Override
-				public void schedule(Runnable childStatement) {
-					futures.add(executorService.submit(childStatement));
-				}
-
-				@Override
-				public void finished() {
-					ThrowableCollector collector = new OpenTest4JAwareThrowableCollector();
-					AtomicBoolean wasInterrupted = new AtomicBoolean(false);
-					for (Future<?> future : futures) {
-						collector.execute(() -> {
-							// We're calling `Future.get()` individually to allow for work stealing
-							// in case `ExecutorService` is a `ForkJoinPool`
-							try {
-								future.get();
-							}
-							catch (ExecutionException e) {
-								throw e.getCause();
-							}
-							catch (InterruptedException e) {
-								wasInterrupted.set(true);
-							}
-						});
-					}
-					collector.assertEmpty();
-					if (wasInterrupted.get()) {
-						logger.warn(() -> "Interrupted while waiting for runner to finish");
-						Thread.currentThread().interrupt();
-					}
-				}
-			});
+	/**
+	 * Set the {@link RunnerScheduler} created by the supplied factory on the
+	 * underlying runner if it is a {@link ParentRunner}.
+	 *
+	 * @return {@code true} if the scheduler was set
+	 * @since 6.0
+	 */
+	public boolean setScheduler(Function<ParentRunner<?>, RunnerScheduler> schedulerFactory) {
+		if (getRunnerToReport() instanceof ParentRunner<?> parentRunner) {
+			parentRunner.setScheduler(schedulerFactory.apply(parentRunner));
+			return true;
 		}
+		return false;
 	}
 
 	private static class ExcludeDescriptionFilter extends Filter {
@@ -38,10 +38,24 @@ class RunnerTestDescriptorPostProcessor {
 	private final TestSourceProvider testSourceProvider = new TestSourceProvider();
 
 	void applyFiltersAndCreateDescendants(RunnerTestDescriptor runnerTestDescriptor) {
-		addChildrenRecursively(runnerTestDescriptor);
+		if (requiresUnfilteredDescendants(runnerTestDescriptor)) {
+			addChildrenRecursively(runnerTestDescriptor);
+		}
 		runnerTestDescriptor.applyFilters(this::addChildrenRecursively);
 	}
 
+	/**
+	 * Only {@link UniqueIdFilter UniqueIdFilters} need to look up descendants
+	 * of the unfiltered runner; in all other cases, creating descendants
+	 * is deferred until filters have been applied so that descriptors are
+	 * only created for descriptions that remain after filtering.
+	 */
+	private static boolean requiresUnfilteredDescendants(RunnerTestDescriptor runnerTestDescriptor) {
+		return runnerTestDescriptor.getFilters() //
+				.map(filters -> filters.stream().anyMatch(UniqueIdFilter.class::isInstance)) //
+				.orElse(false);
+	}
+
 	private void addChildrenRecursively(VintageTestDescriptor parent) {
 		if (parent.getDescription().isTest()) {
 			return;
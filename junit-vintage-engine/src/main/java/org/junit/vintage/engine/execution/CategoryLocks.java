@@ -0,0 +1,224 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.vintage.engine.execution;
+
+import static java.util.Collections.emptyList;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.experimental.categories.Category;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.junit.platform.commons.util.ToStringBuilder;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
+import org.junit.platform.engine.support.hierarchical.ResourceLock;
+import org.junit.runner.Description;
+import org.junit.vintage.engine.Constants;
+
+/**
+ * Provides {@link ResourceLock ResourceLocks} that prevent tests belonging to
+ * the same configured exclusive JUnit 4 {@link Category @Category} from being
+ * executed concurrently.
+ *
+ * <p>A {@link Description} belongs to a category if it or any of its
+ * descendants is annotated with {@code @Category} declaring the category or
+ * one of its subtypes. Locks are acquired in a consistent order to avoid
+ * deadlocks between tests belonging to multiple categories.
+ *
+ * @since 6.0
+ * @see Constants#PARALLEL_EXCLUSIVE_CATEGORIES
+ */
+class CategoryLocks {
+
+	private static final Logger logger = LoggerFactory.getLogger(CategoryLocks.class);
+
+	static final ResourceLock NO_LOCK = new CategoryLock(emptyList(), emptyList());
+
+	@SuppressWarnings("deprecation")
+	static CategoryLocks create(ConfigurationParameters configurationParameters) {
+		List<Class<?>> categories = configurationParameters.get(Constants.PARALLEL_EXCLUSIVE_CATEGORIES) //
+				.stream() //
+				.flatMap(value -> Arrays.stream(value.split(","))) //
+				.map(String::strip) //
+				.filter(name -> !name.isEmpty()) //
+				.flatMap(CategoryLocks::loadCategory) //
+				.toList();
+		return new CategoryLocks(categories);
+	}
+
+	private static Stream<Class<?>> loadCategory(String className) {
+		return ReflectionSupport.tryToLoadClass(className) //
+				.ifFailure(cause -> logger.warn(cause,
+					() -> "Failed to load exclusive category [%s]; ignoring it.".formatted(className))) //
+				.toOptional() //
+				.stream();
+	}
+
+	private final List<Class<?>> exclusiveCategories;
+	private final Map<String, Lock> locksByCategory = new ConcurrentHashMap<>();
+
+	CategoryLocks(List<Class<?>> exclusiveCategories) {
+		this.exclusiveCategories = exclusiveCategories;
+	}
+
+	/**
+	 * {@return whether no exclusive categories are configured}
+	 */
+	boolean isEmpty() {
+		return this.exclusiveCategories.isEmpty();
+	}
+
+	/**
+	 * {@return whether the supplied description itself, disregarding its
+	 * descendants, belongs to an exclusive category}
+	 */
+	boolean isExclusive(Description description) {
+		if (isEmpty()) {
+			return false;
+		}
+		Set<String> keys = new TreeSet<>();
+		collectExclusiveCategories(description, keys);
+		return !keys.isEmpty();
+	}
+
+	/**
+	 * {@return the lock for the exclusive categories the supplied description
+	 * or any of its descendants belong to}
+	 */
+	ResourceLock getLock(Description description) {
+		if (isEmpty()) {
+			return NO_LOCK;
+		}
+		Set<String> keys = new TreeSet<>();
+		collectExclusiveCategoriesRecursively(description, keys);
+		if (keys.isEmpty()) {
+			return NO_LOCK;
+		}
+		List<ExclusiveResource> resources = new ArrayList<>(keys.size());
+		List<Lock> locks = new ArrayList<>(keys.size());
+		for (String key : keys) {
+			resources.add(new ExclusiveResource(key, READ_WRITE));
+			locks.add(this.locksByCategory.computeIfAbsent(key, __ -> new ReentrantLock()));
+		}
+		return new CategoryLock(resources, locks);
+	}
+
+	private void collectExclusiveCategoriesRecursively(Description description, Set<String> keys) {
+		collectExclusiveCategories(description, keys);
+		for (Description child : description.getChildren()) {
+			collectExclusiveCategoriesRecursively(child, keys);
+		}
+	}
+
+	private void collectExclusiveCategories(Description description, Set<String> keys) {
+		collectExclusiveCategories(description.getAnnotation(Category.class), keys);
+		Class<?> testClass = description.getTestClass();
+		if (description.isSuite() && testClass != null) {
+			// some runners do not include the annotations of the test class
+			collectExclusiveCategories(testClass.getAnnotation(Category.class), keys);
+		}
+	}
+
+	private void collectExclusiveCategories(@Nullable Category annotation, Set<String> keys) {
+		if (annotation == null) {
+			return;
+		}
+		for (Class<?> category : annotation.value()) {
+			for (Class<?> exclusiveCategory : this.exclusiveCategories) {
+				if (exclusiveCategory.isAssignableFrom(category)) {
+					keys.add(exclusiveCategory.getName());
+				}
+			}
+		}
+	}
+
+	private static class CategoryLock implements ResourceLock {
+
+		private final List<ExclusiveResource> resources;
+		private final List<Lock> locks;
+
+		CategoryLock(List<ExclusiveResource> resources, List<Lock> locks) {
+			this.resources = resources;
+			this.locks = locks;
+		}
+
+		@Override
+		public ResourceLock acquire() throws InterruptedException {
+			for (Lock lock : this.locks) {
+				ForkJoinPool.managedBlock(new LockManagedBlocker(lock));
+			}
+			return this;
+		}
+
+		@Override
+		public void release() {
+			for (int i = this.locks.size() - 1; i >= 0; i--) {
+				this.locks.get(i).unlock();
+			}
+		}
+
+		@Override
+		public List<ExclusiveResource> getResources() {
+			return this.resources;
+		}
+
+		@Override
+		public boolean isExclusive() {
+			return !this.resources.isEmpty();
+		}
+
+		@Override
+		public String toString() {
+			return new ToStringBuilder(this) //
+					.append("resources", this.resources) //
+					.toString();
+		}
+	}
+
+	private static class LockManagedBlocker implements ForkJoinPool.ManagedBlocker {
+
+		private final Lock lock;
+		private volatile boolean acquired;
+
+		LockManagedBlocker(Lock lock) {
+			this.lock = lock;
+		}
+
+		@Override
+		public boolean block() throws InterruptedException {
+			if (!this.acquired) {
+				this.lock.lockInterruptibly();
+				this.acquired = true;
+			}
+			return true;
+		}
+
+		@Override
+		public boolean isReleasable() {
+			return this.acquired || (this.acquired = this.lock.tryLock());
+		}
+	}
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.vintage.engine.execution;
+
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.OpenTest4JAwareThrowableCollector;
+import org.junit.platform.engine.support.hierarchical.ResourceLock;
+import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
+import org.junit.runner.Description;
+import org.junit.runners.ParentRunner;
+import org.junit.runners.model.RunnerScheduler;
+
+/**
+ * {@link RunnerScheduler} that executes the children of a {@link ParentRunner}
+ * concurrently via a {@link HierarchicalTestExecutorService}.
+ *
+ * <p>Children are collected while they are {@linkplain #schedule scheduled}
+ * and executed once the runner has {@linkplain #finished() finished}
+ * scheduling them so that waiting for them to complete participates in work
+ * stealing. This requires the runner to be executed by a thread of the
+ * executor service.
+ *
+ * @since 6.0
+ */
+class ParallelRunnerScheduler implements RunnerScheduler {
+
+	private static final Logger logger = LoggerFactory.getLogger(ParallelRunnerScheduler.class);
+
+	private final ParentRunner<?> runner;
+	private final HierarchicalTestExecutorService executorService;
+	private final CategoryLocks categoryLocks;
+	private final List<Runnable> children = new ArrayList<>();
+
+	ParallelRunnerScheduler(ParentRunner<?> runner, HierarchicalTestExecutorService executorService,
+			CategoryLocks categoryLocks) {
+		this.runner = runner;
+		this.executorService = executorService;
+		this.categoryLocks = categoryLocks;
+	}
+
+	@Override
+	public void schedule(Runnable childStatement) {
+		// called sequentially by ParentRunner.runChildren()
+		this.children.add(childStatement);
+	}
+
+	@Override
+	public void finished() {
+		List<ResourceLock> locks = getLocksForChildren();
+		List<VintageTestTask> tasks = new ArrayList<>(this.children.size());
+		for (int i = 0; i < this.children.size(); i++) {
+			tasks.add(new VintageTestTask(CONCURRENT, locks.get(i), this.children.get(i)));
+		}
+		this.children.clear();
+		this.executorService.invokeAll(tasks);
+		ThrowableCollector collector = new OpenTest4JAwareThrowableCollector();
+		tasks.forEach(task -> collector.execute(task::rethrowFailure));
+		collector.assertEmpty();
+	}
+
+	private List<ResourceLock> getLocksForChildren() {
+		int count = this.children.size();
+		List<ResourceLock> locks = new ArrayList<>(count);
+		List<Description> descriptions = this.categoryLocks.isEmpty() //
+				? List.of() //
+				: this.runner.getDescription().getChildren();
+		if (!this.categoryLocks.isEmpty() && descriptions.size() != count) {
+			logger.warn(() -> "Runner %s scheduled %d children but describes %d; executing them without locks.".formatted(
+				this.runner.getClass().getName(), count, descriptions.size()));
+		}
+		for (int i = 0; i < count; i++) {
+			// ParentRunner schedules its children in the order they are described
+			locks.add(descriptions.size() == count //
+					? this.categoryLocks.getLock(descriptions.get(i)) //
+					: CategoryLocks.NO_LOCK);
+		}
+		return locks;
+	}
+
+}
@@ -23,15 +23,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -43,6 +42,12 @@ import org.junit.vintage.engine.descriptor.VintageTestDescriptor;
 import org.opentest4j.MultipleFailuresError;
 
 /**
+ * Bookkeeping of the execution state of the descendants of a
+ * {@link RunnerTestDescriptor}.
+ *
+ * <p>Instances are safe for concurrent use by the threads executing the
+ * children of a runner in parallel.
+ *
  * @since 4.12
  */
 class TestRun {
@@ -50,21 +55,24 @@ class TestRun {
 	private final RunnerTestDescriptor runnerTestDescriptor;
 	private final Set<TestDescriptor> runnerDescendants;
 	private final Map<Description, VintageDescriptors> descriptionToDescriptors;
-	private final Map<TestDescriptor, List<TestExecutionResult>> executionResults = new LinkedHashMap<>();
-	private final Set<TestDescriptor> skippedDescriptors = new LinkedHashSet<>();
-	private final Set<TestDescriptor> startedDescriptors = new HashSet<>();
+	private final Map<TestDescriptor, List<TestExecutionResult>> executionResults = new ConcurrentHashMap<>();
+	private final Set<TestDescriptor> skippedDescriptors = ConcurrentHashMap.newKeySet();
+	private final Set<TestDescriptor> startedDescriptors = ConcurrentHashMap.newKeySet();
+	// guarded by itself since the insertion order is significant
 	private final Map<TestDescriptor, EventType> inProgressDescriptors = new LinkedHashMap<>();
-	private final Set<TestDescriptor> finishedDescriptors = new LinkedHashSet<>();
+	private final Set<TestDescriptor> finishedDescriptors = ConcurrentHashMap.newKeySet();
 	private final ThreadLocal<Deque<VintageTestDescriptor>> inProgressDescriptorsByStartingThread = ThreadLocal.withInitial(
 		ArrayDeque::new);
 
 	TestRun(RunnerTestDescriptor runnerTestDescriptor) {
 		this.runnerTestDescriptor = runnerTestDescriptor;
-		runnerDescendants = new LinkedHashSet<>(runnerTestDescriptor.getDescendants());
+		Set<? extends TestDescriptor> descendants = runnerTestDescriptor.getDescendants();
+		runnerDescendants = ConcurrentHashMap.newKeySet();
+		runnerDescendants.addAll(descendants);
 		// @formatter:off
-		descriptionToDescriptors = concat(Stream.of(runnerTestDescriptor), runnerDescendants.stream())
+		descriptionToDescriptors = concat(Stream.of(runnerTestDescriptor), descendants.stream())
 				.map(VintageTestDescriptor.class::cast)
-				.collect(toMap(VintageTestDescriptor::getDescription, VintageDescriptors::new, VintageDescriptors::merge, HashMap::new));
+				.collect(toMap(VintageTestDescriptor::getDescription, VintageDescriptors::new, VintageDescriptors::merge, ConcurrentHashMap::new));
 		// @formatter:on
 	}
 
@@ -79,16 +87,22 @@ class TestRun {
 	}
 
 	Collection<TestDescriptor> getInProgressTestDescriptorsWithSyntheticStartEvents() {
-		List<TestDescriptor> result = inProgressDescriptors.entrySet().stream() //
-				.filter(entry -> entry.getValue().equals(EventType.SYNTHETIC)) //
-				.map(Entry::getKey) //
-				.collect(toCollection(ArrayList::new));
+		List<TestDescriptor> result;
+		synchronized (inProgressDescriptors) {
+			result = inProgressDescriptors.entrySet().stream() //
+					.filter(entry -> entry.getValue().equals(EventType.SYNTHETIC)) //
+					.map(Entry::getKey) //
+					.collect(toCollection(ArrayList::new));
+		}
 		Collections.reverse(result);
 		return result;
 	}
 
 	Collection<TestDescriptor> getInProgressTestDescriptors() {
-		List<TestDescriptor> result = new ArrayList<>(inProgressDescriptors.keySet());
+		List<TestDescriptor> result;
+		synchronized (inProgressDescriptors) {
+			result = new ArrayList<>(inProgressDescriptors.keySet());
+		}
 		Collections.reverse(result);
 		return result;
 	}
@@ -98,7 +112,9 @@ class TestRun {
 	}
 
 	boolean hasSyntheticStartEvent(TestDescriptor testDescriptor) {
-		return inProgressDescriptors.get(testDescriptor) == EventType.SYNTHETIC;
+		synchronized (inProgressDescriptors) {
+			return inProgressDescriptors.get(testDescriptor) == EventType.SYNTHETIC;
+		}
 	}
 
 	Optional<VintageTestDescriptor> lookupNextTestDescriptor(Description description) {
@@ -142,7 +158,9 @@ class TestRun {
 	}
 
 	void markStarted(TestDescriptor testDescriptor, EventType eventType) {
-		inProgressDescriptors.put(testDescriptor, eventType);
+		synchronized (inProgressDescriptors) {
+			inProgressDescriptors.put(testDescriptor, eventType);
+		}
 		startedDescriptors.add(testDescriptor);
 		if (testDescriptor instanceof VintageTestDescriptor vintageDescriptor) {
 			inProgressDescriptorsByStartingThread.get().addLast(vintageDescriptor);
@@ -160,7 +178,9 @@ class TestRun {
 	}
 
 	void markFinished(TestDescriptor testDescriptor) {
-		inProgressDescriptors.remove(testDescriptor);
+		synchronized (inProgressDescriptors) {
+			inProgressDescriptors.remove(testDescriptor);
+		}
 		finishedDescriptors.add(testDescriptor);
 		if (testDescriptor instanceof VintageTestDescriptor descriptor) {
 			inProgressDescriptorsByStartingThread.get().removeLastOccurrence(descriptor);
@@ -185,7 +205,7 @@ class TestRun {
 
 	void storeResult(TestDescriptor testDescriptor, TestExecutionResult result) {
 		List<TestExecutionResult> testExecutionResults = executionResults.computeIfAbsent(testDescriptor,
-			key -> new ArrayList<>());
+			key -> new CopyOnWriteArrayList<>());
 		testExecutionResults.add(result);
 	}
 
@@ -238,7 +258,7 @@ class TestRun {
 			this.descriptors = descriptors;
 		}
 
-		void add(VintageTestDescriptor descriptor) {
+		synchronized void add(VintageTestDescriptor descriptor) {
 			descriptors.add(descriptor);
 		}
 
@@ -255,7 +275,7 @@ class TestRun {
 		 * @param description the {@code Description} to look up
 		 */
 		@SuppressWarnings("ReferenceEquality")
-		Optional<VintageTestDescriptor> getUnambiguously(Description description) {
+		synchronized Optional<VintageTestDescriptor> getUnambiguously(Description description) {
 			if (descriptors.isEmpty()) {
 				return Optional.empty();
 			}
@@ -269,11 +289,11 @@ class TestRun {
 			// @formatter:on
 		}
 
-		private void incrementSkippedOrStarted() {
+		private synchronized void incrementSkippedOrStarted() {
 			skippedOrStartedCount++;
 		}
 
-		private Optional<VintageTestDescriptor> getNextUnstarted() {
+		private synchronized Optional<VintageTestDescriptor> getNextUnstarted() {
 			if (skippedOrStartedCount < descriptors.size()) {
 				return Optional.of(descriptors.get(skippedOrStartedCount));
 			}
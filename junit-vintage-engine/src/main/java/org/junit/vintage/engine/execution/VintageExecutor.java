@@ -12,18 +12,17 @@ package org.junit.vintage.engine.execution;
 
 import static java.util.Objects.requireNonNullElse;
 import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.SAME_THREAD;
 
-import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Future;
 
 import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.ExceptionUtils;
@@ -31,6 +30,10 @@ import org.junit.platform.engine.CancellationToken;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ResourceLock;
 import org.junit.vintage.engine.Constants;
 import org.junit.vintage.engine.descriptor.RunnerTestDescriptor;
 import org.junit.vintage.engine.descriptor.VintageEngineDescriptor;
@@ -45,7 +48,6 @@ public class VintageExecutor {
 	private static final Logger logger = LoggerFactory.getLogger(VintageExecutor.class);
 
 	private static final int DEFAULT_THREAD_POOL_SIZE = Runtime.getRuntime().availableProcessors();
-	private static final int SHUTDOWN_TIMEOUT_SECONDS = 30;
 
 	private final VintageEngineDescriptor engineDescriptor;
 	private final EngineExecutionListener engineExecutionListener;
@@ -95,17 +97,19 @@ public class VintageExecutor {
 	}
 
 	private boolean executeInParallel(CancellationToken cancellationToken) {
-		ExecutorService executorService = Executors.newWorkStealingPool(getThreadPoolSize());
 		RunnerExecutor runnerExecutor = new RunnerExecutor(engineExecutionListener, cancellationToken);
-
-		List<RunnerTestDescriptor> runnerTestDescriptors = collectRunnerTestDescriptors(executorService);
-
-		if (!classes) {
-			executeClassesSequentially(runnerTestDescriptors, runnerExecutor);
-			return false;
+		CategoryLocks categoryLocks = CategoryLocks.create(configurationParameters);
+		try (HierarchicalTestExecutorService executorService = new ForkJoinPoolHierarchicalTestExecutorService(
+			new FixedParallelExecutionConfiguration(getThreadPoolSize()))) {
+
+			List<VintageTestTask> classTasks = collectRunnerTestDescriptors().stream() //
+					.map(it -> createClassTask(it, runnerExecutor, executorService, categoryLocks)) //
+					.toList();
+			// the root task ensures that all tasks are executed by threads of the executor service
+			VintageTestTask rootTask = new VintageTestTask(SAME_THREAD, CategoryLocks.NO_LOCK,
+				() -> executorService.invokeAll(classTasks));
+			return awaitCompletion(executorService.submit(rootTask), rootTask);
 		}
-
-		return executeClassesInParallel(runnerTestDescriptors, runnerExecutor, executorService);
 	}
 
 	private int getThreadPoolSize() {
@@ -125,64 +129,80 @@ public class VintageExecutor {
 		return DEFAULT_THREAD_POOL_SIZE;
 	}
 
-	private List<RunnerTestDescriptor> collectRunnerTestDescriptors(ExecutorService executorService) {
+	private List<RunnerTestDescriptor> collectRunnerTestDescriptors() {
 		return engineDescriptor.getModifiableChildren().stream() //
 				.map(RunnerTestDescriptor.class::cast) //
-				.map(it -> methods ? parallelMethodExecutor(it, executorService) : it) //
 				.toList();
 	}
 
-	private RunnerTestDescriptor parallelMethodExecutor(RunnerTestDescriptor runnerTestDescriptor,
-			ExecutorService executorService) {
-		runnerTestDescriptor.setExecutorService(executorService);
-		return runnerTestDescriptor;
-	}
+	private VintageTestTask createClassTask(RunnerTestDescriptor runnerTestDescriptor, RunnerExecutor runnerExecutor,
+			HierarchicalTestExecutorService executorService, CategoryLocks categoryLocks) {
 
-	private void executeClassesSequentially(List<RunnerTestDescriptor> runnerTestDescriptors,
-			RunnerExecutor runnerExecutor) {
-		for (RunnerTestDescriptor runnerTestDescriptor : runnerTestDescriptors) {
-			runnerExecutor.execute(runnerTestDescriptor);
+		ResourceLock resourceLock = categoryLocks.getLock(runnerTestDescriptor.getDescription());
+		if (methods && !categoryLocks.isExclusive(runnerTestDescriptor.getDescription())) {
+			boolean schedulerSet = runnerTestDescriptor.setScheduler(
+				runner -> new ParallelRunnerScheduler(runner, executorService, categoryLocks));
+			if (schedulerSet) {
+				// the children acquire the locks for their own categories
+				resourceLock = CategoryLocks.NO_LOCK;
+			}
 		}
+		return new VintageTestTask(classes ? CONCURRENT : SAME_THREAD, resourceLock,
+			() -> runnerExecutor.execute(runnerTestDescriptor));
 	}
 
-	private boolean executeClassesInParallel(List<RunnerTestDescriptor> runnerTestDescriptors,
-			RunnerExecutor runnerExecutor, ExecutorService executorService) {
-		List<CompletableFuture<Void>> futures = new ArrayList<>();
-		for (RunnerTestDescriptor runnerTestDescriptor : runnerTestDescriptors) {
-			CompletableFuture<Void> future = CompletableFuture.runAsync(
-				() -> runnerExecutor.execute(runnerTestDescriptor), executorService);
-			futures.add(future);
-		}
-
-		CompletableFuture<Void> allOf = CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
-		boolean wasInterrupted = false;
+	private boolean awaitCompletion(Future<@Nullable Void> future, VintageTestTask rootTask) {
 		try {
-			allOf.get();
+			future.get();
+			rootTask.rethrowFailure();
+			return false;
 		}
 		catch (InterruptedException e) {
 			logger.warn(e, () -> "Interruption while waiting for parallel test execution to finish");
-			wasInterrupted = true;
+			return true;
 		}
 		catch (ExecutionException e) {
 			throw ExceptionUtils.throwAsUncheckedException(requireNonNullElse(e.getCause(), e));
 		}
-		finally {
-			shutdownExecutorService(executorService);
+		catch (Throwable t) {
+			throw ExceptionUtils.throwAsUncheckedException(t);
 		}
-		return wasInterrupted;
 	}
 
-	private void shutdownExecutorService(ExecutorService executorService) {
-		try {
-			executorService.shutdown();
-			if (!executorService.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
-				logger.warn(() -> "Executor service did not terminate within the specified timeout");
-				executorService.shutdownNow();
-			}
+	private static class FixedParallelExecutionConfiguration implements ParallelExecutionConfiguration {
+
+		private static final int KEEP_ALIVE_SECONDS = 30;
+
+		private final int parallelism;
+
+		FixedParallelExecutionConfiguration(int parallelism) {
+			this.parallelism = parallelism;
 		}
-		catch (InterruptedException e) {
-			logger.warn(e, () -> "Interruption while waiting for executor service to shut down");
-			Thread.currentThread().interrupt();
+
+		@Override
+		public int getParallelism() {
+			return this.parallelism;
+		}
+
+		@Override
+		public int getMinimumRunnable() {
+			return this.parallelism;
+		}
+
+		@Override
+		public int getMaxPoolSize() {
+			// leave room for compensating threads while waiting for category locks
+			return this.parallelism + 256;
+		}
+
+		@Override
+		public int getCorePoolSize() {
+			return this.parallelism;
+		}
+
+		@Override
+		public int getKeepAliveSeconds() {
+			return KEEP_ALIVE_SECONDS;
 		}
 	}
 
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.vintage.engine.execution;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+import org.junit.platform.engine.support.hierarchical.ResourceLock;
+
+/**
+ * {@link TestTask} that executes a test class or a child of a JUnit 4
+ * {@link org.junit.runners.ParentRunner} on a
+ * {@link org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService}.
+ *
+ * <p>Failures thrown by the action are recorded instead of being propagated
+ * so that all sibling tasks are awaited before any of them is reported.
+ *
+ * @since 6.0
+ */
+class VintageTestTask implements TestTask {
+
+	private final ExecutionMode executionMode;
+	private final ResourceLock resourceLock;
+	private final Runnable action;
+
+	private volatile @Nullable Throwable failure;
+
+	VintageTestTask(ExecutionMode executionMode, ResourceLock resourceLock, Runnable action) {
+		this.executionMode = executionMode;
+		this.resourceLock = resourceLock;
+		this.action = action;
+	}
+
+	@Override
+	public ExecutionMode getExecutionMode() {
+		return this.executionMode;
+	}
+
+	@Override
+	public ResourceLock getResourceLock() {
+		return this.resourceLock;
+	}
+
+	@Override
+	public void execute() {
+		try {
+			this.action.run();
+		}
+		catch (Throwable t) {
+			UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+			this.failure = t;
+		}
+	}
+
+	void rethrowFailure() throws Throwable {
+		Throwable failure = this.failure;
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+}
@@ -14,6 +14,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
 import static org.mockito.Mockito.mock;
 
 import java.util.logging.Level;
@@ -69,12 +70,43 @@ class RunnerTestDescriptorPostProcessorTests {
 		// @formatter:on
 	}
 
-	private void resolve(DiscoverySelector selector) {
+	@Test
+	void createsDescendantsForRemainingDescriptionsOfMethodFilter() {
+		var runnerTestDescriptor = resolve(
+			selectMethod(PlainJUnit4TestCaseWithFiveTestMethods.class, "successfulTest"));
+
+		assertThat(runnerTestDescriptor.getChildren()) //
+				.extracting(TestDescriptor::getUniqueId) //
+				.containsExactly(VintageUniqueIdBuilder.uniqueIdForMethod(PlainJUnit4TestCaseWithFiveTestMethods.class,
+					"successfulTest"));
+	}
+
+	@Test
+	void createsDescendantsForRemainingDescriptionsOfUniqueIdFilter() {
+		var uniqueId = VintageUniqueIdBuilder.uniqueIdForMethod(PlainJUnit4TestCaseWithFiveTestMethods.class,
+			"failingTest");
+
+		var runnerTestDescriptor = resolve(selectUniqueId(uniqueId));
+
+		assertThat(runnerTestDescriptor.getChildren()) //
+				.extracting(TestDescriptor::getUniqueId) //
+				.containsExactly(uniqueId);
+	}
+
+	@Test
+	void createsAllDescendantsIfNoFiltersAreToBeApplied() {
+		var runnerTestDescriptor = resolve(selectClass(PlainJUnit4TestCaseWithFiveTestMethods.class));
+
+		assertThat(runnerTestDescriptor.getChildren()).hasSize(5);
+	}
+
+	private RunnerTestDescriptor resolve(DiscoverySelector selector) {
 		var request = LauncherDiscoveryRequestBuilder.request().selectors(selector).listeners(
 			mock(LauncherDiscoveryListener.class)).build();
 		TestDescriptor engineDescriptor = new VintageDiscoverer().discover(request, VintageUniqueIdBuilder.engineId());
 		var runnerTestDescriptor = (RunnerTestDescriptor) getOnlyElement(engineDescriptor.getChildren());
 		new RunnerTestDescriptorPostProcessor().applyFiltersAndCreateDescendants(runnerTestDescriptor);
+		return runnerTestDescriptor;
 	}
 
 }
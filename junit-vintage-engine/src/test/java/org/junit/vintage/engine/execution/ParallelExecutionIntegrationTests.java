@@ -49,6 +49,7 @@ import org.junit.platform.testkit.engine.Event;
 import org.junit.platform.testkit.engine.Events;
 import org.junit.vintage.engine.Constants;
 import org.junit.vintage.engine.VintageTestEngine;
+import org.junit.vintage.engine.samples.junit4.JUnit4ParallelCategoriesTestCase;
 import org.junit.vintage.engine.samples.junit4.JUnit4ParallelClassesTestCase;
 import org.junit.vintage.engine.samples.junit4.JUnit4ParallelMethodsTestCase;
 
@@ -156,6 +157,21 @@ class ParallelExecutionIntegrationTests {
 		// @formatter:on
 	}
 
+	@Test
+	void executesTestsOfExclusiveCategoriesSequentially() {
+		JUnit4ParallelCategoriesTestCase.AbstractTrackingTestCase.activeTests.set(0);
+		JUnit4ParallelCategoriesTestCase.AbstractTrackingTestCase.maxActiveTests.set(0);
+
+		var request = requestBuilder(4, true, true, JUnit4ParallelCategoriesTestCase.class) //
+				.configurationParameter(Constants.PARALLEL_EXCLUSIVE_CATEGORIES,
+					JUnit4ParallelCategoriesTestCase.Exclusive.class.getName()) //
+				.build();
+		var events = EngineTestKit.execute(new VintageTestEngine(), request).testEvents();
+
+		events.assertStatistics(stats -> stats.succeeded(5).failed(0));
+		assertThat(JUnit4ParallelCategoriesTestCase.AbstractTrackingTestCase.maxActiveTests.get()).isEqualTo(1);
+	}
+
 	private List<Instant> getTimestampsFor(List<Event> events, Condition<Event> condition) {
 		// @formatter:off
 		return events.stream()
@@ -184,9 +200,14 @@ class ParallelExecutionIntegrationTests {
 			request(poolSize, parallelClasses, parallelMethods, testClass));
 	}
 
-	@SuppressWarnings("deprecation")
 	private static LauncherDiscoveryRequest request(int poolSize, boolean parallelClasses, boolean parallelMethods,
 			Class<?>... testClasses) {
+		return requestBuilder(poolSize, parallelClasses, parallelMethods, testClasses).build();
+	}
+
+	@SuppressWarnings("deprecation")
+	private static LauncherDiscoveryRequestBuilder requestBuilder(int poolSize, boolean parallelClasses,
+			boolean parallelMethods, Class<?>... testClasses) {
 		var classSelectors = Arrays.stream(testClasses) //
 				.map(DiscoverySelectors::selectClass) //
 				.toArray(ClassSelector[]::new);
@@ -197,8 +218,7 @@ class ParallelExecutionIntegrationTests {
 				.configurationParameter(Constants.PARALLEL_POOL_SIZE, String.valueOf(poolSize)) //
 				.configurationParameter(Constants.PARALLEL_CLASS_EXECUTION, String.valueOf(parallelClasses)) //
 				.configurationParameter(Constants.PARALLEL_METHOD_EXECUTION, String.valueOf(parallelMethods)) //
-				.enableImplicitConfigurationParameters(false) //
-				.build();
+				.enableImplicitConfigurationParameters(false);
 	}
 
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.vintage.engine.samples.junit4;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+@RunWith(Enclosed.class)
+public class JUnit4ParallelCategoriesTestCase {
+
+	public interface Exclusive {
+	}
+
+	public interface MoreExclusive extends Exclusive {
+	}
+
+	public static class AbstractTrackingTestCase {
+
+		public static final AtomicInteger activeTests = new AtomicInteger();
+		public static final AtomicInteger maxActiveTests = new AtomicInteger();
+
+		protected static void track() throws InterruptedException {
+			int active = activeTests.incrementAndGet();
+			maxActiveTests.accumulateAndGet(active, Math::max);
+			Thread.sleep(50);
+			activeTests.decrementAndGet();
+		}
+	}
+
+	public static class FirstCategoryTestCase extends AbstractTrackingTestCase {
+
+		@Test
+		@Category(Exclusive.class)
+		public void firstTest() throws Exception {
+			track();
+		}
+
+		@Test
+		@Category(MoreExclusive.class)
+		public void secondTest() throws Exception {
+			track();
+		}
+
+		@Test
+		public void uncategorizedTest() {
+		}
+	}
+
+	@Category(Exclusive.class)
+	public static class SecondCategoryTestCase extends AbstractTrackingTestCase {
+
+		@Test
+		public void firstTest() throws Exception {
+			track();
+		}
+
+		@Test
+		public void secondTest() throws Exception {
+			track();
+		}
+	}
+}
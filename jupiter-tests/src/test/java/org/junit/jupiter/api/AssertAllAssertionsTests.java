@@ -14,6 +14,7 @@ import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.AssertionTestUtils.assertMessageEquals;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertAllConcurrently;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -23,6 +24,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.function.Executable;
@@ -198,6 +203,95 @@ class AssertAllAssertionsTests {
 		assertThat(multipleFailuresError.getFailures()).hasSize(100).doesNotContainNull();
 	}
 
+	@Nested
+	class Concurrently {
+
+		private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+		@AfterEach
+		void shutDownExecutor() throws Exception {
+			executor.shutdownNow();
+			assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+		}
+
+		@SuppressWarnings("DataFlowIssue")
+		@Test
+		void assertAllConcurrentlyWithNullExecutor() {
+			assertPrecondition("executor must not be null",
+				() -> assertAllConcurrently(null, Stream.of(() -> assertTrue(true))));
+		}
+
+		@SuppressWarnings("DataFlowIssue")
+		@Test
+		void assertAllConcurrentlyWithNullInExecutableArray() {
+			assertPrecondition("individual executables must not be null",
+				() -> assertAllConcurrently(executor, (Executable) null));
+		}
+
+		@Test
+		void assertAllConcurrentlyExecutesExecutablesInParallel() {
+			Executable executable = awaitingExecutable(new CountDownLatch(3));
+			assertAllConcurrently(executor, executable, executable, executable);
+
+			executable = awaitingExecutable(new CountDownLatch(3));
+			assertAllConcurrently("heading", executor, List.of(executable, executable, executable));
+
+			executable = awaitingExecutable(new CountDownLatch(3));
+			assertAllConcurrently(executor, Stream.of(executable, executable, executable));
+		}
+
+		private static Executable awaitingExecutable(CountDownLatch latch) {
+			return () -> {
+				latch.countDown();
+				assertTrue(latch.await(10, TimeUnit.SECONDS), "executables were not executed in parallel");
+			};
+		}
+
+		@Test
+		void assertAllConcurrentlyReportsFailuresInDeclarationOrder() {
+			CountDownLatch secondCompleted = new CountDownLatch(1);
+			CountDownLatch thirdCompleted = new CountDownLatch(1);
+
+			// @formatter:off
+			MultipleFailuresError multipleFailuresError = assertThrows(MultipleFailuresError.class, () ->
+				assertAllConcurrently("heading", executor,
+					() -> {
+						secondCompleted.await();
+						throw new IOException("first");
+					},
+					() -> {
+						thirdCompleted.await();
+						secondCompleted.countDown();
+						throw new IllegalStateException("second");
+					},
+					() -> {
+						thirdCompleted.countDown();
+						Assertions.fail("third");
+					}
+				)
+			);
+			// @formatter:on
+
+			assertExpectedExceptionTypes(multipleFailuresError, IOException.class, IllegalStateException.class,
+				AssertionFailedError.class);
+			assertThat(multipleFailuresError.getFailures()).extracting(Throwable::getMessage) //
+					.containsExactly("first", "second", "third");
+			assertThat(multipleFailuresError).hasMessageStartingWith("heading");
+		}
+
+		@Test
+		void assertAllConcurrentlyWithExecutableThatThrowsUnrecoverableException() {
+			CountDownLatch completed = new CountDownLatch(1);
+
+			OutOfMemoryError outOfMemoryError = assertThrows(OutOfMemoryError.class,
+				() -> assertAllConcurrently(executor, AssertionTestUtils::runOutOfMemory, completed::countDown));
+
+			assertEquals("boom", outOfMemoryError.getMessage());
+			assertEquals(0, completed.getCount());
+		}
+
+	}
+
 	private void assertPrecondition(String msg, Executable executable) {
 		PreconditionViolationException exception = assertThrows(PreconditionViolationException.class, executable);
 		assertMessageEquals(exception, msg);
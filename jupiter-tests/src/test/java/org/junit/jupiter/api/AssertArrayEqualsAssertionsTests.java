@@ -15,6 +15,9 @@ import static org.junit.jupiter.api.AssertionTestUtils.assertMessageEquals;
 import static org.junit.jupiter.api.AssertionTestUtils.assertMessageStartsWith;
 import static org.junit.jupiter.api.AssertionTestUtils.expectAssertionFailedError;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
 
 import org.opentest4j.AssertionFailedError;
 
@@ -465,6 +468,63 @@ class AssertArrayEqualsAssertionsTests {
 		}
 	}
 
+	@Test
+	void assertArrayEqualsByteBuffers() {
+		ByteBuffer buffer = ByteBuffer.wrap(new byte[] { 1, 2, 3 });
+		assertArrayEquals(buffer, buffer);
+		assertArrayEquals(null, (ByteBuffer) null);
+		assertArrayEquals(ByteBuffer.allocate(0), ByteBuffer.allocateDirect(0));
+		assertArrayEquals(ByteBuffer.wrap(new byte[] { 1, 2, 3 }), direct(1, 2, 3), "message");
+		assertArrayEquals(ByteBuffer.wrap(new byte[] { 1, 2, 3 }), direct(1, 2, 3), () -> "message");
+		assertArrayEquals(ByteBuffer.wrap(new byte[] { 0, 1, 2, 3, 0 }, 1, 3), direct(1, 2, 3));
+	}
+
+	@Test
+	void assertArrayEqualsByteBufferVsNull() {
+		try {
+			assertArrayEquals(null, direct(7, 8, 9));
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageEquals(ex, "expected buffer was <null>");
+		}
+
+		try {
+			assertArrayEquals(direct(7, 8, 9), null, "message");
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageEquals(ex, "message ==> actual buffer was <null>");
+		}
+	}
+
+	@Test
+	void assertArrayEqualsByteBuffersOfDifferentLength() {
+		try {
+			assertArrayEquals(direct(1, 2, 100), direct(1, 2, 100, 101), () -> "message");
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageEquals(ex, "message ==> buffer lengths differ, expected: <3> but was: <4>");
+		}
+	}
+
+	@Test
+	void assertArrayEqualsDifferentByteBuffers() {
+		ByteBuffer expected = direct(12, 13, 12, 13);
+		ByteBuffer actual = ByteBuffer.wrap(new byte[] { 0, 12, 13, 12, 14 });
+		actual.position(1);
+		try {
+			assertArrayEquals(expected, actual);
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageEquals(ex, "buffer contents differ at index [3], expected: <13> but was: <14>");
+		}
+		assertEquals(0, expected.position());
+		assertEquals(1, actual.position());
+	}
+
 	@Test
 	void assertArrayEqualsShortArrays() {
 		short[] array = {};
@@ -1996,4 +2056,12 @@ class AssertArrayEqualsAssertionsTests {
 		}
 	}
 
+	private static ByteBuffer direct(int... values) {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(values.length);
+		for (int value : values) {
+			buffer.put((byte) value);
+		}
+		return buffer.flip();
+	}
+
 }
@@ -18,6 +18,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertLinesMatch;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -240,6 +241,14 @@ class AssertLinesMatchAssertionsTests {
 			() -> assertFalse(AssertLinesMatch.matches("\\d\\d+", "1")));
 	}
 
+	@Test
+	void assertLinesMatchCachesCompiledPatterns() {
+		var pattern = AssertLinesMatch.compile("duration: \\d+ ms");
+		assertTrue(pattern.isPresent());
+		assertSame(pattern.get(), AssertLinesMatch.compile("duration: \\d+ ms").orElseThrow());
+		assertFalse(AssertLinesMatch.compile("[invalid").isPresent());
+	}
+
 	@Test
 	void largeListsThatDoNotMatchAreTruncated() {
 		var expected = IntStream.range(1, 999).boxed().map(Object::toString).toList();
@@ -316,6 +325,34 @@ class AssertLinesMatchAssertionsTests {
 			assertLinesMatch(expected.lines(), actual.lines());
 		}
 
+		@Test
+		void assertLinesMatchConsumesActualLinesIncrementally() {
+			var actual = Stream.iterate(0, i -> i + 1).map(String::valueOf);
+			assertLinesMatch(Stream.of("0", "\\d", ">> 3 >>", "5", ">> infinitely many more >>"), actual);
+		}
+
+		@Test
+		void assertLinesMatchMoreExpectedThanActualAvailableFails() {
+			var expected = List.of("first line", ">>>>", "third line");
+			var actual = List.of("first line", "third line");
+			var error = assertThrows(AssertionFailedError.class,
+				() -> assertLinesMatch(expected.stream(), actual.stream()));
+			assertError(error, "expected 3 lines, but only got 2", expected, actual);
+		}
+
+		@Test
+		void assertLinesMatchFailsWithAllActualLines() {
+			var expected = List.of("first line", "second line", ">>>>");
+			var actual = List.of("first line", "sec0nd line", "third line", "last line");
+			var error = assertThrows(AssertionFailedError.class,
+				() -> assertLinesMatch(expected.stream(), actual.stream()));
+			var expectedMessage = String.join(System.lineSeparator(), List.of( //
+				"expected line #2 doesn't match actual line #2", //
+				"\texpected: `second line`", //
+				"\t  actual: `sec0nd line`"));
+			assertError(error, expectedMessage, expected, actual);
+		}
+
 		@Test
 		void assertLinesMatchUsingRegexPatterns() {
 			var expected = """
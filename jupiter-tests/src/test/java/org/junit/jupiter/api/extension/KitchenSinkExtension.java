@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.api.extension;
 
+import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.Optional;
@@ -58,6 +59,7 @@ public class KitchenSinkExtension implements
 
 	// Conditional Test Execution
 	ExecutionCondition,
+		StaticExecutionCondition,
 
 	// @TestTemplate and @ClassTemplate
 	TestTemplateInvocationContextProvider,
@@ -170,6 +172,11 @@ public class KitchenSinkExtension implements
 		throw new UnsupportedOperationException();
 	}
 
+	@Override
+	public ConditionEvaluationResult evaluateExecutionCondition(AnnotatedElement element) {
+		throw new UnsupportedOperationException();
+	}
+
 	// --- @TestTemplate -------------------------------------------------------
 
 	@Override
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api.io;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedFileSystemException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link InMemoryFileSystem}, {@link InMemoryFileSystemProvider},
+ * and {@link InMemoryPath}.
+ *
+ * @since 6.0
+ */
+class InMemoryFileSystemTests {
+
+	private final InMemoryFileSystem fileSystem = InMemoryFileSystemProvider.INSTANCE.newFileSystem();
+
+	@AfterEach
+	void closeFileSystem() {
+		this.fileSystem.close();
+	}
+
+	@Test
+	void parsesAndManipulatesPaths() {
+		Path path = this.fileSystem.getPath("/a", "b/", "", "c");
+
+		assertThat(path).hasToString("/a/b/c");
+		assertThat(path.isAbsolute()).isTrue();
+		assertThat(path.getNameCount()).isEqualTo(3);
+		assertThat(path.getFileName()).hasToString("c");
+		assertThat(path.getParent()).hasToString("/a/b");
+		assertThat(path.getRoot()).hasToString("/");
+		assertThat(path.startsWith(this.fileSystem.getPath("/a/b"))).isTrue();
+		assertThat(path.startsWith(this.fileSystem.getPath("a/b"))).isFalse();
+		assertThat(path.endsWith(this.fileSystem.getPath("b/c"))).isTrue();
+		assertThat(path.subpath(1, 3)).hasToString("b/c");
+		assertThat(path.resolve("d")).hasToString("/a/b/c/d");
+		assertThat(path.resolveSibling("d")).hasToString("/a/b/d");
+		assertThat(this.fileSystem.getPath("/a/./b/../c/..").normalize()).hasToString("/a");
+		assertThat(this.fileSystem.getPath("../a/..").normalize()).hasToString("..");
+		assertThat(this.fileSystem.getPath("/a/b").relativize(this.fileSystem.getPath("/a/c/d"))) //
+				.hasToString("../c/d");
+		assertThat(this.fileSystem.getPath("a").toAbsolutePath()).hasToString("/a");
+		assertThat(path.toUri()).hasScheme("junit-memory").hasPath("/a/b/c");
+	}
+
+	@Test
+	void writesAndReadsFiles() throws Exception {
+		Path file = this.fileSystem.getPath("/file.txt");
+
+		Files.writeString(file, "Hello");
+		Files.writeString(file, ", World!", APPEND);
+
+		assertThat(Files.readString(file)).isEqualTo("Hello, World!");
+		assertThat(Files.size(file)).isEqualTo(13);
+		assertThat(Files.isRegularFile(file)).isTrue();
+		assertThat(Files.isDirectory(file)).isFalse();
+
+		try (SeekableByteChannel channel = Files.newByteChannel(file, StandardOpenOption.READ,
+			StandardOpenOption.WRITE)) {
+			channel.position(7).write(ByteBuffer.wrap("JUnit".getBytes(StandardCharsets.UTF_8)));
+			channel.truncate(12);
+		}
+		assertThat(Files.readString(file)).isEqualTo("Hello, JUnit");
+
+		Files.writeString(file, "Bye");
+		assertThat(Files.readString(file)).isEqualTo("Bye");
+	}
+
+	@Test
+	void reportsMissingFiles() {
+		Path file = this.fileSystem.getPath("/missing/file.txt");
+
+		assertThat(Files.exists(file)).isFalse();
+		assertThrows(NoSuchFileException.class, () -> Files.readString(file));
+		assertThrows(NoSuchFileException.class, () -> Files.writeString(file, "content"));
+		assertThrows(NoSuchFileException.class, () -> Files.delete(file));
+	}
+
+	@Test
+	void createsListsAndDeletesDirectories() throws Exception {
+		Path dir = Files.createDirectories(this.fileSystem.getPath("/a/b"));
+		Files.createFile(dir.resolve("z.txt"));
+		Files.createDirectory(dir.resolve("y"));
+
+		assertThat(Files.isDirectory(dir)).isTrue();
+		try (Stream<Path> children = Files.list(dir)) {
+			assertThat(children.map(Path::toString)).containsExactly("/a/b/y", "/a/b/z.txt");
+		}
+		assertThrows(FileAlreadyExistsException.class, () -> Files.createDirectory(dir));
+		assertThrows(DirectoryNotEmptyException.class, () -> Files.delete(dir));
+
+		Files.delete(dir.resolve("z.txt"));
+		Files.delete(dir.resolve("y"));
+		Files.delete(dir);
+
+		assertThat(Files.exists(dir)).isFalse();
+		assertThat(Files.exists(dir.getParent())).isTrue();
+	}
+
+	@Test
+	void walksFileTree() throws Exception {
+		Path root = this.fileSystem.getPath("/root");
+		Files.createDirectories(root.resolve("a/b"));
+		Files.writeString(root.resolve("a/one.txt"), "1");
+		Files.writeString(root.resolve("a/b/two.txt"), "2");
+
+		try (Stream<Path> paths = Files.walk(root)) {
+			assertThat(paths.map(root::relativize).map(Path::toString)) //
+					.containsExactly("", "a", "a/b", "a/b/two.txt", "a/one.txt");
+		}
+		try (Stream<Path> paths = Files.find(root, Integer.MAX_VALUE,
+			(path, attributes) -> this.fileSystem.getPathMatcher("glob:**.txt").matches(path))) {
+			assertThat(paths).hasSize(2);
+		}
+	}
+
+	@Test
+	void copiesAndMovesFilesAndDirectories() throws Exception {
+		Path source = Files.createDirectory(this.fileSystem.getPath("/source"));
+		Path file = Files.writeString(source.resolve("file.txt"), "content");
+
+		Path copy = Files.copy(file, this.fileSystem.getPath("/copy.txt"));
+		Files.writeString(copy, "changed");
+		assertThat(Files.readString(file)).isEqualTo("content");
+		assertThat(Files.isSameFile(file, copy)).isFalse();
+		assertThrows(FileAlreadyExistsException.class, () -> Files.copy(file, copy));
+		Files.copy(file, copy, REPLACE_EXISTING);
+		assertThat(Files.readString(copy)).isEqualTo("content");
+
+		Path target = Files.move(source, this.fileSystem.getPath("/target"));
+		assertThat(Files.exists(source)).isFalse();
+		assertThat(Files.readString(target.resolve("file.txt"))).isEqualTo("content");
+		assertThrows(IOException.class, () -> Files.move(target, target.resolve("nested")));
+	}
+
+	@Test
+	void copiesFilesBetweenFileSystems() throws Exception {
+		try (InMemoryFileSystem otherFileSystem = InMemoryFileSystemProvider.INSTANCE.newFileSystem()) {
+			Path file = Files.writeString(this.fileSystem.getPath("/file.txt"), "content");
+			Path target = otherFileSystem.getPath("/file.txt");
+
+			Files.move(file, target);
+
+			assertThat(Files.exists(file)).isFalse();
+			assertThat(Files.readString(target)).isEqualTo("content");
+		}
+	}
+
+	@Test
+	void discardsContentsWhenClosed() throws Exception {
+		Path file = Files.writeString(this.fileSystem.getPath("/file.txt"), "content");
+
+		this.fileSystem.close();
+
+		assertThat(this.fileSystem.isOpen()).isFalse();
+		assertThrows(ClosedFileSystemException.class, () -> Files.readString(file));
+	}
+
+}
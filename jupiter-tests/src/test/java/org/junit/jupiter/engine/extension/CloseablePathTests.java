@@ -21,6 +21,7 @@ import static java.nio.file.Files.delete;
 import static java.nio.file.Files.deleteIfExists;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIOException;
 import static org.junit.jupiter.api.condition.OS.WINDOWS;
 import static org.junit.jupiter.api.io.CleanupMode.ALWAYS;
 import static org.junit.jupiter.api.io.CleanupMode.DEFAULT;
@@ -71,6 +72,7 @@ import org.junit.jupiter.api.io.TempDirFactory;
 import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
 import org.junit.jupiter.engine.execution.NamespaceAwareStore;
 import org.junit.jupiter.engine.extension.TempDirectory.CloseablePath;
+import org.junit.jupiter.engine.extension.TempDirectory.FileOperations;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.platform.commons.PreconditionViolationException;
@@ -463,6 +465,77 @@ class CloseablePathTests extends AbstractJupiterTestEngineTests {
 		}
 	}
 
+	/**
+	 * @since 6.0
+	 */
+	@Nested
+	@DisplayName("asynchronous cleanup")
+	class AsyncCleanup {
+
+		private final TempDirFactory factory = spy(TempDirFactory.Standard.INSTANCE);
+		private final AsyncTempDirCleanup asyncCleanup = new AsyncTempDirCleanup(4);
+
+		@AfterEach
+		void cleanupTempDirectory() throws IOException {
+			if (closeablePath != null) {
+				deleteIfExists(closeablePath.get());
+			}
+		}
+
+		@DisplayName("deletes nested directories in the background")
+		@ParameterizedTest
+		@ElementTypeSource
+		void deletesNestedDirectories(Class<?> elementType) throws IOException {
+			closeablePath = TempDirectory.createTempDir(factory, ALWAYS, elementType, elementContext, extensionContext,
+				asyncCleanup);
+			var rootDir = closeablePath.get();
+			for (int i = 0; i < 5; i++) {
+				var dir = Files.createDirectories(rootDir.resolve("dir" + i).resolve("nested"));
+				for (int j = 0; j < 10; j++) {
+					createFile(dir.resolve("file" + j));
+					createFile(dir.getParent().resolve("file" + j));
+				}
+			}
+			createFile(rootDir.resolve("file"));
+
+			closeablePath.close();
+			asyncCleanup.close();
+
+			verify(factory).close();
+			assertThat(rootDir).doesNotExist();
+		}
+
+		@DisplayName("reports failures when closed")
+		@Test
+		void reportsFailuresWhenClosed() throws IOException {
+			extensionContext.getStore(TempDirectory.NAMESPACE) //
+					.put(TempDirectory.FILE_OPERATIONS_KEY, (FileOperations) path -> {
+						if (path.endsWith("undeletable")) {
+							throw new IOException("Simulated failure");
+						}
+						Files.delete(path);
+					});
+			closeablePath = TempDirectory.createTempDir(factory, ALWAYS, Path.class, elementContext, extensionContext,
+				asyncCleanup);
+			var rootDir = closeablePath.get();
+			var undeletable = createFile(createDirectory(rootDir.resolve("dir")).resolve("undeletable"));
+
+			closeablePath.close();
+
+			assertThatIOException() //
+					.isThrownBy(asyncCleanup::close) //
+					.withMessage(
+						"Failed to clean up 1 temp dir(s) asynchronously (see suppressed exceptions for details)") //
+					.satisfies(e -> assertThat(e.getSuppressed()).singleElement() //
+							.extracting(Throwable::getMessage).asString() //
+							.startsWith("Failed to delete temp directory " + rootDir.toAbsolutePath()));
+			verify(factory).close();
+
+			delete(undeletable);
+			delete(undeletable.getParent());
+		}
+	}
+
 	@NullUnmarked
 	static class TestCase {
 
@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.engine.extension;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.engine.Constants.DEACTIVATE_CONDITIONS_PATTERN_PROPERTY_NAME;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
@@ -19,13 +20,19 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.lang.reflect.AnnotatedElement;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
 import org.junit.jupiter.api.extension.ExecutionCondition;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.extension.StaticExecutionCondition;
 import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
 import org.junit.jupiter.engine.JupiterTestEngine;
 import org.junit.jupiter.engine.extension.sub.AlwaysDisabledCondition;
@@ -74,6 +81,35 @@ class ExecutionConditionTests extends AbstractJupiterTestEngineTests {
 		tests.assertStatistics(stats -> stats.started(2).succeeded(2).skipped(3));
 	}
 
+	@Test
+	void staticConditionIsEvaluatedOncePerElement() {
+		CountingStaticCondition.evaluations.set(0);
+
+		Events tests = executeTestsForClass(TestCaseWithStaticCondition.class).testEvents();
+
+		tests.assertStatistics(stats -> stats.started(3).succeeded(3));
+		// once for the class and once for the @RepeatedTest method
+		assertThat(CountingStaticCondition.evaluations).hasValue(2);
+	}
+
+	@Test
+	void staticConditionResultsAreNotSharedBetweenInstancesOfTheSameType() {
+		EngineExecutionResults results = executeTestsForClass(TestCaseWithDifferentlyConfiguredStaticConditions.class);
+
+		results.containerEvents().assertStatistics(stats -> stats.skipped(1));
+		results.testEvents().assertStatistics(stats -> stats.started(0));
+	}
+
+	@Test
+	void testClassIsNotInstantiatedForStaticallyDisabledTest() {
+		TestCaseWithDisabledMethod.instances.set(0);
+
+		Events tests = executeTestsForClass(TestCaseWithDisabledMethod.class).testEvents();
+
+		tests.assertStatistics(stats -> stats.started(1).succeeded(1).skipped(1));
+		assertThat(TestCaseWithDisabledMethod.instances).hasValue(1);
+	}
+
 	@Test
 	void overrideConditionsUsingFullyQualifiedClassName() {
 		String deactivatePattern = SystemPropertyCondition.class.getName() + "," + DEACTIVATE;
@@ -203,6 +239,75 @@ class ExecutionConditionTests extends AbstractJupiterTestEngineTests {
 
 	}
 
+	@ExtendWith(CountingStaticCondition.class)
+	static class TestCaseWithStaticCondition {
+
+		@RepeatedTest(3)
+		void repeatedTest() {
+		}
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class TestCaseWithDifferentlyConfiguredStaticConditions {
+
+		@RegisterExtension
+		static StaticExecutionCondition enabled = new ConfigurableStaticCondition(true);
+
+		@RegisterExtension
+		static StaticExecutionCondition disabled = new ConfigurableStaticCondition(false);
+
+		@Test
+		void test() {
+			fail("this should be disabled");
+		}
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class TestCaseWithDisabledMethod {
+
+		static final AtomicInteger instances = new AtomicInteger();
+
+		TestCaseWithDisabledMethod() {
+			instances.incrementAndGet();
+		}
+
+		@Test
+		void enabledTest() {
+		}
+
+		@Test
+		@Disabled
+		void disabledTest() {
+			fail("this should be @Disabled");
+		}
+	}
+
+	static class CountingStaticCondition implements StaticExecutionCondition {
+
+		static final AtomicInteger evaluations = new AtomicInteger();
+
+		@Override
+		public ConditionEvaluationResult evaluateExecutionCondition(AnnotatedElement element) {
+			evaluations.incrementAndGet();
+			return ConditionEvaluationResult.enabled("always enabled");
+		}
+	}
+
+	static class ConfigurableStaticCondition implements StaticExecutionCondition {
+
+		private final boolean enabled;
+
+		ConfigurableStaticCondition(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		@Override
+		public ConditionEvaluationResult evaluateExecutionCondition(AnnotatedElement element) {
+			return this.enabled ? ConditionEvaluationResult.enabled("enabled") : ConditionEvaluationResult.disabled(
+				"disabled");
+		}
+	}
+
 	@Target({ ElementType.METHOD, ElementType.TYPE })
 	@Retention(RetentionPolicy.RUNTIME)
 	@ExtendWith({ AlwaysDisabledCondition.class, AnotherAlwaysDisabledCondition.class })
@@ -12,6 +12,7 @@ package org.junit.jupiter.engine.extension;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.engine.extension.MutableExtensionRegistry.createRegistryFrom;
 import static org.junit.jupiter.engine.extension.MutableExtensionRegistry.createRegistryWithDefaultExtensions;
@@ -214,6 +215,33 @@ class ExtensionRegistryTests {
 		assertTrue(hasRun.get());
 	}
 
+	@Test
+	void invocationInterceptorsAreCachedUntilRegistryIsModified() {
+		List<InvocationInterceptor> interceptors = registry.getInvocationInterceptors();
+
+		assertEquals(1, interceptors.size());
+		assertSame(interceptors, registry.getInvocationInterceptors());
+
+		registry.registerExtension(MyInvocationInterceptor.class);
+
+		List<InvocationInterceptor> updatedInterceptors = registry.getInvocationInterceptors();
+		assertEquals(2, updatedInterceptors.size());
+		assertEquals(MyInvocationInterceptor.class, updatedInterceptors.get(1).getClass());
+		assertSame(updatedInterceptors, registry.getInvocationInterceptors());
+	}
+
+	@Test
+	void invocationInterceptorsIncludeLateInitializedExtensions() throws Exception {
+		registry.registerUninitializedExtension(MyTestCase.class, MyTestCase.class.getDeclaredField("interceptor"),
+			testInstance -> ((MyTestCase) testInstance).interceptor);
+
+		assertEquals(1, registry.getInvocationInterceptors().size());
+
+		registry.initializeExtensions(MyTestCase.class, new MyTestCase());
+
+		assertEquals(2, registry.getInvocationInterceptors().size());
+	}
+
 	private long countExtensions(ExtensionRegistry registry, Class<? extends Extension> extensionType) {
 		return registry.stream(extensionType).count();
 	}
@@ -291,4 +319,12 @@ class ExtensionRegistryTests {
 		}
 	}
 
+	static class MyInvocationInterceptor implements InvocationInterceptor {
+	}
+
+	static class MyTestCase {
+
+		final InvocationInterceptor interceptor = new MyInvocationInterceptor();
+	}
+
 }
@@ -12,10 +12,13 @@ package org.junit.jupiter.engine.extension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.ClassOrderer.LongestDurationFirst.STORE_FILE_PROPERTY_NAME;
 import static org.junit.jupiter.engine.Constants.DEFAULT_TEST_CLASS_ORDER_PROPERTY_NAME;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClasses;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -40,7 +43,11 @@ import org.junit.jupiter.api.extension.ClassTemplateInvocationContextProvider;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.fixtures.TrackLogRecords;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.platform.commons.logging.LogRecordListener;
+import org.junit.platform.commons.util.DurationStore;
+import org.junit.platform.commons.util.RunHistory;
+import org.junit.platform.commons.util.RunHistory.Outcome;
 import org.junit.platform.engine.DiscoveryIssue;
 import org.junit.platform.engine.DiscoveryIssue.Severity;
 import org.junit.platform.engine.DiscoverySelector;
@@ -165,6 +172,61 @@ class OrderedClassTests {
 				.assertStatistics(stats -> stats.succeeded(callSequence.size()));
 	}
 
+	@Test
+	void longestDurationFirst(@TempDir Path tempDir) throws Exception {
+		var storeFile = tempDir.resolve("durations.txt");
+		var store = DurationStore.load(storeFile);
+		store.put(DurationStore.key(A_TestCase.class), Duration.ofMillis(10));
+		store.put(DurationStore.key(C_TestCase.class), Duration.ofMillis(500));
+		store.save(storeFile);
+
+		// @formatter:off
+		testKit(ClassOrderer.LongestDurationFirst.class, selectClasses(A_TestCase.class, B_TestCase.class, C_TestCase.class))
+				.configurationParameter(STORE_FILE_PROPERTY_NAME, storeFile.toString())
+				.execute()
+				.testEvents()
+				.assertStatistics(stats -> stats.succeeded(callSequence.size()));
+		// @formatter:on
+
+		// Classes without recorded duration are executed first
+		assertThat(callSequence)//
+				.containsExactly("B_TestCase", "C_TestCase", "A_TestCase");
+	}
+
+	@Test
+	void longestDurationFirstRetainsOriginalOrderWithoutStoreFile() {
+		executeTests(ClassOrderer.LongestDurationFirst.class)//
+				.assertStatistics(stats -> stats.succeeded(callSequence.size()));
+
+		assertThat(callSequence)//
+				.containsExactly("A_TestCase", "B_TestCase", "C_TestCase");
+	}
+
+	@Test
+	void failedFirst(@TempDir Path tempDir) throws Exception {
+		var historyFile = tempDir.resolve("history.txt");
+		var history = RunHistory.create();
+		history.putOutcome("[engine:junit-jupiter]/[class:b]/[method:a()]",
+			RunHistory.key(B_TestCase.class, BaseTestCase.class.getDeclaredMethod("a")), Outcome.FAILED);
+		history.putOutcome("[engine:junit-jupiter]/[class:c]/[method:a()]",
+			RunHistory.key(C_TestCase.class, BaseTestCase.class.getDeclaredMethod("a")), Outcome.SUCCESSFUL);
+		history.putFingerprint(RunHistory.key(C_TestCase.class),
+			RunHistory.fingerprint(C_TestCase.class).orElseThrow());
+		history.save(historyFile);
+
+		// @formatter:off
+		testKit(ClassOrderer.FailedFirst.class, selectClasses(A_TestCase.class, B_TestCase.class, C_TestCase.class))
+				.configurationParameter(ClassOrderer.FailedFirst.HISTORY_FILE_PROPERTY_NAME, historyFile.toString())
+				.execute()
+				.testEvents()
+				.assertStatistics(stats -> stats.succeeded(callSequence.size()));
+		// @formatter:on
+
+		// Failed classes first, followed by new or changed classes
+		assertThat(callSequence)//
+				.containsExactly("B_TestCase", "A_TestCase", "C_TestCase");
+	}
+
 	@Test
 	void classTemplateWithLocalConfig() {
 		var classTemplate = ClassTemplateWithLocalConfigTestCase.class;
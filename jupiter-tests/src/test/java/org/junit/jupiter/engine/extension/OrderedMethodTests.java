@@ -13,6 +13,7 @@ package org.junit.jupiter.engine.extension;
 import static java.util.Comparator.comparing;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.junit.jupiter.api.MethodOrderer.LongestDurationFirst.STORE_FILE_PROPERTY_NAME;
 import static org.junit.jupiter.api.MethodOrderer.Random.RANDOM_SEED_PROPERTY_NAME;
 import static org.junit.jupiter.api.Order.DEFAULT;
 import static org.junit.jupiter.engine.Constants.DEFAULT_PARALLEL_EXECUTION_MODE;
@@ -23,6 +24,8 @@ import static org.junit.platform.launcher.LauncherConstants.CRITICAL_DISCOVERY_I
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -54,6 +57,7 @@ import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.TestReporter;
 import org.junit.jupiter.api.fixtures.TrackLogRecords;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.junit.jupiter.engine.JupiterTestEngine;
@@ -61,6 +65,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.platform.commons.logging.LogRecordListener;
 import org.junit.platform.commons.util.ClassUtils;
+import org.junit.platform.commons.util.DurationStore;
+import org.junit.platform.commons.util.RunHistory;
+import org.junit.platform.commons.util.RunHistory.Outcome;
 import org.junit.platform.engine.DiscoveryIssue;
 import org.junit.platform.engine.DiscoveryIssue.Severity;
 import org.junit.platform.engine.support.descriptor.ClassSource;
@@ -163,6 +170,51 @@ class OrderedMethodTests {
 		assertThat(threadNames).hasSize(1);
 	}
 
+	@Test
+	void longestDurationFirst(@TempDir Path tempDir) throws Exception {
+		var testClass = WithoutTestMethodOrderTestCase.class;
+		var storeFile = tempDir.resolve("durations.txt");
+		var store = DurationStore.load(storeFile);
+		store.put(DurationStore.key(testClass, testClass.getDeclaredMethod("test1")), Duration.ofMillis(10));
+		store.put(DurationStore.key(testClass, testClass.getDeclaredMethod("test3")), Duration.ofMillis(500));
+		store.save(storeFile);
+
+		var tests = testKit(testClass, MethodOrderer.LongestDurationFirst.class, Severity.WARNING) //
+				.configurationParameter(DEFAULT_PARALLEL_EXECUTION_MODE, "same_thread") //
+				.configurationParameter(STORE_FILE_PROPERTY_NAME, storeFile.toString()) //
+				.execute() //
+				.testEvents();
+
+		tests.assertStatistics(stats -> stats.succeeded(callSequence.size()));
+
+		// Methods without recorded duration are executed first
+		assertThat(callSequence).containsExactly("test2()", "test3()", "test1()");
+	}
+
+	@Test
+	void failedFirst(@TempDir Path tempDir) throws Exception {
+		var testClass = WithoutTestMethodOrderTestCase.class;
+		var historyFile = tempDir.resolve("history.txt");
+		var history = RunHistory.create();
+		history.putOutcome("[engine:junit-jupiter]/[method:test1()]",
+			RunHistory.key(testClass, testClass.getDeclaredMethod("test1")), Outcome.FAILED);
+		history.putOutcome("[engine:junit-jupiter]/[method:test2()]",
+			RunHistory.key(testClass, testClass.getDeclaredMethod("test2")), Outcome.SUCCESSFUL);
+		history.putFingerprint(RunHistory.key(testClass), RunHistory.fingerprint(testClass).orElseThrow());
+		history.save(historyFile);
+
+		var tests = testKit(testClass, MethodOrderer.FailedFirst.class, Severity.WARNING) //
+				.configurationParameter(MethodOrderer.FailedFirst.HISTORY_FILE_PROPERTY_NAME, historyFile.toString()) //
+				.execute() //
+				.testEvents();
+
+		tests.assertStatistics(stats -> stats.succeeded(callSequence.size()));
+
+		// Failed methods first, followed by new methods
+		assertThat(callSequence).containsExactly("test1()", "test3()", "test2()");
+		assertThat(threadNames).hasSize(1);
+	}
+
 	@ParameterizedTest
 	@ValueSource(classes = { WithoutTestMethodOrderTestCase.class, ClassTemplateTestCase.class })
 	void defaultOrderer(Class<?> testClass) {
@@ -26,6 +26,8 @@ import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.testkit.engine.EventConditions.engine;
+import static org.junit.platform.testkit.engine.EventConditions.event;
 import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
 import static org.junit.platform.testkit.engine.TestExecutionResultConditions.cause;
 import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
@@ -41,6 +43,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Parameter;
 import java.nio.file.DirectoryNotEmptyException;
 import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
@@ -75,6 +78,7 @@ import org.junit.jupiter.api.extension.ExtensionConfigurationException;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.InMemoryTempDirFactory;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.api.io.TempDirFactory;
 import org.junit.jupiter.api.io.TempDirFactory.Standard;
@@ -262,6 +266,35 @@ class TempDirectoryTests extends AbstractJupiterTestEngineTests {
 		);
 	}
 
+	@Test
+	@DisplayName("is capable of removing directories asynchronously")
+	void removesDirectoriesAsynchronously() {
+		var results = executeTestsForClassWithAsyncCleanup(
+			NonMintPermissionContentInTempDirectoryDoesNotCauseFailureTestCase.class);
+
+		results.testEvents().assertStatistics(stats -> stats.started(13).succeeded(13));
+		results.containerEvents().assertStatistics(stats -> stats.failed(0));
+	}
+
+	@Test
+	@DisplayName("reports failures of asynchronous cleanup when the engine finishes")
+	void reportsFailuresOfAsynchronousCleanup() {
+		var results = executeTestsForClassWithAsyncCleanup(UndeletableFileTestCase.class);
+
+		results.testEvents().assertStatistics(stats -> stats.started(1).succeeded(1));
+		results.containerEvents().assertThatEvents() //
+				.haveExactly(1, event(engine(), finishedWithFailure(cause(instanceOf(IOException.class),
+					message("Failed to clean up 1 temp dir(s) asynchronously "
+							+ "(see suppressed exceptions for details)")))));
+	}
+
+	private EngineExecutionResults executeTestsForClassWithAsyncCleanup(Class<?> testClass) {
+		return executeTests(request() //
+				.selectors(selectClass(testClass)) //
+				.configurationParameter(TempDir.ASYNC_CLEANUP_ENABLED_PROPERTY_NAME, "true") //
+				.build());
+	}
+
 	@Test
 	void usingTheRemovedScopeConfigurationParameterProducesWarning() {
 		var results = discoverTests(request() //
@@ -443,6 +476,15 @@ class TempDirectoryTests extends AbstractJupiterTestEngineTests {
 					.assertStatistics(stats -> stats.started(1).succeeded(1));
 		}
 
+		@Test
+		@DisplayName("that uses built-in in-memory file system")
+		void supportsInMemoryFactory() {
+			executeTestsForClass(InMemoryFactoryTestCase.class).testEvents()//
+					.assertStatistics(stats -> stats.started(1).succeeded(1));
+
+			assertThat(requireNonNull(InMemoryFactoryTestCase.tempDir).getFileSystem().isOpen()).isFalse();
+		}
+
 		@Test
 		@DisplayName("that uses annotated element name as temp dir name prefix")
 		void supportsFactoryWithAnnotatedElementNameAsPrefix() {
@@ -1391,6 +1433,25 @@ class TempDirectoryTests extends AbstractJupiterTestEngineTests {
 
 	}
 
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class InMemoryFactoryTestCase {
+
+		@Nullable
+		static Path tempDir;
+
+		@Test
+		void test(@TempDir(factory = InMemoryTempDirFactory.class) Path tempDir) throws IOException {
+			InMemoryFactoryTestCase.tempDir = tempDir;
+			assertThat(tempDir).exists().isDirectory();
+			assertThat(tempDir.getFileSystem()).isNotEqualTo(FileSystems.getDefault());
+			assertThat(tempDir.getFileName()).asString().startsWith("junit-");
+
+			Path file = Files.writeString(Files.createDirectory(tempDir.resolve("dir")).resolve("file.txt"), "content");
+			assertThat(file).hasContent("content");
+		}
+
+	}
+
 	@SuppressWarnings("JUnitMalformedDeclaration")
 	static class FactoryWithAnnotatedElementNameAsPrefixTestCase {
 
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static java.nio.file.attribute.PosixFilePermission.GROUP_WRITE;
+import static java.nio.file.attribute.PosixFilePermission.OTHERS_WRITE;
+import static java.nio.file.attribute.PosixFilePermission.OWNER_WRITE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.condition.OS.WINDOWS;
+import static org.junit.jupiter.api.io.CleanupMode.ON_SUCCESS;
+import static org.junit.platform.testkit.engine.EventConditions.event;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.EventConditions.test;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.cause;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.api.io.TempDirTemplate;
+import org.junit.jupiter.api.io.TemplateTempDirFactory;
+import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
+
+/**
+ * Integration tests for {@link TemplateTempDirFactory} and
+ * {@link TempDirTemplate @TempDirTemplate}.
+ *
+ * @since 6.0
+ */
+class TemplateTempDirFactoryTests extends AbstractJupiterTestEngineTests {
+
+	private static final String TEMPLATE = "src/test/resources/org/junit/jupiter/engine/extension/template";
+
+	@Test
+	@DisabledOnOs(WINDOWS)
+	void seedsTempDirsWithHardLinksToCopyOfTemplate() {
+		executeTestsForClass(LinkingTestCase.class).testEvents() //
+				.assertStatistics(stats -> stats.started(2).succeeded(2));
+	}
+
+	@Test
+	@DisabledOnOs(WINDOWS)
+	void deletingLinkedTempDirDoesNotChangePermissionsOfTemplateFiles() {
+		executeTestsForClass(LinkedTempDirDeletionTestCase.class).testEvents() //
+				.assertStatistics(stats -> stats.started(2).succeeded(2));
+	}
+
+	@Test
+	void copiesFilesWhenTempDirIsNotAlwaysDeleted() {
+		executeTestsForClass(OnSuccessCleanupTestCase.class).testEvents() //
+				.assertStatistics(stats -> stats.started(1).succeeded(1));
+	}
+
+	@Test
+	void copiesFilesWhenLinkingIsDisabled() {
+		executeTestsForClass(CopyingTestCase.class).testEvents() //
+				.assertStatistics(stats -> stats.started(1).succeeded(1));
+	}
+
+	@Test
+	void reportsMissingTemplateDirectory() {
+		executeTestsForClass(MissingTemplateTestCase.class).testEvents() //
+				.assertStatistics(stats -> stats.started(1).failed(1)) //
+				.assertThatEvents().haveExactly(1, event(test(), finishedWithFailure( //
+					instanceOf(ParameterResolutionException.class), //
+					cause(instanceOf(ExtensionConfigurationException.class),
+						message("Failed to create default temp directory"),
+						cause(instanceOf(ExtensionConfigurationException.class),
+							message(m -> m.startsWith("Template directory does not exist: ")))))));
+	}
+
+	private static void assertSeededFromTemplate(Path tempDir) throws IOException {
+		assertThat(tempDir.resolve("greeting.txt")).hasContent("Hello, World!");
+		assertThat(tempDir.resolve("nested/numbers.txt")).hasContent("1\n2\n3");
+		assertThat(Files.isSameFile(tempDir.resolve("greeting.txt"), Path.of(TEMPLATE, "greeting.txt"))).isFalse();
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class LinkingTestCase {
+
+		@TempDirTemplate(TEMPLATE)
+		Path fieldTempDir;
+
+		@Test
+		void linksFilesOfTemplate(@TempDirTemplate(TEMPLATE) File parameterTempDir) throws IOException {
+			assertSeededFromTemplate(this.fieldTempDir);
+			assertSeededFromTemplate(parameterTempDir.toPath());
+
+			assertThat(parameterTempDir.toPath()).isNotEqualTo(this.fieldTempDir);
+			assertThat(Files.isSameFile(this.fieldTempDir.resolve("greeting.txt"),
+				parameterTempDir.toPath().resolve("greeting.txt"))).isTrue();
+		}
+
+		@Test
+		void linkedFilesCanBeReplaced(@TempDirTemplate(TEMPLATE) Path parameterTempDir) throws IOException {
+			Path file = this.fieldTempDir.resolve("greeting.txt");
+			Files.delete(file);
+			Files.writeString(file, "Goodbye!");
+
+			assertThat(file).hasContent("Goodbye!");
+			assertSeededFromTemplate(parameterTempDir);
+		}
+
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	@TestMethodOrder(OrderAnnotation.class)
+	static class LinkedTempDirDeletionTestCase {
+
+		@Test
+		@Order(1)
+		void makeDirectoryReadOnly(@TempDirTemplate(TEMPLATE) Path tempDir) {
+			assertThat(tempDir.resolve("nested").toFile().setWritable(false)).isTrue();
+		}
+
+		@Test
+		@Order(2)
+		void linkedFilesAreStillReadOnly(@TempDirTemplate(TEMPLATE) Path tempDir) throws IOException {
+			assertThat(Files.getPosixFilePermissions(tempDir.resolve("nested/numbers.txt"))) //
+					.doesNotContain(OWNER_WRITE, GROUP_WRITE, OTHERS_WRITE);
+		}
+
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class OnSuccessCleanupTestCase {
+
+		@Test
+		void copiesFilesOfTemplate(
+				@TempDir(factory = TemplateTempDirFactory.class, cleanup = ON_SUCCESS) //
+				@TempDirTemplate(TEMPLATE) Path tempDir1,
+				@TempDirTemplate(TEMPLATE) Path tempDir2) throws IOException {
+			assertSeededFromTemplate(tempDir1);
+			assertSeededFromTemplate(tempDir2);
+
+			Path file = tempDir1.resolve("greeting.txt");
+			assertThat(Files.isSameFile(file, tempDir2.resolve("greeting.txt"))).isFalse();
+			assertThat(Files.isWritable(file)).isTrue();
+		}
+
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class CopyingTestCase {
+
+		@Test
+		void copiesFilesOfTemplate(@TempDirTemplate(value = TEMPLATE, link = false) Path tempDir1,
+				@TempDirTemplate(value = TEMPLATE, link = false) Path tempDir2) throws IOException {
+			assertSeededFromTemplate(tempDir1);
+			assertSeededFromTemplate(tempDir2);
+
+			Path file = tempDir1.resolve("greeting.txt");
+			assertThat(Files.isSameFile(file, tempDir2.resolve("greeting.txt"))).isFalse();
+			assertThat(Files.isWritable(file)).isTrue();
+
+			Files.writeString(file, "Goodbye!");
+			assertThat(tempDir2.resolve("greeting.txt")).hasContent("Hello, World!");
+		}
+
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class MissingTemplateTestCase {
+
+		@Test
+		void test(@TempDirTemplate("does/not/exist") Path tempDir) {
+		}
+
+	}
+
+}
@@ -131,9 +131,11 @@ class TestWatcherTests extends AbstractJupiterTestEngineTests {
 	@Test
 	void testWatcherIsInvokedForTestMethodsInTestCaseWithProblematicConstructor() {
 		EngineExecutionResults results = executeTestsForClass(ProblematicConstructorTestCase.class);
-		results.testEvents().assertStatistics(stats -> stats.skipped(0).started(8).succeeded(0).aborted(0).failed(8));
-		assertThat(TrackingTestWatcher.results.keySet()).containsExactly("testFailed");
-		assertThat(TrackingTestWatcher.results.get("testFailed")).hasSize(8);
+		results.testEvents().assertStatistics(stats -> stats.skipped(2).started(6).succeeded(0).aborted(0).failed(6));
+		assertThat(TrackingTestWatcher.results.keySet()).containsExactlyInAnyOrder("testFailed", "testDisabled");
+		assertThat(TrackingTestWatcher.results.get("testFailed")).hasSize(6);
+		// Disabled tests are skipped without instantiating the test class.
+		assertThat(TrackingTestWatcher.results.get("testDisabled")).hasSize(2);
 	}
 
 	@Test
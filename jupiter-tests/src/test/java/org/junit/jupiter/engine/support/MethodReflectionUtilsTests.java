@@ -0,0 +1,127 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.PreconditionViolationException;
+
+/**
+ * Unit tests for {@link MethodReflectionUtils} and {@link MethodHandleInvoker}.
+ *
+ * @since 6.0
+ */
+class MethodReflectionUtilsTests {
+
+	@Test
+	void invokesInstanceAndStaticMethods() throws Exception {
+		var instanceMethod = Sample.class.getDeclaredMethod("concat", String.class, int.class);
+		var staticMethod = Sample.class.getDeclaredMethod("twice", int.class);
+
+		assertThat(MethodReflectionUtils.invoke(instanceMethod, new Sample("a"), new Object[] { "b", 1 })) //
+				.isEqualTo("ab1");
+		assertThat(MethodReflectionUtils.invoke(staticMethod, null, new Object[] { 21 })).isEqualTo(42);
+	}
+
+	@Test
+	void returnsNullForVoidMethods() throws Exception {
+		var method = Sample.class.getDeclaredMethod("doNothing");
+
+		assertThat(MethodReflectionUtils.invoke(method, new Sample("a"), new Object[0])).isNull();
+	}
+
+	@Test
+	void invokesConstructors() throws Exception {
+		var constructor = Sample.class.getDeclaredConstructor(String.class);
+
+		var instance = MethodReflectionUtils.newInstance(constructor, new Object[] { "a" });
+
+		assertThat(instance.prefix).isEqualTo("a");
+	}
+
+	@Test
+	void propagatesExceptionsWithoutWrapping() throws Exception {
+		var method = Sample.class.getDeclaredMethod("fail");
+
+		assertThatThrownBy(() -> MethodReflectionUtils.invoke(method, new Sample("a"), new Object[0])) //
+				.isExactlyInstanceOf(IOException.class) //
+				.hasMessage("expected");
+	}
+
+	@Test
+	void cachesInvokerPerMethod() throws Exception {
+		var method = Sample.class.getDeclaredMethod("doNothing");
+
+		var invoker = MethodHandleInvoker.get(method);
+
+		assertThat(invoker).isPresent();
+		assertThat(MethodHandleInvoker.get(Sample.class.getDeclaredMethod("doNothing"))).isSameAs(invoker);
+	}
+
+	@Test
+	void fallsBackToReflectionForArgumentsRequiringConversions() throws Exception {
+		var method = Sample.class.getDeclaredMethod("widen", long.class);
+
+		assertThat(MethodReflectionUtils.invoke(method, null, new Object[] { 42 })).isEqualTo(42L);
+	}
+
+	@Test
+	void reportsInvalidArgumentsLikeReflection() throws Exception {
+		var instanceMethod = Sample.class.getDeclaredMethod("concat", String.class, int.class);
+		var staticMethod = Sample.class.getDeclaredMethod("twice", int.class);
+
+		assertThatThrownBy(() -> MethodReflectionUtils.invoke(instanceMethod, null, new Object[] { "b", 1 })) //
+				.isInstanceOf(PreconditionViolationException.class);
+		assertThatThrownBy(() -> MethodReflectionUtils.invoke(instanceMethod, new Sample("a"), new Object[] { 1, 1 })) //
+				.isInstanceOf(IllegalArgumentException.class) //
+				.hasMessageContaining("argument type mismatch");
+		assertThatThrownBy(() -> MethodReflectionUtils.invoke(staticMethod, null, new Object[] { null })) //
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> MethodReflectionUtils.invoke(staticMethod, null, new Object[0])) //
+				.isInstanceOf(IllegalArgumentException.class) //
+				.hasMessageContaining("wrong number of arguments");
+	}
+
+	@SuppressWarnings("unused")
+	private static class Sample {
+
+		private final String prefix;
+
+		private Sample(String prefix) {
+			this.prefix = prefix;
+		}
+
+		private String concat(String value, int number) {
+			return prefix + value + number;
+		}
+
+		private static int twice(int number) {
+			return 2 * number;
+		}
+
+		private static long widen(long number) {
+			return number;
+		}
+
+		private void doNothing() {
+		}
+
+		private void fail() throws IOException {
+			throw new IOException("expected");
+		}
+
+	}
+
+}
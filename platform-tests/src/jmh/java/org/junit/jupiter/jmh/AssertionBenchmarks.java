@@ -10,17 +10,81 @@
 
 package org.junit.jupiter.jmh;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
 import org.junit.Assert;
 import org.junit.jupiter.api.Assertions;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
 
 /**
  * JMH benchmarks for assertions.
  *
+ * <p>The benchmarks for {@code assertEquals()}, {@code assertArrayEquals()},
+ * and {@code assertIterableEquals()} only exercise the success path which
+ * should neither box values nor build any diagnostics.
+ *
  * @since 5.1
  */
+@State(Scope.Benchmark)
 public class AssertionBenchmarks {
 
+	private static final int SIZE = 1_000;
+
+	private int intValue;
+
+	private long longValue;
+
+	private double doubleValue;
+
+	private String stringValue;
+
+	private String otherStringValue;
+
+	private int[] intArray;
+
+	private int[] otherIntArray;
+
+	private String[] stringArray;
+
+	private String[] otherStringArray;
+
+	private int[][] nestedIntArray;
+
+	private int[][] otherNestedIntArray;
+
+	private List<Integer> integers;
+
+	private List<Integer> otherIntegers;
+
+	private List<Iterable<Integer>> nestedIntegers;
+
+	private List<Iterable<Integer>> otherNestedIntegers;
+
+	@Setup
+	public void setUp() {
+		intValue = 4711;
+		longValue = 4711L;
+		doubleValue = 47.11;
+		stringValue = "value";
+		otherStringValue = new String(stringValue);
+		intArray = IntStream.range(0, SIZE).toArray();
+		otherIntArray = intArray.clone();
+		stringArray = IntStream.range(0, SIZE).mapToObj(String::valueOf).toArray(String[]::new);
+		otherStringArray = IntStream.range(0, SIZE).mapToObj(String::valueOf).toArray(String[]::new);
+		nestedIntArray = new int[][] { intArray, intArray.clone(), intArray.clone() };
+		otherNestedIntArray = new int[][] { otherIntArray, intArray.clone(), intArray.clone() };
+		integers = IntStream.range(0, SIZE).boxed().toList();
+		otherIntegers = new ArrayList<>(integers);
+		// Use iterables that do not implement equals() to force a recursive comparison.
+		nestedIntegers = List.of(integers::iterator, integers::iterator, integers::iterator);
+		otherNestedIntegers = List.of(otherIntegers::iterator, otherIntegers::iterator, otherIntegers::iterator);
+	}
+
 	@Benchmark
 	public void junit4_assertTrue_boolean() {
 		Assert.assertTrue(true);
@@ -56,4 +120,74 @@ public class AssertionBenchmarks {
 		Assertions.assertTrue(() -> true, () -> "message");
 	}
 
+	@Benchmark
+	public void junit4_assertEquals_long_long() {
+		Assert.assertEquals(longValue, longValue);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertEquals_long_long() {
+		Assertions.assertEquals(longValue, longValue);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertEquals_int_int() {
+		Assertions.assertEquals(intValue, intValue);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertEquals_int_int_String() {
+		Assertions.assertEquals(intValue, intValue, "message");
+	}
+
+	@Benchmark
+	public void junitJupiter_assertEquals_double_double() {
+		Assertions.assertEquals(doubleValue, doubleValue);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertEquals_double_double_double() {
+		Assertions.assertEquals(doubleValue, doubleValue, 0.1);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertEquals_Object_Object() {
+		Assertions.assertEquals(stringValue, otherStringValue);
+	}
+
+	@Benchmark
+	public void junit4_assertArrayEquals_intArray() {
+		Assert.assertArrayEquals(intArray, otherIntArray);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertArrayEquals_intArray() {
+		Assertions.assertArrayEquals(intArray, otherIntArray);
+	}
+
+	@Benchmark
+	public void junit4_assertArrayEquals_ObjectArray() {
+		Assert.assertArrayEquals(stringArray, otherStringArray);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertArrayEquals_ObjectArray() {
+		Assertions.assertArrayEquals(stringArray, otherStringArray);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertArrayEquals_nestedArray() {
+		Assertions.assertArrayEquals(nestedIntArray, otherNestedIntArray);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertIterableEquals() {
+		Assertions.assertIterableEquals(integers, otherIntegers);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertIterableEquals_nested() {
+		Assertions.assertIterableEquals(nestedIntegers, otherNestedIntegers);
+	}
+
 }
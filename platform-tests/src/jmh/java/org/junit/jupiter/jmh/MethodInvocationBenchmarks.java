@@ -0,0 +1,83 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.jmh;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.engine.support.MethodReflectionUtils;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH benchmarks comparing reflective invocation of test methods with the
+ * {@link java.lang.invoke.MethodHandle}-based invocation used by the Jupiter
+ * engine.
+ *
+ * @since 6.0
+ */
+@State(Scope.Benchmark)
+public class MethodInvocationBenchmarks {
+
+	private final TestCase testCase = new TestCase();
+
+	private final Object[] noArguments = new Object[0];
+
+	private final Object[] arguments = new Object[] { "value", 42 };
+
+	private Method noArgumentsMethod;
+
+	private Method argumentsMethod;
+
+	@Setup
+	public void setUp() throws NoSuchMethodException {
+		noArgumentsMethod = TestCase.class.getDeclaredMethod("test");
+		argumentsMethod = TestCase.class.getDeclaredMethod("test", String.class, int.class);
+	}
+
+	@Benchmark
+	public Object reflection_noArguments() {
+		return ReflectionSupport.invokeMethod(noArgumentsMethod, testCase, noArguments);
+	}
+
+	@Benchmark
+	public Object methodHandle_noArguments() {
+		return MethodReflectionUtils.invoke(noArgumentsMethod, testCase, noArguments);
+	}
+
+	@Benchmark
+	public Object reflection_arguments() {
+		return ReflectionSupport.invokeMethod(argumentsMethod, testCase, arguments);
+	}
+
+	@Benchmark
+	public Object methodHandle_arguments() {
+		return MethodReflectionUtils.invoke(argumentsMethod, testCase, arguments);
+	}
+
+	@SuppressWarnings("unused")
+	static class TestCase {
+
+		private int counter;
+
+		void test() {
+			counter++;
+		}
+
+		void test(String value, int number) {
+			counter += value.length() + number;
+		}
+
+	}
+
+}
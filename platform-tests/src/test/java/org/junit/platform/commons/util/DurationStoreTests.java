@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.commons.PreconditionViolationException;
+
+/**
+ * Unit tests for {@link DurationStore}.
+ *
+ * @since 6.0
+ */
+class DurationStoreTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void loadsEmptyStoreForMissingFile() throws Exception {
+		var store = DurationStore.load(tempDir.resolve("missing.txt"));
+
+		assertThat(store.getAll()).isEmpty();
+		assertThat(store.get("foo")).isEmpty();
+	}
+
+	@Test
+	void roundTripsDurations() throws Exception {
+		var file = tempDir.resolve("sub/durations.txt");
+		var store = DurationStore.load(file);
+		store.put("b", Duration.ofMillis(42));
+		store.put("a", Duration.ofSeconds(1));
+
+		store.save(file);
+
+		assertThat(Files.readAllLines(file)).containsExactly( //
+			"# JUnit Platform execution durations (milliseconds)", //
+			"1000\ta", //
+			"42\tb");
+		var reloaded = DurationStore.load(file);
+		assertThat(reloaded.getAll()).containsExactly( //
+			entry("a", Duration.ofSeconds(1)), //
+			entry("b", Duration.ofMillis(42)));
+	}
+
+	@Test
+	void ignoresMalformedLines() throws Exception {
+		var file = tempDir.resolve("durations.txt");
+		Files.write(file, List.of("# comment", "", "abc\tfoo", "17", "\tbar", "23\t", "5\tcom.example.Foo#bar(int)"));
+
+		var store = DurationStore.load(file);
+
+		assertThat(store.getAll()).containsOnlyKeys("com.example.Foo#bar(int)");
+		assertThat(store.get("com.example.Foo#bar(int)")).contains(Duration.ofMillis(5));
+	}
+
+	@Test
+	void rejectsKeysContainingSeparators() throws Exception {
+		var store = DurationStore.load(tempDir.resolve("durations.txt"));
+
+		assertThatThrownBy(() -> store.put("a\tb", Duration.ZERO)) //
+				.isInstanceOf(PreconditionViolationException.class);
+		assertThatThrownBy(() -> store.put("a\nb", Duration.ZERO)) //
+				.isInstanceOf(PreconditionViolationException.class);
+	}
+
+	@Test
+	void createsKeysForClassesAndMethods() throws Exception {
+		var method = DurationStoreTests.class.getDeclaredMethod("createsKeysForClassesAndMethods");
+		var className = DurationStoreTests.class.getName();
+
+		assertThat(DurationStore.key(DurationStoreTests.class)).isEqualTo(className);
+		assertThat(DurationStore.key(DurationStoreTests.class, method)) //
+				.isEqualTo(className + "#createsKeysForClassesAndMethods()") //
+				.isEqualTo(DurationStore.key(className, "createsKeysForClassesAndMethods", ""));
+	}
+
+}
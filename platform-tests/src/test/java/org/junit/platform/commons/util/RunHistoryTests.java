@@ -0,0 +1,130 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.commons.util.RunHistory.Outcome;
+
+/**
+ * Unit tests for {@link RunHistory}.
+ *
+ * @since 6.0
+ */
+class RunHistoryTests {
+
+	private static final String CLASS_KEY = "com.example.FooTests";
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void loadsEmptyHistoryForMissingFile() throws Exception {
+		var history = RunHistory.load(tempDir.resolve("missing.txt"));
+
+		assertThat(history.isEmpty()).isTrue();
+		assertThat(history.getOutcome("[engine:foo]")).isEmpty();
+	}
+
+	@Test
+	void roundTripsOutcomesAndFingerprints() throws Exception {
+		var file = tempDir.resolve("sub/history.txt");
+		var history = RunHistory.create();
+		history.putOutcome("[engine:e]/[test:b]", CLASS_KEY + "#b()", Outcome.SUCCESSFUL);
+		history.putOutcome("[engine:e]/[test:a]", null, Outcome.FAILED);
+		history.putFingerprint(CLASS_KEY, "cafe");
+
+		history.save(file);
+
+		assertThat(Files.readAllLines(file)).containsExactly( //
+			"# JUnit Platform run history", //
+			"class\tcafe\t" + CLASS_KEY, //
+			"test\tFAILED\t\t[engine:e]/[test:a]", //
+			"test\tSUCCESSFUL\t" + CLASS_KEY + "#b()\t[engine:e]/[test:b]");
+		var reloaded = RunHistory.load(file);
+		assertThat(reloaded.getOutcome("[engine:e]/[test:a]")).contains(Outcome.FAILED);
+		assertThat(reloaded.getOutcome("[engine:e]/[test:b]")).contains(Outcome.SUCCESSFUL);
+		assertThat(reloaded.containsSource(CLASS_KEY + "#b()")).isTrue();
+	}
+
+	@Test
+	void ignoresMalformedLines() throws Exception {
+		var file = tempDir.resolve("history.txt");
+		Files.write(file, List.of("# comment", "", "test\tBROKEN\t\t[engine:e]/[test:a]", "test\tFAILED\t\t",
+			"class\t\tcom.example.Foo", "unknown\tfoo", "test\tFAILED\t\t[engine:e]/[test:b]"));
+
+		var history = RunHistory.load(file);
+
+		assertThat(history.getOutcome("[engine:e]/[test:a]")).isEmpty();
+		assertThat(history.getOutcome("[engine:e]/[test:b]")).contains(Outcome.FAILED);
+	}
+
+	@Test
+	void detectsFailuresOfTestsAndTheirChildren() {
+		var history = RunHistory.create();
+		history.putOutcome("[engine:e]/[class:a]/[method:m]/[invocation:#2]", null, Outcome.FAILED);
+		history.putOutcome("[engine:e]/[class:a]/[method:n]", null, Outcome.SUCCESSFUL);
+		history.putOutcome("[engine:e]/[class:a]/[method:m-x]", null, Outcome.SUCCESSFUL);
+
+		assertThat(history.hasFailures("[engine:e]/[class:a]/[method:m]/[invocation:#2]")).isTrue();
+		assertThat(history.hasFailures("[engine:e]/[class:a]/[method:m]")).isTrue();
+		assertThat(history.hasFailures("[engine:e]/[class:a]")).isTrue();
+		assertThat(history.hasFailures("[engine:e]/[class:a]/[method:n]")).isFalse();
+		assertThat(history.hasFailures("[engine:e]/[class:a]/[method")).isFalse();
+	}
+
+	@Test
+	void detectsFailuresBySourceKey() {
+		var history = RunHistory.create();
+		history.putOutcome("[engine:e]/[test:1]", CLASS_KEY + "$Nested#m()", Outcome.FAILED);
+		history.putOutcome("[engine:e]/[test:2]", CLASS_KEY + "#n()", Outcome.SUCCESSFUL);
+		history.putOutcome("[engine:e]/[test:3]", CLASS_KEY + "Other#o()", Outcome.FAILED);
+
+		assertThat(history.hasFailuresForSource(CLASS_KEY)).isTrue();
+		assertThat(history.hasFailuresForSource(CLASS_KEY + "$Nested")).isTrue();
+		assertThat(history.hasFailuresForSource(CLASS_KEY + "#n()")).isFalse();
+		assertThat(history.hasFailuresForSource("com.example.Foo")).isFalse();
+		assertThat(history.containsSource(CLASS_KEY + "#n()")).isTrue();
+		assertThat(history.containsSource(CLASS_KEY + "#x()")).isFalse();
+	}
+
+	@Test
+	void detectsNewAndChangedClasses() {
+		var history = RunHistory.create();
+		assertThat(history.isChanged(RunHistoryTests.class)).isTrue();
+
+		history.putFingerprint(RunHistory.key(RunHistoryTests.class), "0");
+		assertThat(history.isChanged(RunHistoryTests.class)).isTrue();
+
+		history.putFingerprint(RunHistory.key(RunHistoryTests.class),
+			RunHistory.fingerprint(RunHistoryTests.class).orElseThrow());
+		assertThat(history.isChanged(RunHistoryTests.class)).isFalse();
+	}
+
+	@Test
+	void rejectsKeysContainingSeparators() {
+		var history = RunHistory.create();
+
+		assertThatThrownBy(() -> history.putOutcome("a\tb", null, Outcome.FAILED)) //
+				.isInstanceOf(PreconditionViolationException.class);
+		assertThatThrownBy(() -> history.putOutcome("a", "b\nc", Outcome.FAILED)) //
+				.isInstanceOf(PreconditionViolationException.class);
+	}
+
+}
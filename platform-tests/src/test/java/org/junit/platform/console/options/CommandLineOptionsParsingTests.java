@@ -73,6 +73,7 @@ class CommandLineOptionsParsingTests {
 			() -> assertEquals(List.of(), options.discovery.getExcludedMethodNamePatterns()),
 			() -> assertEquals(List.of(), options.discovery.getIncludedTagExpressions()),
 			() -> assertEquals(List.of(), options.discovery.getExcludedTagExpressions()),
+			() -> assertNull(options.discovery.getShard()),
 			() -> assertEquals(List.of(), options.discovery.getAdditionalClasspathEntries()),
 			() -> assertEquals(List.of(), options.discovery.getSelectedUris()),
 			() -> assertEquals(List.of(), options.discovery.getSelectedFiles()),
@@ -315,6 +316,22 @@ class CommandLineOptionsParsingTests {
 		assertOptionWithMissingRequiredArgumentThrowsException("-E", "--exclude-engine");
 	}
 
+	@ParameterizedTest
+	@EnumSource
+	void parseValidShard(ArgsType type) {
+		// @formatter:off
+		assertAll(
+			() -> assertEquals("2/16", type.parseArgLine("--shard 2/16").discovery.getShard()),
+			() -> assertNull(type.parseArgLine("").discovery.getShard())
+		);
+		// @formatter:on
+	}
+
+	@Test
+	void parseInvalidShard() {
+		assertOptionWithMissingRequiredArgumentThrowsException("--shard");
+	}
+
 	@ParameterizedTest
 	@EnumSource
 	void parseValidAdditionalClasspathEntries(ArgsType type) {
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.options;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.console.tasks.ConsoleTestExecutor;
+
+/**
+ * Integration tests for {@link ConsoleLauncherDaemon} and the daemon options
+ * of the {@code execute} command.
+ *
+ * @since 6.0
+ */
+class ConsoleLauncherDaemonTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void executesRequestsOfClients() throws Exception {
+		var socketFile = tempDir.resolve("daemon.sock");
+
+		var daemon = ConsoleLauncherDaemon.start(socketFile);
+		var thread = serveInBackground(daemon);
+		try {
+			var succeeding = connect(socketFile, "succeedingTest");
+			var failing = connect(socketFile, "failingTest");
+
+			assertThat(succeeding.exitCode()).isEqualTo(0);
+			assertThat(succeeding.out()).contains("succeedingTest()", "Hello from the daemon") //
+					.doesNotContain("failingTest()");
+			assertThat(failing.exitCode()).isEqualTo(1);
+			assertThat(failing.out()).contains("failingTest()", "expected");
+		}
+		finally {
+			daemon.close();
+		}
+		thread.join(10_000);
+		assertThat(thread.isAlive()).isFalse();
+		assertThat(socketFile).doesNotExist();
+	}
+
+	@Test
+	void keepsServingAfterRejectingInvalidRequests() throws Exception {
+		var socketFile = tempDir.resolve("daemon.sock");
+
+		var daemon = ConsoleLauncherDaemon.start(socketFile);
+		var thread = serveInBackground(daemon);
+		try {
+			assertThat(sendRawRequest(socketFile, "-5\n")).isEmpty();
+			assertThat(sendRawRequest(socketFile, "2147483647\n")).isEmpty();
+			assertThat(sendRawRequest(socketFile, "1\n--daemon=" + tempDir.resolve("other.sock") + "\n")).isEmpty();
+			assertThat(sendRawRequest(socketFile, "2\n--connect\n" + socketFile + "\n")).isEmpty();
+
+			assertThat(connect(socketFile, "succeedingTest").exitCode()).isEqualTo(0);
+		}
+		finally {
+			daemon.close();
+		}
+		thread.join(10_000);
+		assertThat(thread.isAlive()).isFalse();
+		assertThat(tempDir.resolve("other.sock")).doesNotExist();
+	}
+
+	@Test
+	void rejectsSecondDaemonForSameSocketFile() throws Exception {
+		var socketFile = tempDir.resolve("daemon.sock");
+
+		try (var daemon = ConsoleLauncherDaemon.start(socketFile)) {
+			assertThat(daemon.getSocketFile()).exists();
+			assertThatThrownBy(() -> ConsoleLauncherDaemon.start(socketFile)) //
+					.isInstanceOf(JUnitException.class) //
+					.hasMessageContaining("already listening");
+		}
+	}
+
+	@Test
+	void replacesStaleSocketFile() throws Exception {
+		var socketFile = Files.createFile(tempDir.resolve("daemon.sock"));
+
+		try (var daemon = ConsoleLauncherDaemon.start(socketFile)) {
+			assertThat(daemon.getSocketFile()).exists();
+		}
+	}
+
+	@Test
+	void clientFailsIfNoDaemonIsListening() {
+		var out = new StringWriter();
+		var err = new StringWriter();
+
+		var result = new MainCommand(ConsoleTestExecutor::new).run(
+			new String[] { "execute", "--disable-banner", "--connect", tempDir.resolve("missing.sock").toString() },
+			Optional.of(new OutputStreamConfig(new PrintWriter(out), new PrintWriter(err))));
+
+		assertThat(result.getExitCode()).isEqualTo(CommandResult.FAILURE);
+		assertThat(err.toString()).contains("Failed to connect to daemon");
+	}
+
+	private static Thread serveInBackground(ConsoleLauncherDaemon daemon) {
+		var thread = new Thread(() -> {
+			try {
+				daemon.serve();
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		});
+		thread.start();
+		return thread;
+	}
+
+	private static ClientResult connect(Path socketFile, String methodName) {
+		var out = new StringWriter();
+		var writer = new PrintWriter(out);
+		var result = new MainCommand(ConsoleTestExecutor::new).run(new String[] { "execute", "--disable-banner",
+				"--connect", socketFile.toString(), "--details=tree", "--include-engine=junit-jupiter",
+				"--select-method", TestCase.class.getName() + "#" + methodName },
+			Optional.of(new OutputStreamConfig(writer, writer)));
+		return new ClientResult(result.getExitCode(), out.toString());
+	}
+
+	private static String sendRawRequest(Path socketFile, String request) throws IOException {
+		try (var channel = SocketChannel.open(UnixDomainSocketAddress.of(socketFile))) {
+			channel.write(ByteBuffer.wrap(request.getBytes(UTF_8)));
+			channel.shutdownOutput();
+			return new String(Channels.newInputStream(channel).readAllBytes(), UTF_8);
+		}
+	}
+
+	private record ClientResult(int exitCode, String out) {
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class TestCase {
+
+		@Test
+		void succeedingTest() {
+			System.out.println("Hello from the daemon");
+		}
+
+		@Test
+		void failingTest() {
+			fail("expected");
+		}
+
+	}
+
+}
@@ -21,6 +21,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -39,7 +40,7 @@ class ExecuteTestsCommandTests {
 
 	@BeforeEach
 	void setUp() {
-		when(consoleTestExecutor.execute(any(), any(), anyBoolean())).thenReturn(summary);
+		when(consoleTestExecutor.execute(any(), any(), anyBoolean(), anyBoolean())).thenReturn(summary);
 	}
 
 	@Test
@@ -119,6 +120,41 @@ class ExecuteTestsCommandTests {
 		// @formatter:on
 	}
 
+	@Test
+	void parseValidFailFastOnRepeatedFailure() {
+		// @formatter:off
+		assertAll(
+				() -> assertFalse(parseArgs().isFailFastOnRepeatedFailure()),
+				() -> assertTrue(parseArgs("--fail-fast-on-repeated-failure").isFailFastOnRepeatedFailure())
+		);
+		// @formatter:on
+	}
+
+	@Test
+	void parseValidDaemonOptions() {
+		var socketFile = Path.of("build", "daemon.sock");
+		// @formatter:off
+		assertAll(
+				() -> assertEquals(Optional.empty(), parseArgs().getDaemonSocket()),
+				() -> assertEquals(Optional.empty(), parseArgs().getConnectSocket()),
+				() -> assertEquals(Optional.of(socketFile), parseArgs("--daemon", "build/daemon.sock").getDaemonSocket()),
+				() -> assertEquals(Optional.of(socketFile), parseArgs("--connect=build/daemon.sock").getConnectSocket())
+		);
+		// @formatter:on
+	}
+
+	@Test
+	void daemonRequestArgsExcludeConnectOption() {
+		// @formatter:off
+		assertAll(
+				() -> assertEquals(List.of("--details=none", "-c", "Foo"),
+					parseArgs("--details=none", "--connect", "daemon.sock", "-c", "Foo").getDaemonRequestArgs()),
+				() -> assertEquals(List.of("-c", "Foo"),
+					parseArgs("--connect=daemon.sock", "-c", "Foo").getDaemonRequestArgs())
+		);
+		// @formatter:on
+	}
+
 	private ExecuteTestsCommand parseArgs(String... args) {
 		command.parseArgs(args);
 		return command;
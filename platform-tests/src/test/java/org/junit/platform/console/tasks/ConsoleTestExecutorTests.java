@@ -21,9 +21,13 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.commons.util.RunHistory;
+import org.junit.platform.commons.util.RunHistory.Outcome;
 import org.junit.platform.console.options.Details;
 import org.junit.platform.console.options.TestConsoleOutputOptions;
 import org.junit.platform.console.options.TestDiscoveryOptions;
@@ -124,4 +128,26 @@ class ConsoleTestExecutorTests {
 		assertThat(stringWriter.toString()).contains("failingTest", "should fail", "1 tests failed");
 	}
 
+	@Test
+	void cancelsExecutionOnlyAfterRepeatedFailureIfRequested(@TempDir Path tempDir) throws Exception {
+		dummyTestEngine.addTest("newlyFailingTest", FAILING_BLOCK);
+		var repeatedlyFailingTest = dummyTestEngine.addTest("repeatedlyFailingTest", FAILING_BLOCK);
+		dummyTestEngine.addTest("succeedingTest", SUCCEEDING_TEST);
+
+		var historyFile = tempDir.resolve("history.txt");
+		var history = RunHistory.create();
+		history.putOutcome(repeatedlyFailingTest.getUniqueId().toString(), null, Outcome.FAILED);
+		history.save(historyFile);
+		discoveryOptions.setConfigurationParameters(
+			Map.of(RunHistory.HISTORY_FILE_PROPERTY_NAME, historyFile.toString()));
+
+		var task = new ConsoleTestExecutor(discoveryOptions, outputOptions, () -> createLauncher(dummyTestEngine));
+		var summary = task.execute(new PrintWriter(stringWriter), Optional.empty(), false, true);
+
+		assertThat(summary.getTestsFailedCount()).isEqualTo(2);
+		assertThat(summary.getTestsSkippedCount()).isEqualTo(1);
+		assertThat(stringWriter.toString()).contains(
+			"Test execution was cancelled due to --fail-fast-on-repeated-failure mode.");
+	}
+
 }
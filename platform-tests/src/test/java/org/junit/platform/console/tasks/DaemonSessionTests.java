@@ -0,0 +1,82 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.launcher.LauncherSession;
+
+/**
+ * Unit tests for {@link DaemonSession}.
+ *
+ * @since 6.0
+ */
+class DaemonSessionTests {
+
+	private final LauncherSession launcherSession = mock();
+
+	@TempDir
+	Path classpathEntry;
+
+	@Test
+	void usesNoCustomClassLoaderWithoutAdditionalClasspathEntries() {
+		try (var session = new DaemonSession(launcherSession)) {
+			assertThat(session.getClassLoader(List.of())).isEmpty();
+		}
+	}
+
+	@Test
+	void reusesClassLoaderWhileClasspathEntriesAreUnchanged() throws Exception {
+		Files.writeString(classpathEntry.resolve("test.txt"), "test");
+
+		try (var session = new DaemonSession(launcherSession)) {
+			var first = session.getClassLoader(List.of(classpathEntry)).orElseThrow();
+			var second = session.getClassLoader(List.of(classpathEntry)).orElseThrow();
+
+			assertThat(second).isSameAs(first);
+			assertThat(first.getResource("test.txt")).isNotNull();
+		}
+	}
+
+	@Test
+	void replacesClassLoaderWhenClasspathEntriesChange() throws Exception {
+		var file = Files.writeString(classpathEntry.resolve("test.txt"), "test");
+
+		try (var session = new DaemonSession(launcherSession)) {
+			var first = (URLClassLoader) session.getClassLoader(List.of(classpathEntry)).orElseThrow();
+			Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+			var second = session.getClassLoader(List.of(classpathEntry)).orElseThrow();
+
+			assertThat(second).isNotSameAs(first);
+			// closed URLClassLoaders no longer find resources
+			assertThat(first.findResource("test.txt")).isNull();
+		}
+	}
+
+	@Test
+	void closesLauncherSession() {
+		new DaemonSession(launcherSession).close();
+
+		verify(launcherSession).close();
+	}
+
+}
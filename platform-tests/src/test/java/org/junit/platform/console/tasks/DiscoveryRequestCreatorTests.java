@@ -54,6 +54,7 @@ import org.junit.platform.engine.discovery.PackageSelector;
 import org.junit.platform.engine.discovery.UniqueIdSelector;
 import org.junit.platform.engine.discovery.UriSelector;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.ShardFilter;
 
 /**
  * @since 1.0
@@ -224,6 +225,31 @@ class DiscoveryRequestCreatorTests {
 		assertThat(engineFilters.get(1).toString()).contains("excludes", "[engine2]");
 	}
 
+	@Test
+	void convertsShardOption() {
+		options.setScanClasspath(true);
+		options.setShard("2/16");
+
+		var request = convert();
+
+		assertThat(request.getPostDiscoveryFilters()).singleElement() //
+				.isInstanceOfSatisfying(ShardFilter.class, filter -> {
+					assertThat(filter.getIndex()).isEqualTo(2);
+					assertThat(filter.getTotal()).isEqualTo(16);
+				});
+		assertThat(request.getFiltersByType(ClassNameFilter.class)).hasSize(2);
+	}
+
+	@Test
+	void doesNotSupportInvalidShardOption() {
+		options.setScanClasspath(true);
+		options.setShard("17/16");
+
+		Throwable cause = assertThrows(PreconditionViolationException.class, this::convert);
+
+		assertThat(cause).hasMessageContaining("shard index must be between 1 and 16");
+	}
+
 	@Test
 	void propagatesUniqueIdSelectors() {
 		options.setSelectedUniqueId(List.of(selectUniqueId("[engine:a]/[1:1]"), selectUniqueId("[engine:b]/[2:2]")));
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertLinesMatch;
+import static org.junit.platform.launcher.core.OutputDirectoryProviders.dummyOutputDirectoryProvider;
+import static org.mockito.Mockito.mock;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.console.options.Theme;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.fakes.TestDescriptorStub;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.opentest4j.TestAbortedException;
+
+/**
+ * Unit tests for {@link ProgressPrintingListener}.
+ *
+ * @since 6.0
+ */
+class ProgressPrintingListenerTests {
+
+	private static final Duration NEVER = Duration.ofHours(1);
+
+	private final StringWriter stringWriter = new StringWriter();
+
+	private TestPlan testPlan;
+	private TestIdentifier first;
+	private TestIdentifier second;
+	private TestIdentifier third;
+
+	@BeforeEach
+	void createTestPlan() {
+		var engineDescriptor = new EngineDescriptor(UniqueId.forEngine("demo-engine"), "Demo Engine");
+		for (var name : new String[] { "first", "second", "third" }) {
+			engineDescriptor.addChild(new TestDescriptorStub(engineDescriptor.getUniqueId().append("test", name),
+				name + " test"));
+		}
+		testPlan = TestPlan.from(true, Set.of(engineDescriptor), mock(), dummyOutputDirectoryProvider());
+		first = testPlan.getTestIdentifier(engineDescriptor.getUniqueId().append("test", "first"));
+		second = testPlan.getTestIdentifier(engineDescriptor.getUniqueId().append("test", "second"));
+		third = testPlan.getTestIdentifier(engineDescriptor.getUniqueId().append("test", "third"));
+	}
+
+	@Test
+	void printsInitialAndFinalProgressAndUnsuccessfulTests() {
+		var listener = new ProgressPrintingListener(new PrintWriter(stringWriter), ColorPalette.NONE, Theme.ASCII,
+			NEVER);
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionFinished(first, TestExecutionResult.successful());
+		listener.executionFinished(second, TestExecutionResult.failed(new AssertionError("Boom!\nmore")));
+		listener.executionFinished(third, TestExecutionResult.aborted(new TestAbortedException("Bail out")));
+		listener.testPlanExecutionFinished(testPlan);
+
+		assertLinesMatch("""
+				Progress: 0/3 tests | [OK] 0 | [X] 0 | [A] 0 | [S] 0
+				[X] Demo Engine > second test Boom! ...
+				[A] Demo Engine > third test Bail out
+				Progress: 3/3 tests | [OK] 1 | [X] 1 | [A] 1 | [S] 0
+				""".lines(), stringWriter.toString().lines());
+	}
+
+	@Test
+	void printsUnsuccessfulTestsRemovedFromTestPlanBeforeRendering() {
+		var listener = new ProgressPrintingListener(new PrintWriter(stringWriter), ColorPalette.NONE, Theme.ASCII,
+			NEVER);
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionFinished(first, TestExecutionResult.failed(new AssertionError("Boom!")));
+		testPlan.removeInternal(first);
+		listener.testPlanExecutionFinished(testPlan);
+
+		assertThat(stringWriter.toString()).contains("[X] Demo Engine > first test Boom!");
+	}
+
+	@Test
+	void doesNotPrintFromCallingThreadsDuringExecution() {
+		var listener = new ProgressPrintingListener(new PrintWriter(stringWriter), ColorPalette.NONE, Theme.ASCII,
+			NEVER);
+
+		listener.testPlanExecutionStarted(testPlan);
+		var outputAfterStart = stringWriter.toString();
+		listener.executionFinished(first, TestExecutionResult.failed(new AssertionError("Boom!")));
+		listener.executionSkipped(second, "disabled");
+
+		assertThat(stringWriter.toString()).isEqualTo(outputAfterStart);
+
+		listener.testPlanExecutionFinished(testPlan);
+		assertThat(stringWriter.toString()).endsWith("Progress: 2/3 tests | [OK] 0 | [X] 1 | [A] 0 | [S] 1\n");
+	}
+
+	@Test
+	void refreshesProgressPeriodically() throws Exception {
+		var listener = new ProgressPrintingListener(new PrintWriter(stringWriter), ColorPalette.NONE, Theme.ASCII,
+			Duration.ofMillis(10));
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionFinished(first, TestExecutionResult.successful());
+		long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+		while (!stringWriter.toString().contains("Progress: 1/3") && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		listener.testPlanExecutionFinished(testPlan);
+
+		assertThat(stringWriter.toString()).contains("Progress: 1/3 tests");
+	}
+
+	@Test
+	void redrawsProgressLineInPlaceIfAnsiColorsAreEnabled() {
+		var listener = new ProgressPrintingListener(new PrintWriter(stringWriter), ColorPalette.SINGLE_COLOR,
+			Theme.UNICODE, NEVER);
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionFinished(first, TestExecutionResult.successful());
+		listener.testPlanExecutionFinished(testPlan);
+
+		var output = stringWriter.toString();
+		assertThat(output).startsWith("\r\u001B[2KProgress: 0/3 tests").endsWith("\n");
+		assertThat(output.chars().filter(c -> c == '\n')).hasSize(1);
+		assertThat(output.split("\r\u001B\\[2K")).hasSize(3);
+	}
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.jfr;
+
+import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.moditect.jfrunit.ExpectedEvent.event;
+import static org.moditect.jfrunit.JfrEventsAssert.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.DisabledOnOpenJ9;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.testkit.engine.EngineTestKit;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+/**
+ * Integration tests for JFR events generated by test engines.
+ *
+ * @since 6.0
+ */
+@JfrEventTest
+@DisabledOnOpenJ9
+public class EngineFlightRecorderEventsIntegrationTests {
+
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@Test
+	@EnableEvent("org.junit.SelectorResolution")
+	void reportsSelectorResolution() {
+		var unknownEngineId = UniqueId.forEngine("unknown");
+
+		EngineTestKit.engine("junit-jupiter") //
+				.selectors(selectClass(SequentialTestCase.class), selectUniqueId(unknownEngineId)) //
+				.execute();
+		jfrEvents.awaitEvents();
+
+		assertThat(jfrEvents) //
+				.contains(event("org.junit.SelectorResolution") //
+						.with("engineId", "[engine:junit-jupiter]") //
+						.with("selector", "class:" + SequentialTestCase.class.getName()) //
+						.with("result", "RESOLVED")) //
+				.contains(event("org.junit.SelectorResolution") //
+						.with("engineId", "[engine:junit-jupiter]") //
+						.with("selector", "uid:" + unknownEngineId) //
+						.with("result", "UNRESOLVED"));
+	}
+
+	@Test
+	@EnableEvent("org.junit.ExtensionCallback")
+	void reportsSlowExtensionCallbacks() {
+		EngineTestKit.engine("junit-jupiter") //
+				.selectors(selectClass(SequentialTestCase.class)) //
+				.execute();
+		jfrEvents.awaitEvents();
+
+		assertThat(jfrEvents) //
+				.contains(event("org.junit.ExtensionCallback") //
+						.with("callbackType", BeforeAllCallback.class.getSimpleName()) //
+						.with("extensionClass", SlowBeforeAllCallback.class.getName()));
+	}
+
+	@Test
+	@EnableEvent("org.junit.ResourceLockAcquisition")
+	void reportsResourceLockAcquisitionWaits() {
+		EngineTestKit.engine("junit-jupiter") //
+				.selectors(selectClass(ConcurrentTestCase.class)) //
+				.configurationParameter("junit.jupiter.execution.parallel.enabled", "true") //
+				.configurationParameter("junit.jupiter.execution.parallel.config.strategy", "fixed") //
+				.configurationParameter("junit.jupiter.execution.parallel.config.fixed.parallelism", "2") //
+				.execute();
+		jfrEvents.awaitEvents();
+
+		assertThat(jfrEvents) //
+				.contains(event("org.junit.ResourceLockAcquisition") //
+						.with("exclusive", true));
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	@ExtendWith(SlowBeforeAllCallback.class)
+	static class SequentialTestCase {
+		@Test
+		void test() {
+		}
+	}
+
+	static class SlowBeforeAllCallback implements BeforeAllCallback {
+		@Override
+		public void beforeAll(ExtensionContext context) throws Exception {
+			Thread.sleep(10);
+		}
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	@Execution(CONCURRENT)
+	static class ConcurrentTestCase {
+
+		@Test
+		@ResourceLock("org.junit.platform.engine.jfr")
+		void first() throws Exception {
+			holdLock();
+		}
+
+		@Test
+		@ResourceLock("org.junit.platform.engine.jfr")
+		void second() throws Exception {
+			holdLock();
+		}
+
+		private static void holdLock() throws Exception {
+			Thread.sleep(50);
+		}
+	}
+}
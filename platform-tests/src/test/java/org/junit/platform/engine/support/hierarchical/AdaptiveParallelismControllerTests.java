@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.support.hierarchical.AdaptiveParallelismController.Sample;
+
+/**
+ * @since 6.0
+ */
+class AdaptiveParallelismControllerTests {
+
+	final AdaptiveParallelismController controller = new AdaptiveParallelismController(2, 16, () -> Double.NaN);
+
+	@Test
+	void increasesParallelismWhenTasksAreQueuedAndCpuIsUnderutilized() {
+		assertThat(controller.nextParallelism(new Sample(8, 0.2, 10, 0, 100))).isEqualTo(10);
+	}
+
+	@Test
+	void increasesParallelismWhenTasksAreQueuedAndWorkersAreBlocked() {
+		assertThat(controller.nextParallelism(new Sample(8, 0.8, 10, 3, 100))).isEqualTo(10);
+		assertThat(controller.nextParallelism(new Sample(10, Double.NaN, 10, 3, 100))).isEqualTo(12);
+	}
+
+	@Test
+	void keepsParallelismWhenNoTasksAreQueued() {
+		assertThat(controller.nextParallelism(new Sample(8, 0.2, 0, 3, 100))).isEqualTo(8);
+	}
+
+	@Test
+	void keepsParallelismWhenCpuLoadIsUnknownAndNoWorkersAreBlocked() {
+		assertThat(controller.nextParallelism(new Sample(8, Double.NaN, 10, 0, 100))).isEqualTo(8);
+	}
+
+	@Test
+	void decreasesParallelismWhenCpuIsOverloaded() {
+		assertThat(controller.nextParallelism(new Sample(8, 0.95, 10, 3, 100))).isEqualTo(6);
+	}
+
+	@Test
+	void revertsIncreaseThatReducedThroughputAndHoldsParallelism() {
+		assertThat(controller.nextParallelism(new Sample(8, 0.2, 10, 0, 100))).isEqualTo(10);
+		assertThat(controller.nextParallelism(new Sample(10, 0.2, 10, 0, 50))).isEqualTo(8);
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(controller.nextParallelism(new Sample(8, 0.2, 10, 0, 50))).isEqualTo(8);
+		}
+		assertThat(controller.nextParallelism(new Sample(8, 0.2, 10, 0, 50))).isEqualTo(10);
+	}
+
+	@Test
+	void keepsIncreasingWhileThroughputImproves() {
+		assertThat(controller.nextParallelism(new Sample(4, 0.2, 10, 0, 100))).isEqualTo(5);
+		assertThat(controller.nextParallelism(new Sample(5, 0.2, 10, 0, 120))).isEqualTo(6);
+		assertThat(controller.nextParallelism(new Sample(6, 0.2, 10, 0, 130))).isEqualTo(7);
+	}
+
+	@Test
+	void staysWithinBounds() {
+		assertThat(controller.nextParallelism(new Sample(16, 0.2, 10, 0, 100))).isEqualTo(16);
+		assertThat(controller.nextParallelism(new Sample(2, 1.0, 10, 0, 100))).isEqualTo(2);
+		assertThat(controller.nextParallelism(new Sample(15, 0.2, 10, 0, 100))).isEqualTo(16);
+	}
+
+}
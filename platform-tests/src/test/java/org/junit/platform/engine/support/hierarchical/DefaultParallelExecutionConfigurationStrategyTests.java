@@ -103,6 +103,59 @@ class DefaultParallelExecutionConfigurationStrategyTests {
 		assertThat(configuration.getSaturatePredicate().test(null)).isFalse();
 	}
 
+	@Test
+	void adaptiveStrategyCreatesValidConfiguration() {
+		when(configParams.get("adaptive.min-parallelism")).thenReturn(Optional.of("1"));
+		when(configParams.get("adaptive.max-parallelism")).thenReturn(Optional.of("1000"));
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		var configuration = strategy.createConfiguration(configParams);
+
+		var availableProcessors = Runtime.getRuntime().availableProcessors();
+		assertThat(configuration).isInstanceOfSatisfying(AdaptiveParallelExecutionConfiguration.class, it -> {
+			assertThat(it.getMinParallelism()).isEqualTo(1);
+			assertThat(it.getMaxParallelism()).isEqualTo(1000);
+		});
+		assertThat(configuration.getParallelism()).isEqualTo(availableProcessors);
+		assertThat(configuration.getCorePoolSize()).isEqualTo(availableProcessors);
+		assertThat(configuration.getMinimumRunnable()).isEqualTo(availableProcessors);
+		assertThat(configuration.getMaxPoolSize()).isEqualTo(256 + 1000);
+		assertThat(configuration.getKeepAliveSeconds()).isEqualTo(30);
+		assertThat(configuration.getSaturatePredicate().test(null)).isTrue();
+	}
+
+	@Test
+	void adaptiveStrategyUsesDefaultsWhenPropertiesAreNotPresent() {
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		var configuration = strategy.createConfiguration(configParams);
+
+		var availableProcessors = Runtime.getRuntime().availableProcessors();
+		assertThat(configuration).isInstanceOfSatisfying(AdaptiveParallelExecutionConfiguration.class, it -> {
+			assertThat(it.getMinParallelism()).isEqualTo(availableProcessors);
+			assertThat(it.getMaxParallelism()).isEqualTo(4 * availableProcessors);
+		});
+		assertThat(configuration.getParallelism()).isEqualTo(availableProcessors);
+	}
+
+	@Test
+	void adaptiveStrategyClampsInitialParallelism() {
+		when(configParams.get("adaptive.min-parallelism")).thenReturn(Optional.of("1000"));
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		var configuration = strategy.createConfiguration(configParams);
+
+		assertThat(configuration.getParallelism()).isEqualTo(1000);
+	}
+
+	@Test
+	void adaptiveStrategyThrowsExceptionWhenMaxParallelismIsLessThanMinParallelism() {
+		when(configParams.get("adaptive.min-parallelism")).thenReturn(Optional.of("2"));
+		when(configParams.get("adaptive.max-parallelism")).thenReturn(Optional.of("1"));
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		assertThrows(JUnitException.class, () -> strategy.createConfiguration(configParams));
+	}
+
 	@Test
 	void customStrategyCreatesValidConfiguration() {
 		when(configParams.get("custom.class")).thenReturn(
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.engine.support.hierarchical.ExecutorServiceMetrics.PoolState;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+
+/**
+ * @since 6.0
+ */
+class ExecutorServiceStatisticsTests {
+
+	final ExecutorServiceStatistics statistics = new ExecutorServiceStatistics();
+	final TestTask testTask = mock();
+
+	@Test
+	void aggregatesTaskDurations() {
+		for (int i = 1; i <= 100; i++) {
+			statistics.taskExecuted(testTask, i * 1_000L, i * 1_000_000L);
+		}
+
+		assertThat(statistics.getExecutedTaskCount()).isEqualTo(100);
+
+		var waitTimes = statistics.getWaitTimes();
+		assertThat(waitTimes.getCount()).isEqualTo(100);
+		assertThat(waitTimes.getTotal()).isEqualTo(Duration.ofNanos(5_050_000));
+		assertThat(waitTimes.getMean()).isEqualTo(Duration.ofNanos(50_500));
+		assertThat(waitTimes.getMax()).isEqualTo(Duration.ofNanos(100_000));
+
+		var runTimes = statistics.getRunTimes();
+		assertThat(runTimes.getPercentile(100)).isEqualTo(Duration.ofMillis(100));
+		assertThat(runTimes.getPercentile(50).toNanos()) //
+				.isGreaterThanOrEqualTo(50_000_000) //
+				.isLessThan(2 * 50_000_000);
+		assertThat(runTimes.getPercentile(1).toNanos()) //
+				.isGreaterThanOrEqualTo(1_000_000) //
+				.isLessThan(2 * 1_000_000);
+	}
+
+	@Test
+	void returnsZeroDurationsForEmptyHistogram() {
+		var runTimes = statistics.getRunTimes();
+
+		assertThat(runTimes.getCount()).isZero();
+		assertThat(runTimes.getMean()).isEqualTo(Duration.ZERO);
+		assertThat(runTimes.getMax()).isEqualTo(Duration.ZERO);
+		assertThat(runTimes.getPercentile(99)).isEqualTo(Duration.ZERO);
+	}
+
+	@Test
+	void rejectsInvalidPercentiles() {
+		var runTimes = statistics.getRunTimes();
+
+		assertThatThrownBy(() -> runTimes.getPercentile(0)).isInstanceOf(PreconditionViolationException.class);
+		assertThatThrownBy(() -> runTimes.getPercentile(101)).isInstanceOf(PreconditionViolationException.class);
+	}
+
+	@Test
+	void countsEvents() {
+		statistics.workerStarted();
+		statistics.workerStarted();
+		statistics.poolSaturated();
+		statistics.taskDeferred(testTask);
+
+		assertThat(statistics.getStartedWorkerCount()).isEqualTo(2);
+		assertThat(statistics.getSaturationCount()).isEqualTo(1);
+		assertThat(statistics.getDeferredTaskCount()).isEqualTo(1);
+	}
+
+	@Test
+	void readsGaugesFromPoolState() {
+		assertThat(statistics.getParallelism()).isZero();
+		assertThat(statistics.getWorkerUtilization()).isZero();
+
+		PoolState poolState = mock();
+		when(poolState.getParallelism()).thenReturn(4);
+		when(poolState.getPoolSize()).thenReturn(5);
+		when(poolState.getActiveWorkerCount()).thenReturn(3);
+		when(poolState.getQueuedTaskCount()).thenReturn(7L);
+		when(poolState.getStealCount()).thenReturn(11L);
+		statistics.executorServiceStarted(poolState);
+
+		assertThat(statistics.getParallelism()).isEqualTo(4);
+		assertThat(statistics.getPoolSize()).isEqualTo(5);
+		assertThat(statistics.getActiveWorkerCount()).isEqualTo(3);
+		assertThat(statistics.getWorkerUtilization()).isEqualTo(0.75);
+		assertThat(statistics.getQueuedTaskCount()).isEqualTo(7);
+		assertThat(statistics.getStealCount()).isEqualTo(11);
+	}
+
+}
@@ -12,6 +12,7 @@ package org.junit.platform.engine.support.hierarchical;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -23,6 +24,7 @@ import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.G
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ_WRITE;
 import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
 
+import java.lang.management.ManagementFactory;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +34,9 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import javax.management.ObjectName;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
@@ -46,6 +51,7 @@ import org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode
 import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService.TaskEventListener;
 import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
 import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+import org.junit.platform.launcher.core.ConfigurationParametersFactoryForTests;
 
 @Timeout(5)
 class ForkJoinPoolHierarchicalTestExecutorServiceTests {
@@ -67,6 +73,68 @@ class ForkJoinPoolHierarchicalTestExecutorServiceTests {
 		assertThat(exception).rootCause().isInstanceOf(IllegalArgumentException.class);
 	}
 
+	@Test
+	void recordsMetrics() throws Exception {
+		var configuration = new DefaultParallelExecutionConfiguration(2, 2, 2, 2, 1, __ -> true);
+		var statistics = new ExecutorServiceStatistics();
+
+		try (var service = new ForkJoinPoolHierarchicalTestExecutorService(configuration, statistics)) {
+			var leafTasks = IntStream.range(0, 4) //
+					.mapToObj(i -> taskFactory.create("leafTask" + i, NopLock.INSTANCE, () -> Thread.sleep(10))) //
+					.toList();
+			var rootTask = taskFactory.create("rootTask", NopLock.INSTANCE, () -> service.invokeAll(leafTasks));
+
+			service.submit(rootTask).get();
+
+			assertThat(statistics.getParallelism()).isEqualTo(2);
+			assertThat(statistics.getStartedWorkerCount()).isBetween(1L, 2L);
+		}
+
+		assertThat(statistics.getExecutedTaskCount()).isEqualTo(5);
+		assertThat(statistics.getDeferredTaskCount()).isZero();
+		assertThat(statistics.getWaitTimes().getCount()).isEqualTo(5);
+		assertThat(statistics.getRunTimes().getMax()).isGreaterThanOrEqualTo(
+			statistics.getRunTimes().getPercentile(50));
+		assertThat(statistics.getRunTimes().getTotal().toMillis()).isGreaterThanOrEqualTo(4 * 10);
+	}
+
+	@Test
+	void registersStatisticsWithPlatformMBeanServerWhileRunning() throws Exception {
+		var mBeanServer = ManagementFactory.getPlatformMBeanServer();
+		var query = new ObjectName("org.junit.platform:type=ExecutorService,*");
+		var configurationParameters = ConfigurationParametersFactoryForTests.create(Map.of( //
+			DefaultParallelExecutionConfigurationStrategy.CONFIG_STRATEGY_PROPERTY_NAME, "fixed", //
+			DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_PARALLELISM_PROPERTY_NAME, "3", //
+			ForkJoinPoolHierarchicalTestExecutorService.CONFIG_METRICS_PROPERTY_NAME, "jmx"));
+
+		var objectNamesBefore = mBeanServer.queryNames(query, null);
+		ObjectName objectName;
+		try (var service = new ForkJoinPoolHierarchicalTestExecutorService(configurationParameters)) {
+			service.submit(taskFactory.create("task", NopLock.INSTANCE)).get();
+
+			var objectNames = mBeanServer.queryNames(query, null);
+			objectNames.removeAll(objectNamesBefore);
+			assertThat(objectNames).hasSize(1);
+			objectName = objectNames.iterator().next();
+
+			assertThat(mBeanServer.getAttribute(objectName, "Parallelism")).isEqualTo(3);
+			assertThat(mBeanServer.getAttribute(objectName, "ExecutedTaskCount")).isEqualTo(1L);
+		}
+
+		assertThat(mBeanServer.isRegistered(objectName)).isFalse();
+	}
+
+	@Test
+	void reportsInvalidMetricsClass() {
+		var configurationParameters = ConfigurationParametersFactoryForTests.create(Map.of( //
+			ForkJoinPoolHierarchicalTestExecutorService.CONFIG_METRICS_PROPERTY_NAME, "java.lang.String"));
+
+		assertThatThrownBy(() -> new ForkJoinPoolHierarchicalTestExecutorService(configurationParameters)) //
+				.isInstanceOf(JUnitException.class) //
+				.hasMessage("Could not create executor service metrics: java.lang.String") //
+				.rootCause().hasMessageContaining("does not implement " + ExecutorServiceMetrics.class.getName());
+	}
+
 	static List<Arguments> incompatibleLockCombinations() {
 		return List.of(//
 			arguments(//
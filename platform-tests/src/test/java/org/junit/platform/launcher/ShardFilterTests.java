@@ -0,0 +1,135 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.platform.launcher.ShardFilter.shard;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.DemoClassTestDescriptor;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.fakes.TestDescriptorStub;
+
+/**
+ * Unit tests for {@link ShardFilter}.
+ *
+ * @since 6.0
+ */
+class ShardFilterTests {
+
+	@Test
+	void parsesShardSpecification() {
+		var filter = shard(" 2/16 ");
+
+		assertThat(filter.getIndex()).isEqualTo(2);
+		assertThat(filter.getTotal()).isEqualTo(16);
+		assertThat(filter).hasToString("ShardFilter that includes shard 2/16");
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "2", "1/2/3", "a/2", "1/b", "/" })
+	void rejectsMalformedShardSpecification(String shard) {
+		assertThatThrownBy(() -> shard(shard)) //
+				.isInstanceOf(PreconditionViolationException.class) //
+				.hasMessage("Shard [%s] must be specified in the form INDEX/TOTAL", shard);
+	}
+
+	@Test
+	void rejectsOutOfRangeIndexAndTotal() {
+		assertThatThrownBy(() -> shard(1, 0)) //
+				.isInstanceOf(PreconditionViolationException.class) //
+				.hasMessage("total number of shards must be greater than 0: 0");
+		assertThatThrownBy(() -> shard(0, 2)) //
+				.isInstanceOf(PreconditionViolationException.class) //
+				.hasMessage("shard index must be between 1 and 2: 0");
+		assertThatThrownBy(() -> shard(3, 2)) //
+				.isInstanceOf(PreconditionViolationException.class) //
+				.hasMessage("shard index must be between 1 and 2: 3");
+	}
+
+	@Test
+	void includesEachTopLevelContainerInExactlyOneShard() {
+		var engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "engine");
+		List<TestDescriptor> containers = IntStream.range(0, 100) //
+				.mapToObj(i -> (TestDescriptor) new TestDescriptorStub(engineDescriptor.getUniqueId().append("c", "" + i),
+					"container" + i)) //
+				.peek(engineDescriptor::addChild) //
+				.toList();
+		var shards = IntStream.rangeClosed(1, 4).mapToObj(i -> shard(i, 4)).toList();
+
+		for (var container : containers) {
+			assertThat(shards).filteredOn(filter -> filter.apply(container).included()).hasSize(1);
+		}
+		for (var filter : shards) {
+			assertThat(containers).filteredOn(container -> filter.apply(container).included()).isNotEmpty();
+		}
+	}
+
+	@Test
+	void assignsNestedDescriptorsToShardOfTopLevelContainer() {
+		var engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "engine");
+		var outer = new DemoClassTestDescriptor(engineDescriptor.getUniqueId().append("class", "outer"),
+			Outer.class);
+		var nested = new DemoClassTestDescriptor(outer.getUniqueId().append("nested-class", "nested"),
+			Outer.Nested.class);
+		engineDescriptor.addChild(outer);
+		outer.addChild(nested);
+
+		for (int index = 1; index <= 3; index++) {
+			var filter = shard(index, 3);
+			assertThat(filter.apply(nested).included()).isEqualTo(filter.apply(outer).included());
+			assertThat(filter.toClassNameFilter().apply(Outer.Nested.class.getName()).included()) //
+					.isEqualTo(filter.apply(outer).included());
+		}
+	}
+
+	@Test
+	void alwaysIncludesEngineDescriptors() {
+		var engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "engine");
+
+		var result = shard(1, 1000).apply(engineDescriptor);
+
+		assertThat(result.included()).isTrue();
+		assertThat(result.getReason()).contains("Engine descriptors are included in all shards");
+	}
+
+	@Test
+	void classNameFilterIsConsistentWithPostDiscoveryFilter() {
+		var engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "engine");
+		var descriptor = new DemoClassTestDescriptor(engineDescriptor.getUniqueId().append("class", "outer"),
+			Outer.class);
+		engineDescriptor.addChild(descriptor);
+
+		for (int index = 1; index <= 5; index++) {
+			var filter = shard(index, 5);
+			assertThat(filter.toClassNameFilter().apply(Outer.class.getName()).included()) //
+					.isEqualTo(filter.apply(descriptor).included());
+		}
+	}
+
+	// -------------------------------------------------------------------------
+
+	@SuppressWarnings("unused")
+	private static class Outer {
+		class Nested {
+		}
+	}
+
+}
@@ -10,6 +10,7 @@
 
 package org.junit.platform.launcher;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.platform.launcher.core.OutputDirectoryProviders.dummyOutputDirectoryProvider;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
@@ -64,4 +65,26 @@ class TestPlanTests {
 		inOrder.verify(visitor).postVisitContainer(TestIdentifier.from(engineDescriptor2));
 	}
 
+	@Test
+	void removesIdentifiersIncludingTheirChildren() {
+		var container = new TestDescriptorStub(engineDescriptor.getUniqueId().append("container", "bar"), "Bar");
+		engineDescriptor.addChild(container);
+		var testPlan = TestPlan.from(true, List.of(engineDescriptor), configParams, dummyOutputDirectoryProvider());
+
+		var dynamicContainer = new TestDescriptorStub(container.getUniqueId().append("dynamic-container", "#1"),
+			"dynamic container");
+		dynamicContainer.setParent(container);
+		var dynamicTest = new TestDescriptorStub(dynamicContainer.getUniqueId().append("dynamic-test", "#1"),
+			"dynamic test");
+		dynamicTest.setParent(dynamicContainer);
+		testPlan.addInternal(TestIdentifier.from(dynamicContainer));
+		testPlan.addInternal(TestIdentifier.from(dynamicTest));
+
+		testPlan.removeInternal(TestIdentifier.from(dynamicContainer));
+
+		assertThat(testPlan.getChildren(container.getUniqueId())).isEmpty();
+		assertThat(testPlan.getChildren(dynamicContainer.getUniqueId())).isEmpty();
+		assertThat(testPlan.countTestIdentifiers(identifier -> true)).isEqualTo(2);
+	}
+
 }
@@ -11,20 +11,28 @@
 package org.junit.platform.launcher.core;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.platform.engine.TestExecutionResult.successful;
 import static org.junit.platform.launcher.core.OutputDirectoryProviders.dummyOutputDirectoryProvider;
 import static org.mockito.Mockito.mock;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.commons.util.ReflectionUtils;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.engine.support.descriptor.DemoMethodTestDescriptor;
+import org.junit.platform.fakes.TestDescriptorStub;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
 import org.junit.platform.launcher.core.LauncherDiscoveryResult.EngineResultInfo;
 
 /**
@@ -54,6 +62,77 @@ class ExecutionListenerAdapterTests {
 		assertThat(testExecutionListener.testIdentifier).isEqualTo(testIdentifier);
 	}
 
+	@Test
+	void keepsDynamicTestsInTestPlanByDefault() {
+		var testDescriptor = getSampleMethodTestDescriptor();
+		var testPlan = createTestPlan(testDescriptor);
+		var executionListenerAdapter = new ExecutionListenerAdapter(testPlan, new TestExecutionListener() {
+		});
+		var dynamicTest = createDynamicTest(testDescriptor);
+
+		executionListenerAdapter.dynamicTestRegistered(dynamicTest);
+		executionListenerAdapter.executionStarted(dynamicTest);
+		executionListenerAdapter.executionFinished(dynamicTest, successful());
+
+		assertThat(testPlan.getChildren(testDescriptor.getUniqueId())) //
+				.containsExactly(TestIdentifier.from(dynamicTest));
+	}
+
+	@Test
+	void evictsFinishedDynamicTestsFromTestPlanIfEphemeral() {
+		var testDescriptor = getSampleMethodTestDescriptor();
+		var testPlan = createTestPlan(testDescriptor);
+		List<String> events = new ArrayList<>();
+		var executionListenerAdapter = new ExecutionListenerAdapter(testPlan, new TestExecutionListener() {
+			@Override
+			public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+				var displayName = testPlan.getTestIdentifier(testIdentifier.getUniqueIdObject()).getDisplayName();
+				events.add("skipped " + displayName);
+			}
+
+			@Override
+			public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+				var displayName = testPlan.getTestIdentifier(testIdentifier.getUniqueIdObject()).getDisplayName();
+				events.add("finished " + displayName);
+			}
+		}, true);
+		var dynamicTest = createDynamicTest(testDescriptor);
+		var skippedDynamicTest = new TestDescriptorStub(testDescriptor.getUniqueId().append("dynamic-test", "#2"),
+			"skipped");
+		skippedDynamicTest.setParent(testDescriptor);
+
+		executionListenerAdapter.dynamicTestRegistered(dynamicTest);
+		executionListenerAdapter.dynamicTestRegistered(skippedDynamicTest);
+		assertThat(testPlan.getChildren(testDescriptor.getUniqueId())).hasSize(2);
+
+		executionListenerAdapter.executionStarted(dynamicTest);
+		executionListenerAdapter.executionFinished(dynamicTest, successful());
+		executionListenerAdapter.executionSkipped(skippedDynamicTest, "reason");
+
+		assertThat(events).containsExactly("finished dynamic", "skipped skipped");
+		assertThat(testPlan.getChildren(testDescriptor.getUniqueId())).isEmpty();
+		assertThatThrownBy(() -> testPlan.getTestIdentifier(dynamicTest.getUniqueId())) //
+				.isInstanceOf(PreconditionViolationException.class);
+
+		executionListenerAdapter.executionFinished(testDescriptor, successful());
+
+		assertThat(events).endsWith("finished nothing()");
+		assertThat(testPlan.getTestIdentifier(testDescriptor.getUniqueId())).isNotNull();
+	}
+
+	private static TestPlan createTestPlan(TestDescriptor testDescriptor) {
+		var discoveryResult = new LauncherDiscoveryResult(
+			Map.of(mock(), EngineResultInfo.completed(testDescriptor, DiscoveryIssueNotifier.NO_ISSUES)), mock(),
+			dummyOutputDirectoryProvider());
+		return InternalTestPlan.from(discoveryResult);
+	}
+
+	private static TestDescriptor createDynamicTest(TestDescriptor parent) {
+		var dynamicTest = new TestDescriptorStub(parent.getUniqueId().append("dynamic-test", "#1"), "dynamic");
+		dynamicTest.setParent(parent);
+		return dynamicTest;
+	}
+
 	private TestDescriptor getSampleMethodTestDescriptor() {
 		var localMethodNamedNothing = ReflectionUtils.findMethod(this.getClass(), "nothing",
 			new Class<?>[0]).orElseThrow();
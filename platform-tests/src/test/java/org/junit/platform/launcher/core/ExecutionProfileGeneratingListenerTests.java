@@ -0,0 +1,195 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.DynamicContainer.dynamicContainer;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.LauncherConstants.EPHEMERAL_DYNAMIC_TESTS_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.EXECUTION_PROFILE_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.OUTPUT_DIR_PROPERTY_NAME;
+import static org.junit.platform.launcher.core.ExecutionProfileGeneratingListener.FILE_NAME;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicContainer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.engine.JupiterTestEngine;
+
+/**
+ * Tests for {@link ExecutionProfileGeneratingListener}.
+ *
+ * @since 6.0
+ */
+class ExecutionProfileGeneratingListenerTests {
+
+	@TempDir
+	Path outputDir;
+
+	@Test
+	void writesDurationsPerClassAndCriticalPath() throws Exception {
+		execute(true);
+
+		var lines = Files.readAllLines(outputDir.resolve(FILE_NAME));
+
+		assertThat(lines).first().asString().startsWith("JUnit Platform execution profile");
+		assertThat(lines).anyMatch(line -> line.matches("\\s+junit-jupiter\\s+[\\d.,]+"));
+		assertThat(lines).anyMatch(line -> line.matches("Execution\\s+[\\d.,]+"));
+
+		var durations = durationsOf(lines, TestCase.class.getName());
+		assertThat(durations).hasSize(9);
+		assertThat(durations[1]).describedAs("instantiation").isGreaterThanOrEqualTo(2 * TestCase.SLEEP_MILLIS);
+		assertThat(durations[2]).describedAs("@BeforeAll").isGreaterThanOrEqualTo(TestCase.SLEEP_MILLIS);
+		assertThat(durations[3]).describedAs("@BeforeEach").isGreaterThanOrEqualTo(2 * TestCase.SLEEP_MILLIS);
+		assertThat(durations[4]).describedAs("test").isGreaterThanOrEqualTo(3 * TestCase.SLEEP_MILLIS);
+		assertThat(durations[5]).describedAs("@AfterEach").isGreaterThanOrEqualTo(2 * TestCase.SLEEP_MILLIS);
+		assertThat(durations[6]).describedAs("@AfterAll").isGreaterThanOrEqualTo(TestCase.SLEEP_MILLIS);
+		assertThat(durations[7]).describedAs("callbacks").isGreaterThanOrEqualTo(2 * TestCase.SLEEP_MILLIS);
+		assertThat(durations[0]).describedAs("wall") //
+				.isGreaterThanOrEqualTo(Arrays.stream(durations, 1, 8).sum() - 1);
+		assertThat(durationsOf(lines, "Total")).hasSize(9);
+
+		var criticalPath = lines.subList(lines.indexOf("Critical path") + 2, lines.size());
+		assertThat(criticalPath).hasSize(3);
+		assertThat(criticalPath.get(0)).endsWith("  JUnit Jupiter");
+		assertThat(criticalPath.get(1)).endsWith("    ExecutionProfileGeneratingListenerTests$TestCase");
+		assertThat(criticalPath.get(2)).matches(".*      (fast|slow)Test\\(\\)");
+	}
+
+	@Test
+	void attributesEphemeralDynamicTestsToTheirTestClass() throws Exception {
+		execute(DynamicTestCase.class, true, true);
+
+		var lines = Files.readAllLines(outputDir.resolve(FILE_NAME));
+
+		var durations = durationsOf(lines, DynamicTestCase.class.getName());
+		assertThat(durations[4]).describedAs("test").isGreaterThanOrEqualTo(3 * TestCase.SLEEP_MILLIS);
+
+		var criticalPath = lines.subList(lines.indexOf("Critical path") + 2, lines.size());
+		assertThat(criticalPath).hasSize(5);
+		assertThat(criticalPath.get(1)).endsWith("    ExecutionProfileGeneratingListenerTests$DynamicTestCase");
+		assertThat(criticalPath.get(2)).endsWith("      factory()");
+		assertThat(criticalPath.get(3)).endsWith("        container");
+		assertThat(criticalPath.get(4)).matches(".*          (fast|slow)Test");
+	}
+
+	@Test
+	void doesNotWriteProfileByDefault() {
+		execute(false);
+
+		assertThat(outputDir.resolve(FILE_NAME)).doesNotExist();
+	}
+
+	private void execute(boolean profileEnabled) {
+		execute(TestCase.class, profileEnabled, false);
+	}
+
+	private void execute(Class<?> testClass, boolean profileEnabled, boolean ephemeralDynamicTests) {
+		var request = request() //
+				.selectors(selectClass(testClass)) //
+				.enableImplicitConfigurationParameters(false) //
+				.configurationParameter(EXECUTION_PROFILE_ENABLED_PROPERTY_NAME, String.valueOf(profileEnabled)) //
+				.configurationParameter(EPHEMERAL_DYNAMIC_TESTS_ENABLED_PROPERTY_NAME,
+					String.valueOf(ephemeralDynamicTests)) //
+				.configurationParameter(OUTPUT_DIR_PROPERTY_NAME, outputDir.toString()) //
+				.build();
+		LauncherFactoryForTestingPurposesOnly.createLauncher(new JupiterTestEngine()).execute(request);
+	}
+
+	private static double[] durationsOf(List<String> lines, String name) {
+		String row = lines.stream() //
+				.filter(line -> line.endsWith("  " + name)) //
+				.findFirst() //
+				.orElseThrow();
+		return Arrays.stream(row.substring(0, row.length() - name.length()).trim().split("\\s+")) //
+				.mapToDouble(value -> Double.parseDouble(value.replace(",", ""))) //
+				.toArray();
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	@ExtendWith(SlowBeforeEachCallback.class)
+	static class TestCase {
+
+		static final long SLEEP_MILLIS = 10;
+
+		TestCase() throws Exception {
+			Thread.sleep(SLEEP_MILLIS);
+		}
+
+		@BeforeAll
+		static void beforeAll() throws Exception {
+			Thread.sleep(SLEEP_MILLIS);
+		}
+
+		@BeforeEach
+		void beforeEach() throws Exception {
+			Thread.sleep(SLEEP_MILLIS);
+		}
+
+		@Test
+		void fastTest() throws Exception {
+			Thread.sleep(SLEEP_MILLIS);
+		}
+
+		@Test
+		void slowTest() throws Exception {
+			Thread.sleep(2 * SLEEP_MILLIS);
+		}
+
+		@AfterEach
+		void afterEach() throws Exception {
+			Thread.sleep(SLEEP_MILLIS);
+		}
+
+		@AfterAll
+		static void afterAll() throws Exception {
+			Thread.sleep(SLEEP_MILLIS);
+		}
+
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class DynamicTestCase {
+
+		@TestFactory
+		DynamicContainer factory() {
+			return dynamicContainer("container", Stream.of( //
+				dynamicTest("fastTest", () -> Thread.sleep(TestCase.SLEEP_MILLIS)), //
+				dynamicTest("slowTest", () -> Thread.sleep(2 * TestCase.SLEEP_MILLIS))));
+		}
+
+	}
+
+	static class SlowBeforeEachCallback implements BeforeEachCallback {
+
+		@Override
+		public void beforeEach(ExtensionContext context) throws Exception {
+			Thread.sleep(TestCase.SLEEP_MILLIS);
+		}
+
+	}
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.listeners.DurationTrackingListener.STORE_FILE_PROPERTY_NAME;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.platform.commons.util.DurationStore;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+/**
+ * Integration tests for the {@link DurationTrackingListener}.
+ *
+ * @since 6.0
+ */
+class DurationTrackingListenerIntegrationTests {
+
+	private static final String TEST_CASE = TestCase.class.getName();
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void listenerIsRegisteredButDisabledByDefault() {
+		var numListenersRegistered = ServiceLoader.load(TestExecutionListener.class).stream() //
+				.filter(provider -> DurationTrackingListener.class.equals(provider.type())) //
+				.count();
+		assertThat(numListenersRegistered).isEqualTo(1);
+
+		executeTests(Map.of());
+
+		assertThat(tempDir).isEmptyDirectory();
+	}
+
+	@Test
+	void writesDurationsOfClassesAndMethods() throws Exception {
+		var storeFile = tempDir.resolve("durations.txt");
+
+		executeTests(Map.of(STORE_FILE_PROPERTY_NAME, storeFile.toString()));
+
+		assertThat(storeFile).exists();
+		var store = DurationStore.load(storeFile);
+		assertThat(store.getAll()).containsOnlyKeys(TEST_CASE, //
+			TEST_CASE + "#slowTest()", //
+			TEST_CASE + "#fastTest()", //
+			TEST_CASE + "#parameterizedTest(int)");
+		assertThat(store.get(TEST_CASE + "#slowTest()")).get() //
+				.satisfies(duration -> assertThat(duration).isGreaterThanOrEqualTo(Duration.ofMillis(50)));
+		assertThat(store.get(TEST_CASE)).get() //
+				.satisfies(duration -> assertThat(duration).isGreaterThanOrEqualTo(
+					store.get(TEST_CASE + "#slowTest()").orElseThrow()));
+	}
+
+	@Test
+	void retainsEntriesOfTestsThatWereNotExecuted() throws Exception {
+		var storeFile = tempDir.resolve("nested/dir/durations.txt");
+		Files.createDirectories(storeFile.getParent());
+		var previousStore = DurationStore.load(storeFile);
+		previousStore.put("com.example.OtherTests", Duration.ofSeconds(42));
+		previousStore.put(TEST_CASE + "#fastTest()", Duration.ofHours(1));
+		previousStore.save(storeFile);
+
+		executeTests(Map.of(STORE_FILE_PROPERTY_NAME, storeFile.toString()));
+
+		var store = DurationStore.load(storeFile);
+		assertThat(store.get("com.example.OtherTests")).contains(Duration.ofSeconds(42));
+		assertThat(store.get(TEST_CASE + "#fastTest()")).get() //
+				.satisfies(duration -> assertThat(duration).isLessThan(Duration.ofHours(1)));
+	}
+
+	private static void executeTests(Map<String, String> configurationParameters) {
+		var request = request() //
+				.selectors(selectClass(TestCase.class)) //
+				.filters(includeEngines("junit-jupiter")) //
+				.configurationParameters(configurationParameters) //
+				.build();
+		LauncherFactory.create().execute(request);
+	}
+
+	// -------------------------------------------------------------------------
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class TestCase {
+
+		@Test
+		void slowTest() throws Exception {
+			Thread.sleep(50);
+		}
+
+		@Test
+		void fastTest() {
+		}
+
+		@ParameterizedTest
+		@ValueSource(ints = { 1, 2 })
+		void parameterizedTest(int i) {
+		}
+
+	}
+
+}
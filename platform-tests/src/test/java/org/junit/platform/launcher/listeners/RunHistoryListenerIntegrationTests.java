@@ -0,0 +1,137 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.listeners.RunHistoryListener.HISTORY_FILE_PROPERTY_NAME;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.platform.commons.util.RunHistory;
+import org.junit.platform.commons.util.RunHistory.Outcome;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.RunHistoryFilter;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+/**
+ * Integration tests for the {@link RunHistoryListener} and the
+ * {@link RunHistoryFilter}.
+ *
+ * @since 6.0
+ */
+class RunHistoryListenerIntegrationTests {
+
+	private static final String TEST_CASE = TestCase.class.getName();
+
+	private static final String CLASS_ID = "[engine:junit-jupiter]/[class:" + TEST_CASE + "]";
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void listenerIsRegisteredButDisabledByDefault() {
+		var numListenersRegistered = ServiceLoader.load(TestExecutionListener.class).stream() //
+				.filter(provider -> RunHistoryListener.class.equals(provider.type())) //
+				.count();
+		assertThat(numListenersRegistered).isEqualTo(1);
+
+		LauncherFactory.create().execute(request().selectors(selectClass(TestCase.class)) //
+				.filters(includeEngines("junit-jupiter")).build());
+
+		assertThat(tempDir).isEmptyDirectory();
+	}
+
+	@Test
+	void recordsOutcomesAndFingerprints() throws Exception {
+		var historyFile = tempDir.resolve("history.txt");
+
+		LauncherFactory.create().execute(requestWithHistory(historyFile).build());
+
+		var history = RunHistory.load(historyFile);
+		var parameterizedTestId = CLASS_ID + "/[test-template:parameterizedTest(int)]";
+		assertThat(history.getOutcome(CLASS_ID + "/[method:succeedingTest()]")).contains(Outcome.SUCCESSFUL);
+		assertThat(history.getOutcome(CLASS_ID + "/[method:failingTest()]")).contains(Outcome.FAILED);
+		assertThat(history.getOutcome(parameterizedTestId + "/[test-template-invocation:#1]")) //
+				.contains(Outcome.SUCCESSFUL);
+		assertThat(history.getOutcome(parameterizedTestId + "/[test-template-invocation:#2]")) //
+				.contains(Outcome.FAILED);
+		assertThat(history.hasFailuresForSource(TEST_CASE + "#failingTest()")).isTrue();
+		assertThat(history.hasFailuresForSource(TEST_CASE + "#succeedingTest()")).isFalse();
+		assertThat(history.isChanged(TestCase.class)).isFalse();
+	}
+
+	@Test
+	void filterOnlyIncludesPreviouslyFailedTestsOfUnchangedClasses() throws Exception {
+		var historyFile = tempDir.resolve("history.txt");
+		LauncherFactory.create().execute(requestWithHistory(historyFile).build());
+
+		var testPlan = LauncherFactory.create().discover(
+			requestWithHistory(historyFile).filters(RunHistoryFilter.failedOrChanged(historyFile)).build());
+
+		assertThat(testPlan.getChildren(UniqueId.parse(CLASS_ID))) //
+				.extracting(identifier -> identifier.getUniqueIdObject().getLastSegment().getValue()) //
+				.containsExactlyInAnyOrder("failingTest()", "parameterizedTest(int)");
+	}
+
+	@Test
+	void filterIncludesAllTestsOfNewClasses() throws Exception {
+		var historyFile = tempDir.resolve("history.txt");
+
+		var testPlan = LauncherFactory.create().discover(
+			requestWithHistory(historyFile).filters(RunHistoryFilter.failedOrChanged(historyFile)).build());
+
+		assertThat(testPlan.getChildren(UniqueId.parse(CLASS_ID))).hasSize(3);
+	}
+
+	private static LauncherDiscoveryRequestBuilder requestWithHistory(Path historyFile) {
+		return request() //
+				.selectors(selectClass(TestCase.class)) //
+				.filters(includeEngines("junit-jupiter")) //
+				.configurationParameters(Map.of(HISTORY_FILE_PROPERTY_NAME, historyFile.toString()));
+	}
+
+	// -------------------------------------------------------------------------
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class TestCase {
+
+		@Test
+		void succeedingTest() {
+		}
+
+		@Test
+		void failingTest() {
+			fail("expected");
+		}
+
+		@ParameterizedTest
+		@ValueSource(ints = { 1, 2 })
+		void parameterizedTest(int i) {
+			if (i == 2) {
+				fail("expected");
+			}
+		}
+
+	}
+
+}
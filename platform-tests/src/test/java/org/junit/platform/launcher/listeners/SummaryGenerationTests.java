@@ -30,6 +30,7 @@ import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.TestSource;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
 import org.junit.platform.fakes.TestDescriptorStub;
 import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.TestPlan;
@@ -191,6 +192,26 @@ class SummaryGenerationTests {
 		);
 	}
 
+	@Test
+	void reportingFailuresOfTestsRemovedFromTestPlan() {
+		var engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "engine");
+		var testPlan = TestPlan.from(true, List.of(engineDescriptor), mock(), dummyOutputDirectoryProvider());
+		var dynamicTestDescriptor = new TestDescriptorStub(engineDescriptor.getUniqueId().append("test", "dynamic"),
+			"dynamicTest");
+		dynamicTestDescriptor.setParent(engineDescriptor);
+		var dynamicTest = TestIdentifier.from(dynamicTestDescriptor);
+
+		listener.testPlanExecutionStarted(testPlan);
+		testPlan.addInternal(dynamicTest);
+		listener.dynamicTestRegistered(dynamicTest);
+		listener.executionStarted(dynamicTest);
+		listener.executionFinished(dynamicTest, TestExecutionResult.failed(new RuntimeException("failed")));
+		testPlan.removeInternal(dynamicTest);
+		listener.testPlanExecutionFinished(testPlan);
+
+		assertThat(failuresAsString()).contains("engine:dynamicTest");
+	}
+
 	@Test
 	public void reportingCircularFailure() {
 		var iaeCausedBy = new IllegalArgumentException("Illegal Argument Exception");
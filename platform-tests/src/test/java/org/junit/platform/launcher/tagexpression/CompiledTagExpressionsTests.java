@@ -0,0 +1,119 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.tagexpression;
+
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.launcher.tagexpression.TagExpressions.and;
+import static org.junit.platform.launcher.tagexpression.TagExpressions.not;
+import static org.junit.platform.launcher.tagexpression.TagExpressions.tag;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.platform.engine.TestTag;
+
+/**
+ * @since 6.0
+ */
+class CompiledTagExpressionsTests {
+
+	private static final List<Set<TestTag>> TAG_SETS = List.of( //
+		Set.of(), //
+		tags("foo"), //
+		tags("bar"), //
+		tags("baz"), //
+		tags("unknown"), //
+		tags("foo", "bar"), //
+		tags("foo", "baz"), //
+		tags("bar", "baz"), //
+		tags("foo", "bar", "baz"), //
+		tags("foo", "unknown"));
+
+	@ParameterizedTest
+	@ValueSource(strings = { "foo", "!foo", "foo & bar", "foo | bar", "foo & !bar", "!(foo | bar) & baz",
+			"(foo | bar) & (baz | !foo)", "foo & bar | bar & baz | !foo & !baz", "any()", "none()", "!any()",
+			"!none()", "foo | none()", "any() & !foo", "!!!foo" })
+	void evaluatesLikeTagExpression(String infixTagExpression) {
+		var tagExpression = parse(infixTagExpression);
+		var compiled = CompiledTagExpressions.compile(List.of(tagExpression));
+
+		for (var tags : TAG_SETS) {
+			assertThat(compiled.anyMatch(tags)) //
+					.describedAs("%s evaluated against %s", infixTagExpression, tags) //
+					.isEqualTo(tagExpression.evaluate(tags));
+		}
+	}
+
+	@Test
+	void matchesIfAnyExpressionMatches() {
+		var compiled = CompiledTagExpressions.compile(List.of(parse("foo & bar"), parse("baz")));
+
+		assertThat(compiled.anyMatch(tags("foo", "bar"))).isTrue();
+		assertThat(compiled.anyMatch(tags("baz"))).isTrue();
+		assertThat(compiled.anyMatch(tags("foo"))).isFalse();
+		assertThat(compiled.anyMatch(Set.of())).isFalse();
+	}
+
+	@Test
+	void supportsMoreTagsThanFitIntoSingleWord() {
+		var names = IntStream.range(0, 200).mapToObj(i -> "tag" + i).toList();
+		var compiled = CompiledTagExpressions.compile(names.stream().map(TagExpressions::tag).toList());
+
+		assertThat(compiled.anyMatch(tags("tag0"))).isTrue();
+		assertThat(compiled.anyMatch(tags("tag63"))).isTrue();
+		assertThat(compiled.anyMatch(tags("tag64"))).isTrue();
+		assertThat(compiled.anyMatch(tags("tag199"))).isTrue();
+		assertThat(compiled.anyMatch(tags("tag200"))).isFalse();
+
+		var allTagsRequired = CompiledTagExpressions.compile(
+			List.of(names.stream().map(TagExpressions::tag).reduce(TagExpressions::and).orElseThrow()));
+
+		assertThat(allTagsRequired.anyMatch(names.stream().map(TestTag::create).collect(toSet()))).isTrue();
+		assertThat(allTagsRequired.anyMatch(tags("tag0", "tag199"))).isFalse();
+	}
+
+	@Test
+	void evaluatesDeeplyNestedExpressions() {
+		TagExpression expression = tag("foo");
+		for (int i = 0; i < 100; i++) {
+			expression = and(tag("bar"), expression);
+		}
+		var compiled = CompiledTagExpressions.compile(List.of(expression));
+
+		assertThat(compiled.anyMatch(tags("foo", "bar"))).isTrue();
+		assertThat(compiled.anyMatch(tags("foo"))).isFalse();
+	}
+
+	@Test
+	void evaluatesExpressionsThatCannotBeCompiled() {
+		TagExpression custom = tags -> tags.size() == 2;
+		var compiled = CompiledTagExpressions.compile(List.of(not(custom), tag("foo")));
+
+		assertThat(compiled.anyMatch(tags("bar", "baz"))).isFalse();
+		assertThat(compiled.anyMatch(tags("foo", "bar"))).isTrue();
+		assertThat(compiled.anyMatch(tags("bar"))).isTrue();
+	}
+
+	private static TagExpression parse(String infixTagExpression) {
+		return TagExpression.parseFrom(infixTagExpression).tagExpressionOrThrow(IllegalArgumentException::new);
+	}
+
+	private static Set<TestTag> tags(String... names) {
+		return Stream.of(names).map(TestTag::create).collect(toSet());
+	}
+
+}
@@ -15,7 +15,10 @@ import static org.joox.JOOX.$;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.DynamicContainer.dynamicContainer;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
 import static org.junit.platform.engine.TestExecutionResult.successful;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
@@ -39,10 +42,14 @@ import java.time.ZonedDateTime;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.joox.Match;
+import org.junit.jupiter.api.DynamicNode;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.engine.JupiterTestEngine;
 import org.junit.platform.engine.TestEngine;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.reporting.ReportEntry;
@@ -423,6 +430,27 @@ class LegacyXmlReportGeneratingListenerTests {
 					"Report Entry #2 (timestamp: " + Year.now(), "- bar: baz\n", "- qux: foo\n");
 	}
 
+	@Test
+	void omitsEphemeralDynamicTests() throws Exception {
+		var out = new PrintWriter(new StringWriter());
+		var reportListener = new LegacyXmlReportGeneratingListener(tempDirectory.toString(), out,
+			Clock.systemDefaultZone());
+		var launcher = createLauncher(new JupiterTestEngine());
+		launcher.registerTestExecutionListeners(reportListener);
+		var request = request() //
+				.configurationParameter(LauncherConstants.EPHEMERAL_DYNAMIC_TESTS_ENABLED_PROPERTY_NAME, "true") //
+				.selectors(selectClass(DynamicTestCase.class)) //
+				.forExecution() //
+				.build();
+		launcher.execute(request);
+
+		var testsuite = readValidXmlFile(tempDirectory.resolve("TEST-junit-jupiter.xml"));
+
+		assertThat(testsuite.attr("tests", int.class)).isEqualTo(2);
+		assertThat(testsuite.children("testcase").attrs("name")).containsExactlyInAnyOrder("staticTest()",
+			"factory()");
+	}
+
 	private void executeTests(TestEngine engine) {
 		executeTests(engine, Clock.systemDefaultZone());
 	}
@@ -440,6 +468,21 @@ class LegacyXmlReportGeneratingListenerTests {
 		launcher.execute(request);
 	}
 
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class DynamicTestCase {
+
+		@Test
+		void staticTest() {
+		}
+
+		@TestFactory
+		Stream<DynamicNode> factory() {
+			return Stream.of(dynamicContainer("container", Stream.of(dynamicTest("dynamicTest", () -> {
+			}))));
+		}
+
+	}
+
 	private Match readValidXmlFile(Path xmlFile) throws Exception {
 		assertTrue(Files.exists(xmlFile), () -> "File does not exist: " + xmlFile);
 		try (var reader = Files.newBufferedReader(xmlFile)) {
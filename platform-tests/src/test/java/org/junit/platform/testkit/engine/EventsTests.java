@@ -284,4 +284,27 @@ class EventsTests {
 		assertThat(error).hasMessageEndingWith("to be less than or equal to 4 but was 6");
 	}
 
+	@Test
+	@DisplayName("built-in filters: events of requested type in original order")
+	void builtInFiltersReturnEventsOfRequestedTypeInOriginalOrder() {
+		assertThat(events.skipped().list()).containsExactly(list.get(1), list.get(2));
+		assertThat(events.started().list()).containsExactly(list.get(0));
+		assertThat(events.succeeded().list()).containsExactly(list.get(3));
+		assertThat(events.failed().list()).isEmpty();
+		assertThat(events.dynamicallyRegistered().list()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("forUniqueId: events of test descriptor in original order")
+	void forUniqueIdReturnsEventsOfTestDescriptorInOriginalOrder() {
+		TestDescriptor otherEngineDescriptor = new EngineDescriptor(UniqueId.forEngine("e2"), "other");
+		var otherEvent = Event.executionStarted(otherEngineDescriptor);
+		var allEvents = new Events(List.of(list.get(0), otherEvent, list.get(1), list.get(3)), "test");
+
+		assertThat(allEvents.forUniqueId(engineDescriptor.getUniqueId()).list()) //
+				.containsExactly(list.get(0), list.get(1), list.get(3));
+		assertThat(allEvents.forUniqueId(otherEngineDescriptor.getUniqueId()).list()).containsExactly(otherEvent);
+		assertThat(allEvents.forUniqueId(UniqueId.forEngine("e3")).list()).isEmpty();
+	}
+
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.testkit.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
+import static org.junit.platform.testkit.engine.EventConditions.displayName;
+import static org.junit.platform.testkit.engine.EventConditions.event;
+import static org.junit.platform.testkit.engine.EventConditions.finishedSuccessfully;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.EventConditions.test;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.platform.engine.TestExecutionResult.Status;
+import org.opentest4j.MultipleFailuresError;
+
+/**
+ * Tests for {@link StreamingExecutionRecorder}.
+ *
+ * @since 6.0
+ */
+class StreamingExecutionRecorderTests {
+
+	@Test
+	void countsEventsWithoutRetainingThem() {
+		var recorder = EngineTestKit.engine("junit-jupiter") //
+				.selectors(selectClass(TestCase.class)) //
+				.executeStreaming(new StreamingExecutionRecorder());
+
+		recorder.testEvents() //
+				.assertStatistics(stats -> stats.dynamicallyRegistered(100).started(101).succeeded(100).failed(1));
+		recorder.containerEvents() //
+				.assertStatistics(stats -> stats.started(3).succeeded(3).failed(0));
+		assertThat(recorder.allEvents().count()).isEqualTo(2 * 101 + 100 + 2 * 3);
+		assertThat(recorder.allEvents().count(EventType.DYNAMIC_TEST_REGISTERED)).isEqualTo(100);
+		assertThat(recorder.testEvents().countFinished(Status.FAILED)).isEqualTo(1);
+	}
+
+	@Test
+	void reportsStatisticsMismatches() {
+		var recorder = EngineTestKit.engine("junit-jupiter") //
+				.selectors(selectMethod(TestCase.class, "failingTest")) //
+				.executeStreaming(new StreamingExecutionRecorder());
+
+		assertThatThrownBy(() -> recorder.testEvents().assertStatistics(stats -> stats.succeeded(1))) //
+				.isInstanceOf(MultipleFailuresError.class) //
+				.hasMessageContaining("Test Event Statistics") //
+				.hasMessageContaining("succeeded");
+	}
+
+	@Test
+	void evaluatesConditionsAsEventsArrive() {
+		var recorder = EngineTestKit.engine("junit-jupiter") //
+				.selectors(selectClass(TestCase.class)) //
+				.executeStreaming(new StreamingExecutionRecorder() //
+						.anyEventMatches(event(test("failingTest"), finishedWithFailure())) //
+						.noEventMatches(event(test("dynamic-test"), finishedWithFailure())) //
+						.allEventsMatch(event(displayName("does not exist"))) //
+						.anyEventMatches(event(test("does not exist"), finishedSuccessfully())));
+
+		assertThatThrownBy(recorder::assertConditions) //
+				.isInstanceOfSatisfying(MultipleFailuresError.class, error -> {
+					assertThat(error.getFailures()).hasSize(2);
+					assertThat(error.getFailures().get(0)) //
+							.hasMessageStartingWith("Expected all events to match") //
+							.hasMessageContaining("but 308 did not");
+					assertThat(error.getFailures().get(1)) //
+							.hasMessageStartingWith("Expected at least one event to match");
+				});
+	}
+
+	@Test
+	void passesIfAllConditionsAreSatisfied() {
+		EngineTestKit.engine("junit-jupiter") //
+				.selectors(selectMethod(TestCase.class, "dynamicTests")) //
+				.executeStreaming(new StreamingExecutionRecorder() //
+						.noEventMatches(event(finishedWithFailure())) //
+						.anyEventMatches(event(test("dynamic-test:#100"), finishedSuccessfully()))) //
+				.assertConditions() //
+				.testEvents() //
+				.assertStatistics(stats -> stats.started(100).succeeded(100));
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class TestCase {
+
+		@Test
+		void failingTest() {
+			fail("expected");
+		}
+
+		@TestFactory
+		Stream<DynamicTest> dynamicTests() {
+			return IntStream.rangeClosed(1, 100).mapToObj(i -> dynamicTest("test " + i, () -> {
+			}));
+		}
+
+	}
+
+}